@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import cz.cvut.kbss.jopa.exceptions.IntegrityConstraintViolatedException;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+
+/**
+ * Writes large numbers of new entities into the storage without managing them.
+ * <p>
+ * Entities passed to a bulk loader are not registered in any persistence context, are not cloned and no changes made
+ * to them after they have been passed to the loader are tracked. Their attribute values are transformed into axioms
+ * and written to the storage in chunks, each chunk being committed in a separate storage transaction. Memory used by
+ * the loader is thus bounded by the chunk size, regardless of the total number of loaded entities.
+ * <p>
+ * Since instances are not managed, references between loaded entities are saved as they are, without checking that the
+ * referenced instances exist. It is up to the caller to load all referenced instances as well. Chunks already
+ * committed are not rolled back when loading of a later chunk fails.
+ * <p>
+ * Pre-persist and post-persist lifecycle callbacks are invoked and integrity constraints are validated when an entity
+ * is passed to the loader.
+ * <p>
+ * A bulk loader is not thread-safe.
+ *
+ * @see EntityManagerFactory#createBulkLoader()
+ */
+public interface BulkLoader extends AutoCloseable {
+
+    /**
+     * Writes the specified entity into the storage.
+     * <p>
+     * The entity is persisted into the default context. If the entity has no identifier, one is generated and set on
+     * the instance.
+     * <p>
+     * The entity is written when the current chunk is full, when {@link #flush()} is called or when the loader is
+     * closed.
+     *
+     * @param entity entity instance
+     * @throws IllegalArgumentException             if not an entity
+     * @throws NullPointerException                 If {@code entity} is {@code null}
+     * @throws IllegalStateException                If the loader is closed
+     * @throws IntegrityConstraintViolatedException If the entity violates integrity constraints
+     * @see #persist(Object, Descriptor)
+     */
+    void persist(Object entity);
+
+    /**
+     * Writes the specified entity into the storage.
+     * <p>
+     * The {@code descriptor} represents context into which the entity and its fields should be persisted.
+     *
+     * @param entity     entity instance
+     * @param descriptor Entity descriptor
+     * @throws IllegalArgumentException             if not an entity
+     * @throws NullPointerException                 If {@code entity} or {@code descriptor} is {@code null}
+     * @throws IllegalStateException                If the loader is closed
+     * @throws IntegrityConstraintViolatedException If the entity violates integrity constraints
+     */
+    void persist(Object entity, Descriptor descriptor);
+
+    /**
+     * Writes and commits entities of the current chunk into the storage.
+     * <p>
+     * If writing fails, the current chunk is rolled back and discarded.
+     *
+     * @throws IllegalStateException If the loader is closed
+     */
+    void flush();
+
+    /**
+     * Writes the remaining entities into the storage and releases the underlying storage connection.
+     * <p>
+     * Calling this method on a closed loader has no effect.
+     */
+    @Override
+    void close();
+
+    /**
+     * Whether this loader is open.
+     *
+     * @return {@code true} until the loader has been closed
+     */
+    boolean isOpen();
+}
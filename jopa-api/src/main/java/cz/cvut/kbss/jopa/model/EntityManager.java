@@ -26,6 +26,7 @@ import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 public interface EntityManager {
 
@@ -136,7 +137,48 @@ public interface EntityManager {
     <T> T find(final Class<T> entityClass, final Object identifier,
                final Descriptor descriptor);
 
-    // TODO JPA 2.0 find with properties
+    /**
+     * Find by identifier, using the specified properties.
+     * <p>
+     * Search for an entity of the specified class and identifier. If the entity instance is contained in the
+     * persistence context, it is returned from there.
+     * <p>
+     * If a vendor-specific property or hint is not recognized, it is silently ignored.
+     *
+     * @param entityClass Entity class
+     * @param identifier  Entity identifier
+     * @param properties  Standard and vendor-specific properties and hints
+     * @return the found entity instance or {@code null} if the entity does not exist in the given ontology context
+     * @throws IllegalArgumentException if the first argument does not denote an entity type or the second argument is
+     *                                  not a valid type for that entity’s identifier
+     * @throws NullPointerException     If {@code entityClass}, {@code identifier} or {@code properties} is {@code
+     *                                  null}
+     * @see cz.cvut.kbss.jopa.model.query.QueryHints
+     */
+    <T> T find(final Class<T> entityClass, final Object identifier, final Map<String, Object> properties);
+
+    /**
+     * Find by identifier, using the specified properties.
+     * <p>
+     * Search for an entity of the specified class and identifier. If the entity instance is contained in the
+     * persistence context, it is returned from there.
+     * <p>
+     * The {@code descriptor} parameter represents repository and context in which the entity should be looked for.
+     * If a vendor-specific property or hint is not recognized, it is silently ignored.
+     *
+     * @param entityClass Entity class
+     * @param identifier  Entity identifier
+     * @param descriptor  Entity descriptor
+     * @param properties  Standard and vendor-specific properties and hints
+     * @return the found entity instance or {@code null} if the entity does not exist in the given ontology context
+     * @throws IllegalArgumentException if the first argument does not denote an entity type or the second argument is
+     *                                  not a valid type for that entity’s identifier
+     * @throws NullPointerException     If {@code entityClass}, {@code identifier}, {@code descriptor} or {@code
+     *                                  properties} is {@code null}
+     * @see cz.cvut.kbss.jopa.model.query.QueryHints
+     */
+    <T> T find(final Class<T> entityClass, final Object identifier, final Descriptor descriptor,
+               final Map<String, Object> properties);
 
     // TODO JPA 2.0 find with lock mode
 
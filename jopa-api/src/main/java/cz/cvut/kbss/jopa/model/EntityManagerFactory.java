@@ -42,6 +42,28 @@ public interface EntityManagerFactory {
      */
     EntityManager createEntityManager(Map<String, String> map);
 
+    /**
+     * Create a new bulk loader, which writes new entities into the storage in chunks without managing them.
+     * <p>
+     * The chunk size is given by the {@code cz.cvut.jopa.bulkLoad.chunkSize} property of the persistence unit.
+     *
+     * @return bulk loader instance
+     * @throws IllegalStateException if the entity manager factory has been closed
+     * @see #createBulkLoader(int)
+     */
+    BulkLoader createBulkLoader();
+
+    /**
+     * Create a new bulk loader, which writes new entities into the storage in chunks of the specified size without
+     * managing them.
+     *
+     * @param chunkSize Number of entities written and committed together, must be positive
+     * @return bulk loader instance
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     * @throws IllegalStateException    if the entity manager factory has been closed
+     */
+    BulkLoader createBulkLoader(int chunkSize);
+
     // TODO JPA 2.0 getCriteriaBuilder
 
     /**
@@ -20,6 +20,7 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.exceptions.TransactionRequiredException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -82,6 +83,25 @@ public interface Query {
      */
     Query setMaxResults(int maxResult);
 
+    /**
+     * Set a query property or hint.
+     * <p>
+     * Hints not recognized by the provider are silently ignored.
+     *
+     * @param hintName name of property or hint
+     * @param value    value for the property or hint
+     * @return the same query instance
+     * @see QueryHints
+     */
+    Query setHint(String hintName, Object value);
+
+    /**
+     * Get the properties and hints and associated values that are in effect for the query instance.
+     *
+     * @return query properties and hints
+     */
+    Map<String, Object> getHints();
+
     /**
      * The maximum number of results the query object was set to retrieve.
      * <p>
@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.model.query;
+
+/**
+ * Hints recognized by JOPA when passed to {@link Query#setHint(String, Object)} or as properties of {@link
+ * cz.cvut.kbss.jopa.model.EntityManager#find(Class, Object, java.util.Map)}.
+ */
+public final class QueryHints {
+
+    /**
+     * Whether entities should be returned in read-only mode.
+     * <p>
+     * Read-only entities are not registered in the persistence context. Instead of a managed clone, a shallow copy of the
+     * instance shared via the second level cache is returned, saving the cost of cloning and change tracking. The copy
+     * shares attribute values with the cached instance, only its collections and maps are replaced with unmodifiable
+     * views. Neither the copy nor the instances it references may be modified. Changes to them are never written to the
+     * storage and changes to the referenced instances would be visible to other entity managers. Lazily loaded
+     * attributes which have not been loaded yet stay empty and no {@code PostLoad} callbacks are invoked.
+     * <p>
+     * Instances already managed by the persistence context are returned as they are.
+     * <p>
+     * The value is either a {@link Boolean} or its string representation. The hint can also be passed as an entity
+     * manager property, in which case it applies to all find operations and typed queries of that entity manager.
+     */
+    public static final String READ_ONLY = "cz.cvut.jopa.readOnly";
+
+    private QueryHints() {
+        throw new AssertionError();
+    }
+}
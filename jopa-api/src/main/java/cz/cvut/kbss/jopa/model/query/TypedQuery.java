@@ -58,6 +58,12 @@ public interface TypedQuery<X> extends Query {
     @Override
     TypedQuery<X> setFirstResult(int startPosition);
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    TypedQuery<X> setHint(String hintName, Object value);
+
     /**
      * {@inheritDoc}
      */
@@ -67,4 +67,13 @@ public interface Cache {
      * Clears the cache.
      */
     void evictAll();
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     * <p>
+     * If a cache is not in use, the statistics contain only zeros.
+     *
+     * @return Cache statistics
+     */
+    CacheStatistics getStatistics();
 }
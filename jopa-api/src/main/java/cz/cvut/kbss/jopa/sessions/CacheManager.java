@@ -40,6 +40,10 @@ public interface CacheManager extends Cache {
      * <p>
      * The entity is searched for in the context specified by {@code descriptor}. Thus all three conditions - class,
      * identifier and descriptor must match to return a result.
+     * <p>
+     * Since {@code null} cannot be cached, a {@code null} result unambiguously signals a cache miss. Callers should
+     * therefore use just this method instead of checking {@link #contains(Class, Object, Descriptor)} first, which
+     * would search the cache twice.
      *
      * @param cls        Class of the entity
      * @param identifier Primary key of the entity
@@ -48,6 +52,16 @@ public interface CacheManager extends Cache {
      */
     <T> T get(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Records that entities not found in the cache were loaded from the storage.
+     * <p>
+     * This information is used only for the cache statistics.
+     *
+     * @param count    Number of loaded entities
+     * @param loadTime Time it took to load the entities, in nanoseconds
+     */
+    void recordLoad(int count, long loadTime);
+
     /**
      * Removes objects with (possibly) inferred attributes from the cache.
      *
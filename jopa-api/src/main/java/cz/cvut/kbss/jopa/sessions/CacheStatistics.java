@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Snapshot of the second level cache statistics.
+ * <p>
+ * Counters are cumulative since the cache was created, entry counts reflect the cache content at the time the snapshot
+ * was taken.
+ */
+public interface CacheStatistics {
+
+    /**
+     * Reasons for removing records from the cache.
+     */
+    enum EvictionCause {
+        /**
+         * Record removed to make room for new records.
+         */
+        CAPACITY,
+        /**
+         * Record removed because its time to live expired.
+         */
+        EXPIRATION,
+        /**
+         * Record removed by an explicit eviction, e.g. via {@link Cache#evict(Class)} or on data change.
+         */
+        EXPLICIT
+    }
+
+    /**
+     * Gets the number of lookups which found the requested entity in the cache.
+     *
+     * @return Hit count
+     */
+    long getHitCount();
+
+    /**
+     * Gets the number of lookups which did not find the requested entity in the cache.
+     *
+     * @return Miss count
+     */
+    long getMissCount();
+
+    /**
+     * Gets the ratio of hits to all lookups.
+     *
+     * @return Number between 0 and 1, {@code 0} if there have been no lookups
+     */
+    default double getHitRatio() {
+        final long total = getHitCount() + getMissCount();
+        return total == 0 ? 0 : (double) getHitCount() / total;
+    }
+
+    /**
+     * Gets the number of entities loaded from the storage.
+     *
+     * @return Load count
+     */
+    long getLoadCount();
+
+    /**
+     * Gets the total time spent loading entities from the storage.
+     *
+     * @return Time in nanoseconds
+     */
+    long getTotalLoadTime();
+
+    /**
+     * Gets the average time it took to load an entity from the storage.
+     *
+     * @return Time in nanoseconds, {@code 0} if no entities have been loaded
+     */
+    default double getAverageLoadTime() {
+        final long count = getLoadCount();
+        return count == 0 ? 0 : (double) getTotalLoadTime() / count;
+    }
+
+    /**
+     * Gets the number of records removed from the cache for the specified reason.
+     *
+     * @param cause Eviction cause
+     * @return Eviction count
+     */
+    long getEvictionCount(EvictionCause cause);
+
+    /**
+     * Gets the total number of records removed from the cache.
+     *
+     * @return Eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Gets the number of records in the cache.
+     *
+     * @return Entry count
+     */
+    long getEntryCount();
+
+    /**
+     * Gets the number of records in the individual repository contexts.
+     * <p>
+     * The default context is represented by {@code null} key.
+     *
+     * @return Map of context identifiers to entry counts
+     */
+    Map<URI, Long> getEntryCountPerContext();
+
+    /**
+     * Gets the number of records of the individual entity classes.
+     *
+     * @return Map of entity classes to entry counts
+     */
+    Map<Class<?>, Long> getEntryCountPerClass();
+}
@@ -133,6 +133,56 @@ public interface UnitOfWork extends Session {
      */
     <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Retrieves objects with the specified identifiers.
+     * <p>
+     * This is a bulk variant of {@link #readObject(Class, Object, Descriptor)}. Objects not yet managed by this Unit
+     * of Work may be loaded from the storage together, which can significantly reduce the number of storage accesses.
+     *
+     * @param cls         The type of the returned objects
+     * @param identifiers Instance identifiers
+     * @param descriptor  Entity descriptor
+     * @return List of retrieved objects, in order corresponding to the identifiers. Objects which do not exist in the
+     * specified repository are represented by {@code null}
+     * @throws NullPointerException    If {@code cls}, {@code identifiers} or {@code repository} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     */
+    <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor);
+
+    /**
+     * Retrieves object with the specified identifier without registering it in this Unit of Work.
+     * <p>
+     * If the object is already managed, the managed instance is returned. Otherwise, a shallow copy of the instance
+     * shared via the second level cache (or of a freshly loaded one, if it is not cached) is returned. The copy shares
+     * attribute values with the shared instance, its collections and maps are unmodifiable views of the shared ones.
+     * The copy and the instances it references must not be modified.
+     *
+     * @param cls        The type of the returned object
+     * @param identifier Instance identifier
+     * @param descriptor Entity descriptor
+     * @return The retrieved object or {@code null} if there is no object with the specified identifier in the specified
+     * repository
+     * @throws NullPointerException    If {@code cls}, {@code identifier} or {@code repository} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     * @see #readObject(Class, Object, Descriptor)
+     */
+    <T> T readObjectWithoutRegistration(Class<T> cls, Object identifier, Descriptor descriptor);
+
+    /**
+     * Retrieves objects with the specified identifiers without registering them in this Unit of Work.
+     * <p>
+     * This is a bulk variant of {@link #readObjectWithoutRegistration(Class, Object, Descriptor)}.
+     *
+     * @param cls         The type of the returned objects
+     * @param identifiers Instance identifiers
+     * @param descriptor  Entity descriptor
+     * @return List of retrieved objects, in order corresponding to the identifiers. Objects which do not exist in the
+     * specified repository are represented by {@code null}
+     * @throws NullPointerException    If {@code cls}, {@code identifiers} or {@code repository} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     */
+    <T> List<T> readObjectsWithoutRegistration(Class<T> cls, List<?> identifiers, Descriptor descriptor);
+
     /**
      * Retrieves a reference to an object with the specified identifier.
      * <p>
@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of the second level cache implementations under concurrent access.
+ * <p>
+ * The keyspace is twice the cache capacity, so the workload mixes hits, misses and evictions. Run {@link
+ * #main(String[])} to execute the benchmark with 1 to 64 threads, or use the JMH uber-jar and its {@code -t} option.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheManagerBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Param({"lru", "ttl", "concurrent"})
+    private String cacheType;
+
+    @Param({"10000"})
+    private int capacity;
+
+    @Param({"4"})
+    private int contextCount;
+
+    private CacheManager cache;
+
+    private URI[] identifiers;
+    private Item[] items;
+    private Descriptor[] descriptors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(JOPAPersistenceProperties.CACHE_TYPE, cacheType);
+        properties.put(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, Integer.toString(capacity));
+        this.cache = CacheFactory.createCache(properties);
+
+        final int keyspace = capacity * 2;
+        this.identifiers = new URI[keyspace];
+        this.items = new Item[keyspace];
+        for (int i = 0; i < keyspace; i++) {
+            identifiers[i] = URI.create("http://onto.fel.cvut.cz/ontologies/jopa/benchmark/item-" + i);
+            items[i] = new Item(identifiers[i]);
+        }
+        this.descriptors = new Descriptor[contextCount];
+        for (int i = 0; i < contextCount; i++) {
+            descriptors[i] = new EntityDescriptor(URI.create("http://onto.fel.cvut.cz/ontologies/jopa/context-" + i));
+        }
+        for (int i = 0; i < capacity; i++) {
+            cache.add(identifiers[i], items[i], descriptor(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.close();
+    }
+
+    private Descriptor descriptor(int index) {
+        return descriptors[index % descriptors.length];
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        final int i = ThreadLocalRandom.current().nextInt(identifiers.length);
+        bh.consume(cache.get(Item.class, identifiers[i], descriptor(i)));
+    }
+
+    /**
+     * Typical read path of the entity loader - look up, load and add on a miss.
+     */
+    @Benchmark
+    public void getOrAdd(Blackhole bh) {
+        final int i = ThreadLocalRandom.current().nextInt(identifiers.length);
+        final Descriptor descriptor = descriptor(i);
+        if (cache.contains(Item.class, identifiers[i], descriptor)) {
+            bh.consume(cache.get(Item.class, identifiers[i], descriptor));
+        } else {
+            cache.add(identifiers[i], items[i], descriptor);
+        }
+    }
+
+    /**
+     * Read-mostly workload with 10 % of writes.
+     */
+    @Benchmark
+    public void readMostly(Blackhole bh) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int i = random.nextInt(identifiers.length);
+        if (random.nextInt(10) == 0) {
+            cache.add(identifiers[i], items[i], descriptor(i));
+        } else {
+            bh.consume(cache.get(Item.class, identifiers[i], descriptor(i)));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            final Options opts = new OptionsBuilder()
+                    .include(CacheManagerBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("cache-benchmark-" + threads + "-threads.json")
+                    .build();
+            new Runner(opts).run();
+        }
+    }
+
+    /**
+     * Cached item stand-in. The cache does not depend on the item being an entity.
+     */
+    public static final class Item {
+
+        private final URI uri;
+
+        Item(URI uri) {
+            this.uri = uri;
+        }
+
+        public URI getUri() {
+            return uri;
+        }
+    }
+}
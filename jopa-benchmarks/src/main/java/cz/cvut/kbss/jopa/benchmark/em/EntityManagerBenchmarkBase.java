@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.em;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Common setup of the benchmarks of {@link EntityManager} operations.
+ * <p>
+ * Each benchmark runs against every {@link StorageType} and uses the entity model of the integration tests. The
+ * storage is created in a temporary directory, which is removed when the benchmark trial ends.
+ */
+@State(Scope.Benchmark)
+public abstract class EntityManagerBenchmarkBase {
+
+    static final String BASE = "http://onto.fel.cvut.cz/ontologies/jopa/benchmark/";
+
+    @Param({"RDF4J_MEMORY", "JENA_MEMORY", "JENA_TDB", "OWLAPI_FILE"})
+    StorageType storageType;
+
+    EntityManagerFactory emf;
+
+    private Path storageDirectory;
+
+    void initPersistence(boolean cacheEnabled) throws IOException {
+        this.storageDirectory = Files.createTempDirectory("jopa-benchmark");
+        final Map<String, String> properties =
+                new HashMap<>(storageType.createProperties(getClass().getSimpleName(), storageDirectory));
+        properties.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.toString(cacheEnabled));
+        properties.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.test");
+        properties.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        this.emf = Persistence.createEntityManagerFactory(getClass().getSimpleName(), properties);
+    }
+
+    void closePersistence() throws IOException {
+        if (emf != null) {
+            emf.close();
+        }
+        if (storageDirectory != null) {
+            try (final Stream<Path> files = Files.walk(storageDirectory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * Executes the specified action in a transaction of a new entity manager.
+     *
+     * @param action Action to execute
+     */
+    void inTransaction(Consumer<EntityManager> action) {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            action.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Persists the specified number of {@link OWLClassA} instances.
+     *
+     * @param count  Number of instances to persist
+     * @param prefix Prefix of the instance identifiers
+     * @return Identifiers of the persisted instances
+     */
+    URI[] persistInstancesOfA(int count, String prefix) {
+        final URI[] identifiers = new URI[count];
+        inTransaction(em -> {
+            for (int i = 0; i < count; i++) {
+                identifiers[i] = URI.create(BASE + prefix + i);
+                em.persist(new OWLClassA(identifiers[i], "String value " + i));
+            }
+        });
+        return identifiers;
+    }
+
+    /**
+     * Runs benchmarks of the specified class and writes their results in JSON, so that they can be compared between
+     * releases.
+     *
+     * @param benchmarkClass Benchmark class to run
+     * @throws RunnerException When the benchmarks fail
+     */
+    static void run(Class<?> benchmarkClass) throws RunnerException {
+        final Options opts = new OptionsBuilder()
+                .include(benchmarkClass.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result(benchmarkClass.getSimpleName() + ".json")
+                .build();
+        new Runner(opts).run();
+    }
+}
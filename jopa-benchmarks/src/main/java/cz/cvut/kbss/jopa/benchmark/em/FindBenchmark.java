@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.em;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.query.QueryHints;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassC;
+import cz.cvut.kbss.jopa.test.OWLClassI;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading of entities by {@link EntityManager#find(Class, Object)}.
+ * <p>
+ * Every operation uses a new entity manager, so that the persistence context does not serve the entity. The cold
+ * variants evict the second level cache before loading, the warm variants load entities which are already cached.
+ * <p>
+ * {@link #findWarmReadOnly()} uses the {@link QueryHints#READ_ONLY} hint and can be compared to {@link #findWarm()} to
+ * see the cost of registering the loaded entity in the persistence context. Run with the GC profiler ({@code -prof gc})
+ * to compare the allocation rates as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FindBenchmark extends EntityManagerBenchmarkBase {
+
+    @Param({"1000"})
+    private int entityCount;
+
+    @Param({"10"})
+    private int listSize;
+
+    private URI[] identifiersOfA;
+    private URI identifierOfC;
+    private URI[] identifiersOfI;
+
+    private static final Map<String, Object> READ_ONLY = Collections.singletonMap(QueryHints.READ_ONLY, true);
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        initPersistence(true);
+        this.identifiersOfA = persistInstancesOfA(entityCount, "a-");
+        this.identifiersOfI = new URI[entityCount];
+        this.identifierOfC = URI.create(BASE + "c");
+        inTransaction(em -> {
+            for (int i = 0; i < entityCount; i++) {
+                final OWLClassI instance = new OWLClassI();
+                identifiersOfI[i] = URI.create(BASE + "i-" + i);
+                instance.setUri(identifiersOfI[i]);
+                instance.setOwlClassA(em.find(OWLClassA.class, identifiersOfA[i]));
+                em.persist(instance);
+            }
+            final OWLClassC c = new OWLClassC(identifierOfC);
+            final List<OWLClassA> list = new ArrayList<>(listSize);
+            for (int i = 0; i < listSize; i++) {
+                list.add(em.find(OWLClassA.class, identifiersOfA[i]));
+            }
+            c.setSimpleList(list);
+            c.setReferencedList(new ArrayList<>(list));
+            em.persist(c);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        closePersistence();
+    }
+
+    private URI nextIdentifierOfA() {
+        index = (index + 1) % entityCount;
+        return identifiersOfA[index];
+    }
+
+    @Benchmark
+    public OWLClassA findCold() {
+        emf.getCache().evictAll();
+        return find(OWLClassA.class, nextIdentifierOfA());
+    }
+
+    @Benchmark
+    public OWLClassA findWarm() {
+        // The cache is populated by the first pass over the identifiers
+        return find(OWLClassA.class, nextIdentifierOfA());
+    }
+
+    @Benchmark
+    public OWLClassA findWarmReadOnly() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(OWLClassA.class, nextIdentifierOfA(), READ_ONLY);
+        } finally {
+            em.close();
+        }
+    }
+
+    private <T> T find(Class<T> cls, URI identifier) {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.find(cls, identifier);
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public int loadLists() {
+        emf.getCache().evictAll();
+        final EntityManager em = emf.createEntityManager();
+        try {
+            final OWLClassC result = em.find(OWLClassC.class, identifierOfC);
+            return result.getSimpleList().size() + result.getReferencedList().size();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public String loadLazyField() {
+        emf.getCache().evictAll();
+        index = (index + 1) % entityCount;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            final OWLClassI result = em.find(OWLClassI.class, identifiersOfI[index]);
+            return result.getOwlClassA().getStringAttribute();
+        } finally {
+            em.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(FindBenchmark.class);
+    }
+}
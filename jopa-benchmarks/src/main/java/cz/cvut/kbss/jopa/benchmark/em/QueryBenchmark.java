@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.em;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.query.QueryHints;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.Vocabulary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures typed SOQL and SPARQL queries returning entities.
+ * <p>
+ * The single result variants look up one entity by its attribute value, the list variants load a page of entities.
+ * Every operation uses a new entity manager. {@link #soqlResultListReadOnly()} loads the same page as {@link
+ * #soqlResultList()} using the {@link QueryHints#READ_ONLY} hint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryBenchmark extends EntityManagerBenchmarkBase {
+
+    private static final String SOQL_BY_ATTRIBUTE = "SELECT a FROM OWLClassA a WHERE a.stringAttribute = :str";
+    private static final String SOQL_ALL = "SELECT a FROM OWLClassA a";
+    private static final String SPARQL_BY_ATTRIBUTE = "SELECT ?x WHERE { ?x a ?type ; ?hasString ?str . }";
+    private static final String SPARQL_ALL = "SELECT ?x WHERE { ?x a ?type . }";
+
+    @Param({"1000"})
+    private int entityCount;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        initPersistence(true);
+        persistInstancesOfA(entityCount, "a-");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        closePersistence();
+    }
+
+    private String nextStringValue() {
+        index = (index + 1) % entityCount;
+        return "String value " + index;
+    }
+
+    @Benchmark
+    public OWLClassA soqlSingleResult() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.createQuery(SOQL_BY_ATTRIBUTE, OWLClassA.class).setParameter("str", nextStringValue(), "en")
+                     .getSingleResult();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<OWLClassA> soqlResultList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.createQuery(SOQL_ALL, OWLClassA.class).setMaxResults(pageSize).getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<OWLClassA> soqlResultListReadOnly() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.createQuery(SOQL_ALL, OWLClassA.class).setHint(QueryHints.READ_ONLY, true)
+                     .setMaxResults(pageSize).getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public OWLClassA sparqlSingleResult() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.createNativeQuery(SPARQL_BY_ATTRIBUTE, OWLClassA.class)
+                     .setParameter("type", URI.create(Vocabulary.C_OWL_CLASS_A))
+                     .setParameter("hasString", URI.create(Vocabulary.P_A_STRING_ATTRIBUTE))
+                     .setParameter("str", nextStringValue(), "en").getSingleResult();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<OWLClassA> sparqlResultList() {
+        final EntityManager em = emf.createEntityManager();
+        try {
+            return em.createNativeQuery(SPARQL_ALL, OWLClassA.class)
+                     .setParameter("type", URI.create(Vocabulary.C_OWL_CLASS_A)).setMaxResults(pageSize)
+                     .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(QueryBenchmark.class);
+    }
+}
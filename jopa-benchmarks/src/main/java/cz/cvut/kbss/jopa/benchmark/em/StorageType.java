@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.em;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.test.environment.JenaStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.OwlapiStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.SesameMemoryStorageConfig;
+import cz.cvut.kbss.jopa.test.environment.StorageConfig;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.sesame.config.SesameOntoDriverProperties;
+import openllet.owlapi.OpenlletReasonerFactory;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Storages the entity manager benchmarks run against.
+ * <p>
+ * The configurations reuse storage configurations of the integration tests, so that the benchmarks exercise the same
+ * setup as the tests.
+ */
+public enum StorageType {
+
+    /**
+     * RDF4J driver with in-memory store.
+     */
+    RDF4J_MEMORY {
+        @Override
+        Map<String, String> createProperties(String name, Path directory) {
+            final Map<String, String> properties = createConfiguration(new SesameMemoryStorageConfig(), name, directory);
+            properties.put(SesameOntoDriverProperties.SESAME_USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+            return properties;
+        }
+    },
+    /**
+     * Jena driver with in-memory dataset.
+     */
+    JENA_MEMORY {
+        @Override
+        Map<String, String> createProperties(String name, Path directory) {
+            final Map<String, String> properties = createConfiguration(new JenaStorageConfig(), name, directory);
+            properties.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.IN_MEMORY);
+            return properties;
+        }
+    },
+    /**
+     * Jena driver with TDB dataset.
+     */
+    JENA_TDB {
+        @Override
+        Map<String, String> createProperties(String name, Path directory) {
+            final Map<String, String> properties = createConfiguration(new JenaStorageConfig(), name, directory);
+            properties.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.TDB);
+            properties.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY,
+                    directory.resolve(name + "-tdb").toString());
+            return properties;
+        }
+    },
+    /**
+     * OWLAPI driver with ontology stored in a file.
+     */
+    OWLAPI_FILE {
+        @Override
+        Map<String, String> createProperties(String name, Path directory) {
+            final Map<String, String> properties = createConfiguration(new OwlapiStorageConfig(), name, directory);
+            properties.put(OntoDriverProperties.REASONER_FACTORY_CLASS, OpenlletReasonerFactory.class.getName());
+            return properties;
+        }
+    };
+
+    /**
+     * Creates persistence properties for this storage.
+     *
+     * @param name      Base name of the storage
+     * @param directory Directory where the storage may keep its files
+     * @return Persistence properties, without the persistence unit settings
+     */
+    abstract Map<String, String> createProperties(String name, Path directory);
+
+    private static Map<String, String> createConfiguration(StorageConfig config, String name, Path directory) {
+        config.setName(name);
+        config.setDirectory(directory.toString());
+        final Map<String, String> properties = config.createStorageConfiguration(1);
+        properties.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        properties.put(JOPAPersistenceProperties.LANG, "en");
+        return properties;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.em;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures {@link EntityManager#persist(Object)}, {@link EntityManager#merge(Object)} and {@link
+ * EntityManager#remove(Object)}.
+ * <p>
+ * Every operation runs in its own transaction, so that the measured time includes the commit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteBenchmark extends EntityManagerBenchmarkBase {
+
+    @Param({"1000"})
+    private int entityCount;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private OWLClassA[] detached;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        initPersistence(true);
+        final URI[] identifiers = persistInstancesOfA(entityCount, "existing-");
+        this.detached = new OWLClassA[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            detached[i] = new OWLClassA(identifiers[i], "String value " + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        closePersistence();
+    }
+
+    @Benchmark
+    public void persist() {
+        final long id = counter.incrementAndGet();
+        inTransaction(em -> em.persist(new OWLClassA(URI.create(BASE + "persisted-" + id), "Value " + id)));
+    }
+
+    @Benchmark
+    public void merge() {
+        index = (index + 1) % entityCount;
+        final OWLClassA instance = detached[index];
+        instance.setStringAttribute("Updated value " + counter.incrementAndGet());
+        inTransaction(em -> em.merge(instance));
+    }
+
+    @Benchmark
+    public void remove(RemovalTarget target) {
+        inTransaction(em -> em.remove(em.find(OWLClassA.class, target.identifier)));
+    }
+
+    /**
+     * Provides a new entity to remove for every invocation of {@link #remove(RemovalTarget)}.
+     */
+    @State(Scope.Thread)
+    public static class RemovalTarget {
+
+        private URI identifier;
+
+        @Setup(Level.Invocation)
+        public void setUp(WriteBenchmark benchmark) {
+            final long id = benchmark.counter.incrementAndGet();
+            this.identifier = URI.create(BASE + "removed-" + id);
+            benchmark.inTransaction(em -> em.persist(new OWLClassA(identifier, "Value " + id)));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(WriteBenchmark.class);
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.metamodel;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.CloneBuilderImpl;
+import cz.cvut.kbss.jopa.sessions.CloneConfiguration;
+import cz.cvut.kbss.jopa.sessions.ObjectChangeSet;
+import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
+import cz.cvut.kbss.jopa.sessions.change.ChangeManagerImpl;
+import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.sesame.SesameDataSource;
+import cz.cvut.kbss.ontodriver.sesame.config.SesameOntoDriverProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the persistence operations which read and write entity attribute values.
+ * <p>
+ * The benchmarks run the actual implementation on an entity with 30 attributes ({@link WideEntity}) managed by a
+ * persistence context backed by an in-memory RDF4J repository:
+ * <ul>
+ * <li>{@link #cloneEntity()} - {@link CloneBuilderImpl} copies attributes of the original into a new clone,</li>
+ * <li>{@link #detectChanges()} and {@link #calculateChanges()} - {@link ChangeManagerImpl} compares attributes of a
+ * clone and its original,</li>
+ * <li>{@link #mergeChanges()} - {@link CloneBuilderImpl} writes changed attributes of a clone back into the
+ * original,</li>
+ * <li>{@link #loadEntity()} - an entity is loaded from the repository, i.e., reconstructed by the entity constructor
+ * and cloned.</li>
+ * </ul>
+ * The benchmark does not depend on the way attribute values are accessed, run it on revisions with and without field
+ * accessors bound to the metamodel to compare them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldAccessBenchmark {
+
+    private EntityManagerFactory emf;
+
+    private EntityManager em;
+
+    private UnitOfWorkImpl uow;
+
+    private final Descriptor descriptor = new EntityDescriptor();
+
+    private String identifier;
+
+    private WideEntity original;
+
+    private WideEntity clone;
+
+    private WideEntity changedClone;
+
+    private WideEntity mergeTarget;
+
+    private CloneBuilderImpl cloneBuilder;
+
+    private ChangeManagerImpl changeManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, String> config = new HashMap<>();
+        config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY, "field-access-benchmark");
+        config.put(JOPAPersistenceProperties.DATA_SOURCE_CLASS, SesameDataSource.class.getName());
+        config.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        config.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.benchmark.metamodel");
+        config.put(JOPAPersistenceProperties.LANG, "en");
+        config.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.FALSE.toString());
+        config.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        config.put(SesameOntoDriverProperties.SESAME_USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        config.put(SesameOntoDriverProperties.SESAME_USE_INFERENCE, Boolean.FALSE.toString());
+        this.emf = Persistence.createEntityManagerFactory("fieldAccessBenchmark", config);
+
+        final WideEntity instance = new WideEntity();
+        instance.initializeTestValues();
+        final EntityManager persistEm = emf.createEntityManager();
+        try {
+            persistEm.getTransaction().begin();
+            persistEm.persist(instance);
+            persistEm.getTransaction().commit();
+            // The identifier is generated on persist
+            this.identifier = instance.getKey();
+        } finally {
+            persistEm.close();
+        }
+
+        this.em = emf.createEntityManager();
+        em.getTransaction().begin();
+        this.clone = em.find(WideEntity.class, identifier);
+        this.uow = em.unwrap(UnitOfWorkImpl.class);
+        this.original = (WideEntity) uow.getOriginal(clone);
+        this.cloneBuilder = new CloneBuilderImpl(uow);
+        this.changeManager = new ChangeManagerImpl(uow);
+        this.changedClone = buildClone();
+        changedClone.setIntegerAttribute1(original.getIntegerAttribute1() + 1);
+        changedClone.setStringAttribute1("Changed string attribute");
+        changedClone.getStringSet1().add("four");
+        this.mergeTarget = buildClone();
+    }
+
+    private WideEntity buildClone() {
+        final WideEntity result = (WideEntity) cloneBuilder.buildClone(original, new CloneConfiguration(descriptor));
+        cloneBuilder.reset();
+        return result;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        em.getTransaction().rollback();
+        em.close();
+        emf.close();
+    }
+
+    @Benchmark
+    public WideEntity cloneEntity() {
+        return buildClone();
+    }
+
+    @Benchmark
+    public boolean detectChanges() {
+        // The clone is unchanged, so all attributes are compared
+        return changeManager.hasChanges(original, clone);
+    }
+
+    @Benchmark
+    public ObjectChangeSet calculateChanges() {
+        final ObjectChangeSet changeSet = ChangeSetFactory.createObjectChangeSet(original, changedClone, descriptor);
+        changeManager.calculateChanges(changeSet);
+        return changeSet;
+    }
+
+    @Benchmark
+    public WideEntity mergeChanges() {
+        final ObjectChangeSet changeSet = ChangeSetFactory.createObjectChangeSet(mergeTarget, changedClone, descriptor);
+        changeManager.calculateChanges(changeSet);
+        cloneBuilder.mergeChanges(changeSet);
+        return mergeTarget;
+    }
+
+    @Benchmark
+    public WideEntity loadEntity() {
+        final EntityManager loadingEm = emf.createEntityManager();
+        try {
+            return loadingEm.find(WideEntity.class, identifier);
+        } finally {
+            loadingEm.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opts = new OptionsBuilder()
+                .include(FieldAccessBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("field-access-benchmark.json")
+                .build();
+        new Runner(opts).run();
+    }
+}
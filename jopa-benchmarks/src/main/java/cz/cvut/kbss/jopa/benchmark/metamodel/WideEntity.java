@@ -0,0 +1,190 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.metamodel;
+
+import cz.cvut.kbss.jopa.model.annotations.Id;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.OWLDataProperty;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Entity with 30 data property attributes of various types, used to measure attribute access.
+ */
+@OWLClass(iri = WideEntity.NAMESPACE + "WideEntity")
+public class WideEntity {
+
+    static final String NAMESPACE = "http://krizik.felk.cvut.cz/ontologies/jopa/benchmark#";
+
+    @Id(generated = true)
+    private String key;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute1")
+    private String stringAttribute1;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute2")
+    private String stringAttribute2;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute3")
+    private String stringAttribute3;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute4")
+    private String stringAttribute4;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute5")
+    private String stringAttribute5;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute6")
+    private String stringAttribute6;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute7")
+    private String stringAttribute7;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringAttribute8")
+    private String stringAttribute8;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerAttribute1")
+    private Integer integerAttribute1;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerAttribute2")
+    private Integer integerAttribute2;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerAttribute3")
+    private Integer integerAttribute3;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerAttribute4")
+    private Integer integerAttribute4;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerAttribute5")
+    private Integer integerAttribute5;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerAttribute6")
+    private Integer integerAttribute6;
+
+    @OWLDataProperty(iri = NAMESPACE + "longAttribute1")
+    private Long longAttribute1;
+
+    @OWLDataProperty(iri = NAMESPACE + "longAttribute2")
+    private Long longAttribute2;
+
+    @OWLDataProperty(iri = NAMESPACE + "longAttribute3")
+    private Long longAttribute3;
+
+    @OWLDataProperty(iri = NAMESPACE + "longAttribute4")
+    private Long longAttribute4;
+
+    @OWLDataProperty(iri = NAMESPACE + "booleanAttribute1")
+    private Boolean booleanAttribute1;
+
+    @OWLDataProperty(iri = NAMESPACE + "booleanAttribute2")
+    private Boolean booleanAttribute2;
+
+    @OWLDataProperty(iri = NAMESPACE + "booleanAttribute3")
+    private Boolean booleanAttribute3;
+
+    @OWLDataProperty(iri = NAMESPACE + "doubleAttribute1")
+    private Double doubleAttribute1;
+
+    @OWLDataProperty(iri = NAMESPACE + "doubleAttribute2")
+    private Double doubleAttribute2;
+
+    @OWLDataProperty(iri = NAMESPACE + "doubleAttribute3")
+    private Double doubleAttribute3;
+
+    @OWLDataProperty(iri = NAMESPACE + "dateAttribute1")
+    private Date dateAttribute1;
+
+    @OWLDataProperty(iri = NAMESPACE + "dateAttribute2")
+    private Date dateAttribute2;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringSet1")
+    private Set<String> stringSet1;
+
+    @OWLDataProperty(iri = NAMESPACE + "stringSet2")
+    private Set<String> stringSet2;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerSet1")
+    private Set<Integer> integerSet1;
+
+    @OWLDataProperty(iri = NAMESPACE + "integerSet2")
+    private Set<Integer> integerSet2;
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getStringAttribute1() {
+        return stringAttribute1;
+    }
+
+    public void setStringAttribute1(String stringAttribute1) {
+        this.stringAttribute1 = stringAttribute1;
+    }
+
+    public Integer getIntegerAttribute1() {
+        return integerAttribute1;
+    }
+
+    public void setIntegerAttribute1(Integer integerAttribute1) {
+        this.integerAttribute1 = integerAttribute1;
+    }
+
+    public Set<String> getStringSet1() {
+        return stringSet1;
+    }
+
+    /**
+     * Sets all attributes to non-null values.
+     */
+    public void initializeTestValues() {
+        this.stringAttribute1 = "Value of stringAttribute1";
+        this.stringAttribute2 = "Value of stringAttribute2";
+        this.stringAttribute3 = "Value of stringAttribute3";
+        this.stringAttribute4 = "Value of stringAttribute4";
+        this.stringAttribute5 = "Value of stringAttribute5";
+        this.stringAttribute6 = "Value of stringAttribute6";
+        this.stringAttribute7 = "Value of stringAttribute7";
+        this.stringAttribute8 = "Value of stringAttribute8";
+        this.integerAttribute1 = 117;
+        this.integerAttribute2 = 217;
+        this.integerAttribute3 = 317;
+        this.integerAttribute4 = 417;
+        this.integerAttribute5 = 517;
+        this.integerAttribute6 = 617;
+        this.longAttribute1 = 117L;
+        this.longAttribute2 = 217L;
+        this.longAttribute3 = 317L;
+        this.longAttribute4 = 417L;
+        this.booleanAttribute1 = true;
+        this.booleanAttribute2 = false;
+        this.booleanAttribute3 = true;
+        this.doubleAttribute1 = 1.17;
+        this.doubleAttribute2 = 2.17;
+        this.doubleAttribute3 = 3.17;
+        this.dateAttribute1 = new Date();
+        this.dateAttribute2 = new Date();
+        this.stringSet1 = new HashSet<>(Arrays.asList("one-1", "two-1", "three-1"));
+        this.stringSet2 = new HashSet<>(Arrays.asList("one-2", "two-2", "three-2"));
+        this.integerSet1 = new HashSet<>(Arrays.asList(11, 12, 13));
+        this.integerSet2 = new HashSet<>(Arrays.asList(21, 22, 23));
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.sesame;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.jopa.test.OWLClassM;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.sesame.SesameDataSource;
+import cz.cvut.kbss.ontodriver.sesame.config.SesameOntoDriverProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures duration of transactions which update multiple attributes of many entities.
+ * <p>
+ * Each transaction loads all the benchmark entities, sets each of their data attributes twice and commits. The
+ * benchmark compares immediate and deferred writing of attribute changes (see {@link
+ * JOPAPersistenceProperties#DEFERRED_ATTRIBUTE_WRITES}) against an in-memory RDF4J repository.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkUpdateBenchmark {
+
+    @Param({"false", "true"})
+    private boolean deferredWrites;
+
+    @Param({"1000"})
+    private int entityCount;
+
+    private EntityManagerFactory emf;
+
+    private final List<String> keys = new ArrayList<>();
+
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, String> config = new HashMap<>();
+        config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY, "bulk-update-benchmark");
+        config.put(JOPAPersistenceProperties.DATA_SOURCE_CLASS, SesameDataSource.class.getName());
+        config.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        config.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.test");
+        config.put(JOPAPersistenceProperties.LANG, "en");
+        config.put(JOPAPersistenceProperties.DEFERRED_ATTRIBUTE_WRITES, Boolean.toString(deferredWrites));
+        config.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        config.put(SesameOntoDriverProperties.SESAME_USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        config.put(SesameOntoDriverProperties.SESAME_USE_INFERENCE, Boolean.FALSE.toString());
+        this.emf = Persistence.createEntityManagerFactory("bulkUpdateBenchmark", config);
+
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            final List<OWLClassM> instances = new ArrayList<>(entityCount);
+            for (int i = 0; i < entityCount; i++) {
+                final OWLClassM m = new OWLClassM();
+                m.setIntAttribute(i);
+                em.persist(m);
+                instances.add(m);
+            }
+            em.getTransaction().commit();
+            instances.forEach(m -> keys.add(m.getKey()));
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public void updateAttributes() {
+        final int value = round++;
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (String key : keys) {
+                final OWLClassM m = em.find(OWLClassM.class, key);
+                for (int i = 0; i < 2; i++) {
+                    m.setBooleanAttribute(value % 2 == 0);
+                    m.setIntAttribute(value + i);
+                    m.setLongAttribute((long) value + i);
+                    m.setFloatAttribute((float) value + i);
+                    m.setDoubleAttribute((double) value + i);
+                    m.setDateAttribute(new Date());
+                    m.setEnumAttribute(OWLClassM.Severity.values()[(value + i) % OWLClassM.Severity.values().length]);
+                    m.setSimpleLiteral("Value " + (value + i));
+                }
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opts = new OptionsBuilder()
+                .include(BulkUpdateBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("bulk-update-benchmark.json")
+                .build();
+        new Runner(opts).run();
+    }
+}
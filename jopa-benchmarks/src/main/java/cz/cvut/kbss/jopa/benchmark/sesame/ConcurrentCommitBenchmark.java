@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.sesame;
+
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.Value;
+import cz.cvut.kbss.ontodriver.sesame.SesameDataSource;
+import cz.cvut.kbss.ontodriver.sesame.config.SesameOntoDriverProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures throughput of transaction commits of the RDF4J driver against an in-memory store.
+ * <p>
+ * Every operation runs a complete transaction on its own OntoDriver connection - it persists a new individual with a
+ * couple of property values and commits. Run {@link #main(String[])} to execute the benchmark with 1 to 64 threads,
+ * or use the JMH uber-jar and its {@code -t} option.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentCommitBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    private static final String BASE = "http://onto.fel.cvut.cz/ontologies/jopa/benchmark/";
+
+    @Param({"4"})
+    private int valueCount;
+
+    private SesameDataSource dataSource;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private Assertion classAssertion;
+    private Assertion[] propertyAssertions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.dataSource = new SesameDataSource();
+        dataSource.setStorageProperties(OntologyStorageProperties.driver(SesameDataSource.class.getName())
+                                                                 .physicalUri("memory-store").build());
+        dataSource.setProperties(Collections.singletonMap(SesameOntoDriverProperties.SESAME_USE_VOLATILE_STORAGE,
+                Boolean.TRUE.toString()));
+        this.classAssertion = Assertion.createClassAssertion(false);
+        this.propertyAssertions = new Assertion[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            propertyAssertions[i] = Assertion.createDataPropertyAssertion(URI.create(BASE + "property-" + i), false);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void persistAndCommit() throws Exception {
+        final long id = counter.incrementAndGet();
+        final AxiomValueDescriptor descriptor =
+                new AxiomValueDescriptor(NamedResource.create(URI.create(BASE + "individual-" + id)));
+        descriptor.addAssertionValue(classAssertion, new Value<>(URI.create(BASE + "Item")));
+        for (Assertion assertion : propertyAssertions) {
+            descriptor.addAssertionValue(assertion, new Value<>("Value " + id));
+        }
+        try (final Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.persist(descriptor);
+            connection.commit();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            final Options opts = new OptionsBuilder()
+                    .include(ConcurrentCommitBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("commit-benchmark-" + threads + "-threads.json")
+                    .build();
+            new Runner(opts).run();
+        }
+    }
+}
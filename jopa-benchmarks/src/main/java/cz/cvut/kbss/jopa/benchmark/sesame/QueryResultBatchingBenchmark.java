@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.sesame;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.Vocabulary;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.sesame.SesameDataSource;
+import cz.cvut.kbss.ontodriver.sesame.config.SesameOntoDriverProperties;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BooleanQuery;
+import org.eclipse.rdf4j.query.GraphQuery;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.repository.base.RepositoryConnectionWrapper;
+import org.eclipse.rdf4j.repository.base.RepositoryWrapper;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures storage round trips needed to load entities returned by a typed query.
+ * <p>
+ * Each operation runs a query returning {@code resultCount} entities with the second level cache disabled. The
+ * repository counts every statement lookup and query issued by the driver, the {@code roundTrips} counter divided by
+ * the {@code queries} counter is thus the number of round trips per {@code resultCount} results. The benchmark compares
+ * loading results one by one ({@code resultBatchSize = 1}) and in batches (see {@link
+ * JOPAPersistenceProperties#QUERY_RESULT_BATCH_SIZE}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryResultBatchingBenchmark {
+
+    private static final String QUERY = "SELECT ?x WHERE { ?x a ?type . }";
+
+    private static final String INSTANCE_BASE = "http://onto.fel.cvut.cz/ontologies/jopa/benchmark/a-";
+
+    @Param({"1", "100", "1000"})
+    private int resultBatchSize;
+
+    @Param({"1000"})
+    private int resultCount;
+
+    private EntityManagerFactory emf;
+
+    private final AtomicLong storageCalls = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws OntoDriverException {
+        final Map<String, String> config = new HashMap<>();
+        config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY, "query-result-batching-benchmark");
+        config.put(JOPAPersistenceProperties.DATA_SOURCE_CLASS, SesameDataSource.class.getName());
+        config.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        config.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.test");
+        config.put(JOPAPersistenceProperties.LANG, "en");
+        config.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.FALSE.toString());
+        config.put(JOPAPersistenceProperties.QUERY_RESULT_BATCH_SIZE, Integer.toString(resultBatchSize));
+        config.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        config.put(SesameOntoDriverProperties.SESAME_USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        config.put(SesameOntoDriverProperties.SESAME_USE_INFERENCE, Boolean.FALSE.toString());
+        this.emf = Persistence.createEntityManagerFactory("queryResultBatchingBenchmark", config);
+        final SailRepository repository = new SailRepository(new MemoryStore());
+        repository.init();
+        emf.unwrap(SesameDataSource.class).setRepository(new CountingRepository(repository, storageCalls));
+
+        final EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < resultCount; i++) {
+                em.persist(new OWLClassA(URI.create(INSTANCE_BASE + i), "String value " + i));
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public List<OWLClassA> loadQueryResults(RoundTrips counters) {
+        final long before = storageCalls.get();
+        final EntityManager em = emf.createEntityManager();
+        try {
+            final List<OWLClassA> result = em.createNativeQuery(QUERY, OWLClassA.class)
+                                             .setParameter("type", URI.create(Vocabulary.C_OWL_CLASS_A))
+                                             .getResultList();
+            assert result.size() == resultCount;
+            counters.roundTrips += storageCalls.get() - before;
+            counters.queries++;
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opts = new OptionsBuilder()
+                .include(QueryResultBatchingBenchmark.class.getSimpleName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("query-result-batching-benchmark.json")
+                .build();
+        new Runner(opts).run();
+    }
+
+    /**
+     * Storage round trips and executed queries, reported by JMH as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+
+        public long roundTrips;
+
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.roundTrips = 0;
+            this.queries = 0;
+        }
+    }
+
+    /**
+     * Repository counting read requests of its connections.
+     * <p>
+     * Each counted request corresponds to a round trip when the repository is accessed remotely.
+     */
+    private static final class CountingRepository extends RepositoryWrapper {
+
+        private final AtomicLong counter;
+
+        private CountingRepository(SailRepository delegate, AtomicLong counter) {
+            super(delegate);
+            this.counter = counter;
+        }
+
+        @Override
+        public RepositoryConnection getConnection() {
+            return new CountingConnection(this, super.getConnection(), counter);
+        }
+    }
+
+    private static final class CountingConnection extends RepositoryConnectionWrapper {
+
+        private final AtomicLong counter;
+
+        private CountingConnection(CountingRepository repository, RepositoryConnection delegate,
+                                   AtomicLong counter) {
+            super(repository, delegate);
+            this.counter = counter;
+        }
+
+        @Override
+        public RepositoryResult<Statement> getStatements(Resource subj, IRI pred, Value obj, boolean includeInferred,
+                                                         Resource... contexts) {
+            counter.incrementAndGet();
+            return super.getStatements(subj, pred, obj, includeInferred, contexts);
+        }
+
+        @Override
+        public boolean hasStatement(Resource subj, IRI pred, Value obj, boolean includeInferred,
+                                    Resource... contexts) {
+            counter.incrementAndGet();
+            return super.hasStatement(subj, pred, obj, includeInferred, contexts);
+        }
+
+        @Override
+        public TupleQuery prepareTupleQuery(QueryLanguage ql, String query, String baseURI) {
+            counter.incrementAndGet();
+            return super.prepareTupleQuery(ql, query, baseURI);
+        }
+
+        @Override
+        public GraphQuery prepareGraphQuery(QueryLanguage ql, String query, String baseURI) {
+            counter.incrementAndGet();
+            return super.prepareGraphQuery(ql, query, baseURI);
+        }
+
+        @Override
+        public BooleanQuery prepareBooleanQuery(QueryLanguage ql, String query, String baseURI) {
+            counter.incrementAndGet();
+            return super.prepareBooleanQuery(ql, query, baseURI);
+        }
+    }
+}
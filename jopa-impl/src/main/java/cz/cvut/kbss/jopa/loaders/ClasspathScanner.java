@@ -18,12 +18,15 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -38,6 +41,19 @@ class ClasspathScanner {
 
     private static final Logger LOG = LoggerFactory.getLogger(ClasspathScanner.class);
 
+    /**
+     * Location of the persistence unit class index generated at build time by the {@code jopa-maven-plugin}.
+     * <p>
+     * The index contains one fully qualified class name per line, lines starting with {@code #} are comments. The
+     * package for which the index was generated is declared in a comment starting with {@link #INDEX_PACKAGE_PREFIX}.
+     */
+    static final String CLASS_INDEX_LOCATION = "META-INF/jopa/persistence-unit.idx";
+
+    /**
+     * Prefix of the class index line declaring the indexed package.
+     */
+    static final String INDEX_PACKAGE_PREFIX = "# package: ";
+
     private static final String JAR_FILE_SUFFIX = ".jar";
     private static final String CLASS_FILE_SUFFIX = ".class";
 
@@ -49,6 +65,71 @@ class ClasspathScanner {
         listeners.add(listener);
     }
 
+    /**
+     * Processes classes listed in persistence unit class indexes available to the classloader.
+     * <p>
+     * Only indexes generated for the specified package or one of its ancestors are used, other indexes (e.g., ones
+     * packaged in dependencies) are ignored. Only classes from the specified package (or its subpackages) are
+     * processed.
+     *
+     * @param scanPath Package to which the processed classes are restricted
+     * @return {@code true} if at least one index covering the package was found, {@code false} otherwise, meaning the
+     * classpath has to be scanned
+     */
+    boolean processIndexedClasses(String scanPath) {
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(CLASS_INDEX_LOCATION);
+            final String packagePrefix = scanPath + '.';
+            boolean found = false;
+            while (indexes.hasMoreElements()) {
+                final URL index = indexes.nextElement();
+                final List<String> lines = readIndex(index);
+                if (!coversPackage(lines, scanPath)) {
+                    LOG.debug("Class index {} was not generated for package {}, skipping it.", index, scanPath);
+                    continue;
+                }
+                LOG.trace("Processing classes listed in index {}.", index);
+                found = true;
+                for (String className : lines) {
+                    if (!className.startsWith("#") && className.startsWith(packagePrefix)) {
+                        processClass(className);
+                    }
+                }
+            }
+            return found;
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to read persistence unit class index.", e);
+        }
+    }
+
+    private static List<String> readIndex(URL index) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        try (final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String trimmed = line.trim();
+                if (!trimmed.isEmpty()) {
+                    lines.add(trimmed);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private static boolean coversPackage(List<String> indexLines, String scanPath) {
+        for (String line : indexLines) {
+            if (line.startsWith(INDEX_PACKAGE_PREFIX)) {
+                final String indexedPackage = line.substring(INDEX_PACKAGE_PREFIX.length()).trim();
+                if (!indexedPackage.isEmpty() &&
+                        (scanPath.equals(indexedPackage) || scanPath.startsWith(indexedPackage + '.'))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Inspired by https://github.com/ddopson/java-class-enumerator
      */
@@ -25,6 +25,10 @@ import java.util.Set;
  * Scans classpath to discover classes relevant to persistence unit building.
  * <p>
  * Only classes under the package configured via {@link JOPAPersistenceProperties#SCAN_PACKAGE} are processed.
+ * <p>
+ * If {@link JOPAPersistenceProperties#USE_CLASS_INDEX} is enabled and a persistence unit class index generated for the
+ * scanned package by the {@code jopa-maven-plugin} is available on the classpath, only classes listed in the index are
+ * processed and the classpath is not scanned.
  */
 public class PersistenceUnitClassFinder {
 
@@ -60,7 +64,10 @@ public class PersistenceUnitClassFinder {
         }
         classProcessor.addListener(entityLoader);
         classProcessor.addListener(resultSetMappingLoader);
-        classProcessor.processClasses(toScan);
+        if (!configuration.is(JOPAPersistenceProperties.USE_CLASS_INDEX) ||
+                !classProcessor.processIndexedClasses(toScan)) {
+            classProcessor.processClasses(toScan);
+        }
         this.scanned = true;
     }
 
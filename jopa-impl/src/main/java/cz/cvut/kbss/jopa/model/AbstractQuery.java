@@ -19,11 +19,13 @@ import cz.cvut.kbss.jopa.exceptions.NoUniqueResultException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.query.Parameter;
 import cz.cvut.kbss.jopa.model.query.Query;
+import cz.cvut.kbss.jopa.model.query.QueryHints;
 import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import cz.cvut.kbss.jopa.utils.Procedure;
 import cz.cvut.kbss.jopa.utils.ThrowingConsumer;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -31,6 +33,9 @@ import cz.cvut.kbss.ontodriver.iteration.ResultRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -50,6 +55,8 @@ abstract class AbstractQuery implements Query {
     private final ConnectionWrapper connection;
 
     private boolean useBackupOntology = false;
+    private boolean nativeParameterBinding = false;
+    private final Map<String, Object> hints = new HashMap<>();
 
     private Procedure rollbackOnlyMarker;
     private Procedure ensureOpenProcedure;
@@ -69,6 +76,19 @@ abstract class AbstractQuery implements Query {
         this.useBackupOntology = useBackupOntology;
     }
 
+    /**
+     * Sets whether values of named parameters should be bound to the query by the storage.
+     * <p>
+     * If enabled, parameter values which are single RDF terms are passed to the driver as bindings of a prepared
+     * statement instead of being inserted into the query string.
+     *
+     * @param nativeParameterBinding Whether to use native parameter binding
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#QUERY_NATIVE_PARAMETER_BINDING
+     */
+    public void useNativeParameterBinding(boolean nativeParameterBinding) {
+        this.nativeParameterBinding = nativeParameterBinding;
+    }
+
     private void logQuery() {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Executing query: {}", query.assembleQuery());
@@ -83,6 +103,47 @@ abstract class AbstractQuery implements Query {
         }
     }
 
+    /**
+     * Creates a statement for evaluating this query.
+     * <p>
+     * When native parameter binding is enabled and the query has parameters which can be bound by the storage, a
+     * prepared statement with these parameters set is returned.
+     */
+    private Statement createStatement() {
+        if (nativeParameterBinding) {
+            final Map<String, String> bindings = new HashMap<>();
+            final String template = query.assembleQuery(bindings);
+            if (!bindings.isEmpty()) {
+                final PreparedStatement stmt = connection.prepareStatement(template);
+                try {
+                    for (Map.Entry<String, String> e : bindings.entrySet()) {
+                        stmt.setObject(e.getKey(), e.getValue());
+                    }
+                } catch (OntoDriverException e) {
+                    closeStatement(stmt);
+                    throw queryEvaluationException(e);
+                }
+                return stmt;
+            }
+        }
+        return connection.createStatement();
+    }
+
+    private static void closeStatement(Statement stmt) {
+        try {
+            stmt.close();
+        } catch (Exception e) {
+            LOG.error("Unable to close statement.", e);
+        }
+    }
+
+    private ResultSet executeQuery(Statement stmt) throws OntoDriverException {
+        if (stmt instanceof PreparedStatement) {
+            return ((PreparedStatement) stmt).executeQuery();
+        }
+        return stmt.executeQuery(query.assembleQuery());
+    }
+
     OWLPersistenceException queryEvaluationException(OntoDriverException e) {
         final String executedQuery = query.assembleQuery();
         return new OWLPersistenceException("Exception caught when evaluating query " + executedQuery, e);
@@ -126,11 +187,15 @@ abstract class AbstractQuery implements Query {
     @Override
     public void executeUpdate() {
         ensureOpen();
-        final Statement stmt = connection.createStatement();
+        final Statement stmt = createStatement();
         try {
             setTargetOntology(stmt);
             logQuery();
-            stmt.executeUpdate(query.assembleQuery());
+            if (stmt instanceof PreparedStatement) {
+                ((PreparedStatement) stmt).executeUpdate();
+            } else {
+                stmt.executeUpdate(query.assembleQuery());
+            }
         } catch (OntoDriverException e) {
             markTransactionForRollback();
             throw queryEvaluationException(e);
@@ -268,6 +333,29 @@ abstract class AbstractQuery implements Query {
         return query.getFirstResult();
     }
 
+    @Override
+    public Query setHint(String hintName, Object value) {
+        ensureOpen();
+        Objects.requireNonNull(hintName, ErrorUtils.getNPXMessageSupplier("hintName"));
+        hints.put(hintName, value);
+        return this;
+    }
+
+    @Override
+    public Map<String, Object> getHints() {
+        return Collections.unmodifiableMap(hints);
+    }
+
+    /**
+     * Whether entity results of this query should be returned without registering them in the persistence context.
+     *
+     * @return {@code true} if the {@link QueryHints#READ_ONLY} hint is set to {@code true}
+     */
+    boolean isReadOnly() {
+        final Object value = hints.get(QueryHints.READ_ONLY);
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
     void checkNumericParameter(int param, String name) {
         if (param < 0) {
             markTransactionForRollback();
@@ -282,10 +370,10 @@ abstract class AbstractQuery implements Query {
      * @throws OntoDriverException When something goes wrong during query evaluation or result set processing
      */
     void executeQuery(ThrowingConsumer<ResultRow, OntoDriverException> consumer) throws OntoDriverException {
-        try (final Statement stmt = connection.createStatement()) {
+        try (final Statement stmt = createStatement()) {
             setTargetOntology(stmt);
             logQuery();
-            final ResultSet rs = stmt.executeQuery(query.assembleQuery());
+            final ResultSet rs = executeQuery(stmt);
             for (ResultRow row : rs) {
                 consumer.accept(row);
             }
@@ -293,10 +381,10 @@ abstract class AbstractQuery implements Query {
     }
 
     <R> Stream<R> executeQueryForStream(Function<ResultRow, Optional<R>> function) throws OntoDriverException {
-        final Statement stmt = connection.createStatement();
+        final Statement stmt = createStatement();
         setTargetOntology(stmt);
         logQuery();
-        final ResultSet rs = stmt.executeQuery(query.assembleQuery());
+        final ResultSet rs = executeQuery(stmt);
         return StreamSupport.stream(new QueryResultSpliterator<>(rs.spliterator(), function, () -> {
             try {
                 stmt.close();
@@ -102,6 +102,23 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Persisten
         return c;
     }
 
+    @Override
+    public BulkLoader createBulkLoader() {
+        ensureOpen();
+        initServerSession();
+        return serverSession.createBulkLoader();
+    }
+
+    @Override
+    public BulkLoader createBulkLoader(int chunkSize) {
+        ensureOpen();
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Bulk load chunk size must be positive, got " + chunkSize + ".");
+        }
+        initServerSession();
+        return serverSession.createBulkLoader(chunkSize);
+    }
+
     private void ensureOpen() {
         if (!open) {
             throw new IllegalStateException("The entity manager factory is closed.");
@@ -169,7 +186,7 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Persisten
     public Object getIdentifier(Object entity) {
         Objects.requireNonNull(entity);
         final EntityType<?> et = getMetamodel().entity(entity.getClass());
-        return EntityPropertiesUtils.getFieldValue(et.getIdentifier().getJavaField(), entity);
+        return EntityPropertiesUtils.getAttributeValue(et.getIdentifier(), entity);
     }
 
     @Override
@@ -19,6 +19,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
+import cz.cvut.kbss.jopa.model.query.QueryHints;
 import cz.cvut.kbss.jopa.sessions.ServerSession;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
@@ -227,7 +228,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         } else {
             attVal = mergeInternal(attVal, descriptor);
         }
-        EntityPropertiesUtils.setFieldValue(at.getJavaField(), merged, attVal);
+        EntityPropertiesUtils.setAttributeValue(at, merged, attVal);
     }
 
     @Override
@@ -269,16 +270,31 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
 
     @Override
     public <T> T find(Class<T> cls, Object identifier, Descriptor descriptor) {
+        return find(cls, identifier, descriptor, Collections.emptyMap());
+    }
+
+    @Override
+    public <T> T find(Class<T> cls, Object identifier, Map<String, Object> properties) {
+        final EntityDescriptor d = new EntityDescriptor();
+        return find(cls, identifier, d, properties);
+    }
+
+    @Override
+    public <T> T find(Class<T> cls, Object identifier, Descriptor descriptor, Map<String, Object> properties) {
         try {
             Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
             Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
             Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+            Objects.requireNonNull(properties, ErrorUtils.getNPXMessageSupplier("properties"));
             ensureOpen();
             checkClassIsValidEntity(cls);
 
             LOG.trace("Finding instance of {} with identifier {} in context {}.", cls, identifier, descriptor);
             final URI uri = (identifier instanceof URI) ? (URI) identifier : URI.create(identifier.toString());
 
+            if (isReadOnly(properties)) {
+                return getCurrentPersistenceContext().readObjectWithoutRegistration(cls, uri, descriptor);
+            }
             return getCurrentPersistenceContext().readObject(cls, uri, descriptor);
         } catch (RuntimeException e) {
             markTransactionForRollback();
@@ -286,6 +302,16 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    /**
+     * Whether entities should be read without registering them in the persistence context.
+     * <p>
+     * The read-only hint in the specified properties takes precedence over the entity manager configuration.
+     */
+    private boolean isReadOnly(Map<String, Object> properties) {
+        final Object value = properties.get(QueryHints.READ_ONLY);
+        return value != null ? Boolean.parseBoolean(value.toString()) : configuration.is(QueryHints.READ_ONLY);
+    }
+
     @Override
     public <T> T getReference(Class<T> entityClass, Object identifier) {
         try {
@@ -447,7 +473,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         final TypedQueryImpl<T> q = getCurrentPersistenceContext().sparqlQueryFactory().createQuery(query, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
-        return q;
+        return applyReadOnlyConfiguration(q);
     }
 
     @Override
@@ -466,7 +492,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
                                                                   .createNativeQuery(sparqlString, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
-        return q;
+        return applyReadOnlyConfiguration(q);
     }
 
     @Override
@@ -495,7 +521,14 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
                                                                   .createNamedQuery(name, resultClass);
         q.setRollbackOnlyMarker(this::markTransactionForRollback);
         q.setEnsureOpenProcedure(this::ensureOpen);
-        return q;
+        return applyReadOnlyConfiguration(q);
+    }
+
+    private <T> TypedQueryImpl<T> applyReadOnlyConfiguration(TypedQueryImpl<T> query) {
+        if (configuration.is(QueryHints.READ_ONLY)) {
+            query.setHint(QueryHints.READ_ONLY, true);
+        }
+        return query;
     }
 
     @Override
@@ -55,7 +55,8 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
     public static final String CACHE_SWEEP_RATE = "cz.cvut.jopa.cache.sweepRate";
 
     /**
-     * Type of the second level cache. Currently supported are {@literal ttl} and {@literal lru}.
+     * Type of the second level cache. Currently supported are {@literal ttl}, {@literal lru}, {@literal concurrent} and
+     * {@literal partitioned}.
      */
     public static final String CACHE_TYPE = "cz.cvut.jopa.cache.type";
 
@@ -64,6 +65,33 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String LRU_CACHE_CAPACITY = "cz.cvut.jopa.cache.lru.capacity";
 
+    /**
+     * Capacity of the concurrent second level cache.
+     * <p>
+     * When not set, the value of {@link #LRU_CACHE_CAPACITY} is used, if present.
+     */
+    public static final String CONCURRENT_CACHE_CAPACITY = "cz.cvut.jopa.cache.concurrent.capacity";
+
+    /**
+     * Number of independently locked segments of the concurrent second level cache.
+     * <p>
+     * Rounded to a power of two. Defaults to a value derived from the number of available processors.
+     */
+    public static final String CONCURRENT_CACHE_SEGMENTS = "cz.cvut.jopa.cache.concurrent.segments";
+
+    /**
+     * Capacity of a single repository context partition of the partitioned second level cache.
+     */
+    public static final String PARTITIONED_CACHE_CONTEXT_CAPACITY = "cz.cvut.jopa.cache.partitioned.contextCapacity";
+
+    /**
+     * Whether second level cache statistics should be published as a JMX MBean.
+     * <p>
+     * Statistics are always collected and available via {@link cz.cvut.kbss.jopa.sessions.Cache#getStatistics()}, this
+     * setting only controls their registration in the platform MBean server. Defaults to {@code false}.
+     */
+    public static final String CACHE_STATISTICS_JMX = "cz.cvut.jopa.cache.statistics.jmx";
+
     /**
      * Disable integrity constraints validation on entity/field load.
      */
@@ -78,6 +106,60 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String PREFER_MULTILINGUAL_STRING = "cz.cvut.jopa.preferMultilingualString";
 
+    /**
+     * Number of typed query results whose entity instances are loaded from the storage together in one batch.
+     * <p>
+     * Values greater than one enable batched result loading, in which identifiers of query results are collected and
+     * the corresponding entities are loaded using a single storage call per batch. By default, batch loading is
+     * disabled and entities are loaded one by one.
+     */
+    public static final String QUERY_RESULT_BATCH_SIZE = "cz.cvut.jopa.query.resultBatchSize";
+
+    /**
+     * Maximum number of parsed queries kept in the persistence unit-wide query template cache.
+     * <p>
+     * Repeatedly created queries are parsed only once and each query instance gets a copy of the cached template.
+     * Named queries are parsed at startup and do not count towards this limit. Zero disables caching of other queries.
+     */
+    public static final String QUERY_TEMPLATE_CACHE_CAPACITY = "cz.cvut.jopa.query.templateCacheCapacity";
+
+    /**
+     * Whether values of named query parameters should be bound to the query by the driver.
+     * <p>
+     * When enabled, parameter values which are IRIs or literals are passed to a prepared statement instead of being
+     * inserted into the query string. The RDF4J driver binds them to the corresponding query variables if its own
+     * {@code cz.cvut.kbss.ontodriver.sesame.native-parameter-binding} property is enabled as well, so that repeated
+     * executions of the same query can reuse the prepared query. Otherwise, drivers insert the values into the query
+     * textually. Defaults to {@code false}.
+     */
+    public static final String QUERY_NATIVE_PARAMETER_BINDING = "cz.cvut.jopa.query.nativeParameterBinding";
+
+    /**
+     * Whether changes of attribute values of managed entities should be written to the storage lazily.
+     * <p>
+     * When enabled, the persistence context only records which fields have been modified and writes their current
+     * values in one update per entity on flush, commit or before a query is executed. Repeated modifications of the
+     * same field are thus written only once. Defaults to {@code false}, i.e., every change is written immediately.
+     */
+    public static final String DEFERRED_ATTRIBUTE_WRITES = "cz.cvut.jopa.deferredAttributeWrites";
+
+    /**
+     * Number of entities written and committed together by a {@link BulkLoader}.
+     * <p>
+     * Larger chunks mean fewer storage transactions, but more memory used by the loader.
+     */
+    public static final String BULK_LOAD_CHUNK_SIZE = "cz.cvut.jopa.bulkLoad.chunkSize";
+
+    /**
+     * Whether persistence unit classes should be loaded from class indexes generated by the {@code jopa-maven-plugin}
+     * instead of scanning the classpath.
+     * <p>
+     * Only indexes generated for the {@link #SCAN_PACKAGE} (or one of its ancestors) are used, classes of the package
+     * not listed in them are not discovered. The classpath is scanned if no such index is found. Defaults to {@code
+     * false}.
+     */
+    public static final String USE_CLASS_INDEX = "cz.cvut.jopa.useClassIndex";
+
     private JOPAPersistenceProperties() {
         throw new AssertionError();
     }
@@ -25,6 +25,7 @@ import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.sessions.UnitOfWork;
+import cz.cvut.kbss.jopa.utils.Constants;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.iteration.ResultRow;
@@ -45,6 +46,8 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
 
     private Descriptor descriptor;
 
+    private int resultBatchSize = Constants.DEFAULT_QUERY_RESULT_BATCH_SIZE;
+
     public TypedQueryImpl(final QueryHolder query, final Class<X> resultType,
                           final ConnectionWrapper connection, MetamodelProvider metamodelProvider) {
         super(query, connection);
@@ -57,6 +60,18 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         this.uow = uow;
     }
 
+    /**
+     * Sets the number of entity results loaded from the storage together.
+     * <p>
+     * Batch size greater than one means that identifiers of entity results are collected and the corresponding
+     * instances are loaded in bulk, which reduces the number of storage round trips.
+     *
+     * @param resultBatchSize Result loading batch size
+     */
+    public void setResultBatchSize(int resultBatchSize) {
+        this.resultBatchSize = resultBatchSize;
+    }
+
     @Override
     public List<X> getResultList() {
         ensureOpen();
@@ -74,6 +89,9 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     private List<X> getResultListImpl() throws OntoDriverException {
         final boolean isEntityType = metamodelProvider.isEntityType(resultType);
         final Descriptor instDescriptor = descriptor != null ? descriptor : new EntityDescriptor();
+        if (isEntityType && resultBatchSize > 1) {
+            return loadEntityInstancesInBatches(instDescriptor);
+        }
         final List<X> res = new ArrayList<>();
         executeQuery(rs -> {
             if (isEntityType) {
@@ -85,19 +103,53 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         return res;
     }
 
-    private Optional<X> loadEntityInstance(ResultRow resultRow, Descriptor instanceDescriptor) {
+    private List<X> loadEntityInstancesInBatches(Descriptor instanceDescriptor) throws OntoDriverException {
+        ensureUnitOfWorkAvailable();
+        final List<X> res = new ArrayList<>();
+        final List<URI> batch = new ArrayList<>(resultBatchSize);
+        executeQuery(rs -> {
+            batch.add(getEntityIdentifier(rs));
+            if (batch.size() == resultBatchSize) {
+                loadEntityInstances(batch, instanceDescriptor, res);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            loadEntityInstances(batch, instanceDescriptor, res);
+        }
+        return res;
+    }
+
+    private void loadEntityInstances(List<URI> identifiers, Descriptor instanceDescriptor, List<X> target) {
+        final List<X> instances = isReadOnly() ?
+                                  uow.readObjectsWithoutRegistration(resultType, identifiers, instanceDescriptor) :
+                                  uow.readObjects(resultType, identifiers, instanceDescriptor);
+        instances.stream().filter(Objects::nonNull).forEach(target::add);
+    }
+
+    private void ensureUnitOfWorkAvailable() {
         if (uow == null) {
             throw new IllegalStateException("Cannot load entity instance without Unit of Work.");
         }
+    }
+
+    private URI getEntityIdentifier(ResultRow resultRow) {
         try {
             assert resultRow.isBound(0);
-            final URI uri = URI.create(resultRow.getString(0));
-            return Optional.ofNullable(uow.readObject(resultType, uri, instanceDescriptor));
+            return URI.create(resultRow.getString(0));
         } catch (OntoDriverException e) {
             throw new OWLPersistenceException("Unable to load query result as entity of type " + resultType, e);
         }
     }
 
+    private Optional<X> loadEntityInstance(ResultRow resultRow, Descriptor instanceDescriptor) {
+        ensureUnitOfWorkAvailable();
+        final URI uri = getEntityIdentifier(resultRow);
+        return Optional.ofNullable(
+                isReadOnly() ? uow.readObjectWithoutRegistration(resultType, uri, instanceDescriptor) :
+                uow.readObject(resultType, uri, instanceDescriptor));
+    }
+
     private Optional<X> loadResultValue(ResultRow resultRow) {
         try {
             return Optional.of(resultRow.getObject(0, resultType));
@@ -168,6 +220,12 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         return this;
     }
 
+    @Override
+    public TypedQuery<X> setHint(String hintName, Object value) {
+        super.setHint(hintName, value);
+        return this;
+    }
+
     @Override
     public TypedQuery<X> setParameter(int position, Object value) {
         super.setParameter(position, value);
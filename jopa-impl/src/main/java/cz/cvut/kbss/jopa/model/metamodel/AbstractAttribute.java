@@ -21,10 +21,12 @@ import cz.cvut.kbss.jopa.oom.converter.ConverterWrapper;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 
-public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
+public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y>, FieldAccessorProvider {
 
     private final Field field;
 
+    private final FieldAccessor accessor;
+
     private final ManagedType<X> declaringType;
 
     private final PersistentAttributeType attributeType;
@@ -53,6 +55,7 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
 
     AbstractAttribute(AbstractAttributeBuilder<X, Y> builder) {
         this.field = builder.field;
+        this.accessor = FieldAccessor.of(field);
         this.declaringType = builder.declaringType;
         this.attributeType = builder.attributeType;
         this.iri = builder.iri;
@@ -108,6 +111,11 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         return field;
     }
 
+    @Override
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
     @Override
     public FetchType getFetchType() {
         return fetchType;
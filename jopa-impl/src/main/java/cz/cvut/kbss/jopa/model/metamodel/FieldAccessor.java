@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Reads and writes value of an entity field.
+ * <p>
+ * The accessor is bound to the field when the metamodel is built. Access checks are suppressed for the field once, at
+ * that time, so that reading and writing the value does not have to verify and modify field accessibility on every
+ * call.
+ */
+public final class FieldAccessor {
+
+    private final Field field;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
+    }
+
+    /**
+     * Creates accessor of the specified field.
+     *
+     * @param field Field to access, possibly {@code null}
+     * @return Field accessor, {@code null} if the field is {@code null}
+     */
+    public static FieldAccessor of(Field field) {
+        return field != null ? new FieldAccessor(field) : null;
+    }
+
+    /**
+     * Gets the field this accessor is bound to.
+     *
+     * @return Field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Gets value of the field from the specified instance.
+     *
+     * @param instance Instance containing the field
+     * @return Field value
+     * @throws IllegalArgumentException If the instance is not of a type declaring the field
+     */
+    public Object getValue(Object instance) {
+        Objects.requireNonNull(instance);
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new OWLPersistenceException("Unable to extract field value.", e);
+        }
+    }
+
+    /**
+     * Sets the specified value of the field on the specified instance.
+     *
+     * @param instance Instance containing the field
+     * @param value    The value to set
+     * @throws IllegalArgumentException If the instance is not of a type declaring the field or the value cannot be
+     *                                  assigned to the field
+     */
+    public void setValue(Object instance, Object value) {
+        Objects.requireNonNull(instance);
+        try {
+            field.set(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new OWLPersistenceException("Unable to set field value.", e);
+        }
+    }
+}
@@ -121,23 +121,49 @@ class AxiomValueGatherer {
     void persist(Connection connection) {
         try {
             connection.persist(axiomDescriptor);
-            if (typesToAdd != null) {
-                connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
-            }
-            if (propertiesToAdd != null) {
-                connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
-            }
-            for (SimpleListValueDescriptor d : simpleListDescriptors) {
-                connection.lists().persistSimpleList(d);
-            }
-            for (ReferencedListValueDescriptor d : referencedListDescriptors) {
-                connection.lists().persistReferencedList(d);
+            persistAdditionalValues(connection);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Persists values gathered by all the specified gatherers.
+     * <p>
+     * Axiom values of all the gatherers are passed to the storage in a single batch, types, properties and lists are
+     * then persisted separately for each subject.
+     *
+     * @param gatherers  Gatherers whose values to persist
+     * @param connection Storage connection
+     */
+    static void persistAll(Collection<AxiomValueGatherer> gatherers, Connection connection) {
+        final List<AxiomValueDescriptor> descriptors = new ArrayList<>(gatherers.size());
+        gatherers.forEach(g -> descriptors.add(g.axiomDescriptor));
+        try {
+            connection.persistAll(descriptors);
+            for (AxiomValueGatherer g : gatherers) {
+                g.persistAdditionalValues(connection);
             }
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
     }
 
+    private void persistAdditionalValues(Connection connection) throws OntoDriverException {
+        if (typesToAdd != null) {
+            connection.types().addTypes(axiomDescriptor.getSubject(), typesContext, typesToAdd);
+        }
+        if (propertiesToAdd != null) {
+            connection.properties().addProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToAdd);
+        }
+        for (SimpleListValueDescriptor d : simpleListDescriptors) {
+            connection.lists().persistSimpleList(d);
+        }
+        for (ReferencedListValueDescriptor d : referencedListDescriptors) {
+            connection.lists().persistReferencedList(d);
+        }
+    }
+
     void update(Connection connection) {
         try {
             connection.update(axiomDescriptor);
@@ -0,0 +1,218 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.BulkLoader;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.EntityTypeImpl;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.validator.IntegrityConstraintsValidator;
+import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.descriptor.ListValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+
+import java.net.URI;
+import java.util.*;
+
+/**
+ * Writes entities directly into the storage, bypassing the persistence context.
+ * <p>
+ * Entities are transformed into axioms by an {@link EntityDeconstructor} and kept only until the current chunk is
+ * written and committed using a dedicated storage connection.
+ * <p>
+ * As when an entity is persisted via a persistence context, pre- and post-persist lifecycle callbacks are invoked and
+ * integrity constraints are validated. The validation happens when the entity is passed to the loader, since no
+ * changes to it are tracked afterwards.
+ */
+public class BulkLoaderImpl implements BulkLoader, EntityDeconstructionHelper {
+
+    private final Connection connection;
+    private final MetamodelImpl metamodel;
+    private final CacheManager cache;
+    private final int chunkSize;
+
+    private final EntityDeconstructor entityBreaker;
+    private final List<AxiomValueGatherer> chunk;
+    private final List<Runnable> cacheEvictions;
+
+    private boolean open = true;
+
+    public BulkLoaderImpl(Connection connection, MetamodelImpl metamodel, CacheManager cache, int chunkSize) {
+        assert chunkSize > 0;
+        this.connection = Objects.requireNonNull(connection);
+        this.metamodel = Objects.requireNonNull(metamodel);
+        this.cache = Objects.requireNonNull(cache);
+        this.chunkSize = chunkSize;
+        this.entityBreaker = new EntityDeconstructor(this);
+        entityBreaker.setReferenceSavingResolver(new UncheckedReferenceSavingResolver());
+        this.chunk = new ArrayList<>(chunkSize);
+        this.cacheEvictions = new ArrayList<>(chunkSize);
+    }
+
+    @Override
+    public void persist(Object entity) {
+        persist(entity, new EntityDescriptor());
+    }
+
+    @Override
+    public void persist(Object entity, Descriptor descriptor) {
+        Objects.requireNonNull(entity);
+        Objects.requireNonNull(descriptor);
+        ensureOpen();
+
+        persistInternal(entity, descriptor);
+        if (chunk.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    private <T> void persistInternal(T entity, Descriptor descriptor) {
+        @SuppressWarnings("unchecked")
+        final EntityTypeImpl<T> et = (EntityTypeImpl<T>) getEntityType(entity.getClass());
+        et.getLifecycleListenerManager().invokePrePersistCallbacks(entity);
+        URI identifier = EntityPropertiesUtils.getIdentifier(entity, et);
+        if (identifier == null) {
+            identifier = generateIdentifier(et);
+            EntityPropertiesUtils.setIdentifier(identifier, entity, et);
+        }
+        IntegrityConstraintsValidator.getValidator().validate(entity, et, false);
+        chunk.add(entityBreaker.mapEntityToAxioms(identifier, entity, et, descriptor));
+        final URI id = identifier;
+        final URI context = descriptor.getSingleContext().orElse(null);
+        cacheEvictions.add(() -> cache.evict(et.getJavaType(), id, context));
+        et.getLifecycleListenerManager().invokePostPersistCallbacks(entity);
+    }
+
+    @Override
+    public void flush() {
+        ensureOpen();
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            AxiomValueGatherer.persistAll(chunk, connection);
+            connection.commit();
+        } catch (OntoDriverException e) {
+            rollback();
+            throw new StorageAccessException(e);
+        } catch (RuntimeException e) {
+            rollback();
+            throw e;
+        } finally {
+            chunk.clear();
+        }
+        cacheEvictions.forEach(Runnable::run);
+        cacheEvictions.clear();
+    }
+
+    private void rollback() {
+        cacheEvictions.clear();
+        try {
+            connection.rollback();
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            this.open = false;
+            try {
+                connection.close();
+            } catch (Exception e) {
+                throw new StorageAccessException(e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    private void ensureOpen() {
+        if (!open) {
+            throw new IllegalStateException("The bulk loader is closed.");
+        }
+    }
+
+    @Override
+    public <T> EntityTypeImpl<T> getEntityType(Class<T> cls) {
+        return metamodel.entity(cls);
+    }
+
+    @Override
+    public URI generateIdentifier(EntityType<?> et) {
+        try {
+            return connection.generateIdentifier(et.getIRI().toURI());
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    /**
+     * Loaded entities are always new, there are no original instances to compare them to.
+     */
+    @Override
+    public <T> T getOriginalInstance(T clone) {
+        return null;
+    }
+
+    /**
+     * Saves all references without checking that the referenced instances exist.
+     * <p>
+     * Checking for existence would require a storage access per reference, referenced instances are expected to be
+     * loaded as well.
+     */
+    private static class UncheckedReferenceSavingResolver extends ReferenceSavingResolver {
+
+        private UncheckedReferenceSavingResolver() {
+            super(null);
+        }
+
+        @Override
+        boolean shouldSaveReference(Object value, Set<URI> contexts) {
+            return true;
+        }
+
+        @Override
+        boolean shouldSaveReferenceToItem(Object value, Set<URI> contexts) {
+            return true;
+        }
+
+        @Override
+        void registerPendingReference(NamedResource subject, Assertion assertion, Object object, URI context) {
+            throw new AssertionError("Bulk loader does not register pending references.");
+        }
+
+        @Override
+        void registerPendingReference(Object item, ListValueDescriptor listDescriptor, List<?> values) {
+            throw new AssertionError("Bulk loader does not register pending references.");
+        }
+    }
+}
@@ -24,7 +24,7 @@ abstract class DataPropertyFieldStrategy<A extends AbstractAttribute<? super X,
     private final ConverterWrapper<Object, Object> converter;
 
     DataPropertyFieldStrategy(EntityType<X> et, A att, Descriptor entityDescriptor,
-                              EntityMappingHelper mapper) {
+                              EntityDeconstructionHelper mapper) {
         super(et, att, entityDescriptor, mapper);
         this.converter = att.getConverter() != null ? att.getConverter() : DefaultConverterWrapper.INSTANCE;
     }
@@ -17,6 +17,9 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Loads entities which do not require polymorphic handling.
  */
@@ -32,6 +35,15 @@ class DefaultInstanceLoader extends EntityInstanceLoader {
         return loadInstance(loadingParameters, et);
     }
 
+    @Override
+    <T> List<T> loadEntities(List<LoadingParameters<T>> loadingParameters) {
+        if (loadingParameters.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final EntityType<T> et = metamodel.entity(loadingParameters.get(0).getEntityType());
+        return loadInstances(loadingParameters, et);
+    }
+
     @Override
     <T> T loadReference(LoadingParameters<T> loadingParameters) {
         final EntityType<T> et = metamodel.entity(loadingParameters.getEntityType());
@@ -78,6 +78,19 @@ class EntityConstructor {
         return false;
     }
 
+    /**
+     * Gets an instance with the specified identifier which has already been reconstructed during the current loading
+     * (e.g., as a reference of another entity).
+     *
+     * @param identifier Entity identifier
+     * @param et         Entity type
+     * @param <T>        Entity type
+     * @return Already reconstructed instance, {@code null} if there is none
+     */
+    <T> T getReconstructedInstance(URI identifier, EntityType<T> et) {
+        return mapper.getRegisteredInstance(identifier, et.getJavaType());
+    }
+
     /**
      * Instantiates an entity of the specified {@link EntityType} with the specified identifier.
      *
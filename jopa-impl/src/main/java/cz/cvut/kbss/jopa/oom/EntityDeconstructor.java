@@ -22,13 +22,15 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
 
 class EntityDeconstructor {
 
-    private final EntityMappingHelper mapper;
+    private final EntityDeconstructionHelper mapper;
     private ReferenceSavingResolver referenceSavingResolver;
 
-    EntityDeconstructor(ObjectOntologyMapperImpl mapper) {
+    EntityDeconstructor(EntityDeconstructionHelper mapper) {
         this.mapper = mapper;
     }
 
@@ -66,11 +68,16 @@ class EntityDeconstructor {
 
     <T> AxiomValueGatherer mapFieldToAxioms(URI primaryKey, T entity, Field field, EntityType<T> et,
                                             Descriptor descriptor) {
-        final FieldSpecification<? super T, ?> fieldSpec = et
-                .getFieldSpecification(field.getName());
+        return mapFieldsToAxioms(primaryKey, entity, Collections.singleton(field), et, descriptor);
+    }
+
+    <T> AxiomValueGatherer mapFieldsToAxioms(URI primaryKey, T entity, Collection<Field> fields, EntityType<T> et,
+                                             Descriptor descriptor) {
         final AxiomValueGatherer valueBuilder = createAxiomValueBuilder(primaryKey, descriptor);
         try {
-            addAssertions(entity, et, fieldSpec, descriptor, valueBuilder);
+            for (Field field : fields) {
+                addAssertions(entity, et, et.getFieldSpecification(field.getName()), descriptor, valueBuilder);
+            }
         } catch (IllegalAccessException e) {
             throw new EntityDeconstructionException(e);
         }
@@ -28,8 +28,8 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
-import java.util.Collection;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Root of the entity loading strategies.
@@ -78,16 +78,109 @@ abstract class EntityInstanceLoader {
      */
     abstract <T> T loadReference(LoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads entities based on the specified loading parameters.
+     * <p>
+     * The default implementation loads the entities one by one using {@link #loadEntity(LoadingParameters)}.
+     *
+     * @param loadingParameters Loading parameters of the individual instances
+     * @param <T>               Entity type
+     * @return List of loaded instances, in order corresponding to the loading parameters. Instances which could not be
+     * loaded are represented by {@code null}
+     */
+    <T> List<T> loadEntities(List<LoadingParameters<T>> loadingParameters) {
+        final List<T> result = new ArrayList<>(loadingParameters.size());
+        loadingParameters.forEach(params -> result.add(loadEntity(params)));
+        return result;
+    }
+
     <T> T loadInstance(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
         final URI identifier = loadingParameters.getIdentifier();
         final Descriptor descriptor = loadingParameters.getDescriptor();
-        if (isCached(loadingParameters, et)) {
-            return cache.get(et.getJavaType(), identifier, descriptor);
+        final T cached = getCached(loadingParameters, et);
+        if (cached != null) {
+            return cached;
         }
         final AxiomDescriptor axiomDescriptor = descriptorFactory.createForEntityLoading(loadingParameters, et);
         try {
+            final long start = System.nanoTime();
             final Collection<Axiom<?>> axioms = storageConnection.find(axiomDescriptor);
-            return axioms.isEmpty() ? null : entityBuilder.reconstructEntity(identifier, et, descriptor, axioms);
+            if (axioms.isEmpty()) {
+                return null;
+            }
+            final T result = entityBuilder.reconstructEntity(identifier, et, descriptor, axioms);
+            cache.recordLoad(1, System.nanoTime() - start);
+            return result;
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new EntityReconstructionException(e);
+        }
+    }
+
+    /**
+     * Loads instances of the specified entity type using a single storage call.
+     * <p>
+     * Already cached instances are taken from the cache, axioms of the remaining ones are retrieved together via
+     * {@link Connection#findAll(Collection)} and the instances are then reconstructed individually.
+     *
+     * @param loadingParameters Loading parameters of the individual instances
+     * @param et                Type of the instances to load
+     * @param <T>               Entity type
+     * @return List of loaded instances, in order corresponding to the loading parameters
+     */
+    <T> List<T> loadInstances(List<LoadingParameters<T>> loadingParameters, EntityType<? extends T> et) {
+        final Map<URI, T> loaded = new HashMap<>(loadingParameters.size());
+        final Map<URI, LoadingParameters<T>> toLoad = new LinkedHashMap<>(loadingParameters.size());
+        for (LoadingParameters<T> params : loadingParameters) {
+            final T cached = getCached(params, et);
+            if (cached != null) {
+                loaded.put(params.getIdentifier(), cached);
+            } else {
+                toLoad.putIfAbsent(params.getIdentifier(), params);
+            }
+        }
+        if (!toLoad.isEmpty()) {
+            loaded.putAll(loadAndReconstruct(toLoad.values(), et));
+        }
+        return loadingParameters.stream().map(p -> loaded.get(p.getIdentifier())).collect(Collectors.toList());
+    }
+
+    private <T> Map<URI, T> loadAndReconstruct(Collection<LoadingParameters<T>> loadingParameters,
+                                               EntityType<? extends T> et) {
+        final List<AxiomDescriptor> axiomDescriptors = new ArrayList<>(loadingParameters.size());
+        loadingParameters.forEach(p -> axiomDescriptors.add(descriptorFactory.createForEntityLoading(p, et)));
+        try {
+            final long start = System.nanoTime();
+            final Map<NamedResource, List<Axiom<?>>> axioms = storageConnection.findAll(axiomDescriptors).stream()
+                                                                               .collect(Collectors
+                                                                                       .groupingBy(Axiom::getSubject));
+            final Map<URI, T> result = new HashMap<>(loadingParameters.size());
+            int loadCount = 0;
+            for (LoadingParameters<T> params : loadingParameters) {
+                final URI identifier = params.getIdentifier();
+                // The instance may have been loaded in the meantime as a reference of another instance in the batch
+                final T cached = getCached(params, et);
+                if (cached != null) {
+                    result.put(identifier, cached);
+                    continue;
+                }
+                final T reconstructed = entityBuilder.getReconstructedInstance(identifier, et);
+                if (reconstructed != null) {
+                    result.put(identifier, reconstructed);
+                    continue;
+                }
+                final List<Axiom<?>> instanceAxioms = axioms.get(NamedResource.create(identifier));
+                if (instanceAxioms != null) {
+                    result.put(identifier,
+                            entityBuilder.reconstructEntity(identifier, et, params.getDescriptor(), instanceAxioms));
+                    loadCount++;
+                }
+            }
+            if (loadCount > 0) {
+                cache.recordLoad(loadCount, System.nanoTime() - start);
+            }
+            return result;
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         } catch (InstantiationException | IllegalAccessException e) {
@@ -95,9 +188,16 @@ abstract class EntityInstanceLoader {
         }
     }
 
-    <T> boolean isCached(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
-        return !loadingParameters.shouldBypassCache() &&
-                cache.contains(et.getJavaType(), loadingParameters.getIdentifier(), loadingParameters.getDescriptor());
+    /**
+     * Gets the instance from the second level cache, if it is present there and cache should not be bypassed.
+     *
+     * @return Cached instance or {@code null} if it is not cached
+     */
+    <T> T getCached(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
+        if (loadingParameters.shouldBypassCache()) {
+            return null;
+        }
+        return cache.get(et.getJavaType(), loadingParameters.getIdentifier(), loadingParameters.getDescriptor());
     }
 
     <T> T loadReferenceInstance(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
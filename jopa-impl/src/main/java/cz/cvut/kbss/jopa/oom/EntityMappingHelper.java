@@ -15,7 +15,6 @@
 package cz.cvut.kbss.jopa.oom;
 
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
-import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.sessions.ConfigurationHolder;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListDescriptor;
@@ -24,16 +23,27 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.List;
 
-interface EntityMappingHelper extends ConfigurationHolder {
+/**
+ * Provides services needed to transform entities into axioms and to reconstruct entities from axioms.
+ */
+interface EntityMappingHelper extends EntityDeconstructionHelper, ConfigurationHolder {
 
     <T> T getEntityFromCacheOrOntology(Class<T> cls, URI identifier, Descriptor descriptor);
 
-    <T> EntityType<T> getEntityType(Class<T> cls);
-
-    URI generateIdentifier(EntityType<?> et);
-
-    <T> T getOriginalInstance(T clone);
+    /**
+     * Gets entities with the specified identifiers, loading those which are neither managed, cached nor already being
+     * loaded from the storage in a single batch.
+     *
+     * @param cls         Entity type
+     * @param identifiers Entity identifiers
+     * @param descriptor  Descriptor of the entities
+     * @param <T>         Entity type
+     * @return List of entities in order corresponding to the identifiers, containing {@code null} for entities which
+     * could not be found
+     */
+    <T> List<T> getEntitiesFromCacheOrOntology(Class<T> cls, List<URI> identifiers, Descriptor descriptor);
 
     Collection<Axiom<NamedResource>> loadSimpleList(SimpleListDescriptor listDescriptor);
 
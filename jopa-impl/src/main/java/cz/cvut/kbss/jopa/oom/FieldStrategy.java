@@ -30,10 +30,10 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
     final EntityType<X> et;
     final T attribute;
     final Descriptor entityDescriptor;
-    final EntityMappingHelper mapper;
+    final EntityDeconstructionHelper mapper;
     ReferenceSavingResolver referenceSavingResolver;
 
-    FieldStrategy(EntityType<X> et, T att, Descriptor entityDescriptor, EntityMappingHelper mapper) {
+    FieldStrategy(EntityType<X> et, T att, Descriptor entityDescriptor, EntityDeconstructionHelper mapper) {
         this.et = et;
         this.attribute = att;
         this.entityDescriptor = entityDescriptor;
@@ -42,7 +42,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
 
     static <X> FieldStrategy<? extends FieldSpecification<? super X, ?>, X> createFieldStrategy(
             EntityType<X> et, FieldSpecification<? super X, ?> att,
-            Descriptor entityDescriptor, EntityMappingHelper mapper) {
+            Descriptor entityDescriptor, EntityDeconstructionHelper mapper) {
         if (att.equals(et.getIdentifier())) {
             return new IdentifierFieldStrategy<>(et, (Identifier<? super X, ?>) att, entityDescriptor, mapper);
         }
@@ -86,7 +86,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
 
     private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createPluralAnnotationPropertyStrategy(
             EntityType<Y> et, AbstractPluralAttribute<? super Y, ?, ?> attribute,
-            Descriptor descriptor, EntityMappingHelper mapper) {
+            Descriptor descriptor, EntityDeconstructionHelper mapper) {
         if (MultilingualString.class.equals(attribute.getElementType().getJavaType())) {
             return new PluralMultilingualStringFieldStrategy<>(et,
                     (AbstractPluralAttribute<? super Y, ?, MultilingualString>) attribute, descriptor, mapper);
@@ -97,7 +97,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
 
     private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createPluralDataPropertyStrategy(
             EntityType<Y> et, AbstractPluralAttribute<? super Y, ?, ?> attribute,
-            Descriptor descriptor, EntityMappingHelper mapper) {
+            Descriptor descriptor, EntityDeconstructionHelper mapper) {
         if (MultilingualString.class.equals(attribute.getElementType().getJavaType())) {
             return new PluralMultilingualStringFieldStrategy<>(et,
                     (AbstractPluralAttribute<? super Y, ?, MultilingualString>) attribute, descriptor, mapper);
@@ -108,7 +108,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
 
     private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createPluralObjectPropertyStrategy(
             EntityType<Y> et, AbstractPluralAttribute<? super Y, ?, ?> attribute,
-            Descriptor descriptor, EntityMappingHelper mapper) {
+            Descriptor descriptor, EntityDeconstructionHelper mapper) {
         switch (attribute.getCollectionType()) {
             case LIST:
                 return createOwlListPropertyStrategy(et, (ListAttributeImpl<? super Y, ?>) attribute, descriptor,
@@ -124,7 +124,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
 
     private static <Y> FieldStrategy<? extends FieldSpecification<? super Y, ?>, Y> createOwlListPropertyStrategy(
             EntityType<Y> et, ListAttributeImpl<? super Y, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+            EntityDeconstructionHelper mapper) {
         switch (attribute.getSequenceType()) {
             case referenced:
                 return new ReferencedListPropertyStrategy<>(et, attribute, descriptor, mapper);
@@ -138,7 +138,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
 
     private static <X> FieldStrategy<? extends FieldSpecification<? super X, ?>, X> createSingularDataPropertyStrategy(
             EntityType<X> et, AbstractAttribute<? super X, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+            EntityDeconstructionHelper mapper) {
         if (MultilingualString.class.equals(attribute.getJavaType())) {
             return new SingularMultilingualStringFieldStrategy<>(et,
                     (AbstractAttribute<? super X, MultilingualString>) attribute, descriptor, mapper);
@@ -149,7 +149,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
 
     private static <X> FieldStrategy<? extends FieldSpecification<? super X, ?>, X> createSingularAnnotationPropertyStrategy(
             EntityType<X> et, AbstractAttribute<? super X, ?> attribute, Descriptor descriptor,
-            EntityMappingHelper mapper) {
+            EntityDeconstructionHelper mapper) {
         if (MultilingualString.class.equals(attribute.getJavaType())) {
             return new SingularMultilingualStringFieldStrategy<>(et,
                     (AbstractAttribute<? super X, MultilingualString>) attribute, descriptor, mapper);
@@ -169,7 +169,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
      * Note that this method assumes the value and the field are of compatible types, no check is done here.
      */
     void setValueOnInstance(Object instance, Object value) {
-        EntityPropertiesUtils.setFieldValue(attribute.getJavaField(), instance, value);
+        EntityPropertiesUtils.setAttributeValue(attribute, instance, value);
     }
 
     /**
@@ -177,6 +177,19 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
      *
      * @return Attribute value, possibly {@code null}
      */
+    /**
+     * Gets helper used to load instances and lists referenced by the attribute.
+     * <p>
+     * Values are loaded only by strategies created for entity reconstruction, which always receive the full mapping
+     * helper. Strategies which only transform entities into axioms may get a plain {@link EntityDeconstructionHelper}.
+     *
+     * @return Mapping helper
+     */
+    EntityMappingHelper loadingHelper() {
+        assert mapper instanceof EntityMappingHelper;
+        return (EntityMappingHelper) mapper;
+    }
+
     Object extractFieldValueFromInstance(Object instance) {
         return EntityPropertiesUtils.getAttributeValue(attribute, instance);
     }
@@ -24,7 +24,7 @@ import cz.cvut.kbss.ontodriver.model.Value;
 class IdentifierFieldStrategy<X> extends FieldStrategy<Identifier<? super X, ?>, X> {
 
     IdentifierFieldStrategy(EntityType<X> et, Identifier<? super X, ?> att, Descriptor attributeDescriptor,
-                            EntityMappingHelper mapper) {
+                            EntityDeconstructionHelper mapper) {
         super(et, att, attributeDescriptor, mapper);
     }
 
@@ -33,7 +33,7 @@ abstract class ListPropertyStrategy<L extends ListDescriptor, V extends ListValu
         extends PluralObjectPropertyStrategy<ListAttributeImpl<? super X, ?>, X> {
 
     ListPropertyStrategy(EntityType<X> et, ListAttributeImpl<? super X, ?> att, Descriptor descriptor,
-                         EntityMappingHelper mapper) {
+                         EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
@@ -20,6 +20,8 @@ import cz.cvut.kbss.jopa.sessions.LoadingParameters;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
 
 public interface ObjectOntologyMapper {
 
@@ -41,6 +43,21 @@ public interface ObjectOntologyMapper {
      */
     <T> T loadEntity(LoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads and reconstructs entities with the specified identifiers from the ontology.
+     * <p>
+     * As opposed to {@link #loadEntity(LoadingParameters)}, the mapper may load the entities using a single storage
+     * call.
+     *
+     * @param cls         Entity class
+     * @param identifiers Identifiers of the entities to load
+     * @param descriptor  Descriptor possibly specifying entity and attribute contexts
+     * @param <T>         Entity type
+     * @return List of reconstructed entities, in order corresponding to the identifiers. Entities which do not exist
+     * are represented by {@code null}
+     */
+    <T> List<T> loadEntities(Class<T> cls, List<URI> identifiers, Descriptor descriptor);
+
     /**
      * Loads a reference to an entity corresponding to the specified parameters.
      * <p>
@@ -95,4 +112,15 @@ public interface ObjectOntologyMapper {
      * @param descriptor Optionally specifies context
      */
     <T> void updateFieldValue(T entity, Field field, Descriptor descriptor);
+
+    /**
+     * Sets values of properties represented by the specified fields to the fields' values.
+     * <p>
+     * All the values are written in a single update of the entity.
+     *
+     * @param entity     Entity containing the fields
+     * @param fields     The fields to update
+     * @param descriptor Optionally specifies context
+     */
+    <T> void updateFieldValues(T entity, Collection<Field> fields, Descriptor descriptor);
 }
@@ -104,6 +104,30 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         return loadEntityInternal(loadingParameters);
     }
 
+    @Override
+    public <T> List<T> loadEntities(Class<T> cls, List<URI> identifiers, Descriptor descriptor) {
+        assert cls != null;
+        assert identifiers != null;
+        assert descriptor != null;
+
+        this.instanceRegistry = new HashMap<>();
+        return loadEntitiesInternal(cls, identifiers, descriptor);
+    }
+
+    private <T> List<T> loadEntitiesInternal(Class<T> cls, List<URI> identifiers, Descriptor descriptor) {
+        final List<LoadingParameters<T>> loadingParameters = new ArrayList<>(identifiers.size());
+        identifiers.forEach(id -> loadingParameters.add(new LoadingParameters<>(cls, id, descriptor)));
+        final EntityTypeImpl<T> et = getEntityType(cls);
+        final List<T> result = et.hasSubtypes() ? twoStepInstanceLoader.loadEntities(loadingParameters) :
+                               defaultInstanceLoader.loadEntities(loadingParameters);
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) != null) {
+                cache.add(identifiers.get(i), result.get(i), descriptor);
+            }
+        }
+        return result;
+    }
+
     private <T> T loadEntityInternal(LoadingParameters<T> loadingParameters) {
         final EntityTypeImpl<T> et = getEntityType(loadingParameters.getEntityType());
         final T result;
@@ -217,12 +241,18 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
     @Override
     public <T> T getEntityFromCacheOrOntology(Class<T> cls, URI identifier, Descriptor descriptor) {
+        final T existing = getExistingEntity(cls, identifier, descriptor);
+        return existing != null ? existing : loadEntityInternal(new LoadingParameters<>(cls, identifier, descriptor));
+    }
+
+    private <T> T getExistingEntity(Class<T> cls, URI identifier, Descriptor descriptor) {
         final T orig = uow.getManagedOriginal(cls, identifier, descriptor);
         if (orig != null) {
             return orig;
         }
-        if (cache.contains(cls, identifier, descriptor)) {
-            return cache.get(cls, identifier, descriptor);
+        final T cached = cache.get(cls, identifier, descriptor);
+        if (cached != null) {
+            return cached;
         } else if (instanceRegistry.containsKey(identifier)) {
             final Object existing = instanceRegistry.get(identifier);
             if (!cls.isAssignableFrom(existing.getClass())) {
@@ -230,9 +260,42 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
             }
             // This prevents endless cycles in bidirectional relationships
             return cls.cast(existing);
-        } else {
-            return loadEntityInternal(new LoadingParameters<>(cls, identifier, descriptor));
         }
+        return null;
+    }
+
+    @Override
+    public <T> List<T> getEntitiesFromCacheOrOntology(Class<T> cls, List<URI> identifiers, Descriptor descriptor) {
+        final List<T> result = new ArrayList<>(identifiers.size());
+        final List<URI> toLoad = new ArrayList<>();
+        for (URI identifier : identifiers) {
+            final T existing = getExistingEntity(cls, identifier, descriptor);
+            result.add(existing);
+            if (existing == null) {
+                toLoad.add(identifier);
+            }
+        }
+        if (!toLoad.isEmpty()) {
+            final Iterator<T> loaded = loadEntitiesInternal(cls, toLoad, descriptor).iterator();
+            for (int i = 0; i < result.size(); i++) {
+                if (result.get(i) == null) {
+                    result.set(i, loaded.next());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets an instance with the specified identifier which has already been reconstructed during the current loading.
+     *
+     * @param identifier Instance identifier
+     * @param cls        Expected instance type
+     * @return Matching instance, {@code null} if there is no such instance or it is not of the expected type
+     */
+    <T> T getRegisteredInstance(URI identifier, Class<T> cls) {
+        final Object existing = instanceRegistry.get(identifier);
+        return cls.isInstance(existing) ? cls.cast(existing) : null;
     }
 
     @Override
@@ -292,6 +355,18 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         axiomBuilder.update(storageConnection);
     }
 
+    @Override
+    public <T> void updateFieldValues(T entity, Collection<Field> fields, Descriptor entityDescriptor) {
+        @SuppressWarnings("unchecked") final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+        final URI pkUri = EntityPropertiesUtils.getIdentifier(entity, et);
+
+        entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
+        fields.forEach(f -> removePendingAssertions(et, f, pkUri));
+        final AxiomValueGatherer axiomBuilder = entityBreaker
+                .mapFieldsToAxioms(pkUri, entity, fields, et, entityDescriptor);
+        axiomBuilder.update(storageConnection);
+    }
+
     private <T> void removePendingAssertions(EntityType<T> et, Field field, URI identifier) {
         final FieldSpecification<? super T, ?> fs = et.getFieldSpecification(field.getName());
         if (fs instanceof Attribute) {
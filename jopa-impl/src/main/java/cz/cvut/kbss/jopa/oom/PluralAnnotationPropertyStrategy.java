@@ -33,7 +33,7 @@ import java.util.stream.Collectors;
 class PluralAnnotationPropertyStrategy<X> extends PluralDataPropertyStrategy<X> {
 
     PluralAnnotationPropertyStrategy(EntityType<X> et, AbstractPluralAttribute<? super X, ?, ?> att,
-                                     Descriptor attributeDescriptor, EntityMappingHelper mapper) {
+                                     Descriptor attributeDescriptor, EntityDeconstructionHelper mapper) {
         super(et, att, attributeDescriptor, mapper);
     }
 
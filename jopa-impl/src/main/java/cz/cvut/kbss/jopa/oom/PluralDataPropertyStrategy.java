@@ -33,7 +33,7 @@ class PluralDataPropertyStrategy<X> extends DataPropertyFieldStrategy<AbstractPl
     final Collection<Object> values;
 
     PluralDataPropertyStrategy(EntityType<X> et, AbstractPluralAttribute<? super X, ?, ?> att,
-                               Descriptor attributeDescriptor, EntityMappingHelper mapper) {
+                               Descriptor attributeDescriptor, EntityDeconstructionHelper mapper) {
         super(et, att, attributeDescriptor, mapper);
         this.values = CollectionFactory.createDefaultCollection(att.getCollectionType());
         this.elementType = att.getElementType().getJavaType();
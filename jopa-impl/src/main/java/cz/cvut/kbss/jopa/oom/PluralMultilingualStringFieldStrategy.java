@@ -22,7 +22,7 @@ public class PluralMultilingualStringFieldStrategy<X>
     PluralMultilingualStringFieldStrategy(EntityType<X> et,
                                           AbstractPluralAttribute<? super X, ?, MultilingualString> att,
                                           Descriptor entityDescriptor,
-                                          EntityMappingHelper mapper) {
+                                          EntityDeconstructionHelper mapper) {
         super(et, att, entityDescriptor, mapper);
         this.values = CollectionFactory.createDefaultCollection(att.getCollectionType());
     }
@@ -24,7 +24,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 abstract class PluralObjectPropertyStrategy<Y extends AbstractPluralAttribute<? super X, ?, ?>, X>
@@ -33,8 +35,9 @@ abstract class PluralObjectPropertyStrategy<Y extends AbstractPluralAttribute<?
     private static final Logger LOG = LoggerFactory.getLogger(PluralObjectPropertyStrategy.class);
 
     private final Collection<Object> values;
+    private final List<URI> referencedIdentifiers = new ArrayList<>();
 
-    PluralObjectPropertyStrategy(EntityType<X> et, Y att, Descriptor descriptor, EntityMappingHelper mapper) {
+    PluralObjectPropertyStrategy(EntityType<X> et, Y att, Descriptor descriptor, EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
         this.values = CollectionFactory.createDefaultCollection(att.getCollectionType());
     }
@@ -46,23 +49,36 @@ abstract class PluralObjectPropertyStrategy<Y extends AbstractPluralAttribute<?
             values.add(IdentifierTransformer
                     .transformToIdentifier(valueIdentifier.getIdentifier(), attribute.getBindableJavaType()));
         } else {
-            final Object value = mapper.getEntityFromCacheOrOntology(attribute.getBindableJavaType(),
-                    valueIdentifier.getIdentifier(), entityDescriptor.getAttributeDescriptor(attribute));
-            if (value != null) {
-                values.add(value);
-            } else {
-                LOG.trace("Value of axiom {} could not be loaded as entity filling attribute {}.", ax, attribute);
-            }
+            // Referenced entities are resolved together once all the values are known
+            referencedIdentifiers.add(valueIdentifier.getIdentifier());
         }
     }
 
     @Override
     void buildInstanceFieldValue(Object instance) {
+        resolveReferencedEntities();
         if (!values.isEmpty()) {
             setValueOnInstance(instance, values);
         }
     }
 
+    private void resolveReferencedEntities() {
+        if (referencedIdentifiers.isEmpty()) {
+            return;
+        }
+        final List<?> entities = loadingHelper().getEntitiesFromCacheOrOntology(attribute.getBindableJavaType(),
+                referencedIdentifiers, entityDescriptor.getAttributeDescriptor(attribute));
+        for (int i = 0; i < referencedIdentifiers.size(); i++) {
+            final Object value = entities.get(i);
+            if (value != null) {
+                values.add(value);
+            } else {
+                LOG.trace("Value {} could not be loaded as entity filling attribute {}.", referencedIdentifiers.get(i),
+                        attribute);
+            }
+        }
+    }
+
     /**
      * Gets the context(s) in which this attribute values are stored.
      * <p>
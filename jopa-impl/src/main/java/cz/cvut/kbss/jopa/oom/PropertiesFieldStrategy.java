@@ -38,7 +38,7 @@ class PropertiesFieldStrategy<X> extends FieldStrategy<PropertiesSpecification<?
     private final PropertiesValueHolder value = new PropertiesValueHolder();
 
     PropertiesFieldStrategy(EntityType<X> et, PropertiesSpecification<? super X, ?, ?, ?> att,
-                            Descriptor descriptor, EntityMappingHelper mapper) {
+                            Descriptor descriptor, EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
@@ -33,14 +33,14 @@ class ReferencedListPropertyStrategy<X> extends
         ListPropertyStrategy<ReferencedListDescriptor, ReferencedListValueDescriptor, X> {
 
     ReferencedListPropertyStrategy(EntityType<X> et, ListAttributeImpl<? super X, ?> att, Descriptor descriptor,
-                                   EntityMappingHelper mapper) {
+                                   EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
     @Override
     void addValueFromAxiom(Axiom<?> ax) {
         final ReferencedListDescriptor listDescriptor = createListDescriptor(ax);
-        final Collection<Axiom<NamedResource>> sequence = mapper.loadReferencedList(listDescriptor);
+        final Collection<Axiom<NamedResource>> sequence = loadingHelper().loadReferencedList(listDescriptor);
         sequence.stream()
                 .filter(a -> a.getAssertion().getIdentifier().equals(attribute.getOWLPropertyHasContentsIRI().toURI()))
                 .forEach(super::addValueFromAxiom);
@@ -31,14 +31,14 @@ class SimpleListPropertyStrategy<X> extends
         ListPropertyStrategy<SimpleListDescriptor, SimpleListValueDescriptor, X> {
 
     SimpleListPropertyStrategy(EntityType<X> et, ListAttributeImpl<? super X, ?> att, Descriptor descriptor,
-                               EntityMappingHelper mapper) {
+                               EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
     @Override
     void addValueFromAxiom(Axiom<?> ax) {
         final SimpleListDescriptor listDescriptor = createListDescriptor(ax);
-        final Collection<Axiom<NamedResource>> sequence = mapper.loadSimpleList(listDescriptor);
+        final Collection<Axiom<NamedResource>> sequence = loadingHelper().loadSimpleList(listDescriptor);
         sequence.forEach(super::addValueFromAxiom);
     }
 
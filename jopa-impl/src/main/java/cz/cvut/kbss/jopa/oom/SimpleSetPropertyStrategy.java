@@ -31,7 +31,7 @@ import java.util.Set;
 class SimpleSetPropertyStrategy<X> extends PluralObjectPropertyStrategy<AbstractPluralAttribute<? super X, ?, ?>, X> {
 
     SimpleSetPropertyStrategy(EntityType<X> et, AbstractPluralAttribute<? super X, ?, ?> att, Descriptor descriptor,
-                              EntityMappingHelper mapper) {
+                              EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
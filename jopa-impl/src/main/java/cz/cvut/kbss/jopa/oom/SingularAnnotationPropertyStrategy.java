@@ -26,7 +26,7 @@ import cz.cvut.kbss.ontodriver.model.Value;
 class SingularAnnotationPropertyStrategy<X> extends SingularDataPropertyStrategy<X> {
 
     SingularAnnotationPropertyStrategy(EntityType<X> et, AbstractAttribute<? super X, ?> att, Descriptor descriptor,
-                                       EntityMappingHelper mapper) {
+                                       EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
@@ -27,7 +27,7 @@ class SingularDataPropertyStrategy<X> extends DataPropertyFieldStrategy<Abstract
     Object value;
 
     SingularDataPropertyStrategy(EntityType<X> et, AbstractAttribute<? super X, ?> att,
-                                 Descriptor descriptor, EntityMappingHelper mapper) {
+                                 Descriptor descriptor, EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
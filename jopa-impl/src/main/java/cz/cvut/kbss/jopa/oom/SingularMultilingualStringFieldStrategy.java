@@ -19,7 +19,7 @@ class SingularMultilingualStringFieldStrategy<X>
     private MultilingualString value;
 
     SingularMultilingualStringFieldStrategy(EntityType<X> et, AbstractAttribute<? super X, MultilingualString> att,
-                                            Descriptor entityDescriptor, EntityMappingHelper mapper) {
+                                            Descriptor entityDescriptor, EntityDeconstructionHelper mapper) {
         super(et, att, entityDescriptor, mapper);
     }
 
@@ -35,7 +35,7 @@ class SingularObjectPropertyStrategy<X> extends FieldStrategy<Attribute<? super
     private Object value;
 
     SingularObjectPropertyStrategy(EntityType<X> et, Attribute<? super X, ?> att,
-                                   Descriptor descriptor, EntityMappingHelper mapper) {
+                                   Descriptor descriptor, EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
@@ -48,8 +48,8 @@ class SingularObjectPropertyStrategy<X> extends FieldStrategy<Attribute<? super
             newValue = IdentifierTransformer
                     .transformToIdentifier(valueIdentifier.getIdentifier(), attribute.getJavaType());
         } else {
-            newValue = mapper.getEntityFromCacheOrOntology(attribute.getJavaType(), valueIdentifier.getIdentifier(),
-                    entityDescriptor.getAttributeDescriptor(attribute));
+            newValue = loadingHelper().getEntityFromCacheOrOntology(attribute.getJavaType(),
+                    valueIdentifier.getIdentifier(), entityDescriptor.getAttributeDescriptor(attribute));
             if (newValue == null) {
                 LOG.trace("Value of axiom {} could not be loaded as entity filling attribute {}.", ax, attribute);
                 return;
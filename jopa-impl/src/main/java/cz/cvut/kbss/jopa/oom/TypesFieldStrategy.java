@@ -32,7 +32,7 @@ class TypesFieldStrategy<X> extends FieldStrategy<TypesSpecification<? super X,
     private final Set<Object> values = new HashSet<>();
 
     TypesFieldStrategy(EntityType<X> et, TypesSpecification<? super X, ?> att, Descriptor descriptor,
-                       EntityMappingHelper mapper) {
+                       EntityDeconstructionHelper mapper) {
         super(et, att, descriptor, mapper);
     }
 
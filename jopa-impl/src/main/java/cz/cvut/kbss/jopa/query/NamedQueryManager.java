@@ -14,6 +14,8 @@
  */
 package cz.cvut.kbss.jopa.query;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -54,4 +56,13 @@ public class NamedQueryManager {
         }
         return queryMap.get(name);
     }
+
+    /**
+     * Gets all named queries in this persistence unit.
+     *
+     * @return Unmodifiable collection of query strings
+     */
+    public Collection<String> getQueries() {
+        return Collections.unmodifiableCollection(queryMap.values());
+    }
 }
@@ -16,6 +16,7 @@ package cz.cvut.kbss.jopa.query;
 
 import cz.cvut.kbss.jopa.model.query.Parameter;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -149,4 +150,16 @@ public interface QueryHolder {
      * @return Assembled query
      */
     String assembleQuery();
+
+    /**
+     * Assembles the query, leaving named parameters whose values are single RDF terms as query variables.
+     * <p>
+     * Values of such parameters are put into the specified map (variable name to value string) so that they can be
+     * bound to the query by the underlying storage. Other parameter values are inserted into the query string as in
+     * {@link #assembleQuery()}.
+     *
+     * @param bindings Map into which values of the parameters left as variables are put
+     * @return Assembled query
+     */
+    String assembleQuery(Map<String, String> bindings);
 }
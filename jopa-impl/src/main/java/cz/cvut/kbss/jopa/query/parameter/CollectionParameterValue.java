@@ -20,4 +20,9 @@ class CollectionParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return values.stream().map(ParameterValue::getQueryString).collect(Collectors.joining(","));
     }
+
+    @Override
+    public boolean isSingleTerm() {
+        return false;
+    }
 }
@@ -32,4 +32,14 @@ public interface ParameterValue {
      * @return Value as query string
      */
     String getQueryString();
+
+    /**
+     * Whether this value represents a single RDF term (an IRI or a literal).
+     * <p>
+     * Such values can be bound to query variables by the storage instead of being inserted into the query string.
+     *
+     * @return {@code true} if this value is a single RDF term, {@code false} otherwise (e.g., for variables or
+     * collections of values)
+     */
+    boolean isSingleTerm();
 }
@@ -36,4 +36,9 @@ class UntypedParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return value.toString();
     }
+
+    @Override
+    public boolean isSingleTerm() {
+        return false;
+    }
 }
@@ -0,0 +1,207 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.jopa.query.soql.SoqlQueryParser;
+import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Persistence unit-wide cache of parsed queries.
+ * <p>
+ * Parsing a SPARQL query requires scanning the whole query string and parsing a SOQL query requires running the
+ * grammar parser and translating the result into SPARQL. This cache keeps the parsed queries as templates and each query
+ * instance gets a copy of the template, so that parameters can be set on it independently.
+ * <p>
+ * The number of cached templates is bounded. When the capacity is exceeded, an arbitrary template is discarded. Named
+ * queries are parsed eagerly via {@link #preloadSparqlQuery(String)} and never discarded.
+ * <p>
+ * This class is thread-safe.
+ */
+public class QueryTemplateCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryTemplateCache.class);
+
+    private final int capacity;
+
+    // Factory used by templates, their parameters are never set
+    private final ParameterValueFactory templateValueFactory;
+
+    private final ConcurrentMap<TemplateKey, SparqlQueryHolder> pinned = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TemplateKey, SparqlQueryHolder> templates = new ConcurrentHashMap<>();
+
+    public QueryTemplateCache(MetamodelProvider metamodelProvider, Configuration configuration) {
+        this.templateValueFactory = new ParameterValueFactory(metamodelProvider);
+        this.capacity = resolveCapacity(configuration);
+    }
+
+    private static int resolveCapacity(Configuration configuration) {
+        final String value = configuration.get(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY,
+                Integer.toString(Constants.DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY));
+        try {
+            final int result = Integer.parseInt(value);
+            if (result < 0) {
+                LOG.warn("Invalid query template cache capacity {}. Using default value {}.", value,
+                        Constants.DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY);
+                return Constants.DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY;
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            LOG.warn("Unable to parse query template cache capacity {}. Using default value {}.", value,
+                    Constants.DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY);
+            return Constants.DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY;
+        }
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Parses the specified SPARQL query and stores it as a template which is not subject to eviction.
+     *
+     * @param query SPARQL query string
+     */
+    public void preloadSparqlQuery(String query) {
+        Objects.requireNonNull(query);
+        pinned.computeIfAbsent(new TemplateKey(QueryLanguage.SPARQL, query),
+                k -> new SparqlQueryParser(templateValueFactory).parseQuery(query));
+    }
+
+    /**
+     * Gets a parsed SPARQL query.
+     *
+     * @param query        SPARQL query string
+     * @param valueFactory Factory of values of the query parameters
+     * @return New query holder
+     */
+    public SparqlQueryHolder getSparqlQuery(String query, ParameterValueFactory valueFactory) {
+        Objects.requireNonNull(query);
+        return getTemplate(new TemplateKey(QueryLanguage.SPARQL, query),
+                () -> new SparqlQueryParser(templateValueFactory).parseQuery(query)).copy(valueFactory);
+    }
+
+    /**
+     * Gets a SOQL query parsed and translated to SPARQL.
+     *
+     * @param query        SOQL query string
+     * @param metamodel    Metamodel used for translation of the query
+     * @param valueFactory Factory of values of the query parameters
+     * @return New query holder
+     */
+    public SparqlQueryHolder getSoqlQuery(String query, MetamodelImpl metamodel, ParameterValueFactory valueFactory) {
+        Objects.requireNonNull(query);
+        return getTemplate(new TemplateKey(QueryLanguage.SOQL, query), () -> {
+            final SparqlQueryParser sparqlParser = new SparqlQueryParser(templateValueFactory);
+            // SOQL parser delegates to the SPARQL parser, so the result is always a SPARQL query holder
+            return (SparqlQueryHolder) new SoqlQueryParser(sparqlParser, metamodel).parseQuery(query);
+        }).copy(valueFactory);
+    }
+
+    private SparqlQueryHolder getTemplate(TemplateKey key, Parser parser) {
+        SparqlQueryHolder template = pinned.get(key);
+        if (template != null) {
+            return template;
+        }
+        template = templates.get(key);
+        if (template != null) {
+            return template;
+        }
+        // Parse outside of any lock. Concurrent parsing of the same query is harmless, only one result is kept
+        template = parser.parse();
+        if (capacity == 0) {
+            return template;
+        }
+        final SparqlQueryHolder existing = templates.putIfAbsent(key, template);
+        if (existing != null) {
+            return existing;
+        }
+        if (templates.size() > capacity) {
+            evictOne(key);
+        }
+        return template;
+    }
+
+    private void evictOne(TemplateKey added) {
+        final Iterator<TemplateKey> it = templates.keySet().iterator();
+        while (it.hasNext()) {
+            if (!it.next().equals(added)) {
+                it.remove();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of cached templates, including the preloaded ones.
+     *
+     * @return Number of templates
+     */
+    public int size() {
+        return pinned.size() + templates.size();
+    }
+
+    /**
+     * Discards all templates except for the preloaded ones.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private enum QueryLanguage {
+        SPARQL, SOQL
+    }
+
+    @FunctionalInterface
+    private interface Parser {
+        SparqlQueryHolder parse();
+    }
+
+    private static final class TemplateKey {
+        private final QueryLanguage language;
+        private final String query;
+
+        private TemplateKey(QueryLanguage language, String query) {
+            this.language = language;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final TemplateKey that = (TemplateKey) o;
+            return language == that.language && query.equals(that.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * language.hashCode() + query.hashCode();
+        }
+    }
+}
@@ -12,43 +12,75 @@
  */
 package cz.cvut.kbss.jopa.query.sparql;
 
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.QueryImpl;
 import cz.cvut.kbss.jopa.model.ResultSetMappingQuery;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
-import cz.cvut.kbss.jopa.query.QueryParser;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
-import cz.cvut.kbss.jopa.query.soql.SoqlQueryParser;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.QueryFactory;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.Constants;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
 
 public class SparqlQueryFactory implements QueryFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(SparqlQueryFactory.class);
+
     private final UnitOfWorkImpl uow;
     private final ConnectionWrapper connection;
 
-    private final QueryParser queryParser;
-    private final SoqlQueryParser soqlQueryParser;
+    private final QueryTemplateCache templateCache;
+    private final ParameterValueFactory parameterValueFactory;
+
+    private final int resultBatchSize;
+    private final boolean nativeParameterBinding;
 
     public SparqlQueryFactory(UnitOfWorkImpl uow, ConnectionWrapper connection) {
         assert uow != null;
         assert connection != null;
         this.uow = uow;
         this.connection = connection;
-        this.queryParser = new SparqlQueryParser(new ParameterValueFactory(uow));
-        this.soqlQueryParser = new SoqlQueryParser(queryParser, uow.getMetamodel());
+        this.templateCache = uow.getQueryTemplateCache();
+        this.parameterValueFactory = new ParameterValueFactory(uow);
+        this.resultBatchSize = resolveResultBatchSize(uow.getConfiguration());
+        this.nativeParameterBinding =
+                uow.getConfiguration().is(JOPAPersistenceProperties.QUERY_NATIVE_PARAMETER_BINDING);
+    }
+
+    private static int resolveResultBatchSize(Configuration configuration) {
+        final String value = configuration.get(JOPAPersistenceProperties.QUERY_RESULT_BATCH_SIZE,
+                Integer.toString(Constants.DEFAULT_QUERY_RESULT_BATCH_SIZE));
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            LOG.warn("Unable to parse query result batch size {}. Using default value {}.", value,
+                    Constants.DEFAULT_QUERY_RESULT_BATCH_SIZE);
+            return Constants.DEFAULT_QUERY_RESULT_BATCH_SIZE;
+        }
+    }
+
+    private SparqlQueryHolder parseSparql(String sparql) {
+        return templateCache.getSparqlQuery(sparql, parameterValueFactory);
+    }
+
+    private SparqlQueryHolder parseSoql(String soql) {
+        return templateCache.getSoqlQuery(soql, uow.getMetamodel(), parameterValueFactory);
     }
 
     @Override
     public QueryImpl createNativeQuery(String sparql) {
         Objects.requireNonNull(sparql);
 
-        final QueryImpl q = new QueryImpl(queryParser.parseQuery(sparql), connection);
+        final QueryImpl q = new QueryImpl(parseSparql(sparql), connection);
         q.useBackupOntology(uow.useBackupOntologyForQueryProcessing());
+        q.useNativeParameterBinding(nativeParameterBinding);
         return q;
     }
 
@@ -57,9 +89,11 @@ public class SparqlQueryFactory implements QueryFactory {
         Objects.requireNonNull(sparql, ErrorUtils.getNPXMessageSupplier("sparql"));
         Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
 
-        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(queryParser.parseQuery(sparql), resultClass, connection, uow);
+        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(parseSparql(sparql), resultClass, connection, uow);
         tq.setUnitOfWork(uow);
+        tq.setResultBatchSize(resultBatchSize);
         tq.useBackupOntology(uow.useBackupOntologyForQueryProcessing());
+        tq.useNativeParameterBinding(nativeParameterBinding);
         return tq;
     }
 
@@ -69,9 +103,10 @@ public class SparqlQueryFactory implements QueryFactory {
         Objects.requireNonNull(resultSetMapping, ErrorUtils.getNPXMessageSupplier("resultSetMapping"));
 
         final SparqlResultMapper mapper = uow.getResultSetMappingManager().getMapper(resultSetMapping);
-        final ResultSetMappingQuery q = new ResultSetMappingQuery(queryParser.parseQuery(sparql), connection, mapper,
+        final ResultSetMappingQuery q = new ResultSetMappingQuery(parseSparql(sparql), connection, mapper,
                 uow);
         q.useBackupOntology(uow.useBackupOntologyForQueryProcessing());
+        q.useNativeParameterBinding(nativeParameterBinding);
         return q;
     }
 
@@ -79,8 +114,9 @@ public class SparqlQueryFactory implements QueryFactory {
     public QueryImpl createQuery(String query) {
         Objects.requireNonNull(query);
 
-        final QueryImpl q = new QueryImpl(soqlQueryParser.parseQuery(query), connection);
+        final QueryImpl q = new QueryImpl(parseSoql(query), connection);
         q.useBackupOntology(uow.useBackupOntologyForQueryProcessing());
+        q.useNativeParameterBinding(nativeParameterBinding);
         return q;
     }
 
@@ -89,10 +125,12 @@ public class SparqlQueryFactory implements QueryFactory {
         Objects.requireNonNull(query, ErrorUtils.getNPXMessageSupplier("query"));
         Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
 
-        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(soqlQueryParser.parseQuery(query), resultClass, connection,
+        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(parseSoql(query), resultClass, connection,
                 uow);
         tq.setUnitOfWork(uow);
+        tq.setResultBatchSize(resultBatchSize);
         tq.useBackupOntology(uow.useBackupOntologyForQueryProcessing());
+        tq.useNativeParameterBinding(nativeParameterBinding);
         return tq;
     }
 
@@ -17,6 +17,8 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.model.query.Parameter;
 import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.query.QueryParameter;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValue;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 
 import java.util.*;
 
@@ -142,11 +144,22 @@ public class SparqlQueryHolder implements QueryHolder {
 
     @Override
     public String assembleQuery() {
+        return assembleQuery(null);
+    }
+
+    @Override
+    public String assembleQuery(Map<String, String> bindings) {
         final StringBuilder sb = new StringBuilder();
         for (int i = 0; i < parameters.size(); i++) {
             sb.append(queryParts.get(i));
-            final String paramValue = parameters.get(i).getValue().getQueryString();
-            sb.append(paramValue);
+            final QueryParameter<?> param = parameters.get(i);
+            final ParameterValue value = param.getValue();
+            if (bindings != null && param.getName() != null && value.isSingleTerm()) {
+                sb.append('?').append(param.getName());
+                bindings.put(param.getName(), value.getQueryString());
+            } else {
+                sb.append(value.getQueryString());
+            }
         }
         if (queryParts.size() > parameters.size()) {
             sb.append(queryParts.get(parameters.size()));
@@ -160,6 +173,26 @@ public class SparqlQueryHolder implements QueryHolder {
         return sb.toString();
     }
 
+    /**
+     * Creates a copy of this holder with parameters bound using the specified value factory.
+     * <p>
+     * The copy shares the immutable parsed query parts with this instance, but has its own parameters with no values
+     * set. It also does not copy the first result and max results settings.
+     *
+     * @param valueFactory Factory of parameter values for the copy
+     * @return New query holder
+     */
+    public SparqlQueryHolder copy(ParameterValueFactory valueFactory) {
+        final Map<Object, QueryParameter<?>> copies = new HashMap<>(identifiersToParameters.size());
+        final List<QueryParameter<?>> paramsCopy = new ArrayList<>(parameters.size());
+        for (QueryParameter<?> p : parameters) {
+            paramsCopy.add(copies.computeIfAbsent(p.getIdentifier(),
+                    id -> p.getName() != null ? new QueryParameter<>(p.getName(), valueFactory) :
+                          new QueryParameter<>(p.getPosition(), valueFactory)));
+        }
+        return new SparqlQueryHolder(query, queryParts, paramsCopy);
+    }
+
     @Override
     public String toString() {
         return assembleQuery();
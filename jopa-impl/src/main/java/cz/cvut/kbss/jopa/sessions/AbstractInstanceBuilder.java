@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.sessions;
 
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,12 +60,12 @@ abstract class AbstractInstanceBuilder {
     /**
      * Merges changes from clone to the original.
      *
-     * @param field         The field we are merging
+     * @param field         Accessor of the field we are merging
      * @param target        target object on which the values are merged
      * @param originalValue The original value
      * @param cloneValue    The clone value
      */
-    abstract void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue);
+    abstract void mergeChanges(FieldAccessor field, Object target, Object originalValue, Object cloneValue);
 
     /**
      * Return the declared constructor for the specified class. If the constructor is not accessible, it is set
@@ -15,9 +15,9 @@ package cz.cvut.kbss.jopa.sessions;
 import cz.cvut.kbss.jopa.adapters.IndirectCollection;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.annotations.Types;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
 import cz.cvut.kbss.jopa.utils.CollectionFactory;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.MetamodelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -203,7 +203,7 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    void mergeChanges(FieldAccessor field, Object target, Object originalValue, Object cloneValue) {
         assert originalValue == null || originalValue instanceof Collection;
         assert cloneValue instanceof Collection;
 
@@ -213,7 +213,7 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
         }
         final Optional<Collection<?>> origOpt = createNewInstance(clone.getClass(), clone.size());
         Collection<Object> orig = (Collection<Object>) origOpt.orElse(createDefaultCollection(clone.getClass()));
-        EntityPropertiesUtils.setFieldValue(field, target, orig);
+        field.setValue(target, orig);
 
         if (clone.isEmpty()) {
             return;
@@ -221,7 +221,7 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
         for (Object cl : clone) {
             orig.add(uow.contains(cl) ? builder.getOriginal(cl) : cl);
         }
-        final Types types = field.getAnnotation(Types.class);
+        final Types types = field.getField().getAnnotation(Types.class);
         if (types != null) {
             MetamodelUtils.checkForModuleSignatureExtension(orig, builder.getMetamodel());
         }
@@ -21,23 +21,27 @@ import cz.cvut.kbss.jopa.oom.ObjectOntologyMapperImpl;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 
 public class ConnectionWrapper implements Wrapper {
 
     private final Connection connection;
     private ObjectOntologyMapper mapper;
+    private UnitOfWorkImpl uow;
 
     public ConnectionWrapper(Connection connection) {
         this.connection = connection;
     }
 
     void setUnitOfWork(UnitOfWorkImpl uow) {
+        this.uow = uow;
         this.mapper = new ObjectOntologyMapperImpl(uow, connection);
     }
 
@@ -54,6 +58,10 @@ public class ConnectionWrapper implements Wrapper {
         return mapper.loadEntity(loadingParameters);
     }
 
+    public <T> List<T> findAll(Class<T> cls, List<URI> identifiers, Descriptor descriptor) {
+        return mapper.loadEntities(cls, identifiers, descriptor);
+    }
+
     public <T> T getReference(LoadingParameters<T> loadingParameters) {
         return mapper.loadReference(loadingParameters);
     }
@@ -62,6 +70,10 @@ public class ConnectionWrapper implements Wrapper {
         mapper.updateFieldValue(entity, field, descriptor);
     }
 
+    public <T> void merge(T entity, Collection<Field> fields, Descriptor descriptor) {
+        mapper.updateFieldValues(entity, fields, descriptor);
+    }
+
     public <T> void persist(Object identifier, T entity, Descriptor descriptor) {
         final URI idUri = getIdentifierAsUri(identifier);
         mapper.persistEntity(idUri, entity, descriptor);
@@ -102,6 +114,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public boolean isConsistent(URI context) {
+        writePendingChanges();
         try {
             return connection.isConsistent(context);
         } catch (OntoDriverException e) {
@@ -118,6 +131,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public Statement createStatement() {
+        writePendingChanges();
         try {
             return connection.createStatement();
         } catch (OntoDriverException e) {
@@ -125,6 +139,25 @@ public class ConnectionWrapper implements Wrapper {
         }
     }
 
+    public PreparedStatement prepareStatement(String sparql) {
+        writePendingChanges();
+        try {
+            return connection.prepareStatement(sparql);
+        } catch (OntoDriverException e) {
+            throw new OWLPersistenceException(e);
+        }
+    }
+
+    /**
+     * Makes sure changes deferred by the persistence context are written into the storage, so that operations
+     * evaluated by the storage see the transactional state.
+     */
+    private void writePendingChanges() {
+        if (uow != null) {
+            uow.writePendingAttributeChanges();
+        }
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         try {
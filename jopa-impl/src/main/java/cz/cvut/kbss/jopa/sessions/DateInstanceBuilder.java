@@ -12,7 +12,7 @@
  */
 package cz.cvut.kbss.jopa.sessions;
 
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 
 import java.lang.reflect.Field;
 import java.util.Date;
@@ -33,8 +33,8 @@ class DateInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
-        EntityPropertiesUtils.setFieldValue(field, target, cloneValue);
+    void mergeChanges(FieldAccessor field, Object target, Object originalValue, Object cloneValue) {
+        field.setValue(target, cloneValue);
     }
 
     @Override
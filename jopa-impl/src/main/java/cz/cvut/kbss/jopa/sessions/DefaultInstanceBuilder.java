@@ -13,6 +13,7 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,18 +114,18 @@ class DefaultInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    void mergeChanges(FieldAccessor field, Object target, Object originalValue, Object cloneValue) {
         if (originalValue == null) {
             Object clOrig = builder.getOriginal(cloneValue);
             if (clOrig == null) {
                 clOrig = cloneValue;
             }
-            EntityPropertiesUtils.setFieldValue(field, target, clOrig);
+            field.setValue(target, clOrig);
             return;
         }
         Class<?> cls = originalValue.getClass();
         if (builder.isTypeManaged(cls) && builder.getOriginal(cloneValue) != null) {
-            EntityPropertiesUtils.setFieldValue(field, target, builder.getOriginal(cloneValue));
+            field.setValue(target, builder.getOriginal(cloneValue));
         } else {
             mergeFieldChanges(originalValue, cloneValue, cls);
         }
@@ -132,11 +133,12 @@ class DefaultInstanceBuilder extends AbstractInstanceBuilder {
 
     private void mergeFieldChanges(Object originalValue, Object cloneValue, Class<?> cls) {
         List<Field> fields = EntityPropertiesUtils.getAllFields(cls);
-        for (Field f : fields) {
-            Object clVal = EntityPropertiesUtils.getFieldValue(f, cloneValue);
-            Object origVal = EntityPropertiesUtils.getFieldValue(f, originalValue);
+        for (Field field : fields) {
+            final FieldAccessor f = FieldAccessor.of(field);
+            Object clVal = f.getValue(cloneValue);
+            Object origVal = f.getValue(originalValue);
             if (!(clVal instanceof Collection) && !builder.isOriginalInUoW(origVal)) {
-                EntityPropertiesUtils.setFieldValue(f, originalValue, clVal);
+                f.setValue(originalValue, clVal);
             } else {
                 builder.getInstanceBuilder(origVal).mergeChanges(f, originalValue, origVal, clVal);
             }
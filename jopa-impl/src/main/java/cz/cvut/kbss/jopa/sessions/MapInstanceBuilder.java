@@ -14,7 +14,7 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.adapters.IndirectCollection;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -152,7 +152,7 @@ class MapInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    void mergeChanges(FieldAccessor field, Object target, Object originalValue, Object cloneValue) {
         assert (originalValue == null) || (originalValue instanceof Map);
         assert cloneValue instanceof Map;
 
@@ -166,7 +166,7 @@ class MapInstanceBuilder extends AbstractInstanceBuilder {
             if (orig == null) {
                 orig = createDefaultMap(clone.size());
             }
-            EntityPropertiesUtils.setFieldValue(field, target, orig);
+            field.setValue(target, orig);
         }
         orig.clear();
         if (clone.isEmpty()) {
@@ -2,7 +2,7 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.adapters.IndirectMultilingualString;
 import cz.cvut.kbss.jopa.model.MultilingualString;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 
 import java.lang.reflect.Field;
 
@@ -26,13 +26,12 @@ class MultilingualStringInstanceBuilder extends AbstractInstanceBuilder {
     }
 
     @Override
-    void mergeChanges(Field field, Object target, Object originalValue, Object cloneValue) {
+    void mergeChanges(FieldAccessor field, Object target, Object originalValue, Object cloneValue) {
         MultilingualString clone = (MultilingualString) cloneValue;
         if (clone instanceof IndirectMultilingualString) {
             clone = ((IndirectMultilingualString) clone).unwrap();
         }
-        EntityPropertiesUtils
-                .setFieldValue(field, target, clone != null ? new MultilingualString(clone.getValue()) : null);
+        field.setValue(target, clone != null ? new MultilingualString(clone.getValue()) : null);
     }
 
     @Override
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+
+import java.util.*;
+
+/**
+ * Builds read-only views of instances shared via the second level cache.
+ * <p>
+ * A view is a shallow copy of the shared instance, which shares all the attribute values with it, except for
+ * collections and maps. These are replaced with unmodifiable views of the shared values, so that they cannot be
+ * modified through the copy. No values are copied, the shared collections are only wrapped.
+ */
+class ReadOnlyCopyBuilder {
+
+    private final MetamodelImpl metamodel;
+
+    ReadOnlyCopyBuilder(MetamodelImpl metamodel) {
+        this.metamodel = metamodel;
+    }
+
+    /**
+     * Builds a read-only view of the specified entity.
+     *
+     * @param original The instance to copy, possibly {@code null}
+     * @param <T>      Entity type
+     * @return Read-only view of the original, {@code null} if the original is {@code null}
+     */
+    <T> T buildCopy(T original) {
+        if (original == null) {
+            return null;
+        }
+        final EntityType<T> et = (EntityType<T>) metamodel.entity(original.getClass());
+        final T copy;
+        try {
+            copy = et.getJavaType().newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new OWLPersistenceException("Unable to create a read-only copy of " + original, e);
+        }
+        EntityPropertiesUtils.setAttributeValue(et.getIdentifier(), copy,
+                EntityPropertiesUtils.getAttributeValue(et.getIdentifier(), original));
+        for (FieldSpecification<? super T, ?> fs : et.getFieldSpecifications()) {
+            final Object value = EntityPropertiesUtils.getAttributeValue(fs, original);
+            if (value != null) {
+                EntityPropertiesUtils.setAttributeValue(fs, copy, unmodifiableView(value));
+            }
+        }
+        return copy;
+    }
+
+    private static Object unmodifiableView(Object value) {
+        if (value instanceof List) {
+            return Collections.unmodifiableList((List<?>) value);
+        }
+        if (value instanceof Set) {
+            return Collections.unmodifiableSet((Set<?>) value);
+        }
+        if (value instanceof Collection) {
+            return Collections.unmodifiableCollection((Collection<?>) value);
+        }
+        if (value instanceof Map) {
+            return Collections.unmodifiableMap((Map<?, ?>) value);
+        }
+        return value;
+    }
+}
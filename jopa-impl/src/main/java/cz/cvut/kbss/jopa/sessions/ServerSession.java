@@ -17,13 +17,19 @@ package cz.cvut.kbss.jopa.sessions;
 import cz.cvut.kbss.jopa.accessors.DefaultStorageAccessor;
 import cz.cvut.kbss.jopa.accessors.StorageAccessor;
 import cz.cvut.kbss.jopa.model.AbstractEntityManager;
+import cz.cvut.kbss.jopa.model.BulkLoader;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
+import cz.cvut.kbss.jopa.oom.BulkLoaderImpl;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplateCache;
 import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
+import cz.cvut.kbss.jopa.sessions.cache.CacheStatisticsPublisher;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.Constants;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -42,8 +48,10 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ServerSession extends AbstractSession implements Wrapper {
 
     private final MetamodelImpl metamodel;
+    private final QueryTemplateCache queryTemplateCache;
 
     private CacheManager liveObjectCache;
+    private CacheStatisticsPublisher cacheStatisticsPublisher;
     private StorageAccessor storageAccessor;
 
     private Map<EntityTransaction, AbstractEntityManager> runningTransactions;
@@ -51,12 +59,14 @@ public class ServerSession extends AbstractSession implements Wrapper {
     ServerSession() {
         super(new Configuration(Collections.emptyMap()));
         this.metamodel = null;
+        this.queryTemplateCache = new QueryTemplateCache(this, getConfiguration());
     }
 
     public ServerSession(OntologyStorageProperties storageProperties, Configuration configuration,
                          MetamodelImpl metamodel) {
         super(configuration);
         this.metamodel = metamodel;
+        this.queryTemplateCache = new QueryTemplateCache(this, configuration);
         initialize(storageProperties, configuration, metamodel);
     }
 
@@ -75,7 +85,20 @@ public class ServerSession extends AbstractSession implements Wrapper {
         this.runningTransactions = new ConcurrentHashMap<>();
         this.liveObjectCache = CacheFactory.createCache(configuration.getProperties());
         liveObjectCache.setInferredClasses(metamodel.getInferredClasses());
+        if (configuration.is(JOPAPersistenceProperties.CACHE_STATISTICS_JMX)) {
+            this.cacheStatisticsPublisher =
+                    new CacheStatisticsPublisher(liveObjectCache, storageProperties.getPhysicalURI());
+            cacheStatisticsPublisher.register();
+        }
         this.storageAccessor = new DefaultStorageAccessor(storageProperties, configuration.getProperties());
+        preloadNamedQueries();
+    }
+
+    private void preloadNamedQueries() {
+        final NamedQueryManager namedQueryManager = getNamedQueryManager();
+        if (namedQueryManager != null) {
+            namedQueryManager.getQueries().forEach(queryTemplateCache::preloadSparqlQuery);
+        }
     }
 
     @Override
@@ -88,6 +111,45 @@ public class ServerSession extends AbstractSession implements Wrapper {
         return new UnitOfWorkImpl(this);
     }
 
+    /**
+     * Creates a bulk loader writing entities into the storage using a dedicated connection.
+     * <p>
+     * The chunk size is taken from the configuration.
+     *
+     * @return New bulk loader
+     */
+    public BulkLoader createBulkLoader() {
+        return createBulkLoader(resolveBulkLoadChunkSize());
+    }
+
+    /**
+     * Creates a bulk loader writing entities into the storage using a dedicated connection.
+     *
+     * @param chunkSize Number of entities written and committed together
+     * @return New bulk loader
+     */
+    public BulkLoader createBulkLoader(int chunkSize) {
+        return new BulkLoaderImpl(storageAccessor.acquireConnection(), metamodel, liveObjectCache, chunkSize);
+    }
+
+    private int resolveBulkLoadChunkSize() {
+        final String value = getConfiguration().get(JOPAPersistenceProperties.BULK_LOAD_CHUNK_SIZE,
+                Integer.toString(Constants.DEFAULT_BULK_LOAD_CHUNK_SIZE));
+        try {
+            final int result = Integer.parseInt(value);
+            if (result <= 0) {
+                LOG.warn("Invalid bulk load chunk size {}. Using default value {}.", value,
+                        Constants.DEFAULT_BULK_LOAD_CHUNK_SIZE);
+                return Constants.DEFAULT_BULK_LOAD_CHUNK_SIZE;
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            LOG.warn("Unable to parse bulk load chunk size {}. Using default value {}.", value,
+                    Constants.DEFAULT_BULK_LOAD_CHUNK_SIZE);
+            return Constants.DEFAULT_BULK_LOAD_CHUNK_SIZE;
+        }
+    }
+
     @Override
     public CacheManager getLiveObjectCache() {
         return liveObjectCache;
@@ -121,6 +183,9 @@ public class ServerSession extends AbstractSession implements Wrapper {
                 LOG.error("Exception caught when closing the storage accessor.", e);
             }
         }
+        if (cacheStatisticsPublisher != null) {
+            cacheStatisticsPublisher.unregister();
+        }
         liveObjectCache.close();
     }
 
@@ -149,6 +214,11 @@ public class ServerSession extends AbstractSession implements Wrapper {
         return metamodel.getResultSetMappingManager();
     }
 
+    @Override
+    public QueryTemplateCache getQueryTemplateCache() {
+        return queryTemplateCache;
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         Objects.requireNonNull(cls);
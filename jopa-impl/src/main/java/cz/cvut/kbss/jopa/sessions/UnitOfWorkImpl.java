@@ -20,6 +20,7 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.AbstractEntityManager;
 import cz.cvut.kbss.jopa.model.BeanListenerAspect;
 import cz.cvut.kbss.jopa.model.EntityManagerImpl.State;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
@@ -29,6 +30,7 @@ import cz.cvut.kbss.jopa.model.metamodel.EntityTypeImpl;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplateCache;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.change.ChangeManagerImpl;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecordImpl;
@@ -61,6 +63,10 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
     private final Map<Object, Object> newObjectsCloneToOriginal;
     private final Map<Object, Object> newObjectsKeyToClone = new HashMap<>();
     private final Map<Object, InstanceDescriptor> instanceDescriptors;
+    /**
+     * Fields whose changes have not been written into the storage yet. Used only when attribute writes are deferred.
+     */
+    private final Map<Object, Set<Field>> pendingAttributeChanges = new IdentityHashMap<>();
     private RepositoryMap repoMap;
 
     private boolean hasChanges;
@@ -69,6 +75,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
     private boolean shouldReleaseAfterCommit;
     private boolean shouldClearCacheAfterCommit;
     private boolean useTransactionalOntology;
+    private final boolean deferAttributeWrites;
 
     private boolean isActive;
     private boolean inCommit;
@@ -106,6 +113,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         this.mergeManager = new MergeManagerImpl(this);
         this.changeManager = new ChangeManagerImpl(this);
         this.useTransactionalOntology = true;
+        this.deferAttributeWrites = getConfiguration().is(JOPAPersistenceProperties.DEFERRED_ATTRIBUTE_WRITES);
         this.isActive = true;
     }
 
@@ -150,12 +158,93 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         if (result == null) {
             return null;
         }
-        final Object clone = registerExistingObject(result, descriptor,
+        return registerLoadedObject(cls, result, descriptor);
+    }
+
+    private <T> T registerLoadedObject(Class<T> cls, T original, Descriptor descriptor) {
+        final Object clone = registerExistingObject(original, descriptor,
                 Collections.singletonList(new PostLoadInvoker(getMetamodel())));
         checkForIndirectObjects(clone);
         return cls.cast(clone);
     }
 
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifiers, ErrorUtils.getNPXMessageSupplier("identifiers"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+
+        final List<T> result = new ArrayList<>(identifiers.size());
+        final List<URI> toLoad = new ArrayList<>();
+        for (Object identifier : identifiers) {
+            final T managed = readManagedObject(cls, identifier, descriptor);
+            if (managed == null) {
+                toLoad.add(getValueAsURI(identifier));
+            }
+            result.add(managed);
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+        final Iterator<T> loaded = storage.findAll(cls, toLoad, descriptor).iterator();
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) != null) {
+                continue;
+            }
+            final T original = loaded.next();
+            if (original != null) {
+                result.set(i, registerLoadedObject(cls, original, descriptor));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <T> T readObjectWithoutRegistration(Class<T> cls, Object identifier, Descriptor descriptor) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+
+        final T managed = readManagedObject(cls, identifier, descriptor);
+        if (managed != null || isDeleted(identifier)) {
+            return managed;
+        }
+        final T loaded = storage.find(new LoadingParameters<>(cls, getValueAsURI(identifier), descriptor));
+        return new ReadOnlyCopyBuilder(getMetamodel()).buildCopy(loaded);
+    }
+
+    private boolean isDeleted(Object identifier) {
+        return keysToClones.containsKey(identifier) && deletedObjects.containsKey(keysToClones.get(identifier));
+    }
+
+    @Override
+    public <T> List<T> readObjectsWithoutRegistration(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifiers, ErrorUtils.getNPXMessageSupplier("identifiers"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+
+        final List<T> result = new ArrayList<>(identifiers.size());
+        final List<URI> toLoad = new ArrayList<>();
+        for (Object identifier : identifiers) {
+            final T managed = readManagedObject(cls, identifier, descriptor);
+            if (managed == null && !isDeleted(identifier)) {
+                toLoad.add(getValueAsURI(identifier));
+            }
+            result.add(managed);
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+        final Iterator<T> loaded = storage.findAll(cls, toLoad, descriptor).iterator();
+        final ReadOnlyCopyBuilder copyBuilder = new ReadOnlyCopyBuilder(getMetamodel());
+        for (int i = 0; i < result.size(); i++) {
+            if (result.get(i) == null && !isDeleted(identifiers.get(i))) {
+                result.set(i, copyBuilder.buildCopy(loaded.next()));
+            }
+        }
+        return result;
+    }
+
     private <T> T readManagedObject(Class<T> cls, Object identifier, Descriptor descriptor) {
         // First try to find the object among new uncommitted objects
         Object result = newObjectsKeyToClone.get(identifier);
@@ -195,11 +284,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         instanceDescriptors.put(result, InstanceDescriptorFactory.createNotLoaded(result, entityType(cls)));
         registerEntityWithPersistenceContext(result);
         registerEntityWithOntologyContext(result, descriptor);
-        if (getLiveObjectCache().contains(cls, identifier, descriptor)) {
-            cloneToOriginals.put(result, getLiveObjectCache().get(cls, identifier, descriptor));
-        } else {
-            cloneToOriginals.put(result, null);
-        }
+        cloneToOriginals.put(result, getLiveObjectCache().get(cls, identifier, descriptor));
         keysToClones.put(identifier, result);
         return result;
     }
@@ -254,6 +339,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         newObjectsCloneToOriginal.clear();
         newObjectsKeyToClone.clear();
         instanceDescriptors.clear();
+        pendingAttributeChanges.clear();
         this.hasChanges = false;
         this.hasDeleted = false;
         this.hasNew = false;
@@ -332,6 +418,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
      * If there are any changes, commit them to the ontology.
      */
     private void commitToOntology() {
+        writePendingAttributeChanges();
         if (this.hasNew || this.hasChanges || this.hasDeleted) {
             calculateChanges();
         }
@@ -501,6 +588,9 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
 
     /**
      * Persists changed value of the specified field.
+     * <p>
+     * If attribute writes are deferred, the field is only marked as changed and its value is written into the storage
+     * later, see {@link #writePendingAttributeChanges()}.
      *
      * @param entity Entity with changes (the clone)
      * @param f      The field whose value has changed
@@ -512,13 +602,37 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         }
         final Descriptor descriptor = getDescriptor(entity);
         final EntityTypeImpl<Object> et = entityType((Class<Object>) entity.getClass());
+        final FieldSpecification<? super Object, ?> fieldSpec = et.getFieldSpecification(f.getName());
         et.getLifecycleListenerManager().invokePreUpdateCallbacks(entity);
-        storage.merge(entity, f, descriptor);
-        createAndRegisterChangeRecord(entity, et.getFieldSpecification(f.getName()), descriptor);
+        writeAttributeChange(entity, f, descriptor);
+        createAndRegisterChangeRecord(entity, fieldSpec, descriptor);
         setHasChanges();
-        setIndirectObjectIfPresent(entity, f);
+        setIndirectObjectIfPresent(entity, fieldSpec);
         et.getLifecycleListenerManager().invokePostUpdateCallbacks(entity);
-        instanceDescriptors.get(entity).setLoaded(et.getFieldSpecification(f.getName()), LoadState.LOADED);
+        instanceDescriptors.get(entity).setLoaded(fieldSpec, LoadState.LOADED);
+    }
+
+    private void writeAttributeChange(Object entity, Field field, Descriptor descriptor) {
+        if (deferAttributeWrites) {
+            pendingAttributeChanges.computeIfAbsent(entity, e -> new LinkedHashSet<>()).add(field);
+        } else {
+            storage.merge(entity, field, descriptor);
+        }
+    }
+
+    /**
+     * Writes values of fields whose changes have been deferred into the storage.
+     * <p>
+     * Values of all the changed fields of an entity are written in one update, each field is written only once
+     * regardless of how many times it has been modified.
+     */
+    void writePendingAttributeChanges() {
+        if (pendingAttributeChanges.isEmpty()) {
+            return;
+        }
+        final Map<Object, Set<Field>> toWrite = new IdentityHashMap<>(pendingAttributeChanges);
+        pendingAttributeChanges.clear();
+        toWrite.forEach((entity, fields) -> storage.merge(entity, fields, getDescriptor(entity)));
     }
 
     private void createAndRegisterChangeRecord(Object clone, FieldSpecification<?, ?> fieldSpec,
@@ -528,7 +642,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
             return;
         }
         final ChangeRecord record = new ChangeRecordImpl(fieldSpec,
-                EntityPropertiesUtils.getFieldValue(fieldSpec.getJavaField(), clone));
+                EntityPropertiesUtils.getAttributeValue(fieldSpec, clone));
         preventCachingIfReferenceIsNotLoaded(record);
         registerChangeRecord(clone, orig, descriptor, record);
     }
@@ -608,7 +722,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
                     AttributeModificationValidator.verifyCanModify(record.getAttribute());
                     preventCachingIfReferenceIsNotLoaded(record);
                     final Field field = record.getAttribute().getJavaField();
-                    storage.merge(clone, field, descriptor);
+                    writeAttributeChange(clone, field, descriptor);
                 }
                 et.getLifecycleListenerManager().invokePostUpdateCallbacks(clone);
                 uowChangeSet.addObjectChangeSet(copyChangeSet(chSet, getOriginal(clone), clone, descriptor));
@@ -661,6 +775,11 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         return parent.getResultSetMappingManager();
     }
 
+    @Override
+    public QueryTemplateCache getQueryTemplateCache() {
+        return parent.getQueryTemplateCache();
+    }
+
     @Override
     public Object registerExistingObject(Object entity, Descriptor descriptor) {
         return registerExistingObject(entity, descriptor, Collections.emptyList());
@@ -721,6 +840,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         final ConnectionWrapper connection = acquireConnection();
         try {
             uowChangeSet.cancelObjectChanges(getOriginal(object));
+            pendingAttributeChanges.remove(object);
             T original = connection.find(params);
             if (original == null) {
                 throw new EntityNotFoundException("Entity " + object + " no longer exists in the repository.");
@@ -809,6 +929,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         et.getLifecycleListenerManager().invokePreRemoveCallbacks(entity);
         final Object primaryKey = getIdentifier(entity);
         final Descriptor descriptor = getDescriptor(entity);
+        pendingAttributeChanges.remove(entity);
 
         if (hasNew && newObjectsCloneToOriginal.containsKey(entity)) {
             unregisterObject(entity);
@@ -839,6 +960,10 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         if (object == null) {
             return;
         }
+        final Set<Field> pendingChanges = pendingAttributeChanges.remove(object);
+        if (pendingChanges != null) {
+            storage.merge(object, pendingChanges, getDescriptor(object));
+        }
         final Object original = cloneToOriginals.remove(object);
         keysToClones.remove(EntityPropertiesUtils.getIdentifier(object, getMetamodel()));
 
@@ -921,14 +1046,14 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         }
 
         storage.loadFieldValue(entity, field, entityDescriptor);
-        final Object orig = EntityPropertiesUtils.getFieldValue(field, entity);
+        final Object orig = EntityPropertiesUtils.getAttributeValue(fieldSpec, entity);
         final Object entityOriginal = getOriginal(entity);
         if (entityOriginal != null) {
-            EntityPropertiesUtils.setFieldValue(field, entityOriginal, orig);
+            EntityPropertiesUtils.setAttributeValue(fieldSpec, entityOriginal, orig);
         }
         final Descriptor fieldDescriptor = getFieldDescriptor(entity, field, entityDescriptor);
         final Object clone = cloneLoadedFieldValue(entity, field, fieldDescriptor, orig);
-        EntityPropertiesUtils.setFieldValue(field, entity, clone);
+        EntityPropertiesUtils.setAttributeValue(fieldSpec, entity, clone);
         instanceDescriptors.get(entity).setLoaded(fieldSpec, LoadState.LOADED);
     }
 
@@ -1019,7 +1144,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         assert entity != null;
         final EntityType<?> et = entityType(entity.getClass());
         for (FieldSpecification<?, ?> fieldSpec : et.getFieldSpecifications()) {
-            setIndirectObjectIfPresent(entity, fieldSpec.getJavaField());
+            setIndirectObjectIfPresent(entity, fieldSpec);
         }
     }
 
@@ -1029,21 +1154,21 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
      * If the specified field is of Collection type and it is not already an indirect collection, create new one and set
      * it as the value of the specified field on the specified entity.
      *
-     * @param entity The entity collection will be set on
-     * @param field  The field to set
+     * @param entity    The entity collection will be set on
+     * @param fieldSpec Specification of the field to set
      * @throws IllegalArgumentException Reflection
      */
-    private void setIndirectObjectIfPresent(Object entity, Field field) {
+    private void setIndirectObjectIfPresent(Object entity, FieldSpecification<?, ?> fieldSpec) {
         assert entity != null;
-        assert field != null;
+        assert fieldSpec != null;
 
-        final Object value = EntityPropertiesUtils.getFieldValue(field, entity);
+        final Object value = EntityPropertiesUtils.getAttributeValue(fieldSpec, entity);
         if (value instanceof IndirectWrapper) {
             return;
         }
         if (IndirectWrapperHelper.requiresIndirectWrapper(value)) {
-            EntityPropertiesUtils
-                    .setFieldValue(field, entity, indirectWrapperHelper.createIndirectWrapper(value, entity, field));
+            EntityPropertiesUtils.setAttributeValue(fieldSpec, entity,
+                    indirectWrapperHelper.createIndirectWrapper(value, entity, fieldSpec.getJavaField()));
         }
     }
 
@@ -1069,10 +1194,10 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         assert entity != null;
         final EntityType<?> et = entityType(entity.getClass());
         for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
-            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), entity);
+            final Object value = EntityPropertiesUtils.getAttributeValue(fs, entity);
             if (value instanceof IndirectCollection) {
                 IndirectCollection<?> indCol = (IndirectCollection<?>) value;
-                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, indCol.unwrap());
+                EntityPropertiesUtils.setAttributeValue(fs, entity, indCol.unwrap());
             }
         }
     }
@@ -31,6 +31,8 @@ public abstract class CacheFactory {
 
     private static final String LRU_CACHE = "lru";
     private static final String TTL_CACHE = "ttl";
+    private static final String CONCURRENT_CACHE = "concurrent";
+    private static final String PARTITIONED_CACHE = "partitioned";
 
     private CacheFactory() {
         throw new AssertionError();
@@ -61,6 +63,12 @@ public abstract class CacheFactory {
             case TTL_CACHE:
                 LOG.debug("Using TTL cache.");
                 return new TtlCacheManager(properties);
+            case CONCURRENT_CACHE:
+                LOG.debug("Using concurrent cache.");
+                return new ConcurrentCacheManager(properties);
+            case PARTITIONED_CACHE:
+                LOG.debug("Using context-partitioned cache.");
+                return new ContextPartitionedCacheManager(properties);
             default:
                 throw new IllegalArgumentException("Invalid second level cache type " + cacheType);
         }
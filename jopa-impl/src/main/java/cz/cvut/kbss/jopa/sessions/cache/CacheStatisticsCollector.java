@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects second level cache statistics.
+ * <p>
+ * The counters are striped, so that recording does not become a point of contention under concurrent access to the
+ * cache.
+ */
+class CacheStatisticsCollector {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final Map<CacheStatistics.EvictionCause, LongAdder> evictions =
+            new EnumMap<>(CacheStatistics.EvictionCause.class);
+
+    CacheStatisticsCollector() {
+        for (CacheStatistics.EvictionCause cause : CacheStatistics.EvictionCause.values()) {
+            evictions.put(cause, new LongAdder());
+        }
+    }
+
+    /**
+     * Records hit or miss based on the lookup result.
+     *
+     * @param result Lookup result, {@code null} represents a miss
+     * @param <T>    Result type
+     * @return The lookup result
+     */
+    <T> T recordLookup(T result) {
+        if (result != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return result;
+    }
+
+    void recordLoad(int count, long time) {
+        loads.add(count);
+        loadTime.add(time);
+    }
+
+    void recordEviction(CacheStatistics.EvictionCause cause) {
+        evictions.get(cause).increment();
+    }
+
+    void recordEvictions(CacheStatistics.EvictionCause cause, long count) {
+        if (count > 0) {
+            evictions.get(cause).add(count);
+        }
+    }
+
+    /**
+     * Creates a snapshot of the current statistics.
+     *
+     * @param keys           Keys of the records currently in the cache
+     * @param defaultContext Identifier under which the cache stores records of the default context
+     * @return Statistics snapshot
+     */
+    CacheStatistics snapshot(Iterable<LruCache.CacheNode> keys, URI defaultContext) {
+        final Map<URI, Long> perContext = new HashMap<>();
+        final Map<Class<?>, Long> perClass = new HashMap<>();
+        long count = 0;
+        for (LruCache.CacheNode key : keys) {
+            perContext.merge(context(key, defaultContext), 1L, Long::sum);
+            perClass.merge(key.getCls(), 1L, Long::sum);
+            count++;
+        }
+        final Map<CacheStatistics.EvictionCause, Long> evictionCounts =
+                new EnumMap<>(CacheStatistics.EvictionCause.class);
+        evictions.forEach((cause, counter) -> evictionCounts.put(cause, counter.sum()));
+        return new CacheStatisticsSnapshot(hits.sum(), misses.sum(), loads.sum(), loadTime.sum(), evictionCounts,
+                count, perContext, perClass);
+    }
+
+    private static URI context(LruCache.CacheNode key, URI defaultContext) {
+        return defaultContext.equals(key.getContext()) ? null : key.getContext();
+    }
+
+    /**
+     * Creates a live view of the statistics.
+     * <p>
+     * Unlike {@link #snapshot(Iterable, URI)}, the view reads the counters on each access and goes through the cached
+     * records only when entry counts per context or per class are requested.
+     *
+     * @param entryCount     Supplies the number of records currently in the cache
+     * @param keyVisitor     Passes keys of the records currently in the cache to the specified consumer
+     * @param defaultContext Identifier under which the cache stores records of the default context
+     * @return Statistics view
+     */
+    CacheStatistics view(LongSupplier entryCount, Consumer<Consumer<LruCache.CacheNode>> keyVisitor,
+                         URI defaultContext) {
+        return new LiveStatistics(entryCount, keyVisitor, defaultContext);
+    }
+
+    private final class LiveStatistics implements CacheStatistics {
+
+        private final LongSupplier entryCount;
+        private final Consumer<Consumer<LruCache.CacheNode>> keyVisitor;
+        private final URI defaultContext;
+
+        private LiveStatistics(LongSupplier entryCount, Consumer<Consumer<LruCache.CacheNode>> keyVisitor,
+                               URI defaultContext) {
+            this.entryCount = entryCount;
+            this.keyVisitor = keyVisitor;
+            this.defaultContext = defaultContext;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        @Override
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        @Override
+        public long getLoadCount() {
+            return loads.sum();
+        }
+
+        @Override
+        public long getTotalLoadTime() {
+            return loadTime.sum();
+        }
+
+        @Override
+        public long getEvictionCount(EvictionCause cause) {
+            return evictions.get(cause).sum();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return evictions.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        @Override
+        public long getEntryCount() {
+            return entryCount.getAsLong();
+        }
+
+        @Override
+        public Map<URI, Long> getEntryCountPerContext() {
+            final Map<URI, Long> result = new HashMap<>();
+            keyVisitor.accept(key -> result.merge(context(key, defaultContext), 1L, Long::sum));
+            return result;
+        }
+
+        @Override
+        public Map<Class<?>, Long> getEntryCountPerClass() {
+            final Map<Class<?>, Long> result = new HashMap<>();
+            keyVisitor.accept(key -> result.merge(key.getCls(), 1L, Long::sum));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing the second level cache statistics via JMX.
+ *
+ * @see cz.cvut.kbss.jopa.sessions.CacheStatistics
+ */
+public interface CacheStatisticsMXBean {
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRatio();
+
+    long getLoadCount();
+
+    /**
+     * Average entity load time in nanoseconds.
+     */
+    double getAverageLoadTime();
+
+    long getCapacityEvictionCount();
+
+    long getExpirationEvictionCount();
+
+    long getExplicitEvictionCount();
+
+    long getEntryCount();
+
+    /**
+     * Entry counts keyed by context identifier. The default context is represented by {@code default} key.
+     */
+    Map<String, Long> getEntryCountPerContext();
+
+    /**
+     * Entry counts keyed by entity class name.
+     */
+    Map<String, Long> getEntryCountPerClass();
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.sessions.Cache;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Publishes statistics of a second level cache as a JMX MBean.
+ * <p>
+ * Counters are read directly from the cache's statistics collector, entries of the cache are visited only to compute
+ * the entry counts per context and per class. Caches which do not provide live statistics are asked for a fresh
+ * statistics snapshot on each attribute read.
+ */
+public class CacheStatisticsPublisher implements CacheStatisticsMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheStatisticsPublisher.class);
+
+    private static final String DOMAIN = "cz.cvut.kbss.jopa";
+    private static final String DEFAULT_CONTEXT_KEY = "default";
+
+    private final Cache cache;
+    // Null when the cache does not provide live statistics
+    private final CacheStatistics liveStatistics;
+    private final ObjectName name;
+
+    private boolean registered;
+
+    /**
+     * Creates publisher for the specified cache.
+     *
+     * @param cache      Cache whose statistics to publish
+     * @param repository Identifier of the repository the cache belongs to, used in the MBean name
+     */
+    public CacheStatisticsPublisher(Cache cache, URI repository) {
+        this.cache = Objects.requireNonNull(cache);
+        this.liveStatistics =
+                cache instanceof CacheStatisticsSource ? ((CacheStatisticsSource) cache).getLiveStatistics() : null;
+        this.name = createName(cache, repository);
+    }
+
+    private static ObjectName createName(Cache cache, URI repository) {
+        // Identity hash distinguishes caches of multiple persistence units connected to the same repository
+        try {
+            return new ObjectName(DOMAIN + ":type=CacheStatistics,repository=" +
+                    ObjectName.quote(String.valueOf(repository)) + ",id=" + System.identityHashCode(cache));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    ObjectName getName() {
+        return name;
+    }
+
+    /**
+     * Registers this publisher in the platform MBean server.
+     * <p>
+     * Registration failures are logged, they do not prevent the cache from working.
+     */
+    public synchronized void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            this.registered = true;
+        } catch (JMException e) {
+            LOG.error("Unable to register cache statistics MBean {}.", name, e);
+        }
+    }
+
+    /**
+     * Unregisters this publisher from the platform MBean server.
+     */
+    public synchronized void unregister() {
+        if (!registered) {
+            return;
+        }
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister cache statistics MBean {}.", name, e);
+        }
+        this.registered = false;
+    }
+
+    private CacheStatistics statistics() {
+        return liveStatistics != null ? liveStatistics : cache.getStatistics();
+    }
+
+    @Override
+    public long getHitCount() {
+        return statistics().getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return statistics().getMissCount();
+    }
+
+    @Override
+    public double getHitRatio() {
+        return statistics().getHitRatio();
+    }
+
+    @Override
+    public long getLoadCount() {
+        return statistics().getLoadCount();
+    }
+
+    @Override
+    public double getAverageLoadTime() {
+        return statistics().getAverageLoadTime();
+    }
+
+    @Override
+    public long getCapacityEvictionCount() {
+        return statistics().getEvictionCount(CacheStatistics.EvictionCause.CAPACITY);
+    }
+
+    @Override
+    public long getExpirationEvictionCount() {
+        return statistics().getEvictionCount(CacheStatistics.EvictionCause.EXPIRATION);
+    }
+
+    @Override
+    public long getExplicitEvictionCount() {
+        return statistics().getEvictionCount(CacheStatistics.EvictionCause.EXPLICIT);
+    }
+
+    @Override
+    public long getEntryCount() {
+        return statistics().getEntryCount();
+    }
+
+    @Override
+    public Map<String, Long> getEntryCountPerContext() {
+        final Map<String, Long> result = new HashMap<>();
+        statistics().getEntryCountPerContext()
+                    .forEach((ctx, count) -> result.put(ctx != null ? ctx.toString() : DEFAULT_CONTEXT_KEY, count));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getEntryCountPerClass() {
+        final Map<String, Long> result = new HashMap<>();
+        statistics().getEntryCountPerClass().forEach((cls, count) -> result.put(cls.getName(), count));
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of second level cache statistics.
+ */
+class CacheStatisticsSnapshot implements CacheStatistics {
+
+    /**
+     * Statistics of a cache which is not in use.
+     */
+    static final CacheStatistics EMPTY =
+            new CacheStatisticsSnapshot(0, 0, 0, 0, new EnumMap<>(EvictionCause.class), 0, Collections.emptyMap(),
+                    Collections.emptyMap());
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long totalLoadTime;
+    private final Map<EvictionCause, Long> evictionCounts;
+    private final long entryCount;
+    private final Map<URI, Long> entryCountPerContext;
+    private final Map<Class<?>, Long> entryCountPerClass;
+
+    CacheStatisticsSnapshot(long hitCount, long missCount, long loadCount, long totalLoadTime,
+                            Map<EvictionCause, Long> evictionCounts, long entryCount,
+                            Map<URI, Long> entryCountPerContext, Map<Class<?>, Long> entryCountPerClass) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCounts = Collections.unmodifiableMap(evictionCounts);
+        this.entryCount = entryCount;
+        this.entryCountPerContext = Collections.unmodifiableMap(entryCountPerContext);
+        this.entryCountPerClass = Collections.unmodifiableMap(entryCountPerClass);
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    @Override
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    @Override
+    public long getEvictionCount(EvictionCause cause) {
+        return evictionCounts.getOrDefault(cause, 0L);
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    @Override
+    public Map<URI, Long> getEntryCountPerContext() {
+        return entryCountPerContext;
+    }
+
+    @Override
+    public Map<Class<?>, Long> getEntryCountPerClass() {
+        return entryCountPerClass;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hits=" + hitCount +
+                ", misses=" + missCount +
+                ", loads=" + loadCount +
+                ", totalLoadTime=" + totalLoadTime +
+                ", evictions=" + evictionCounts +
+                ", entries=" + entryCount +
+                '}';
+    }
+}
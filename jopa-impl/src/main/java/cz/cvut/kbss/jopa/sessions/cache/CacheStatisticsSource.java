@@ -0,0 +1,32 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+
+/**
+ * Cache providing a live view of its statistics.
+ * <p>
+ * Used by {@link CacheStatisticsPublisher}, so that reading a single statistics attribute does not require a snapshot
+ * of the whole cache.
+ */
+interface CacheStatisticsSource {
+
+    /**
+     * Gets a live view of the cache statistics.
+     *
+     * @return Statistics view
+     * @see CacheStatisticsCollector#view(java.util.function.LongSupplier, java.util.function.Consumer, java.net.URI)
+     */
+    CacheStatistics getLiveStatistics();
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+import cz.cvut.kbss.jopa.utils.ErrorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Fixed-size second level cache designed for highly concurrent access.
+ * <p>
+ * The cache is split into segments, each of them holding a part of the records in a concurrent map. Reads do not
+ * acquire any lock, they only mark the entry as recently used. Writes lock only the segment they belong to and only
+ * when the segment capacity is exceeded, in which case an entry of the segment is evicted using the CLOCK (second
+ * chance) algorithm. The eviction policy is thus an approximation of LRU with constant amortized cost.
+ */
+public class ConcurrentCacheManager implements CacheManager, CacheStatisticsSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentCacheManager.class);
+
+    private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
+
+    /**
+     * Default number of segments.
+     */
+    static final int DEFAULT_SEGMENTS = segmentCountFor(Runtime.getRuntime().availableProcessors() * 4);
+
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    private final int capacity;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    private final URI defaultContext;
+
+    private final CacheStatisticsCollector statistics = new CacheStatisticsCollector();
+
+    private volatile Set<Class<?>> inferredClasses;
+
+    ConcurrentCacheManager() {
+        this(Collections.emptyMap());
+    }
+
+    ConcurrentCacheManager(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.capacity = resolveCapacity(properties);
+        final int segmentCount = Math.min(resolveSegmentCount(properties), Integer.highestOneBit(capacity));
+        final int segmentCapacity = (capacity + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity, statistics);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
+    }
+
+    private static int resolveCapacity(Map<String, String> properties) {
+        final String value = properties.containsKey(JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY) ?
+                             properties.get(JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY) :
+                             properties.get(JOPAPersistenceProperties.LRU_CACHE_CAPACITY);
+        return parsePositiveInt(value, LruCacheManager.DEFAULT_CAPACITY, "capacity");
+    }
+
+    private static int resolveSegmentCount(Map<String, String> properties) {
+        final int value = parsePositiveInt(properties.get(JOPAPersistenceProperties.CONCURRENT_CACHE_SEGMENTS),
+                DEFAULT_SEGMENTS, "segment count");
+        return segmentCountFor(value);
+    }
+
+    private static int parsePositiveInt(String value, int defaultValue, String settingName) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int result = Integer.parseInt(value);
+            if (result <= 0) {
+                LOG.warn("Invalid concurrent cache {} value {}. Using default value {}.", settingName, result,
+                        defaultValue);
+                return defaultValue;
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse concurrent cache {} setting. Using default value {}.", settingName,
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static int segmentCountFor(int requested) {
+        final int bounded = Math.min(Math.max(requested, 1), MAX_SEGMENTS);
+        final int count = Integer.highestOneBit(bounded);
+        return count < bounded ? count << 1 : count;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    private Segment segmentFor(LruCache.CacheNode key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    private URI context(URI context) {
+        return context != null ? context : defaultContext;
+    }
+
+    private static boolean isCacheable(Descriptor descriptor) {
+        return descriptor.getContexts().size() <= 1;
+    }
+
+    private Set<URI> contexts(Descriptor descriptor) {
+        return descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+    }
+
+    @Override
+    public void add(Object primaryKey, Object entity, Descriptor descriptor) {
+        Objects.requireNonNull(primaryKey, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+        Objects.requireNonNull(entity, ErrorUtils.getNPXMessageSupplier("entity"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+        if (!isCacheable(descriptor)) {
+            return;
+        }
+
+        final LruCache.CacheNode key =
+                new LruCache.CacheNode(context(descriptor.getSingleContext().orElse(null)), entity.getClass(),
+                        primaryKey);
+        segmentFor(key).put(key, entity, descriptor);
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object primaryKey, Descriptor descriptor) {
+        if (cls == null || primaryKey == null || descriptor == null) {
+            return null;
+        }
+        final CacheEntry entry = statistics.recordLookup(find(cls, primaryKey, descriptor, true));
+        return entry != null ? cls.cast(entry.entity) : null;
+    }
+
+    private CacheEntry find(Class<?> cls, Object identifier, Descriptor descriptor, boolean recordAccess) {
+        for (URI ctx : contexts(descriptor)) {
+            final LruCache.CacheNode key = new LruCache.CacheNode(ctx, cls, identifier);
+            final CacheEntry entry = segmentFor(key).entries.get(key);
+            if (entry != null && entry.descriptor.equals(descriptor)) {
+                if (recordAccess) {
+                    Segment.touch(entry);
+                }
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        return find(cls, identifier, descriptor, false) != null;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+
+        final LruCache.CacheNode key = new LruCache.CacheNode(context(context), cls, identifier);
+        if (segmentFor(key).entries.remove(key) != null) {
+            statistics.recordEviction(CacheStatistics.EvictionCause.EXPLICIT);
+        }
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+        evictMatching(key -> key.getCls().equals(cls));
+    }
+
+    @Override
+    public void evict(URI context) {
+        final URI ctx = context(context);
+        evictMatching(key -> key.getContext().equals(ctx));
+    }
+
+    private void evictMatching(Predicate<LruCache.CacheNode> predicate) {
+        for (Segment segment : segments) {
+            final Iterator<LruCache.CacheNode> it = segment.entries.keySet().iterator();
+            while (it.hasNext()) {
+                if (predicate.test(it.next())) {
+                    it.remove();
+                    statistics.recordEviction(CacheStatistics.EvictionCause.EXPLICIT);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        evictMatching(key -> true);
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        final Set<Class<?>> inferred = inferredClasses;
+        if (inferred != null) {
+            inferred.forEach(this::evict);
+        }
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses;
+    }
+
+    @Override
+    public void close() {
+        // No-op
+    }
+
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statistics.recordLoad(count, loadTime);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot(
+                Arrays.stream(segments).flatMap(s -> s.entries.keySet().stream()).collect(Collectors.toList()),
+                defaultContext);
+    }
+
+    @Override
+    public CacheStatistics getLiveStatistics() {
+        return statistics.view(() -> Arrays.stream(segments).mapToLong(s -> s.entries.size()).sum(),
+                consumer -> Arrays.stream(segments).forEach(s -> s.entries.keySet().forEach(consumer)),
+                defaultContext);
+    }
+
+    /**
+     * Gets a snapshot of the cached entities and their descriptors.
+     * <p>
+     * Intended for testing.
+     */
+    Map<Object, Descriptor> getDescriptors() {
+        final Map<Object, Descriptor> result = new IdentityHashMap<>();
+        for (Segment segment : segments) {
+            segment.entries.values().forEach(e -> result.put(e.entity, e.descriptor));
+        }
+        return result;
+    }
+
+    private static final class CacheEntry {
+        private final LruCache.CacheNode key;
+        private final Object entity;
+        private final Descriptor descriptor;
+        private volatile boolean referenced;
+
+        private CacheEntry(LruCache.CacheNode key, Object entity, Descriptor descriptor) {
+            this.key = key;
+            this.entity = entity;
+            this.descriptor = descriptor;
+        }
+    }
+
+    /**
+     * Segment of the cache using the CLOCK (second chance) eviction policy.
+     * <p>
+     * Entries are kept in a queue in insertion order. When the segment is full, entries are taken from the head of the
+     * queue, an entry accessed since it was last visited is moved to the tail, the first one which was not accessed is
+     * evicted. Entries which were replaced or removed from the segment stay in the queue until they are reached, the
+     * queue is compacted when they outnumber the segment capacity.
+     */
+    private static final class Segment {
+
+        private final int capacity;
+        private final ConcurrentMap<LruCache.CacheNode, CacheEntry> entries = new ConcurrentHashMap<>();
+        private final Queue<CacheEntry> clock = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger clockSize = new AtomicInteger();
+        private final CacheStatisticsCollector statistics;
+
+        private Segment(int capacity, CacheStatisticsCollector statistics) {
+            this.capacity = capacity;
+            this.statistics = statistics;
+        }
+
+        private static void touch(CacheEntry entry) {
+            // Avoid writing the shared flag on every read
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+        }
+
+        private void put(LruCache.CacheNode key, Object entity, Descriptor descriptor) {
+            final CacheEntry entry = new CacheEntry(key, entity, descriptor);
+            entries.put(key, entry);
+            clock.add(entry);
+            final int queued = clockSize.incrementAndGet();
+            if (entries.size() > capacity) {
+                evictOverCapacity();
+            } else if (queued > capacity * 2) {
+                removeStaleEntries();
+            }
+        }
+
+        private synchronized void evictOverCapacity() {
+            while (entries.size() > capacity) {
+                final CacheEntry entry = clock.poll();
+                if (entry == null) {
+                    return;
+                }
+                if (isStale(entry)) {
+                    clockSize.decrementAndGet();
+                } else if (entry.referenced) {
+                    entry.referenced = false;
+                    clock.add(entry);
+                } else {
+                    clockSize.decrementAndGet();
+                    if (entries.remove(entry.key, entry)) {
+                        statistics.recordEviction(CacheStatistics.EvictionCause.CAPACITY);
+                    }
+                }
+            }
+        }
+
+        private synchronized void removeStaleEntries() {
+            if (clockSize.get() <= capacity * 2) {
+                return;
+            }
+            final Iterator<CacheEntry> it = clock.iterator();
+            while (it.hasNext()) {
+                if (isStale(it.next())) {
+                    it.remove();
+                    clockSize.decrementAndGet();
+                }
+            }
+        }
+
+        private boolean isStale(CacheEntry entry) {
+            return entries.get(entry.key) != entry;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
+import cz.cvut.kbss.jopa.utils.ErrorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Second level cache with a separate partition for each repository context.
+ * <p>
+ * Each partition has its own lock, LRU eviction with a fixed capacity and hit/miss/eviction statistics. Operations on
+ * one context therefore do not block access to other contexts and a frequently written context cannot push records of
+ * other contexts out of the cache.
+ */
+public class ContextPartitionedCacheManager implements CacheManager, CacheStatisticsSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContextPartitionedCacheManager.class);
+
+    private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
+
+    /**
+     * Default capacity of a single context partition.
+     */
+    public static final int DEFAULT_CONTEXT_CAPACITY = 512;
+
+    private final int contextCapacity;
+
+    private final ConcurrentMap<URI, Partition> partitions = new ConcurrentHashMap<>();
+
+    private final URI defaultContext;
+
+    private final CacheStatisticsCollector statistics = new CacheStatisticsCollector();
+
+    private volatile Set<Class<?>> inferredClasses;
+
+    ContextPartitionedCacheManager() {
+        this(Collections.emptyMap());
+    }
+
+    ContextPartitionedCacheManager(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.contextCapacity = resolveContextCapacity(properties);
+        this.defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
+    }
+
+    private static int resolveContextCapacity(Map<String, String> properties) {
+        final String value = properties.get(JOPAPersistenceProperties.PARTITIONED_CACHE_CONTEXT_CAPACITY);
+        if (value == null) {
+            return DEFAULT_CONTEXT_CAPACITY;
+        }
+        try {
+            final int capacity = Integer.parseInt(value);
+            if (capacity <= 0) {
+                LOG.warn("Invalid context cache capacity value {}. Using default value.", capacity);
+                return DEFAULT_CONTEXT_CAPACITY;
+            }
+            return capacity;
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse context cache capacity setting. Using default capacity {}.",
+                    DEFAULT_CONTEXT_CAPACITY);
+            return DEFAULT_CONTEXT_CAPACITY;
+        }
+    }
+
+    int getContextCapacity() {
+        return contextCapacity;
+    }
+
+    private URI context(URI context) {
+        return context != null ? context : defaultContext;
+    }
+
+    @Override
+    public void add(Object primaryKey, Object entity, Descriptor descriptor) {
+        Objects.requireNonNull(primaryKey, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+        Objects.requireNonNull(entity, ErrorUtils.getNPXMessageSupplier("entity"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+        if (descriptor.getContexts().size() > 1) {
+            return;
+        }
+
+        final URI ctx = context(descriptor.getSingleContext().orElse(null));
+        final LruCache.CacheNode key = new LruCache.CacheNode(ctx, entity.getClass(), primaryKey);
+        partitions.computeIfAbsent(ctx, c -> new Partition(contextCapacity, statistics))
+                  .put(key, new EntityCache.CacheEntry(key, entity, descriptor));
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object primaryKey, Descriptor descriptor) {
+        if (cls == null || primaryKey == null || descriptor == null) {
+            return null;
+        }
+        return statistics.recordLookup(find(cls, primaryKey, descriptor));
+    }
+
+    private <T> T find(Class<T> cls, Object primaryKey, Descriptor descriptor) {
+        final Set<URI> contexts =
+                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+        for (URI ctx : contexts) {
+            final Partition partition = partitions.get(ctx);
+            if (partition == null) {
+                continue;
+            }
+            final Object result = partition.get(new LruCache.CacheNode(ctx, cls, primaryKey), descriptor);
+            if (result != null) {
+                return cls.cast(result);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The check affects neither the cache statistics nor the eviction order of the cached records.
+     */
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        final Set<URI> contexts =
+                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+        for (URI ctx : contexts) {
+            final Partition partition = partitions.get(ctx);
+            if (partition != null && partition.contains(new LruCache.CacheNode(ctx, cls, identifier), descriptor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+
+        final URI ctx = context(context);
+        final Partition partition = partitions.get(ctx);
+        if (partition != null) {
+            partition.remove(new LruCache.CacheNode(ctx, cls, identifier));
+        }
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+        partitions.values().forEach(p -> p.removeAll(cls));
+    }
+
+    @Override
+    public void evict(URI context) {
+        final Partition partition = partitions.get(context(context));
+        if (partition != null) {
+            partition.clear();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        partitions.values().forEach(Partition::clear);
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        final Set<Class<?>> inferred = inferredClasses;
+        if (inferred != null) {
+            inferred.forEach(this::evict);
+        }
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses;
+    }
+
+    @Override
+    public void close() {
+        // No-op
+    }
+
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statistics.recordLoad(count, loadTime);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        final List<LruCache.CacheNode> keys = new ArrayList<>();
+        partitions.values().forEach(p -> p.forEachKey(keys::add));
+        return statistics.snapshot(keys, defaultContext);
+    }
+
+    @Override
+    public CacheStatistics getLiveStatistics() {
+        return statistics.view(() -> partitions.values().stream().mapToLong(Partition::size).sum(),
+                consumer -> partitions.values().forEach(p -> p.forEachKey(consumer)), defaultContext);
+    }
+
+    /**
+     * Gets statistics of the individual context partitions.
+     * <p>
+     * The default context is represented by {@code null} key.
+     *
+     * @return Map of context identifiers to their cache statistics
+     */
+    public Map<URI, ContextCacheStatistics> getContextStatistics() {
+        final Map<URI, ContextCacheStatistics> result = new HashMap<>(partitions.size());
+        partitions.forEach((ctx, p) -> result.put(defaultContext.equals(ctx) ? null : ctx, p.contextStatistics()));
+        return result;
+    }
+
+    /**
+     * Gets a snapshot of the cached entities and their descriptors.
+     * <p>
+     * Intended for testing.
+     */
+    Map<Object, Descriptor> getDescriptors() {
+        final Map<Object, Descriptor> result = new IdentityHashMap<>();
+        partitions.values().forEach(p -> p.forEach(e -> result.put(e.entity, e.descriptor)));
+        return result;
+    }
+
+    private static final class Partition {
+
+        private final Lock lock = new ReentrantLock();
+        private final LinkedHashMap<LruCache.CacheNode, EntityCache.CacheEntry> entries;
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final CacheStatisticsCollector statistics;
+
+        private Partition(int capacity, CacheStatisticsCollector statistics) {
+            this.statistics = statistics;
+            // Insertion order, hit records are moved to the tail explicitly, so that lookups by contains keep the order
+            this.entries = new LinkedHashMap<LruCache.CacheNode, EntityCache.CacheEntry>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LruCache.CacheNode, EntityCache.CacheEntry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        statistics.recordEviction(CacheStatistics.EvictionCause.CAPACITY);
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private void put(LruCache.CacheNode key, EntityCache.CacheEntry entry) {
+            lock.lock();
+            try {
+                entries.put(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Object get(LruCache.CacheNode key, Descriptor descriptor) {
+            final EntityCache.CacheEntry entry;
+            lock.lock();
+            try {
+                entry = entries.get(key);
+                if (entry != null && entry.descriptor.equals(descriptor)) {
+                    // Hit record becomes the most recently used one
+                    entries.remove(key);
+                    entries.put(key, entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (entry != null && entry.descriptor.equals(descriptor)) {
+                hits.increment();
+                return entry.entity;
+            }
+            misses.increment();
+            return null;
+        }
+
+        private boolean contains(LruCache.CacheNode key, Descriptor descriptor) {
+            lock.lock();
+            try {
+                final EntityCache.CacheEntry entry = entries.get(key);
+                return entry != null && entry.descriptor.equals(descriptor);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(LruCache.CacheNode key) {
+            lock.lock();
+            try {
+                if (entries.remove(key) != null) {
+                    statistics.recordEviction(CacheStatistics.EvictionCause.EXPLICIT);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void removeAll(Class<?> cls) {
+            lock.lock();
+            try {
+                final int size = entries.size();
+                entries.keySet().removeIf(k -> k.getCls().equals(cls));
+                statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, size - entries.size());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, entries.size());
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void forEach(Consumer<EntityCache.CacheEntry> consumer) {
+            lock.lock();
+            try {
+                entries.values().forEach(consumer);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void forEachKey(Consumer<LruCache.CacheNode> consumer) {
+            lock.lock();
+            try {
+                entries.keySet().forEach(consumer);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ContextCacheStatistics contextStatistics() {
+            return new ContextCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size());
+        }
+    }
+}
@@ -16,6 +16,7 @@ package cz.cvut.kbss.jopa.sessions.cache;
 
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 
 import java.net.URI;
 import java.util.Set;
@@ -71,4 +72,14 @@ public class DisabledCacheManager implements CacheManager {
     public void evictAll() {
         // Do nothing
     }
+
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        // Do nothing
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return CacheStatisticsSnapshot.EMPTY;
+    }
 }
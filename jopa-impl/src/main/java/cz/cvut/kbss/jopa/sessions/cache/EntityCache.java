@@ -20,20 +20,33 @@ import java.net.URI;
 import java.util.*;
 import java.util.function.Consumer;
 
+/**
+ * Entity storage of the second level cache.
+ * <p>
+ * Records are kept in a map keyed by (context, class, identifier). Lookups use an index of records by identifier
+ * instead, so that they do not need to build a key and require exactly one map access regardless of the number of
+ * searched contexts. Each record carries the descriptor with which the entity was cached.
+ */
 class EntityCache {
 
     // TODO Think about locking on context level, so that the whole cache doesn't have to be locked when being accessed
 
     private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
 
-    final Map<URI, Map<Object, Map<Class<?>, Object>>> repoCache;
-    final Map<Object, Descriptor> descriptors;
+    final Map<LruCache.CacheNode, CacheEntry> entries;
+    // Index of keys by context, used for efficient eviction of whole contexts
+    final Map<URI, Set<LruCache.CacheNode>> contextKeys;
+    // Records chained by identifier, a record of each (context, class) with the identifier
+    private final Map<Object, CacheEntry> identifierIndex = new HashMap<>();
     final URI defaultContext;
 
     EntityCache() {
-        repoCache = new HashMap<>();
-        this.descriptors =
-                new IdentityHashMap<>(); // Need to use identity to cope with entities overriding equals/hashcode
+        this(new HashMap<>());
+    }
+
+    EntityCache(Map<LruCache.CacheNode, CacheEntry> entries) {
+        this.entries = entries;
+        this.contextKeys = new HashMap<>();
         this.defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
     }
 
@@ -42,28 +55,34 @@ class EntityCache {
         assert entity != null;
         assert isCacheable(descriptor);
 
-        final Class<?> cls = entity.getClass();
         final URI ctx = descriptor.getSingleContext().orElse(defaultContext);
+        final LruCache.CacheNode key = new LruCache.CacheNode(ctx, entity.getClass(), identifier);
+        contextKeys.computeIfAbsent(ctx, c -> new HashSet<>()).add(key);
+        final CacheEntry entry = new CacheEntry(key, entity, descriptor);
+        final CacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            unlink(previous);
+        }
+        entry.next = identifierIndex.put(identifier, entry);
+    }
 
-        Map<Object, Map<Class<?>, Object>> ctxMap;
-        if (!repoCache.containsKey(ctx)) {
-            ctxMap = new HashMap<>();
-            repoCache.put(ctx, ctxMap);
-        } else {
-            ctxMap = repoCache.get(ctx);
+    private void unlink(CacheEntry entry) {
+        final Object identifier = entry.key.getIdentifier();
+        CacheEntry head = identifierIndex.get(identifier);
+        if (head == entry) {
+            if (entry.next != null) {
+                identifierIndex.put(identifier, entry.next);
+            } else {
+                identifierIndex.remove(identifier);
+            }
+            return;
         }
-        Map<Class<?>, Object> individualMap;
-        if (!ctxMap.containsKey(identifier)) {
-            individualMap = new HashMap<>();
-            ctxMap.put(identifier, individualMap);
-        } else {
-            individualMap = ctxMap.get(identifier);
+        while (head != null && head.next != entry) {
+            head = head.next;
         }
-        if (individualMap.containsKey(cls)) {
-            descriptors.remove(individualMap.get(cls));
+        if (head != null) {
+            head.next = entry.next;
         }
-        individualMap.put(cls, entity);
-        descriptors.put(entity, descriptor);
     }
 
     boolean isCacheable(Descriptor descriptor) {
@@ -71,91 +90,165 @@ class EntityCache {
     }
 
     <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
-        return getInternal(cls, identifier, descriptor, u -> {});
+        return getInternal(cls, identifier, descriptor, e -> {});
     }
 
-    <T> T getInternal(Class<T> cls, Object identifier, Descriptor descriptor, Consumer<URI> contextHandler) {
+    <T> T getInternal(Class<T> cls, Object identifier, Descriptor descriptor, Consumer<CacheEntry> accessHandler) {
         assert cls != null;
         assert identifier != null;
 
-        final Set<URI> contexts =
-                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
-        for (URI ctx : contexts) {
-            final Map<Class<?>, Object> m = getMapForId(ctx, identifier);
-            final Object result = m.get(cls);
-            if (result != null && descriptors.get(result).equals(descriptor)) {
-                contextHandler.accept(ctx);
-                return cls.cast(result);
+        final CacheEntry records = identifierIndex.get(identifier);
+        if (records == null) {
+            return null;
+        }
+        if (descriptor.getContexts().isEmpty()) {
+            return find(records, cls, defaultContext, descriptor, accessHandler);
+        }
+        for (URI ctx : descriptor.getContexts()) {
+            final T result = find(records, cls, ctx, descriptor, accessHandler);
+            if (result != null) {
+                return result;
             }
         }
         return null;
     }
 
+    private <T> T find(CacheEntry records, Class<T> cls, URI context, Descriptor descriptor,
+                       Consumer<CacheEntry> accessHandler) {
+        if (!isAccessible(context)) {
+            return null;
+        }
+        for (CacheEntry entry = records; entry != null; entry = entry.next) {
+            if (entry.key.getCls().equals(cls) && entry.key.getContext().equals(context)) {
+                if (!entry.descriptor.equals(descriptor)) {
+                    return null;
+                }
+                accessHandler.accept(entry);
+                return cls.cast(entry.entity);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether records in the specified context can be returned by lookups.
+     *
+     * @param context Context identifier
+     * @return {@code true} by default, subclasses may restrict access e.g., to expired contexts
+     */
+    boolean isAccessible(URI context) {
+        return true;
+    }
+
     boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
         assert cls != null;
         assert identifier != null;
         assert descriptor != null;
 
-        final Set<URI> contexts =
-                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
-        for (URI ctx : contexts) {
-            final Map<Class<?>, Object> m = getMapForId(ctx, identifier);
-            if (!m.containsKey(cls)) {
-                continue;
-            }
-            final Object result = m.get(cls);
-            assert descriptors.containsKey(result);
-
-            if (descriptors.get(result).equals(descriptor)) {
-                return true;
-            }
-        }
-        return false;
+        return getInternal(cls, identifier, descriptor, e -> {}) != null;
     }
 
-    void evict(Class<?> cls, Object identifier, URI context) {
+    /**
+     * Removes the specified record.
+     *
+     * @return Number of removed records
+     */
+    int evict(Class<?> cls, Object identifier, URI context) {
         assert cls != null;
         assert identifier != null;
 
-        final Map<Class<?>, Object> m = getMapForId(context, identifier);
-        if (m.containsKey(cls)) {
-            descriptors.remove(m.get(cls));
+        final URI ctx = context != null ? context : defaultContext;
+        final LruCache.CacheNode key = new LruCache.CacheNode(ctx, cls, identifier);
+        final CacheEntry removed = entries.remove(key);
+        if (removed == null) {
+            return 0;
         }
-        m.remove(cls);
+        unlink(removed);
+        removeFromContextIndex(key);
+        return 1;
     }
 
-    void evict(URI context) {
-        if (context == null) {
-            context = defaultContext;
-        }
-        if (!repoCache.containsKey(context)) {
-            return;
+    /**
+     * Removes the specified record, which has already been removed from the entry map, from the indexes.
+     *
+     * @param entry Removed record
+     */
+    void removeFromIndexes(CacheEntry entry) {
+        unlink(entry);
+        removeFromContextIndex(entry.key);
+    }
+
+    void removeFromContextIndex(LruCache.CacheNode key) {
+        final Set<LruCache.CacheNode> keys = contextKeys.get(key.getContext());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                contextKeys.remove(key.getContext());
+            }
         }
-        final Map<Object, Map<Class<?>, Object>> contextCache = repoCache.remove(context);
-        contextCache.values().forEach(instances -> instances.values().forEach(descriptors::remove));
     }
 
-    void evict(Class<?> cls) {
-        for (Map.Entry<URI, Map<Object, Map<Class<?>, Object>>> e : repoCache.entrySet()) {
-            final Map<Object, Map<Class<?>, Object>> m = e.getValue();
-            m.forEach((key, value) -> {
-                if (value.containsKey(cls)) {
-                    descriptors.remove(value.get(cls));
-                    value.remove(cls);
+    /**
+     * Removes all records in the specified context.
+     *
+     * @return Number of removed records
+     */
+    int evict(URI context) {
+        if (context == null) {
+            context = defaultContext;
+        }
+        final Set<LruCache.CacheNode> keys = contextKeys.remove(context);
+        if (keys != null) {
+            keys.forEach(k -> {
+                final CacheEntry removed = entries.remove(k);
+                if (removed != null) {
+                    unlink(removed);
                 }
             });
+            return keys.size();
         }
+        return 0;
     }
 
-    private Map<Class<?>, Object> getMapForId(URI context, Object identifier) {
-        assert identifier != null;
+    /**
+     * Removes all records of the specified class.
+     *
+     * @return Number of removed records
+     */
+    int evict(Class<?> cls) {
+        int count = 0;
+        final Iterator<CacheEntry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            final CacheEntry entry = it.next();
+            if (entry.key.getCls().equals(cls)) {
+                it.remove();
+                removeFromIndexes(entry);
+                count++;
+            }
+        }
+        return count;
+    }
 
-        final URI ctx = context != null ? context : defaultContext;
+    int size() {
+        return entries.size();
+    }
 
-        if (!repoCache.containsKey(ctx)) {
-            return Collections.emptyMap();
+    /**
+     * Cached entity together with the descriptor it was cached with.
+     */
+    static final class CacheEntry {
+        final LruCache.CacheNode key;
+        final Object entity;
+        final Descriptor descriptor;
+        // Next record with the same identifier
+        CacheEntry next;
+        // Access bit of the CLOCK eviction policy, see LruCache
+        volatile boolean referenced;
+
+        CacheEntry(LruCache.CacheNode key, Object entity, Descriptor descriptor) {
+            this.key = key;
+            this.entity = entity;
+            this.descriptor = descriptor;
         }
-        final Map<Object, Map<Class<?>, Object>> ctxMap = repoCache.get(ctx);
-        return ctxMap.getOrDefault(identifier, Collections.emptyMap());
     }
 }
@@ -19,24 +19,69 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
-class LruCache extends LinkedHashMap<LruCache.CacheNode, Object> {
+/**
+ * Map of cache records approximating least recently used order, using the CLOCK (second chance) eviction policy.
+ * <p>
+ * The map is kept in insertion order. Lookups only set the access bit of the record they return (see {@link
+ * #recordAccess(EntityCache.CacheEntry)}), so that they do not modify the map and can run concurrently under a shared
+ * lock. When the capacity is reached, records are taken from the head of the map, a record accessed since it was last
+ * visited is moved to the tail, the first one which was not accessed is evicted.
+ */
+class LruCache extends LinkedHashMap<LruCache.CacheNode, EntityCache.CacheEntry> {
 
     private final int capacity;
-    private final transient Consumer<CacheNode> removeCallback;
+    private transient Consumer<EntityCache.CacheEntry> removeCallback;
+
+    LruCache(int initialCapacity) {
+        this(initialCapacity, entry -> {});
+    }
 
-    LruCache(int initialCapacity, Consumer<CacheNode> removeCallback) {
-        super(initialCapacity, 1.0f, true);
+    LruCache(int initialCapacity, Consumer<EntityCache.CacheEntry> removeCallback) {
+        super(initialCapacity, 1.0f, false);
         this.capacity = initialCapacity;
         this.removeCallback = removeCallback;
     }
 
+    void setRemoveCallback(Consumer<EntityCache.CacheEntry> removeCallback) {
+        this.removeCallback = removeCallback;
+    }
+
     @Override
-    protected boolean removeEldestEntry(Map.Entry<CacheNode, Object> eldest) {
-        if (this.size() >= capacity) {
-            removeCallback.accept(eldest.getKey());
-            return true;
+    public EntityCache.CacheEntry put(CacheNode key, EntityCache.CacheEntry value) {
+        // Replaced record becomes the most recently used one
+        final EntityCache.CacheEntry previous = remove(key);
+        if (previous == null) {
+            makeRoom();
+        }
+        super.put(key, value);
+        return previous;
+    }
+
+    private void makeRoom() {
+        while (!isEmpty() && size() + 1 >= capacity) {
+            final Map.Entry<CacheNode, EntityCache.CacheEntry> eldest = entrySet().iterator().next();
+            final EntityCache.CacheEntry entry = eldest.getValue();
+            remove(eldest.getKey());
+            if (entry.referenced) {
+                entry.referenced = false;
+                super.put(eldest.getKey(), entry);
+            } else {
+                removeCallback.accept(entry);
+            }
+        }
+    }
+
+    /**
+     * Records access to the specified record, giving it a second chance when it is about to be evicted.
+     * <p>
+     * Only the access bit of the record is set, so this may be called under a shared lock.
+     *
+     * @param entry Accessed record
+     */
+    static void recordAccess(EntityCache.CacheEntry entry) {
+        if (!entry.referenced) {
+            entry.referenced = true;
         }
-        return false;
     }
 
 
@@ -15,6 +15,7 @@ package cz.cvut.kbss.jopa.sessions.cache;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,9 +33,11 @@ import java.util.function.Consumer;
 /**
  * This is a fixed-size second level cache implementation with LRU eviction policy.
  * <p>
- * When the capacity is reached, the least recently used entry is removed from the cache.
+ * When the capacity is reached, an entry which has not been used recently is removed from the cache. The least
+ * recently used order is approximated by the CLOCK policy (see {@link LruCache}), so that lookups can share the read
+ * lock.
  */
-public class LruCacheManager implements CacheManager {
+public class LruCacheManager implements CacheManager, CacheStatisticsSource {
 
     private static final Logger LOG = LoggerFactory.getLogger(LruCacheManager.class);
 
@@ -50,6 +53,8 @@ public class LruCacheManager implements CacheManager {
 
     private LruEntityCache entityCache;
 
+    private final CacheStatisticsCollector statistics = new CacheStatisticsCollector();
+
     private Set<Class<?>> inferredClasses;
 
     LruCacheManager() {
@@ -63,7 +68,7 @@ public class LruCacheManager implements CacheManager {
         final ReadWriteLock rwLock = new ReentrantReadWriteLock();
         this.readLock = rwLock.readLock();
         this.writeLock = rwLock.writeLock();
-        this.entityCache = new LruEntityCache(capacity);
+        this.entityCache = new LruEntityCache(capacity, statistics);
     }
 
     private static int resolveCapacitySetting(Map<String, String> properties) {
@@ -105,7 +110,7 @@ public class LruCacheManager implements CacheManager {
         }
         readLock.lock();
         try {
-            return entityCache.get(cls, primaryKey, descriptor);
+            return statistics.recordLookup(entityCache.get(cls, primaryKey, descriptor));
         } finally {
             readLock.unlock();
         }
@@ -158,7 +163,8 @@ public class LruCacheManager implements CacheManager {
 
         writeLock.lock();
         try {
-            entityCache.evict(cls, identifier, context);
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT,
+                    entityCache.evict(cls, identifier, context));
         } finally {
             writeLock.unlock();
         }
@@ -170,7 +176,7 @@ public class LruCacheManager implements CacheManager {
 
         writeLock.lock();
         try {
-            entityCache.evict(cls);
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, entityCache.evict(cls));
         } finally {
             writeLock.unlock();
         }
@@ -180,7 +186,7 @@ public class LruCacheManager implements CacheManager {
     public void evict(URI context) {
         writeLock.lock();
         try {
-            entityCache.evict(context);
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, entityCache.evict(context));
         } finally {
             writeLock.unlock();
         }
@@ -190,78 +196,80 @@ public class LruCacheManager implements CacheManager {
     public void evictAll() {
         writeLock.lock();
         try {
-            this.entityCache = new LruEntityCache(capacity);
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, entityCache.size());
+            this.entityCache = new LruEntityCache(capacity, statistics);
         } finally {
             writeLock.unlock();
         }
     }
 
-    static final class LruEntityCache extends EntityCache implements Consumer<LruCache.CacheNode> {
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statistics.recordLoad(count, loadTime);
+    }
 
-        private static final Object NULL_VALUE = null;
+    @Override
+    public CacheStatistics getStatistics() {
+        readLock.lock();
+        try {
+            return statistics.snapshot(entityCache.entries.keySet(), entityCache.defaultContext);
+        } finally {
+            readLock.unlock();
+        }
+    }
 
-        private final LruCache cache;
+    @Override
+    public CacheStatistics getLiveStatistics() {
+        return statistics.view(this::entryCount, this::forEachKey, entityCache.defaultContext);
+    }
 
-        LruEntityCache(int capacity) {
-            this.cache = new LruCache(capacity, this);
+    private long entryCount() {
+        readLock.lock();
+        try {
+            return entityCache.entries.size();
+        } finally {
+            readLock.unlock();
         }
+    }
 
-        @Override
-        public void accept(LruCache.CacheNode cacheNode) {
-            super.evict(cacheNode.getCls(), cacheNode.getIdentifier(), cacheNode.getContext());
+    private void forEachKey(Consumer<LruCache.CacheNode> consumer) {
+        readLock.lock();
+        try {
+            entityCache.entries.keySet().forEach(consumer);
+        } finally {
+            readLock.unlock();
         }
+    }
 
-        @Override
-        void put(Object identifier, Object entity, Descriptor descriptor) {
-            if (!isCacheable(descriptor)) {
-                return;
-            }
-            final URI ctx = descriptor.getSingleContext().orElse(defaultContext);
-            super.put(identifier, entity, descriptor);
-            cache.put(new LruCache.CacheNode(ctx, entity.getClass(), identifier), NULL_VALUE);
-        }
+    static final class LruEntityCache extends EntityCache implements Consumer<EntityCache.CacheEntry> {
 
-        @Override
-        <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
-            return getInternal(cls, identifier, descriptor,
-                    ctx -> cache.get(new LruCache.CacheNode(ctx, cls, identifier)));
+        private final LruCache cache;
+        private final CacheStatisticsCollector statistics;
+
+        LruEntityCache(int capacity, CacheStatisticsCollector statistics) {
+            super(new LruCache(capacity));
+            this.cache = (LruCache) entries;
+            this.statistics = statistics;
+            cache.setRemoveCallback(this);
         }
 
         @Override
-        void evict(Class<?> cls, Object identifier, URI context) {
-            final URI ctx = context != null ? context : defaultContext;
-            super.evict(cls, identifier, ctx);
-            cache.remove(new LruCache.CacheNode(ctx, cls, identifier));
+        public void accept(EntityCache.CacheEntry entry) {
+            removeFromIndexes(entry);
+            statistics.recordEviction(CacheStatistics.EvictionCause.CAPACITY);
         }
 
         @Override
-        void evict(URI context) {
-            final URI ctx = context != null ? context : defaultContext;
-            if (!repoCache.containsKey(ctx)) {
+        void put(Object identifier, Object entity, Descriptor descriptor) {
+            if (!isCacheable(descriptor)) {
                 return;
             }
-            final Map<Object, Map<Class<?>, Object>> ctxContent = repoCache.get(ctx);
-            for (Map.Entry<Object, Map<Class<?>, Object>> e : ctxContent.entrySet()) {
-                e.getValue().forEach((cls, instance) -> {
-                    descriptors.remove(instance);
-                    cache.remove(new LruCache.CacheNode(ctx, cls, e.getKey()));
-                });
-            }
-            ctxContent.clear();
+            super.put(identifier, entity, descriptor);
         }
 
         @Override
-        void evict(Class<?> cls) {
-            for (Map.Entry<URI, Map<Object, Map<Class<?>, Object>>> e : repoCache.entrySet()) {
-                final URI ctx = e.getKey();
-                e.getValue().forEach((id, indNode) -> {
-                    final Object instance = indNode.remove(cls);
-                    if (instance != null) {
-                        descriptors.remove(instance);
-                    }
-                    cache.remove(new LruCache.CacheNode(ctx, cls, id));
-                });
-            }
+        <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+            return getInternal(cls, identifier, descriptor, LruCache::recordAccess);
         }
     }
 }
@@ -17,19 +17,21 @@ package cz.cvut.kbss.jopa.sessions.cache;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * Manages the second level cache shared by all persistence contexts.
@@ -37,10 +39,13 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * This implementation of CacheManager uses cache-wide locking, i. e. the whole cache is locked when an entity is being
  * put in it, no matter that only one context is affected by the change.
  * <p>
- * This cache is swept regularly by a dedicated thread, which removes all entries whose time-to-live (TTL) has
- * expired.
+ * Time-to-live (TTL) is tracked per repository context and refreshed whenever the context is accessed. Expired
+ * contexts are invisible to lookups immediately. Their records are removed lazily, either when a new record is added
+ * into the context, or by a regularly running sweeper. The sweeper keeps contexts ordered by expiration time, so it
+ * visits only the expired ones instead of scanning the whole cache. Duration of the sweeper pauses is available via
+ * {@link #getLastSweepPauseNanos()} and {@link #getMaxSweepPauseNanos()}.
  */
-public class TtlCacheManager implements CacheManager {
+public class TtlCacheManager implements CacheManager, CacheStatisticsSource {
 
     private static final Logger LOG = LoggerFactory.getLogger(TtlCacheManager.class);
 
@@ -59,6 +64,8 @@ public class TtlCacheManager implements CacheManager {
 
     private TtlCache cache;
 
+    private final CacheStatisticsCollector statistics = new CacheStatisticsCollector();
+
     // Each repository can have its own lock and they could be acquired by this
     // instance itself, no need to pass this burden to callers
     private final Lock readLock;
@@ -69,11 +76,14 @@ public class TtlCacheManager implements CacheManager {
     private long initDelay;
     private long sweepRate;
     private long timeToLive;
-    private volatile boolean sweepRunning;
+
+    private volatile long sweepCount;
+    private volatile long lastSweepPause;
+    private volatile long maxSweepPause;
 
     public TtlCacheManager(Map<String, String> properties) {
-        this.cache = new TtlCache();
         initSettings(properties);
+        this.cache = new TtlCache(timeToLive, statistics);
         final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
         this.readLock = lock.readLock();
         this.writeLock = lock.writeLock();
@@ -141,7 +151,8 @@ public class TtlCacheManager implements CacheManager {
     private void releaseCache() {
         acquireWriteLock();
         try {
-            this.cache = new TtlCache();
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, cache.size());
+            this.cache = new TtlCache(timeToLive, statistics);
         } finally {
             releaseWriteLock();
         }
@@ -151,7 +162,8 @@ public class TtlCacheManager implements CacheManager {
     public void evictInferredObjects() {
         acquireWriteLock();
         try {
-            getInferredClasses().forEach(cache::evict);
+            getInferredClasses().forEach(
+                    cls -> statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, cache.evict(cls)));
         } finally {
             releaseWriteLock();
         }
@@ -164,7 +176,7 @@ public class TtlCacheManager implements CacheManager {
         }
         acquireReadLock();
         try {
-            return cache.get(cls, primaryKey, descriptor);
+            return statistics.recordLookup(cache.get(cls, primaryKey, descriptor));
         } finally {
             releaseReadLock();
         }
@@ -216,7 +228,7 @@ public class TtlCacheManager implements CacheManager {
 
         acquireWriteLock();
         try {
-            cache.evict(cls);
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, cache.evict(cls));
         } finally {
             releaseWriteLock();
         }
@@ -229,18 +241,18 @@ public class TtlCacheManager implements CacheManager {
 
         acquireWriteLock();
         try {
-            cache.evict(cls, identifier, context);
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT,
+                    cache.evict(cls, identifier, context));
         } finally {
             releaseWriteLock();
         }
-
     }
 
     @Override
     public void evict(URI context) {
         acquireWriteLock();
         try {
-            cache.evict(context);
+            statistics.recordEvictions(CacheStatistics.EvictionCause.EXPLICIT, cache.evict(context));
         } finally {
             releaseWriteLock();
         }
@@ -251,6 +263,44 @@ public class TtlCacheManager implements CacheManager {
         releaseCache();
     }
 
+    @Override
+    public void recordLoad(int count, long loadTime) {
+        statistics.recordLoad(count, loadTime);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        acquireReadLock();
+        try {
+            return statistics.snapshot(cache.entries.keySet(), cache.defaultContext);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public CacheStatistics getLiveStatistics() {
+        return statistics.view(this::entryCount, this::forEachKey, cache.defaultContext);
+    }
+
+    private long entryCount() {
+        acquireReadLock();
+        try {
+            return cache.entries.size();
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    private void forEachKey(Consumer<LruCache.CacheNode> consumer) {
+        acquireReadLock();
+        try {
+            cache.entries.keySet().forEach(consumer);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
     private void acquireReadLock() {
         readLock.lock();
     }
@@ -267,6 +317,51 @@ public class TtlCacheManager implements CacheManager {
         writeLock.unlock();
     }
 
+    /**
+     * Gets the number of sweeps executed so far.
+     *
+     * @return Sweep count
+     */
+    public long getSweepCount() {
+        return sweepCount;
+    }
+
+    /**
+     * Gets the duration for which the last sweep blocked access to the cache.
+     *
+     * @return Pause in nanoseconds, {@code 0} if no sweep has run yet
+     */
+    public long getLastSweepPauseNanos() {
+        return lastSweepPause;
+    }
+
+    /**
+     * Gets the longest duration for which a sweep blocked access to the cache.
+     *
+     * @return Pause in nanoseconds, {@code 0} if no sweep has run yet
+     */
+    public long getMaxSweepPauseNanos() {
+        return maxSweepPause;
+    }
+
+    /**
+     * Removes records of contexts whose time to live has expired.
+     */
+    void sweep() {
+        LOG.trace("Running cache sweep.");
+        final long start = System.nanoTime();
+        acquireWriteLock();
+        try {
+            cache.evictExpired(System.currentTimeMillis());
+        } finally {
+            releaseWriteLock();
+            final long pause = System.nanoTime() - start;
+            this.lastSweepPause = pause;
+            this.maxSweepPause = Math.max(maxSweepPause, pause);
+            this.sweepCount++;
+        }
+    }
+
     /**
      * Sweeps the second level cache and removes entities with no more time to live.
      */
@@ -274,44 +369,44 @@ public class TtlCacheManager implements CacheManager {
 
         @Override
         public void run() {
-            LOG.trace("Running cache sweep.");
-            TtlCacheManager.this.acquireWriteLock();
-            try {
-                if (TtlCacheManager.this.sweepRunning) {
-                    return;
-                }
-                TtlCacheManager.this.sweepRunning = true;
-                final long currentTime = System.currentTimeMillis();
-                final List<URI> toEvict = new ArrayList<>();
-                // Mark the objects for eviction (can't evict them now, it would
-                // cause ConcurrentModificationException)
-                for (Entry<URI, Long> e : cache.ttl.entrySet()) {
-                    final long lm = e.getValue();
-                    if (lm + TtlCacheManager.this.timeToLive < currentTime) {
-                        toEvict.add(e.getKey());
-                    }
-                }
-                // Evict them
-                toEvict.forEach(TtlCacheManager.this::evict);
-            } finally {
-                TtlCacheManager.this.sweepRunning = false;
-                TtlCacheManager.this.releaseWriteLock();
-            }
+            TtlCacheManager.this.sweep();
         }
     }
 
     private static final class TtlCache extends EntityCache {
 
-        private final Map<URI, Long> ttl = new HashMap<>();
+        private final long timeToLive;
+        private final CacheStatisticsCollector statistics;
+
+        // Time of last access to contexts. Updated also by lookups, which run concurrently under the read lock
+        private final Map<URI, Long> lastAccess = new ConcurrentHashMap<>();
+        // Contexts ordered by the time they may expire at the earliest. Each context is scheduled at most once
+        private final PriorityQueue<Expiration> expirations = new PriorityQueue<>();
+        // Contexts which have an expiration scheduled. Kept after eviction of a context, so that adding records into
+        // it again does not schedule a duplicate expiration
+        private final Set<URI> scheduled = new HashSet<>();
+
+        private TtlCache(long timeToLive, CacheStatisticsCollector statistics) {
+            this.timeToLive = timeToLive;
+            this.statistics = statistics;
+        }
 
         @Override
         void put(Object identifier, Object entity, Descriptor descriptor) {
             if (!isCacheable(descriptor)) {
                 return;
             }
-            super.put(identifier, entity, descriptor);
             final URI ctx = descriptor.getSingleContext().orElse(defaultContext);
-            updateTimeToLive(ctx);
+            final long now = System.currentTimeMillis();
+            if (isExpired(ctx, now)) {
+                // Do not let the new record revive expired records of the context
+                statistics.recordEvictions(CacheStatistics.EvictionCause.EXPIRATION, evict(ctx));
+            }
+            super.put(identifier, entity, descriptor);
+            lastAccess.put(ctx, now);
+            if (scheduled.add(ctx)) {
+                expirations.add(new Expiration(ctx, now + timeToLive));
+            }
         }
 
         @Override
@@ -322,33 +417,77 @@ public class TtlCacheManager implements CacheManager {
             return getInternal(cls, identifier, descriptor, this::updateTimeToLive);
         }
 
-        private void updateTimeToLive(URI context) {
-            assert context != null;
+        private void updateTimeToLive(EntityCache.CacheEntry entry) {
+            lastAccess.replace(entry.key.getContext(), System.currentTimeMillis());
+        }
+
+        @Override
+        boolean isAccessible(URI context) {
+            return !isExpired(context, System.currentTimeMillis());
+        }
 
-            ttl.put(context, System.currentTimeMillis());
+        private boolean isExpired(URI context, long now) {
+            final Long accessed = lastAccess.get(context);
+            return accessed != null && accessed + timeToLive < now;
         }
 
         @Override
-        void evict(URI context) {
+        int evict(URI context) {
             final URI ctx = context != null ? context : defaultContext;
-            super.evict(ctx);
-            ttl.remove(context);
+            final int count = super.evict(ctx);
+            lastAccess.remove(ctx);
+            return count;
         }
 
         @Override
-        void evict(Class<?> cls) {
-            for (Entry<URI, Map<Object, Map<Class<?>, Object>>> e : repoCache.entrySet()) {
-                final Map<Object, Map<Class<?>, Object>> m = e.getValue();
-                for (Entry<Object, Map<Class<?>, Object>> indNode : m.entrySet()) {
-                    final Object instance = indNode.getValue().remove(cls);
-                    if (instance != null) {
-                        descriptors.remove(instance);
-                    }
+        void removeFromContextIndex(LruCache.CacheNode key) {
+            super.removeFromContextIndex(key);
+            if (!contextKeys.containsKey(key.getContext())) {
+                lastAccess.remove(key.getContext());
+            }
+        }
+
+        /**
+         * Evicts expired contexts.
+         * <p>
+         * Only contexts whose recorded expiration time has passed are visited. Contexts accessed since their
+         * expiration was recorded are rescheduled, expirations of contexts which have already been evicted are
+         * dropped.
+         *
+         * @param now Current time in millis
+         */
+        private void evictExpired(long now) {
+            Expiration head;
+            while ((head = expirations.peek()) != null && head.time < now) {
+                expirations.poll();
+                final Long accessed = lastAccess.get(head.context);
+                if (accessed == null) {
+                    // Already evicted
+                    scheduled.remove(head.context);
+                    continue;
                 }
-                if (m.isEmpty()) {
-                    ttl.remove(e.getKey());
+                if (accessed + timeToLive < now) {
+                    statistics.recordEvictions(CacheStatistics.EvictionCause.EXPIRATION, evict(head.context));
+                    scheduled.remove(head.context);
+                } else {
+                    expirations.add(new Expiration(head.context, accessed + timeToLive));
                 }
             }
         }
     }
+
+    private static final class Expiration implements Comparable<Expiration> {
+        private final URI context;
+        private final long time;
+
+        private Expiration(URI context, long time) {
+            this.context = context;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(Expiration o) {
+            return Long.compare(time, o.time);
+        }
+    }
 }
@@ -23,6 +23,6 @@ public class DefaultValueMerger implements ValueMerger {
     @Override
     public void mergeValue(FieldSpecification<?, ?> att, Object target, Object originalValue, Object mergedValue,
                            Descriptor attributeDescriptor) {
-        EntityPropertiesUtils.setFieldValue(att.getJavaField(), target, mergedValue);
+        EntityPropertiesUtils.setAttributeValue(att, target, mergedValue);
     }
 }
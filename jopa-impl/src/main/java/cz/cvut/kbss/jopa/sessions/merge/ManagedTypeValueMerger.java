@@ -31,7 +31,7 @@ class ManagedTypeValueMerger implements ValueMerger {
     public void mergeValue(FieldSpecification<?, ?> att, Object target, Object originalValue, Object mergedValue,
                            Descriptor attributeDescriptor) {
         final Object toSet = getValueToSet(mergedValue, attributeDescriptor);
-        EntityPropertiesUtils.setFieldValue(att.getJavaField(), target, toSet);
+        EntityPropertiesUtils.setAttributeValue(att, target, toSet);
     }
 
     Object getValueToSet(Object mergedValue, Descriptor descriptor) {
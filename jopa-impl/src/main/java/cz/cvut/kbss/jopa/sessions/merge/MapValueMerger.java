@@ -32,12 +32,12 @@ public class MapValueMerger implements ValueMerger {
         // Bus since JOPA does not currently support any other use of Maps, it should be ok
 
         if (mergedMap == null) {
-            EntityPropertiesUtils.setFieldValue(att.getJavaField(), target, null);
+            EntityPropertiesUtils.setAttributeValue(att, target, null);
             return;
         }
 
         final Map<Object, Object> newMap = CollectionFactory.createDefaultMap();
         newMap.putAll(mergedMap);
-        EntityPropertiesUtils.setFieldValue(att.getJavaField(), target, newMap);
+        EntityPropertiesUtils.setAttributeValue(att, target, newMap);
     }
 }
@@ -39,6 +39,29 @@ public class Constants {
     public static final Set<Class<?>> SUPPORTED_IDENTIFIER_TYPES = Collections.unmodifiableSet(new HashSet<>(
             Arrays.asList(URI.class, URL.class, String.class)));
 
+    /**
+     * Default size of query result loading batches.
+     * <p>
+     * Batch loading of query results is disabled by default.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#QUERY_RESULT_BATCH_SIZE
+     */
+    public static final int DEFAULT_QUERY_RESULT_BATCH_SIZE = 1;
+
+    /**
+     * Default maximum number of parsed query templates kept in the query template cache.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#QUERY_TEMPLATE_CACHE_CAPACITY
+     */
+    public static final int DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY = 512;
+
+    /**
+     * Default number of entities written and committed together by a bulk loader.
+     *
+     * @see cz.cvut.kbss.jopa.model.JOPAPersistenceProperties#BULK_LOAD_CHUNK_SIZE
+     */
+    public static final int DEFAULT_BULK_LOAD_CHUNK_SIZE = 10000;
+
     private Constants() {
         throw new AssertionError();
     }
@@ -18,6 +18,8 @@ import cz.cvut.kbss.jopa.exception.IdentifierNotSetException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.annotations.Transient;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessorProvider;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
@@ -107,8 +109,46 @@ public class EntityPropertiesUtils {
      */
     public static Object getAttributeValue(FieldSpecification<?, ?> attribute, Object instance) {
         Objects.requireNonNull(attribute);
-        final Field field = attribute.getJavaField();
-        return getFieldValue(field, instance);
+        final FieldAccessor accessor = accessor(attribute);
+        if (accessor != null) {
+            return accessor.getValue(instance);
+        }
+        return getFieldValue(attribute.getJavaField(), instance);
+    }
+
+    /**
+     * Sets value of the specified attribute.
+     *
+     * @param attribute Attribute to set value of
+     * @param instance  Target instance
+     * @param value     The value to set (may be {@code null})
+     */
+    public static void setAttributeValue(FieldSpecification<?, ?> attribute, Object instance, Object value) {
+        Objects.requireNonNull(attribute);
+        final FieldAccessor accessor = accessor(attribute);
+        if (accessor != null) {
+            accessor.setValue(instance, value);
+        } else {
+            setFieldValue(attribute.getJavaField(), instance, value);
+        }
+    }
+
+    /**
+     * Gets accessor of value of the specified attribute.
+     * <p>
+     * The accessor bound to the attribute in the metamodel is returned if available, otherwise a new one is created.
+     *
+     * @param attribute Attribute whose value is to be accessed
+     * @return Field accessor
+     */
+    public static FieldAccessor getAccessor(FieldSpecification<?, ?> attribute) {
+        Objects.requireNonNull(attribute);
+        final FieldAccessor accessor = accessor(attribute);
+        return accessor != null ? accessor : FieldAccessor.of(attribute.getJavaField());
+    }
+
+    private static FieldAccessor accessor(FieldSpecification<?, ?> attribute) {
+        return attribute instanceof FieldAccessorProvider ? ((FieldAccessorProvider) attribute).getAccessor() : null;
     }
 
     /**
@@ -120,7 +160,7 @@ public class EntityPropertiesUtils {
      */
     public static <T> URI getIdentifier(T entity, EntityType<?> et) {
         try {
-            final Object id = getFieldValue(et.getIdentifier().getJavaField(), entity);
+            final Object id = getAttributeValue(et.getIdentifier(), entity);
             if (id == null) {
                 return null;
             }
@@ -142,7 +182,7 @@ public class EntityPropertiesUtils {
         final Field idField = id.getJavaField();
         try {
             final Object assignableId = IdentifierTransformer.transformToIdentifier(identifier, idField.getType());
-            setFieldValue(idField, entity, assignableId);
+            setAttributeValue(id, entity, assignableId);
         } catch (IllegalArgumentException e) {
             throw new UnassignableIdentifierException(e);
         }
@@ -17,7 +17,15 @@ import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -113,4 +121,75 @@ public class PersistenceUnitClassFinderTest {
         assertTrue(finder.getResultSetMappings()
                          .contains(OWLClassA.class.getDeclaredAnnotation(SparqlResultSetMapping.class)));
     }
+
+    @Test
+    public void scanUsesClassIndexInsteadOfScanningClasspathWhenIndexIsEnabledAndAvailable(@TempDir Path dir)
+            throws Exception {
+        final PersistenceUnitClassFinder sut = finderWithClassIndex(dir,
+                Arrays.asList("# Generated index", ClasspathScanner.INDEX_PACKAGE_PREFIX + "cz.cvut.kbss.jopa",
+                        OWLClassA.class.getName(), OWLClassB.class.getName()));
+        sut.scanClasspath(new Configuration(indexEnabledProperties("cz.cvut.kbss.jopa.environment")));
+        assertEquals(new HashSet<>(Arrays.asList(OWLClassA.class, OWLClassB.class)), sut.getEntities());
+        assertTrue(sut.getResultSetMappings()
+                      .contains(OWLClassA.class.getDeclaredAnnotation(SparqlResultSetMapping.class)));
+    }
+
+    private static Map<String, String> indexEnabledProperties(String scanPackage) {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(JOPAPersistenceProperties.SCAN_PACKAGE, scanPackage);
+        properties.put(JOPAPersistenceProperties.USE_CLASS_INDEX, Boolean.TRUE.toString());
+        return properties;
+    }
+
+    @Test
+    public void scanSkipsIndexedClassesOutsideOfScanPackage(@TempDir Path dir) throws Exception {
+        final PersistenceUnitClassFinder sut = finderWithClassIndex(dir,
+                Arrays.asList(ClasspathScanner.INDEX_PACKAGE_PREFIX + "cz.cvut.kbss.jopa", OWLClassA.class.getName(),
+                        OWLClassB.class.getName()));
+        sut.scanClasspath(new Configuration(indexEnabledProperties("cz.cvut.kbss.jopa.test")));
+        assertTrue(sut.getEntities().isEmpty());
+    }
+
+    @Test
+    public void scanScansClasspathWhenClassIndexIsNotEnabled(@TempDir Path dir) throws Exception {
+        final PersistenceUnitClassFinder sut = finderWithClassIndex(dir,
+                Arrays.asList(ClasspathScanner.INDEX_PACKAGE_PREFIX + "cz.cvut.kbss.jopa.environment",
+                        OWLClassA.class.getName()));
+        final Map<String, String> properties = Collections.singletonMap(
+                JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.environment");
+        sut.scanClasspath(new Configuration(properties));
+        assertEquals(ENTITY_CLASSES, sut.getEntities());
+    }
+
+    @Test
+    public void scanScansClasspathWhenClassIndexIsGeneratedForDifferentPackage(@TempDir Path dir) throws Exception {
+        final PersistenceUnitClassFinder sut = finderWithClassIndex(dir,
+                Arrays.asList(ClasspathScanner.INDEX_PACKAGE_PREFIX + "cz.cvut.kbss.jopa.test",
+                        OWLClassA.class.getName()));
+        sut.scanClasspath(new Configuration(indexEnabledProperties("cz.cvut.kbss.jopa.environment")));
+        assertEquals(ENTITY_CLASSES, sut.getEntities());
+    }
+
+    @Test
+    public void scanScansClasspathWhenClassIndexDoesNotDeclarePackage(@TempDir Path dir) throws Exception {
+        final PersistenceUnitClassFinder sut = finderWithClassIndex(dir,
+                Arrays.asList("# Generated index", OWLClassA.class.getName()));
+        sut.scanClasspath(new Configuration(indexEnabledProperties("cz.cvut.kbss.jopa.environment")));
+        assertEquals(ENTITY_CLASSES, sut.getEntities());
+    }
+
+    private static PersistenceUnitClassFinder finderWithClassIndex(Path dir, List<String> indexContent)
+            throws IOException {
+        final File index = dir.resolve(ClasspathScanner.CLASS_INDEX_LOCATION).toFile();
+        assertTrue(index.getParentFile().mkdirs());
+        Files.write(index.toPath(), indexContent, StandardCharsets.UTF_8);
+        final ClassLoader original = Thread.currentThread().getContextClassLoader();
+        final ClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, original);
+        Thread.currentThread().setContextClassLoader(loader);
+        try {
+            return new PersistenceUnitClassFinder();
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
 }
@@ -24,6 +24,7 @@ import cz.cvut.kbss.jopa.model.annotations.OWLClass;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.model.query.QueryHints;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityLifecycleListenerManager;
 import cz.cvut.kbss.jopa.model.metamodel.EntityTypeImpl;
@@ -515,6 +516,25 @@ class EntityManagerImplTest {
         assertSame(a, result);
     }
 
+    @Test
+    void findWithReadOnlyHintReadsObjectWithoutRegistration() {
+        final OWLClassA a = Generators.generateOwlClassAInstance();
+        doReturn(a).when(uow).readObjectWithoutRegistration(eq(OWLClassA.class), eq(a.getUri()), any(Descriptor.class));
+        final OWLClassA result =
+                em.find(OWLClassA.class, a.getUri(), Collections.singletonMap(QueryHints.READ_ONLY, true));
+        assertSame(a, result);
+        verify(uow, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void findWithoutReadOnlyHintRegistersFoundObject() {
+        final OWLClassA a = Generators.generateOwlClassAInstance();
+        doReturn(a).when(uow).readObject(eq(OWLClassA.class), eq(a.getUri()), any(Descriptor.class));
+        em.find(OWLClassA.class, a.getUri(), Collections.emptyMap());
+        verify(uow).readObject(eq(OWLClassA.class), eq(a.getUri()), any(Descriptor.class));
+        verify(uow, never()).readObjectWithoutRegistration(any(), any(), any());
+    }
+
     @Test
     void mergeDifferentInstanceWithSameIdAsManagedInstanceMergesChanges() throws Exception {
         final OWLClassA a = Generators.generateOwlClassAInstance();
@@ -20,11 +20,13 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -351,4 +353,31 @@ class QueryImplTest extends QueryTestBase {
             verify(statementMock).close();
         }
     }
+
+    @Test
+    void getResultListBindsSingleTermParameterValuesUsingPreparedStatementWhenNativeBindingIsEnabled()
+            throws Exception {
+        final String query = "SELECT ?x WHERE { ?x a ?type . }";
+        final QueryImpl sut = createQuery(query);
+        sut.useNativeParameterBinding(true);
+        final PreparedStatement preparedStatementMock = mock(PreparedStatement.class);
+        when(connectionWrapperMock.prepareStatement(anyString())).thenReturn(preparedStatementMock);
+        when(preparedStatementMock.executeQuery()).thenReturn(resultSetMock);
+        final URI type = URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassA");
+        sut.setParameter("type", type).getResultList();
+        verify(connectionWrapperMock).prepareStatement(query);
+        verify(preparedStatementMock).setObject("type", "<" + type + ">");
+        verify(preparedStatementMock).executeQuery();
+        verify(preparedStatementMock).close();
+        verify(connectionWrapperMock, never()).createStatement();
+    }
+
+    @Test
+    void executeUpdateUsesStatementWhenNativeBindingIsEnabledButNoParameterCanBeBound() throws Exception {
+        final QueryImpl sut = createQuery(UPDATE_QUERY);
+        sut.useNativeParameterBinding(true);
+        sut.executeUpdate();
+        verify(statementMock).executeUpdate(UPDATE_QUERY);
+        verify(connectionWrapperMock, never()).prepareStatement(anyString());
+    }
 }
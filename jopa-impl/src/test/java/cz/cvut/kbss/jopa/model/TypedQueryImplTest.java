@@ -22,6 +22,7 @@ import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.Query;
+import cz.cvut.kbss.jopa.model.query.QueryHints;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
@@ -108,6 +109,68 @@ class TypedQueryImplTest extends QueryTestBase {
         }
     }
 
+    @Test
+    void getResultListLoadsEntitiesInBatchesWhenResultBatchSizeIsSet() throws Exception {
+        final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setResultBatchSize(2);
+        final List<String> uris = initDataForQuery(5);
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(OWLClassA::new).collect(Collectors.toList()));
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 5);
+        verify(uowMock, times(3)).readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void getResultListSkipsEntitiesNotFoundWhenLoadingInBatches() throws Exception {
+        final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setResultBatchSize(10);
+        final List<String> uris = initDataForQuery(3);
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class)))
+                .thenReturn(Arrays.asList(new OWLClassA(URI.create(uris.get(0))), null,
+                        new OWLClassA(URI.create(uris.get(2)))));
+        final List<OWLClassA> res = query.getResultList();
+        assertEquals(2, res.size());
+        assertEquals(uris.get(0), res.get(0).getUri().toString());
+        assertEquals(uris.get(2), res.get(1).getUri().toString());
+    }
+
+    @Test
+    void getResultListWithReadOnlyHintLoadsEntitiesWithoutRegistration() throws Exception {
+        final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setHint(QueryHints.READ_ONLY, true);
+        final List<String> uris = initDataForQuery(3);
+        when(uowMock.readObjectWithoutRegistration(eq(OWLClassA.class), any(), any(Descriptor.class)))
+                .thenAnswer(inv -> new OWLClassA((URI) inv.getArgument(1)));
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 3);
+        verify(uowMock, times(3)).readObjectWithoutRegistration(eq(OWLClassA.class), any(), any(Descriptor.class));
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void getResultListWithReadOnlyHintLoadsEntitiesInBatchesWithoutRegistration() throws Exception {
+        final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setHint(QueryHints.READ_ONLY, "true");
+        query.setResultBatchSize(2);
+        final List<String> uris = initDataForQuery(4);
+        when(uowMock.readObjectsWithoutRegistration(eq(OWLClassA.class), anyList(), any(Descriptor.class)))
+                .thenAnswer(inv -> ((List<URI>) inv.getArgument(1)).stream().map(OWLClassA::new)
+                                                                     .collect(Collectors.toList()));
+        final List<OWLClassA> res = query.getResultList();
+        verifyResults(uris, res, 4);
+        verify(uowMock, times(2))
+                .readObjectsWithoutRegistration(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+        verify(uowMock, never()).readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+    }
+
+    @Test
+    void setHintThrowsNullPointerForNullHintName() {
+        final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        assertThrows(NullPointerException.class, () -> query.setHint(null, true));
+    }
+
     @Test
     void getSingleResultWithEntityTypeReturnsCorrectResult() throws Exception {
         final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
@@ -0,0 +1,85 @@
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassM;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessorTest {
+
+    @Test
+    void ofReturnsNullForNullField() {
+        assertNull(FieldAccessor.of(null));
+    }
+
+    @Test
+    void getValueReturnsFieldValue() throws Exception {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        instance.setStringAttribute("test");
+        final FieldAccessor sut = FieldAccessor.of(OWLClassA.getStrAttField());
+        assertEquals("test", sut.getValue(instance));
+    }
+
+    @Test
+    void setValueSetsFieldValue() throws Exception {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        final Set<String> types = Collections.singleton(Generators.createIndividualIdentifier().toString());
+        final FieldAccessor sut = FieldAccessor.of(OWLClassA.getTypesField());
+        sut.setValue(instance, types);
+        assertEquals(types, instance.getTypes());
+    }
+
+    @Test
+    void setValueSetsNullFieldValue() throws Exception {
+        final OWLClassM instance = new OWLClassM();
+        instance.setIntAttribute(117);
+        final FieldAccessor sut = FieldAccessor.of(OWLClassM.getIntAttributeField());
+        sut.setValue(instance, null);
+        assertNull(instance.getIntAttribute());
+    }
+
+    @Test
+    void getValueThrowsIllegalArgumentExceptionForInstanceOfIncompatibleType() throws Exception {
+        final FieldAccessor sut = FieldAccessor.of(OWLClassA.getStrAttField());
+        assertThrows(IllegalArgumentException.class, () -> sut.getValue(new OWLClassM()));
+    }
+
+    @Test
+    void setValueThrowsIllegalArgumentExceptionForValueOfIncompatibleType() throws Exception {
+        final OWLClassM instance = new OWLClassM();
+        final FieldAccessor sut = FieldAccessor.of(OWLClassM.getIntAttributeField());
+        assertThrows(IllegalArgumentException.class, () -> sut.setValue(instance, "117"));
+    }
+
+    @Test
+    void accessorSupportsPrimitiveFields() throws Exception {
+        final WithPrimitive instance = new WithPrimitive();
+        final FieldAccessor sut = FieldAccessor.of(WithPrimitive.class.getDeclaredField("value"));
+        sut.setValue(instance, 117);
+        assertEquals(117, instance.value);
+        assertEquals(117, sut.getValue(instance));
+    }
+
+    @Test
+    void setValueThrowsIllegalArgumentExceptionWhenSettingNullOnPrimitiveField() throws Exception {
+        final FieldAccessor sut = FieldAccessor.of(WithPrimitive.class.getDeclaredField("value"));
+        assertThrows(IllegalArgumentException.class, () -> sut.setValue(new WithPrimitive(), null));
+    }
+
+    @Test
+    void attributeProvidesAccessorOfItsField() throws Exception {
+        final IRIIdentifierImpl<OWLClassA> identifier =
+                new IRIIdentifierImpl<>(null, OWLClassA.class.getDeclaredField("uri"), false);
+        assertNotNull(identifier.getAccessor());
+        assertEquals(identifier.getJavaField(), identifier.getAccessor().getField());
+    }
+
+    private static class WithPrimitive {
+        private int value;
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.oom;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassD;
+import cz.cvut.kbss.jopa.environment.OWLClassL;
+import cz.cvut.kbss.jopa.environment.Vocabulary;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.exceptions.IntegrityConstraintViolatedException;
+import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.model.metamodel.EntityLifecycleListenerManager;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.Types;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.Assertion;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class BulkLoaderImplTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private Connection connectionMock;
+
+    @Mock
+    private MetamodelImpl metamodelMock;
+
+    @Mock
+    private CacheManager cacheMock;
+
+    private MetamodelMocks metamodelMocks;
+
+    private BulkLoaderImpl sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        this.metamodelMocks = new MetamodelMocks();
+        metamodelMocks.setMocks(metamodelMock);
+        when(connectionMock.types()).thenReturn(mock(Types.class));
+        this.sut = new BulkLoaderImpl(connectionMock, metamodelMock, cacheMock, CHUNK_SIZE);
+    }
+
+    @Test
+    void persistWritesAndCommitsChunkWhenItIsFull() throws Exception {
+        final OWLClassA first = Generators.generateOwlClassAInstance();
+        final OWLClassA second = Generators.generateOwlClassAInstance();
+        sut.persist(first);
+        verify(connectionMock, never()).persistAll(anyCollection());
+        sut.persist(second);
+
+        final List<AxiomValueDescriptor> written = captureWrittenDescriptors(1).get(0);
+        assertEquals(2, written.size());
+        assertEquals(first.getUri(), written.get(0).getSubject().getIdentifier());
+        assertEquals(second.getUri(), written.get(1).getSubject().getIdentifier());
+        final InOrder inOrder = inOrder(connectionMock);
+        inOrder.verify(connectionMock).persistAll(anyCollection());
+        inOrder.verify(connectionMock).commit();
+        verify(connectionMock, never()).persist(any());
+    }
+
+    private List<List<AxiomValueDescriptor>> captureWrittenDescriptors(int chunkCount) throws Exception {
+        final ArgumentCaptor<Collection<AxiomValueDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock, times(chunkCount)).persistAll(captor.capture());
+        final List<List<AxiomValueDescriptor>> result = new ArrayList<>();
+        captor.getAllValues().forEach(c -> result.add(new ArrayList<>(c)));
+        return result;
+    }
+
+    @Test
+    void persistGeneratesIdentifierForEntityWithoutIt() throws Exception {
+        final OWLClassA a = new OWLClassA();
+        a.setStringAttribute("test");
+        final URI generated = Generators.createIndividualIdentifier();
+        when(connectionMock.generateIdentifier(URI.create(OWLClassA.getClassIri()))).thenReturn(generated);
+        sut.persist(a);
+        assertEquals(generated, a.getUri());
+    }
+
+    @Test
+    void persistSavesReferenceWithoutCheckingReferencedInstanceExistence() throws Exception {
+        final OWLClassD d = new OWLClassD(Generators.createIndividualIdentifier());
+        d.setOwlClassA(Generators.generateOwlClassAInstance());
+        sut.persist(d);
+        sut.flush();
+
+        final AxiomValueDescriptor written = captureWrittenDescriptors(1).get(0).get(0);
+        final Assertion hasA = Assertion.createObjectPropertyAssertion(URI.create(Vocabulary.P_HAS_A), false);
+        assertEquals(NamedResource.create(d.getOwlClassA().getUri()),
+                written.getAssertionValues(hasA).get(0).getValue());
+        verify(connectionMock, never()).contains(any(), any());
+    }
+
+    @Test
+    void flushEvictsWrittenEntitiesFromCache() throws Exception {
+        final OWLClassA a = Generators.generateOwlClassAInstance();
+        final URI context = Generators.createIndividualIdentifier();
+        sut.persist(a, new EntityDescriptor(context));
+        sut.flush();
+        verify(cacheMock).evict(OWLClassA.class, a.getUri(), context);
+    }
+
+    @Test
+    void flushRollsBackChunkAndThrowsStorageAccessExceptionWhenWriteFails() throws Exception {
+        doThrow(OntoDriverException.class).when(connectionMock).persistAll(anyCollection());
+        sut.persist(Generators.generateOwlClassAInstance());
+        assertThrows(StorageAccessException.class, () -> sut.flush());
+        verify(connectionMock).rollback();
+        verify(connectionMock, never()).commit();
+        verify(cacheMock, never()).evict(any(), any(), any());
+
+        reset(connectionMock);
+        sut.flush();
+        verify(connectionMock, never()).persistAll(anyCollection());
+    }
+
+    @Test
+    void closeWritesRemainingEntitiesAndClosesConnection() throws Exception {
+        sut.persist(Generators.generateOwlClassAInstance());
+        sut.close();
+        assertFalse(sut.isOpen());
+        assertEquals(1, captureWrittenDescriptors(1).get(0).size());
+        final InOrder inOrder = inOrder(connectionMock);
+        inOrder.verify(connectionMock).commit();
+        inOrder.verify(connectionMock).close();
+    }
+
+    @Test
+    void persistThrowsIllegalStateExceptionWhenLoaderIsClosed() {
+        sut.close();
+        assertThrows(IllegalStateException.class, () -> sut.persist(Generators.generateOwlClassAInstance()));
+    }
+
+    @Test
+    void persistThrowsIllegalArgumentExceptionForNonEntity() {
+        assertThrows(IllegalArgumentException.class, () -> sut.persist(new Object()));
+    }
+
+    @Test
+    void persistInvokesPrePersistAndPostPersistLifecycleCallbacks() {
+        final EntityLifecycleListenerManager listenerManager = mock(EntityLifecycleListenerManager.class);
+        when(metamodelMocks.forOwlClassA().entityType().getLifecycleListenerManager()).thenReturn(listenerManager);
+        final OWLClassA a = Generators.generateOwlClassAInstance();
+        sut.persist(a);
+
+        final InOrder inOrder = inOrder(listenerManager);
+        inOrder.verify(listenerManager).invokePrePersistCallbacks(a);
+        inOrder.verify(listenerManager).invokePostPersistCallbacks(a);
+    }
+
+    @Test
+    void persistThrowsIntegrityConstraintViolatedExceptionAndSkipsEntityViolatingConstraints() throws Exception {
+        final OWLClassL invalid = new OWLClassL(Generators.createIndividualIdentifier());
+        assertThrows(IntegrityConstraintViolatedException.class, () -> sut.persist(invalid));
+        sut.flush();
+        verify(connectionMock, never()).persistAll(anyCollection());
+    }
+}
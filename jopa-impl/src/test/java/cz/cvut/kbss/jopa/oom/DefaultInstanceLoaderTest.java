@@ -30,8 +30,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 
+import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -105,7 +109,7 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
                 .thenReturn(entityA);
         final OWLClassA res = instanceLoader.loadEntity(loadingParameters);
         assertNotNull(res);
-        verify(cacheMock, never()).contains(etAMock.getJavaType(), IDENTIFIER, descriptor);
+        verify(cacheMock, never()).get(etAMock.getJavaType(), IDENTIFIER, descriptor);
     }
 
     @Test
@@ -169,4 +173,72 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
         assertThrows(StorageAccessException.class, () -> instanceLoader.loadReference(loadingParameters));
         verify(entityConstructorMock, never()).createEntityInstance(IDENTIFIER, etAMock);
     }
+
+    @Test
+    void loadEntitiesLoadsAxiomsOfAllInstancesUsingSingleStorageCall() throws Exception {
+        final List<URI> identifiers = IntStream.range(0, 1000).mapToObj(i -> Generators.createIndividualIdentifier())
+                                               .collect(Collectors.toList());
+        initBatchLoading(identifiers);
+
+        final List<OWLClassA> result = instanceLoader.loadEntities(toLoadingParameters(identifiers));
+        assertEquals(identifiers.size(), result.size());
+        for (int i = 0; i < identifiers.size(); i++) {
+            assertEquals(identifiers.get(i), result.get(i).getUri());
+        }
+        verify(connectionMock).findAll(anyCollection());
+        verify(connectionMock, never()).find(any());
+    }
+
+    private void initBatchLoading(List<URI> identifiers) throws Exception {
+        when(descriptorFactoryMock.createForEntityLoading(any(), eq(etAMock))).thenAnswer(
+                inv -> new AxiomDescriptor(NamedResource.create(((LoadingParameters<?>) inv.getArgument(0))
+                        .getIdentifier())));
+        final List<Axiom<?>> axioms = identifiers.stream().<Axiom<?>>map(id -> new AxiomImpl<>(NamedResource.create(id),
+                Assertion.createClassAssertion(false), new Value<>(NamedResource.create(Vocabulary.c_OwlClassA))))
+                                                 .collect(Collectors.toList());
+        when(connectionMock.findAll(anyCollection())).thenReturn(axioms);
+        when(entityConstructorMock.reconstructEntity(any(URI.class), eq(etAMock), eq(descriptor), anyCollection()))
+                .thenAnswer(inv -> new OWLClassA((URI) inv.getArgument(0)));
+    }
+
+    private List<LoadingParameters<OWLClassA>> toLoadingParameters(List<URI> identifiers) {
+        return identifiers.stream().map(id -> new LoadingParameters<>(OWLClassA.class, id, descriptor))
+                          .collect(Collectors.toList());
+    }
+
+    @Test
+    void loadEntitiesReturnsCachedInstancesWithoutLoadingThemFromStorage() throws Exception {
+        final List<URI> identifiers = IntStream.range(0, 5).mapToObj(i -> Generators.createIndividualIdentifier())
+                                               .collect(Collectors.toList());
+        initBatchLoading(identifiers.subList(1, identifiers.size()));
+        final OWLClassA cached = new OWLClassA(identifiers.get(0));
+        when(cacheMock.get(OWLClassA.class, identifiers.get(0), descriptor)).thenReturn(cached);
+
+        final List<OWLClassA> result = instanceLoader.loadEntities(toLoadingParameters(identifiers));
+        assertSame(cached, result.get(0));
+        verify(descriptorFactoryMock, never())
+                .createForEntityLoading(new LoadingParameters<>(OWLClassA.class, identifiers.get(0), descriptor),
+                        etAMock);
+        verify(entityConstructorMock, never()).reconstructEntity(eq(identifiers.get(0)), any(), any(), any());
+    }
+
+    @Test
+    void loadEntitiesReturnsNullForInstancesWithoutAxioms() throws Exception {
+        final List<URI> identifiers = IntStream.range(0, 5).mapToObj(i -> Generators.createIndividualIdentifier())
+                                               .collect(Collectors.toList());
+        initBatchLoading(identifiers.subList(0, identifiers.size() - 1));
+
+        final List<OWLClassA> result = instanceLoader.loadEntities(toLoadingParameters(identifiers));
+        assertEquals(identifiers.size(), result.size());
+        assertNull(result.get(result.size() - 1));
+        verify(entityConstructorMock, never())
+                .reconstructEntity(eq(identifiers.get(identifiers.size() - 1)), any(), any(), any());
+    }
+
+    @Test
+    void loadEntitiesThrowsStorageAccessExceptionOnDriverException() throws Exception {
+        when(connectionMock.findAll(anyCollection())).thenThrow(new OntoDriverException());
+        final List<LoadingParameters<OWLClassA>> params = Collections.singletonList(loadingParameters);
+        assertThrows(StorageAccessException.class, () -> instanceLoader.loadEntities(params));
+    }
 }
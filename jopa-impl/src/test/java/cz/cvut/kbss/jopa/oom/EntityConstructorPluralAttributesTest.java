@@ -29,10 +29,12 @@ import org.mockito.MockitoAnnotations;
 
 import java.net.URI;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -88,12 +90,9 @@ public class EntityConstructorPluralAttributesTest {
     }
 
     private void prepareMapperMockForSimpleListLoad() {
-        for (Entry<URI, OWLClassA> e : LIST_CONTENT.entrySet()) {
-            when(
-                    mapperMock.getEntityFromCacheOrOntology(OWLClassA.class, e.getKey(),
-                            descriptor.getAttributeDescriptor(simpleListMock))).thenReturn(
-                    e.getValue());
-        }
+        final Descriptor attDescriptor = descriptor.getAttributeDescriptor(simpleListMock);
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), anyList(), eq(attDescriptor))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(LIST_CONTENT::get).collect(Collectors.toList()));
         final Collection<Axiom<NamedResource>> listAxioms = initSimpleListAxioms();
         when(mapperMock.loadSimpleList(any(SimpleListDescriptor.class))).thenReturn(listAxioms);
     }
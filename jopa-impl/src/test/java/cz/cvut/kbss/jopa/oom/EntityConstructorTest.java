@@ -382,9 +382,10 @@ class EntityConstructorTest {
             a.setUri(URI.create("http://krizik.felk.cvut.cz/entityA" + i));
             a.setStringAttribute(STRING_ATT);
             entities.add(a);
-            when(mapperMock.getEntityFromCacheOrOntology(OWLClassA.class, a.getUri(), desc))
-                    .thenReturn(a);
         }
+        final Map<URI, OWLClassA> byId = entities.stream().collect(Collectors.toMap(OWLClassA::getUri, a -> a));
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), anyList(), eq(desc))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(byId::get).collect(Collectors.toList()));
         return entities;
     }
 
@@ -540,9 +541,9 @@ class EntityConstructorTest {
         for (int i = 0; i < max + 1; i++) {
             final URI uri = URI.create("http://value" + i);
             listAxioms.add(new AxiomImpl<>(PK_RESOURCE, nodeContent, new Value<>(NamedResource.create(uri))));
-            when(mapperMock.getEntityFromCacheOrOntology(OWLClassA.class, uri, attDescriptor))
-                    .thenReturn(new OWLClassA(uri));
         }
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), anyList(), eq(attDescriptor))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(OWLClassA::new).collect(Collectors.toList()));
         final Assertion assertion = Assertion.createObjectPropertyAssertion(
                 URI.create(OWLClassL.getReferencedListField().getAnnotation(OWLObjectProperty.class).iri()), false);
         return Collections.singleton(
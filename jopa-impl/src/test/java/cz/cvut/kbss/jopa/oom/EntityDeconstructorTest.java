@@ -309,6 +309,18 @@ class EntityDeconstructorTest {
         assertTrue(containsDPAssertion(res, OWLClassA.getStrAttField(), entityA.getStringAttribute()));
     }
 
+    @Test
+    void mapsMultipleEntityFieldsToSingleAxiomDescriptor() throws Exception {
+        final Descriptor mDescriptor = new EntityDescriptor();
+        final AxiomValueGatherer builder = sut.mapFieldsToAxioms(URI.create(entityM.getKey()), entityM,
+                Arrays.asList(OWLClassM.getBooleanAttributeField(), OWLClassM.getIntAttributeField()),
+                mocks.forOwlClassM().entityType(), mDescriptor);
+        final AxiomValueDescriptor res = getAxiomValueDescriptor(builder);
+        assertEquals(2, res.getAssertions().size());
+        assertTrue(containsDPAssertion(res, OWLClassM.getBooleanAttributeField(), entityM.getBooleanAttribute()));
+        assertTrue(containsDPAssertion(res, OWLClassM.getIntAttributeField(), entityM.getIntAttribute()));
+    }
+
     @Test
     void mapsEntityDataPropertyWithNullValueToAxiomDescriptor() throws Exception {
         final Descriptor aDescriptor = new EntityDescriptor();
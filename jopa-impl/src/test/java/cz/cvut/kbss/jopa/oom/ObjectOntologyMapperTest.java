@@ -194,7 +194,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void testGetEntityFromCacheOrOntologyFromCache() {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(Boolean.TRUE);
         when(cacheMock.get(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(entityA);
         final OWLClassA res = mapper.getEntityFromCacheOrOntology(OWLClassA.class, IDENTIFIER, aDescriptor);
         assertNotNull(res);
@@ -204,7 +203,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void testGetEntityFromCacheOrOntologyFromRegisteredInstances() {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, null)).thenReturn(Boolean.FALSE);
         mapper.registerInstance(IDENTIFIER, entityA);
         final OWLClassA res = mapper.getEntityFromCacheOrOntology(OWLClassA.class, IDENTIFIER,
                 aDescriptor);
@@ -214,7 +212,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void getEntityFromCacheOrOntologyLoadsEntityWhenItIsNotInCache() throws Exception {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, null)).thenReturn(Boolean.FALSE);
         final Field instanceLoaderField = ObjectOntologyMapperImpl.class.getDeclaredField("defaultInstanceLoader");
         instanceLoaderField.setAccessible(true);
         EntityInstanceLoader loader = (EntityInstanceLoader) instanceLoaderField.get(mapper);
@@ -264,6 +261,17 @@ class ObjectOntologyMapperTest {
         verify(axiomBuilderMock).update(connectionMock);
     }
 
+    @Test
+    void updateFieldValuesUpdatesAllFieldsInOneUpdate() throws Exception {
+        final AxiomValueGatherer axiomBuilderMock = mock(AxiomValueGatherer.class);
+        final List<Field> fields = Arrays.asList(OWLClassA.getStrAttField(), OWLClassA.getTypesField());
+        when(entityDeconstructorMock.mapFieldsToAxioms(IDENTIFIER, entityA, fields, etAMock, aDescriptor))
+                .thenReturn(axiomBuilderMock);
+        mapper.updateFieldValues(entityA, fields, aDescriptor);
+        verify(entityDeconstructorMock).mapFieldsToAxioms(IDENTIFIER, entityA, fields, etAMock, aDescriptor);
+        verify(axiomBuilderMock).update(connectionMock);
+    }
+
     @Test
     void removeEntityCreatesDescriptorForRemovalOfAllEntityAttributes() {
         when(descriptorFactoryMock
@@ -337,7 +345,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void loadEntityLoadsInstanceFromCacheWhenItIsPresentThere() throws Exception {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, loadingParameters.getDescriptor())).thenReturn(true);
         when(cacheMock.get(OWLClassA.class, IDENTIFIER, loadingParameters.getDescriptor())).thenReturn(entityA);
 
         final OWLClassA result = mapper.loadEntity(loadingParameters);
@@ -350,7 +357,6 @@ class ObjectOntologyMapperTest {
     void loadEntityDeterminesConcreteEntityTypeAndLoadsItFromCacheWhenItIsPresentThere() throws Exception {
         final OWLClassR entity = new OWLClassR();
         entity.setUri(IDENTIFIER);
-        when(cacheMock.contains(OWLClassR.class, IDENTIFIER, aDescriptor)).thenReturn(true);
         when(cacheMock.get(OWLClassR.class, IDENTIFIER, aDescriptor)).thenReturn(entity);
         final Types typesMock = mock(Types.class);
         final NamedResource individual = NamedResource.create(IDENTIFIER);
@@ -406,6 +412,61 @@ class ObjectOntologyMapperTest {
         return axioms;
     }
 
+    @Test
+    void loadEntitiesLoadsAxiomsOfAllEntitiesUsingSingleStorageCall() throws Exception {
+        final URI secondIdentifier = Generators.createIndividualIdentifier();
+        final List<Axiom<?>> axioms = new ArrayList<>(getAxiomsForEntityA());
+        axioms.add(new AxiomImpl<>(NamedResource.create(secondIdentifier), Assertion.createClassAssertion(false),
+                new Value<Object>(NamedResource.create(Vocabulary.c_OwlClassA))));
+        when(connectionMock.findAll(anyCollection())).thenReturn(axioms);
+
+        final List<OWLClassA> result =
+                mapper.loadEntities(OWLClassA.class, Arrays.asList(IDENTIFIER, secondIdentifier), aDescriptor);
+        assertEquals(2, result.size());
+        assertEquals(IDENTIFIER, result.get(0).getUri());
+        assertEquals(secondIdentifier, result.get(1).getUri());
+        verify(connectionMock).findAll(anyCollection());
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+        verify(cacheMock).add(IDENTIFIER, result.get(0), aDescriptor);
+        verify(cacheMock).add(secondIdentifier, result.get(1), aDescriptor);
+    }
+
+    @Test
+    void loadEntitiesReturnsNullForEntitiesNotFoundInStorage() throws Exception {
+        final URI secondIdentifier = Generators.createIndividualIdentifier();
+        when(connectionMock.findAll(anyCollection())).thenReturn(getAxiomsForEntityA());
+
+        final List<OWLClassA> result =
+                mapper.loadEntities(OWLClassA.class, Arrays.asList(IDENTIFIER, secondIdentifier), aDescriptor);
+        assertEquals(2, result.size());
+        assertNotNull(result.get(0));
+        assertNull(result.get(1));
+        verify(cacheMock, never()).add(eq(secondIdentifier), any(), any());
+    }
+
+    @Test
+    void getEntitiesFromCacheOrOntologyLoadsEntitiesNotInCacheUsingSingleStorageCall() throws Exception {
+        final URI secondIdentifier = Generators.createIndividualIdentifier();
+        final URI thirdIdentifier = Generators.createIndividualIdentifier();
+        final OWLClassA cached = new OWLClassA(secondIdentifier);
+        when(cacheMock.get(OWLClassA.class, secondIdentifier, aDescriptor)).thenReturn(cached);
+        final List<Axiom<?>> axioms = new ArrayList<>(getAxiomsForEntityA());
+        axioms.add(new AxiomImpl<>(NamedResource.create(thirdIdentifier), Assertion.createClassAssertion(false),
+                new Value<Object>(NamedResource.create(Vocabulary.c_OwlClassA))));
+        when(connectionMock.findAll(anyCollection())).thenReturn(axioms);
+
+        final List<OWLClassA> result = mapper.getEntitiesFromCacheOrOntology(OWLClassA.class,
+                Arrays.asList(IDENTIFIER, secondIdentifier, thirdIdentifier), aDescriptor);
+        assertEquals(3, result.size());
+        assertEquals(IDENTIFIER, result.get(0).getUri());
+        assertSame(cached, result.get(1));
+        assertEquals(thirdIdentifier, result.get(2).getUri());
+        final ArgumentCaptor<Collection<AxiomDescriptor>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectionMock).findAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        verify(connectionMock, never()).find(any(AxiomDescriptor.class));
+    }
+
     @Test
     void loadEntitySkipsCacheWhenNothingIsFound() throws Exception {
         when(connectionMock.find(any(AxiomDescriptor.class))).thenReturn(Collections.emptyList());
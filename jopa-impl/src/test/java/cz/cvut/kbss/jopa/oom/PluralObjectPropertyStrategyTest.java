@@ -30,7 +30,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.net.URI;
-import java.util.Collections;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -60,8 +61,8 @@ class PluralObjectPropertyStrategyTest {
         final OWLClassJ instance = new OWLClassJ(ID);
         final URI aReference = Generators.createIndividualIdentifier();
         final OWLClassA aInstance = new OWLClassA(aReference);
-        when(mapperMock.getEntityFromCacheOrOntology(eq(OWLClassA.class), eq(aReference), any(Descriptor.class)))
-                .thenReturn(aInstance);
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), eq(Collections.singletonList(aReference)),
+                any(Descriptor.class))).thenReturn(Collections.singletonList(aInstance));
         final Axiom<NamedResource> axiom = new AxiomImpl<>(NamedResource.create(ID),
                 Assertion.createObjectPropertyAssertion(URI.create(Vocabulary.P_HAS_A), false), new Value<>(
                 NamedResource.create(aReference)));
@@ -71,7 +72,8 @@ class PluralObjectPropertyStrategyTest {
         assertNotNull(instance.getOwlClassA());
         assertEquals(1, instance.getOwlClassA().size());
         assertTrue(instance.getOwlClassA().contains(aInstance));
-        verify(mapperMock).getEntityFromCacheOrOntology(eq(OWLClassA.class), eq(aReference), any(Descriptor.class));
+        verify(mapperMock).getEntitiesFromCacheOrOntology(eq(OWLClassA.class),
+                eq(Collections.singletonList(aReference)), any(Descriptor.class));
     }
 
     private PluralObjectPropertyStrategy<?, OWLClassJ> strategy() {
@@ -84,8 +86,8 @@ class PluralObjectPropertyStrategyTest {
         final PluralObjectPropertyStrategy<?, OWLClassJ> sut = strategy();
         final OWLClassJ instance = new OWLClassJ(ID);
         final URI aReference = Generators.createIndividualIdentifier();
-        when(mapperMock.getEntityFromCacheOrOntology(eq(OWLClassA.class), eq(aReference), any(Descriptor.class)))
-                .thenReturn(null);
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), eq(Collections.singletonList(aReference)),
+                any(Descriptor.class))).thenReturn(Collections.singletonList(null));
         final Axiom<NamedResource> axiom = new AxiomImpl<>(NamedResource.create(ID),
                 Assertion.createObjectPropertyAssertion(URI.create(Vocabulary.P_HAS_A), false), new Value<>(
                 NamedResource.create(aReference)));
@@ -93,23 +95,46 @@ class PluralObjectPropertyStrategyTest {
         sut.addValueFromAxiom(axiom);
         sut.buildInstanceFieldValue(instance);
         assertNull(instance.getOwlClassA());
-        verify(mapperMock).getEntityFromCacheOrOntology(eq(OWLClassA.class), eq(aReference), any(Descriptor.class));
+        verify(mapperMock).getEntitiesFromCacheOrOntology(eq(OWLClassA.class),
+                eq(Collections.singletonList(aReference)), any(Descriptor.class));
     }
 
     @Test
-    void addValueFromAxiomGetsAttributeDescriptorFromEntityDescriptorForLoading() {
+    void buildInstanceFieldValueGetsAttributeDescriptorFromEntityDescriptorForLoading() {
         final EntityDescriptor aDescriptor = new EntityDescriptor(Generators.createIndividualIdentifier());
         descriptor.addAttributeDescriptor(mocks.forOwlClassJ().setAttribute(), aDescriptor);
         final PluralObjectPropertyStrategy<?, OWLClassJ> sut = strategy();
         final URI aReference = Generators.createIndividualIdentifier();
-        when(mapperMock.getEntityFromCacheOrOntology(eq(OWLClassA.class), eq(aReference), any(Descriptor.class)))
-                .thenReturn(null);
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), anyList(), any(Descriptor.class)))
+                .thenReturn(Collections.singletonList(null));
         final Axiom<NamedResource> axiom = new AxiomImpl<>(NamedResource.create(ID),
                 Assertion.createObjectPropertyAssertion(URI.create(Vocabulary.P_HAS_A), false), new Value<>(
                 NamedResource.create(aReference)));
 
         sut.addValueFromAxiom(axiom);
-        verify(mapperMock).getEntityFromCacheOrOntology(OWLClassA.class, aReference, aDescriptor);
+        sut.buildInstanceFieldValue(new OWLClassJ(ID));
+        verify(mapperMock).getEntitiesFromCacheOrOntology(OWLClassA.class, Collections.singletonList(aReference),
+                aDescriptor);
+    }
+
+    @Test
+    void buildInstanceFieldValueResolvesAllReferencedInstancesInOneBatch() {
+        final PluralObjectPropertyStrategy<?, OWLClassJ> sut = strategy();
+        final OWLClassJ instance = new OWLClassJ(ID);
+        final List<OWLClassA> aInstances = Arrays.asList(Generators.generateOwlClassAInstance(),
+                Generators.generateOwlClassAInstance(), Generators.generateOwlClassAInstance());
+        final List<URI> references = aInstances.stream().map(OWLClassA::getUri).collect(Collectors.toList());
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), eq(references), any(Descriptor.class)))
+                .thenReturn(aInstances);
+        references.forEach(ref -> sut.addValueFromAxiom(new AxiomImpl<>(NamedResource.create(ID),
+                Assertion.createObjectPropertyAssertion(URI.create(Vocabulary.P_HAS_A), false),
+                new Value<>(NamedResource.create(ref)))));
+        verify(mapperMock, never()).getEntitiesFromCacheOrOntology(any(), anyList(), any());
+
+        sut.buildInstanceFieldValue(instance);
+        assertEquals(new HashSet<>(aInstances), instance.getOwlClassA());
+        verify(mapperMock).getEntitiesFromCacheOrOntology(eq(OWLClassA.class), eq(references), any(Descriptor.class));
+        verify(mapperMock, never()).getEntityFromCacheOrOntology(any(), any(), any());
     }
 
     @Test
@@ -18,6 +18,7 @@ import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassC;
 import cz.cvut.kbss.jopa.environment.OWLClassP;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttributeImpl;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
@@ -32,6 +33,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -110,12 +112,14 @@ public class ReferencedListPropertyStrategyTest extends ListPropertyStrategyTest
                     Assertion.createObjectPropertyAssertion(refListMock.getOWLPropertyHasContentsIRI()
                                                                        .toURI(), refListMock.isInferred()),
                     new Value<>(NamedResource.create(a.getUri())));
-            when(mapperMock.getEntityFromCacheOrOntology(OWLClassA.class, a.getUri(),
-                    descriptor.getAttributeDescriptor(refListMock))).thenReturn(a);
             axioms.add(content);
             previous = nodeUri;
             i++;
         }
+        final Map<URI, OWLClassA> byId = list.stream().collect(Collectors.toMap(OWLClassA::getUri, a -> a));
+        final Descriptor attDescriptor = descriptor.getAttributeDescriptor(refListMock);
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), anyList(), eq(attDescriptor))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(byId::get).collect(Collectors.toList()));
         return axioms;
     }
 
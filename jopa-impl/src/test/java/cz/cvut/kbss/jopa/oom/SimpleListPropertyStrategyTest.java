@@ -19,6 +19,7 @@ import cz.cvut.kbss.jopa.environment.OWLClassC;
 import cz.cvut.kbss.jopa.environment.OWLClassP;
 import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
 import cz.cvut.kbss.jopa.model.annotations.Sequence;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.ListAttributeImpl;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListDescriptor;
@@ -76,16 +77,19 @@ public class SimpleListPropertyStrategyTest extends ListPropertyStrategyTestBase
     private Collection<Axiom<NamedResource>> buildAxiomsForList(ListAttribute<?, ?> la, List<OWLClassA> lst) {
         final Collection<Axiom<NamedResource>> axioms = new ArrayList<>();
         URI previous = PK;
+        final Map<URI, OWLClassA> byId = new HashMap<>();
         for (OWLClassA item : lst) {
             final Axiom<NamedResource> a = new AxiomImpl<>(
                     NamedResource.create(previous),
                     Assertion.createObjectPropertyAssertion(la.getOWLObjectPropertyHasNextIRI().toURI(), false),
                     new Value<>(NamedResource.create(item.getUri())));
             axioms.add(a);
-            when(mapperMock.getEntityFromCacheOrOntology(OWLClassA.class, item.getUri(),
-                    descriptor.getAttributeDescriptor(simpleList))).thenReturn(item);
+            byId.put(item.getUri(), item);
             previous = item.getUri();
         }
+        final Descriptor attDescriptor = descriptor.getAttributeDescriptor(simpleList);
+        when(mapperMock.getEntitiesFromCacheOrOntology(eq(OWLClassA.class), anyList(), eq(attDescriptor))).thenAnswer(
+                inv -> ((List<URI>) inv.getArgument(1)).stream().map(byId::get).collect(Collectors.toList()));
         return axioms;
     }
 
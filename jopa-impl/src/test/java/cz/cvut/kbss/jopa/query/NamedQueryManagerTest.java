@@ -15,8 +15,11 @@ package cz.cvut.kbss.jopa.query;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 public class NamedQueryManagerTest {
 
@@ -53,4 +56,13 @@ public class NamedQueryManagerTest {
                 () -> queryManager.getQuery(name));
         assertEquals("Query with name " + name + " was not found in this persistence unit.", ex.getMessage());
     }
+
+    @Test
+    public void getQueriesReturnsAllNamedQueries() {
+        queryManager.addNamedQuery("selectAll", QUERY);
+        queryManager.addNamedQuery("selectOne", "SELECT ?x WHERE { ?x a ?type . }");
+        final Collection<String> result = queryManager.getQueries();
+        assertEquals(2, result.size());
+        assertTrue(result.contains(QUERY));
+    }
 }
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class QueryTemplateCacheTest {
+
+    private static final String QUERY = "SELECT ?x WHERE { ?x ?y ?z . ?z ?y $ . }";
+
+    private ParameterValueFactory valueFactory;
+
+    private QueryTemplateCache sut;
+
+    @BeforeEach
+    void setUp() {
+        final MetamodelProvider metamodelProvider = mock(MetamodelProvider.class);
+        this.valueFactory = new ParameterValueFactory(metamodelProvider);
+        this.sut = new QueryTemplateCache(metamodelProvider, new Configuration(Collections.emptyMap()));
+    }
+
+    @Test
+    void initWithDefaultCapacity() {
+        assertEquals(Constants.DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY, sut.getCapacity());
+    }
+
+    @Test
+    void initWithInvalidCapacityUsesDefaultValue() {
+        this.sut = new QueryTemplateCache(mock(MetamodelProvider.class), new Configuration(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY, "-1")));
+        assertEquals(Constants.DEFAULT_QUERY_TEMPLATE_CACHE_CAPACITY, sut.getCapacity());
+    }
+
+    @Test
+    void getSparqlQueryParsesQueryOnlyOnceAndReturnsIndependentCopies() {
+        final SparqlQueryHolder first = sut.getSparqlQuery(QUERY, valueFactory);
+        final SparqlQueryHolder second = sut.getSparqlQuery(QUERY, valueFactory);
+        assertEquals(1, sut.size());
+        assertNotSame(first, second);
+
+        first.setParameter(first.getParameter("x"), "test");
+        first.setMaxResults(10);
+        assertEquals("SELECT ?x WHERE { ?x ?y ?z . ?z ?y $1 . }", second.assembleQuery());
+        assertEquals(4, second.getParameters().size());
+    }
+
+    @Test
+    void copyAssemblesSameQueryAsParsedHolder() {
+        final SparqlQueryHolder parsed = new SparqlQueryParser(valueFactory).parseQuery(QUERY);
+        final SparqlQueryHolder copy = sut.getSparqlQuery(QUERY, valueFactory);
+        parsed.setParameter(parsed.getParameter("z"), "value");
+        copy.setParameter(copy.getParameter("z"), "value");
+        parsed.setParameter(parsed.getParameter(1), 117);
+        copy.setParameter(copy.getParameter(1), 117);
+        assertEquals(parsed.assembleQuery(), copy.assembleQuery());
+    }
+
+    @Test
+    void getSoqlQueryCachesTranslatedQuery() throws Exception {
+        final MetamodelImpl metamodel = mock(MetamodelImpl.class);
+        new MetamodelMocks().setMocks(metamodel);
+        final String soql = "SELECT a FROM OWLClassA a";
+        final SparqlQueryHolder first = sut.getSoqlQuery(soql, metamodel, valueFactory);
+        final SparqlQueryHolder second = sut.getSoqlQuery(soql, metamodel, valueFactory);
+        assertEquals(1, sut.size());
+        assertEquals(first.assembleQuery(), second.assembleQuery());
+    }
+
+    @Test
+    void sameQueryTextIsCachedSeparatelyForSparqlAndSoql() throws Exception {
+        final MetamodelImpl metamodel = mock(MetamodelImpl.class);
+        new MetamodelMocks().setMocks(metamodel);
+        final String soql = "SELECT a FROM OWLClassA a";
+        sut.getSoqlQuery(soql, metamodel, valueFactory);
+        final SparqlQueryHolder sparql = sut.getSparqlQuery(soql, valueFactory);
+        assertEquals(soql, sparql.getQuery());
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void cacheDoesNotExceedCapacity() {
+        this.sut = new QueryTemplateCache(mock(MetamodelProvider.class), new Configuration(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY, "2")));
+        for (int i = 0; i < 5; i++) {
+            sut.getSparqlQuery("SELECT ?x WHERE { ?x ?y " + i + " . }", valueFactory);
+        }
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void preloadedQueriesAreNotEvicted() {
+        this.sut = new QueryTemplateCache(mock(MetamodelProvider.class), new Configuration(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_TEMPLATE_CACHE_CAPACITY, "0")));
+        sut.preloadSparqlQuery(QUERY);
+        sut.getSparqlQuery("SELECT ?x WHERE { ?x ?y ?z . }", valueFactory);
+        sut.clear();
+        assertEquals(1, sut.size());
+        assertEquals(4, sut.getSparqlQuery(QUERY, valueFactory).getParameters().size());
+        assertEquals(1, sut.size());
+    }
+}
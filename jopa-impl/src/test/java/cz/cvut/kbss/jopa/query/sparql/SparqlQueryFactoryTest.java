@@ -22,11 +22,14 @@ import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
+import cz.cvut.kbss.jopa.utils.Configuration;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Collections;
+
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.*;
 
@@ -56,6 +59,9 @@ public class SparqlQueryFactoryTest {
         final MetamodelImpl metamodel = mock(MetamodelImpl.class);
         new MetamodelMocks().setMocks(metamodel);
         when(uowMock.getMetamodel()).thenReturn(metamodel);
+        when(uowMock.getConfiguration()).thenReturn(new Configuration(Collections.emptyMap()));
+        when(uowMock.getQueryTemplateCache())
+                .thenReturn(new QueryTemplateCache(uowMock, new Configuration(Collections.emptyMap())));
         this.factory = new SparqlQueryFactory(uowMock, connectionMock);
     }
 
@@ -20,12 +20,17 @@ import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class SparqlQueryHolderTest {
@@ -78,4 +83,32 @@ class SparqlQueryHolderTest {
         assertThat(result, containsString("LIMIT 10"));
         assertThat(result, containsString("OFFSET 5"));
     }
+
+    @Test
+    void assembleQueryWithBindingsLeavesSingleTermParameterValuesAsVariablesAndReturnsThemInBindings() {
+        final URI type = URI.create("http://krizik.felk.cvut.cz/ontologies/jopa#OWLClassA");
+        sut.setParameter(sut.getParameter("type"), type);
+        final Map<String, String> bindings = new HashMap<>();
+        final String result = sut.assembleQuery(bindings);
+        assertEquals(QUERY, result);
+        assertEquals(1, bindings.size());
+        assertEquals("<" + type + ">", bindings.get("type"));
+    }
+
+    @Test
+    void assembleQueryWithBindingsDoesNotBindUnsetParameters() {
+        final Map<String, String> bindings = new HashMap<>();
+        final String result = sut.assembleQuery(bindings);
+        assertEquals(QUERY, result);
+        assertTrue(bindings.isEmpty());
+    }
+
+    @Test
+    void assembleQueryWithBindingsInsertsUntypedParameterValuesIntoQuery() {
+        sut.setUntypedParameter(sut.getParameter("type"), "?y");
+        final Map<String, String> bindings = new HashMap<>();
+        final String result = sut.assembleQuery(bindings);
+        assertEquals("SELECT ?x WHERE { ?x a ?y . }", result);
+        assertTrue(bindings.isEmpty());
+    }
 }
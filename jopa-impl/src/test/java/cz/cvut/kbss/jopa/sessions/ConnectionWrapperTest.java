@@ -22,6 +22,7 @@ import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -68,4 +69,17 @@ class ConnectionWrapperTest {
         when(connectionMock.unwrap(Object.class)).thenThrow(new OntoDriverException());
         assertThrows(OWLPersistenceException.class, () -> connectionWrapper.unwrap(Object.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createStatementWritesDeferredAttributeChangesOfUnitOfWork() throws Exception {
+        final UnitOfWorkImpl uowMock = mock(UnitOfWorkImpl.class);
+        final Field uowField = ConnectionWrapper.class.getDeclaredField("uow");
+        uowField.setAccessible(true);
+        uowField.set(connectionWrapper, uowMock);
+
+        connectionWrapper.createStatement();
+        final InOrder inOrder = inOrder(uowMock, connectionMock);
+        inOrder.verify(uowMock).writePendingAttributeChanges();
+        inOrder.verify(connectionMock).createStatement();
+    }
+}
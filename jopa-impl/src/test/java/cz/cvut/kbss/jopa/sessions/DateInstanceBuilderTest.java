@@ -15,6 +15,7 @@ package cz.cvut.kbss.jopa.sessions;
 import cz.cvut.kbss.jopa.environment.OWLClassM;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -60,7 +61,7 @@ class DateInstanceBuilderTest {
         final Date orig = new Date();
         final Date clone = new Date(System.currentTimeMillis() - 100000);
         entityM.setDateAttribute(orig);
-        builder.mergeChanges(dateField, entityM, orig, clone);
+        builder.mergeChanges(FieldAccessor.of(dateField), entityM, orig, clone);
         assertEquals(clone, entityM.getDateAttribute());
     }
 }
@@ -6,6 +6,7 @@ import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -71,7 +72,7 @@ class MultilingualStringInstanceBuilderTest {
         final MultilingualString original = MultilingualString.create("construction", Generators.LANG);
         final OWLClassU target = new OWLClassU();
         target.setSingularStringAtt(original);
-        sut.mergeChanges(OWLClassU.getSingularStringAttField(), target, original, clone);
+        sut.mergeChanges(FieldAccessor.of(OWLClassU.getSingularStringAttField()), target, original, clone);
         assertEquals(clone.getValue(), target.getSingularStringAtt().getValue());
     }
 
@@ -80,7 +81,7 @@ class MultilingualStringInstanceBuilderTest {
         final MultilingualString original = MultilingualString.create("construction", Generators.LANG);
         final OWLClassU target = new OWLClassU();
         target.setSingularStringAtt(original);
-        sut.mergeChanges(OWLClassU.getSingularStringAttField(), target, original, null);
+        sut.mergeChanges(FieldAccessor.of(OWLClassU.getSingularStringAttField()), target, original, null);
         assertNull(target.getSingularStringAtt());
     }
 }
@@ -15,7 +15,11 @@ package cz.cvut.kbss.jopa.sessions;
 import cz.cvut.kbss.jopa.accessors.DataSourceStub;
 import cz.cvut.kbss.jopa.accessors.StorageAccessor;
 import cz.cvut.kbss.jopa.model.AbstractEntityManager;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplateCache;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
@@ -24,11 +28,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.net.URI;
 import java.util.Collections;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class ServerSessionTest {
@@ -36,12 +42,14 @@ public class ServerSessionTest {
     @Mock
     private MetamodelImpl metamodelMock;
 
+    private OntologyStorageProperties storageProperties;
+
     private ServerSession session;
 
     @BeforeEach
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
-        OntologyStorageProperties storageProperties = OntologyStorageProperties.ontologyUri(
+        this.storageProperties = OntologyStorageProperties.ontologyUri(
                 URI.create("http://krizik.felk.cvut.cz/ontologies/jopa")).physicalUri(
                 URI.create("file://tmp/jopa")).driver(DataSourceStub.class.getCanonicalName()).build();
         when(metamodelMock.getEntities()).thenReturn(Collections.emptySet());
@@ -70,4 +78,34 @@ public class ServerSessionTest {
         final StorageAccessor sa = session.unwrap(StorageAccessor.class);
         assertNotNull(sa);
     }
+
+    @Test
+    public void initRegistersCacheStatisticsMBeanWhenConfigured() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName query = new ObjectName("cz.cvut.kbss.jopa:type=CacheStatistics,*");
+        final int before = server.queryNames(query, null).size();
+        final ServerSession sut = new ServerSession(storageProperties, new Configuration(
+                Collections.singletonMap(JOPAPersistenceProperties.CACHE_STATISTICS_JMX, Boolean.TRUE.toString())),
+                metamodelMock);
+        assertEquals(before + 1, server.queryNames(query, null).size());
+
+        sut.close();
+        assertEquals(before, server.queryNames(query, null).size());
+    }
+
+    @Test
+    public void initPreloadsNamedQueriesIntoQueryTemplateCache() {
+        final NamedQueryManager namedQueryManager = new NamedQueryManager();
+        final String query = "SELECT ?x WHERE { ?x a ?type . }";
+        namedQueryManager.addNamedQuery("selectAll", query);
+        when(metamodelMock.getNamedQueryManager()).thenReturn(namedQueryManager);
+        final ServerSession sut =
+                new ServerSession(storageProperties, new Configuration(Collections.emptyMap()), metamodelMock);
+        final QueryTemplateCache cache = sut.getQueryTemplateCache();
+        cache.clear();
+        assertEquals(1, cache.size());
+        assertEquals(query, cache.getSparqlQuery(query, new ParameterValueFactory(sut)).getQuery());
+        assertEquals(1, cache.size());
+        sut.close();
+    }
 }
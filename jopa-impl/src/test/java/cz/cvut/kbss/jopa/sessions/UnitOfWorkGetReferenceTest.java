@@ -173,7 +173,6 @@ public class UnitOfWorkGetReferenceTest extends UnitOfWorkTestBase {
 
     @Test
     void getReferenceLoadsOriginalFromSecondLevelCacheWhenPresent() {
-        when(cacheManagerMock.contains(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(true);
         when(cacheManagerMock.get(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(entityA);
         final OWLClassA reference = new OWLClassA(entityA.getUri());
         when(storageMock.getReference(any(LoadingParameters.class))).thenReturn(reference);
@@ -184,7 +183,6 @@ public class UnitOfWorkGetReferenceTest extends UnitOfWorkTestBase {
     @Test
     void changesToGetReferenceResultAreMergedIntoOriginalInCache() {
         when(transactionMock.isActive()).thenReturn(true);
-        when(cacheManagerMock.contains(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(true);
         when(cacheManagerMock.get(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(entityA);
         final OWLClassA reference = new OWLClassA(entityA.getUri());
         when(storageMock.getReference(any(LoadingParameters.class))).thenReturn(reference);
@@ -198,7 +196,6 @@ public class UnitOfWorkGetReferenceTest extends UnitOfWorkTestBase {
     @Test
     void uowCommitEvictsInstanceRetrievedUsingGetReferenceFromCacheWhenItWasNotPresentThereOnRetrieval() {
         when(transactionMock.isActive()).thenReturn(true);
-        when(cacheManagerMock.contains(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(false);
         final OWLClassA reference = new OWLClassA(entityA.getUri());
         when(storageMock.getReference(any(LoadingParameters.class))).thenReturn(reference);
         final OWLClassA a = uow.getReference(OWLClassA.class, entityA.getUri(), descriptor);
@@ -24,12 +24,14 @@ import cz.cvut.kbss.jopa.exceptions.EntityNotFoundException;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.EntityManagerImpl.State;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
@@ -105,6 +107,102 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         verify(storageMock, never()).find(any());
     }
 
+    @Test
+    void readObjectsLoadsUnmanagedObjectsFromStorageInSingleCall() {
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        final List<URI> identifiers = Arrays.asList(entityA.getUri(), another.getUri());
+        when(storageMock.findAll(OWLClassA.class, identifiers, descriptor)).thenReturn(Arrays.asList(entityA, another));
+
+        final List<OWLClassA> result = uow.readObjects(OWLClassA.class, identifiers, descriptor);
+        assertEquals(2, result.size());
+        assertEquals(entityA.getUri(), result.get(0).getUri());
+        assertEquals(another.getUri(), result.get(1).getUri());
+        assertTrue(uow.contains(result.get(0)));
+        assertTrue(uow.contains(result.get(1)));
+        verify(storageMock).findAll(OWLClassA.class, identifiers, descriptor);
+        verify(storageMock, never()).find(any());
+    }
+
+    @Test
+    void readObjectsReturnsManagedObjectsAndLoadsOnlyTheRemainingOnes() {
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        when(storageMock.findAll(OWLClassA.class, Collections.singletonList(another.getUri()), descriptor))
+                .thenReturn(Collections.singletonList(another));
+
+        final List<OWLClassA> result =
+                uow.readObjects(OWLClassA.class, Arrays.asList(entityA.getUri(), another.getUri()), descriptor);
+        assertSame(clone, result.get(0));
+        assertEquals(another.getUri(), result.get(1).getUri());
+        verify(storageMock).findAll(OWLClassA.class, Collections.singletonList(another.getUri()), descriptor);
+    }
+
+    @Test
+    void readObjectsReturnsNullForObjectsNotFoundInStorage() {
+        final URI unknown = Generators.createIndividualIdentifier();
+        final List<URI> identifiers = Arrays.asList(entityA.getUri(), unknown);
+        when(storageMock.findAll(OWLClassA.class, identifiers, descriptor)).thenReturn(Arrays.asList(entityA, null));
+
+        final List<OWLClassA> result = uow.readObjects(OWLClassA.class, identifiers, descriptor);
+        assertEquals(2, result.size());
+        assertNotNull(result.get(0));
+        assertNull(result.get(1));
+    }
+
+    @Test
+    void readObjectWithoutRegistrationReturnsReadOnlyCopyOfLoadedInstance() {
+        when(storageMock.find(new LoadingParameters<>(OWLClassA.class, entityA.getUri(), descriptor)))
+                .thenReturn(entityA);
+        final OWLClassA res = uow.readObjectWithoutRegistration(OWLClassA.class, entityA.getUri(), descriptor);
+        assertNotSame(entityA, res);
+        assertEquals(entityA.getUri(), res.getUri());
+        assertEquals(entityA.getStringAttribute(), res.getStringAttribute());
+        assertEquals(entityA.getTypes(), res.getTypes());
+        assertThrows(UnsupportedOperationException.class, () -> res.getTypes().add(Vocabulary.c_OwlClassA));
+        assertFalse(uow.contains(res));
+    }
+
+    @Test
+    void readObjectWithoutRegistrationReturnsCopySharingReferencedInstances() {
+        when(storageMock.find(new LoadingParameters<>(OWLClassD.class, entityD.getUri(), descriptor)))
+                .thenReturn(entityD);
+        final OWLClassD res = uow.readObjectWithoutRegistration(OWLClassD.class, entityD.getUri(), descriptor);
+        assertNotSame(entityD, res);
+        assertSame(entityA, res.getOwlClassA());
+    }
+
+    @Test
+    void readObjectWithoutRegistrationReturnsAlreadyManagedInstance() {
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final OWLClassA res = uow.readObjectWithoutRegistration(OWLClassA.class, entityA.getUri(), descriptor);
+        assertSame(clone, res);
+        verify(storageMock, never()).find(any());
+    }
+
+    @Test
+    void readObjectWithoutRegistrationReturnsNullForRemovedInstance() {
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        uow.removeObject(clone);
+        assertNull(uow.readObjectWithoutRegistration(OWLClassA.class, entityA.getUri(), descriptor));
+        verify(storageMock, never()).find(any());
+    }
+
+    @Test
+    void readObjectsWithoutRegistrationLoadsUnmanagedObjectsInSingleCallAsReadOnlyCopies() {
+        final OWLClassA clone = (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        when(storageMock.findAll(OWLClassA.class, Collections.singletonList(another.getUri()), descriptor))
+                .thenReturn(Collections.singletonList(another));
+
+        final List<OWLClassA> result = uow.readObjectsWithoutRegistration(OWLClassA.class,
+                Arrays.asList(entityA.getUri(), another.getUri()), descriptor);
+        assertSame(clone, result.get(0));
+        assertNotSame(another, result.get(1));
+        assertEquals(another.getUri(), result.get(1).getUri());
+        assertThrows(UnsupportedOperationException.class, () -> result.get(1).getTypes().clear());
+        assertFalse(uow.contains(result.get(1)));
+    }
+
     @Test
     void testCalculateNewObjects() {
         uow.registerNewObject(entityA, descriptor);
@@ -1059,4 +1157,69 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         uow.removeObject(entity);
         assertNull(uow.getManagedOriginal(OWLClassA.class, entityA.getUri(), descriptor));
     }
+
+    @Test
+    void attributeChangedDoesNotWriteIntoStorageWhenAttributeWritesAreDeferred() throws Exception {
+        final OWLClassA clone = registerWithDeferredAttributeWrites();
+        final Field strField = OWLClassA.getStrAttField();
+
+        uow.attributeChanged(clone, strField);
+        verify(storageMock, never()).merge(any(), any(Field.class), any());
+        verify(storageMock, never()).merge(any(), anyCollection(), any());
+    }
+
+    private OWLClassA registerWithDeferredAttributeWrites() {
+        serverSessionStub.getConfiguration().set(JOPAPersistenceProperties.DEFERRED_ATTRIBUTE_WRITES, "true");
+        this.uow = new UnitOfWorkImpl(serverSessionStub);
+        uow.setEntityManager(emMock);
+        when(transactionMock.isActive()).thenReturn(Boolean.TRUE);
+        return (OWLClassA) uow.registerExistingObject(entityA, descriptor);
+    }
+
+    @Test
+    void commitWritesDeferredAttributeChangesOnceForEachEntity() throws Exception {
+        final OWLClassA clone = registerWithDeferredAttributeWrites();
+        clone.setStringAttribute("first");
+        uow.attributeChanged(clone, OWLClassA.getStrAttField());
+        clone.setTypes(Collections.singleton(Generators.createIndividualIdentifier().toString()));
+        uow.attributeChanged(clone, OWLClassA.getTypesField());
+        clone.setStringAttribute("second");
+        uow.attributeChanged(clone, OWLClassA.getStrAttField());
+
+        uow.commit();
+        final InOrder inOrder = inOrder(storageMock);
+        inOrder.verify(storageMock).merge(clone,
+                new LinkedHashSet<>(Arrays.asList(OWLClassA.getStrAttField(), OWLClassA.getTypesField())), descriptor);
+        inOrder.verify(storageMock).commit();
+        verify(storageMock, never()).merge(any(), any(Field.class), any());
+    }
+
+    @Test
+    void writePendingAttributeChangesDoesNothingWhenThereAreNoDeferredChanges() {
+        registerWithDeferredAttributeWrites();
+        uow.writePendingAttributeChanges();
+        verify(storageMock, never()).merge(any(), anyCollection(), any());
+    }
+
+    @Test
+    void removeObjectDiscardsDeferredAttributeChanges() throws Exception {
+        final OWLClassA clone = registerWithDeferredAttributeWrites();
+        clone.setStringAttribute("update");
+        uow.attributeChanged(clone, OWLClassA.getStrAttField());
+        uow.removeObject(clone);
+
+        uow.commit();
+        verify(storageMock).remove(entityA.getUri(), OWLClassA.class, descriptor);
+        verify(storageMock, never()).merge(any(), anyCollection(), any());
+    }
+
+    @Test
+    void unregisterObjectWritesDeferredAttributeChangesOfDetachedInstance() throws Exception {
+        final OWLClassA clone = registerWithDeferredAttributeWrites();
+        clone.setStringAttribute("update");
+        uow.attributeChanged(clone, OWLClassA.getStrAttField());
+        uow.unregisterObject(clone);
+
+        verify(storageMock).merge(clone, Collections.singleton(OWLClassA.getStrAttField()), descriptor);
+    }
 }
@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
@@ -423,4 +424,82 @@ public abstract class AbstractCacheManagerTest<T extends CacheManager> {
         manager.evict(URI.class, uri, CONTEXT_ONE);
         assertTrue(manager.contains(URI.class, uri, new EntityDescriptor()));
     }
+
+    @Test
+    public void getStatisticsReturnsHitsMissesAndLoads() {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        manager.get(OWLClassA.class, testA.getUri(), descriptor);
+        manager.get(OWLClassA.class, testA.getUri(), descriptor);
+        manager.get(OWLClassB.class, testB.getUri(), descriptor);
+        manager.recordLoad(2, 1000L);
+
+        final CacheStatistics stats = manager.getStatistics();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2, stats.getLoadCount());
+        assertEquals(1000L, stats.getTotalLoadTime());
+        assertEquals(500.0, stats.getAverageLoadTime());
+    }
+
+    @Test
+    public void getStatisticsDoesNotCountContainsAsLookup() {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        manager.contains(OWLClassA.class, testA.getUri(), descriptor);
+        manager.contains(OWLClassB.class, testB.getUri(), descriptor);
+
+        final CacheStatistics stats = manager.getStatistics();
+        assertEquals(0, stats.getHitCount());
+        assertEquals(0, stats.getMissCount());
+    }
+
+    @Test
+    public void getStatisticsReturnsEntryCountsPerContextAndClass() {
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_ONE));
+        manager.add(testA.getUri(), testA, descriptor(null));
+
+        final CacheStatistics stats = manager.getStatistics();
+        assertEquals(3, stats.getEntryCount());
+        assertEquals(Long.valueOf(2), stats.getEntryCountPerContext().get(CONTEXT_ONE));
+        assertEquals(Long.valueOf(1), stats.getEntryCountPerContext().get(null));
+        assertEquals(Long.valueOf(2), stats.getEntryCountPerClass().get(OWLClassA.class));
+        assertEquals(Long.valueOf(1), stats.getEntryCountPerClass().get(OWLClassB.class));
+    }
+
+    @Test
+    public void getStatisticsCountsExplicitEvictions() {
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_ONE));
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_TWO));
+        manager.evict(OWLClassA.class, testA.getUri(), CONTEXT_TWO);
+        manager.evict(CONTEXT_ONE);
+
+        final CacheStatistics stats = manager.getStatistics();
+        assertEquals(3, stats.getEvictionCount(CacheStatistics.EvictionCause.EXPLICIT));
+        assertEquals(3, stats.getEvictionCount());
+        assertEquals(0, stats.getEntryCount());
+    }
+
+    @Test
+    public void liveStatisticsReflectCacheOperationsExecutedAfterTheyWereObtained() {
+        final CacheStatistics stats = ((CacheStatisticsSource) manager).getLiveStatistics();
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        manager.add(testB.getUri(), testB, descriptor(null));
+        manager.get(OWLClassA.class, testA.getUri(), descriptor);
+        manager.get(OWLClassB.class, testB.getUri(), descriptor);
+        manager.recordLoad(1, 100L);
+        manager.evict(OWLClassA.class, testA.getUri(), CONTEXT_ONE);
+
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getLoadCount());
+        assertEquals(100L, stats.getTotalLoadTime());
+        assertEquals(1, stats.getEvictionCount(CacheStatistics.EvictionCause.EXPLICIT));
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(Collections.singletonMap(null, 1L), stats.getEntryCountPerContext());
+        assertEquals(Collections.singletonMap(OWLClassB.class, 1L), stats.getEntryCountPerClass());
+    }
 }
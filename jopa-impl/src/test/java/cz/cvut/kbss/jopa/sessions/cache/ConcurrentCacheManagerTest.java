@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentCacheManagerTest extends AbstractCacheManagerTest<ConcurrentCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new ConcurrentCacheManager();
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() {
+        return manager.getDescriptors();
+    }
+
+    @Test
+    void initWithDefaultCapacity() {
+        assertEquals(LruCacheManager.DEFAULT_CAPACITY, manager.getCapacity());
+    }
+
+    @Test
+    void initWithCustomCapacity() {
+        final int capacity = 117;
+        this.manager = new ConcurrentCacheManager(Collections.singletonMap(
+                JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY, Integer.toString(capacity)));
+        assertEquals(capacity, manager.getCapacity());
+    }
+
+    @Test
+    void initUsesLruCapacitySettingWhenConcurrentCapacityIsNotSpecified() {
+        final int capacity = 117;
+        this.manager = new ConcurrentCacheManager(Collections.singletonMap(
+                JOPAPersistenceProperties.LRU_CACHE_CAPACITY, Integer.toString(capacity)));
+        assertEquals(capacity, manager.getCapacity());
+    }
+
+    @Test
+    void initWithInvalidCapacityUsesDefaultValue() {
+        this.manager = new ConcurrentCacheManager(Collections.singletonMap(
+                JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY, "-111"));
+        assertEquals(LruCacheManager.DEFAULT_CAPACITY, manager.getCapacity());
+    }
+
+    @Test
+    void initRoundsSegmentCountToPowerOfTwo() {
+        this.manager = new ConcurrentCacheManager(Collections.singletonMap(
+                JOPAPersistenceProperties.CONCURRENT_CACHE_SEGMENTS, "5"));
+        assertEquals(8, manager.getSegmentCount());
+    }
+
+    @Test
+    void initDoesNotCreateMoreSegmentsThanIsCapacity() {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY, "6");
+        props.put(JOPAPersistenceProperties.CONCURRENT_CACHE_SEGMENTS, "64");
+        this.manager = new ConcurrentCacheManager(props);
+        assertEquals(4, manager.getSegmentCount());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryGetsEvictedWhenSegmentIsFull() {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY, "3");
+        props.put(JOPAPersistenceProperties.CONCURRENT_CACHE_SEGMENTS, "1");
+        this.manager = new ConcurrentCacheManager(props);
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        final List<OWLClassA> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+            instances.add(a);
+            manager.add(a.getUri(), a, descriptor);
+        }
+        manager.get(OWLClassA.class, instances.get(0).getUri(), descriptor);
+        final OWLClassA newA = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(newA.getUri(), newA, descriptor);
+
+        assertTrue(manager.contains(OWLClassA.class, instances.get(0).getUri(), descriptor));
+        assertFalse(manager.contains(OWLClassA.class, instances.get(1).getUri(), descriptor));
+        assertTrue(manager.contains(OWLClassA.class, instances.get(2).getUri(), descriptor));
+        assertTrue(manager.contains(OWLClassA.class, newA.getUri(), descriptor));
+    }
+
+    @Test
+    void repeatedlyReplacedEntryDoesNotCauseEvictionOfOtherEntries() {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY, "3");
+        props.put(JOPAPersistenceProperties.CONCURRENT_CACHE_SEGMENTS, "1");
+        this.manager = new ConcurrentCacheManager(props);
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(a.getUri(), a, descriptor);
+        final URI replacedId = Generators.createIndividualIdentifier();
+        for (int i = 0; i < 100; i++) {
+            manager.add(replacedId, new OWLClassA(replacedId), descriptor);
+        }
+
+        assertEquals(2, manager.getDescriptors().size());
+        assertTrue(manager.contains(OWLClassA.class, a.getUri(), descriptor));
+        assertTrue(manager.contains(OWLClassA.class, replacedId, descriptor));
+    }
+
+    @Test
+    void cacheSizeDoesNotExceedCapacityUnderConcurrentAccess() throws Exception {
+        final int capacity = 64;
+        this.manager = new ConcurrentCacheManager(Collections.singletonMap(
+                JOPAPersistenceProperties.CONCURRENT_CACHE_CAPACITY, Integer.toString(capacity)));
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        final URI id = Generators.createIndividualIdentifier();
+                        manager.add(id, new OWLClassA(id), descriptor(CONTEXT_ONE));
+                        manager.get(OWLClassA.class, id, descriptor(CONTEXT_ONE));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(manager.getDescriptors().size() <= capacity);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextPartitionedCacheManagerTest extends AbstractCacheManagerTest<ContextPartitionedCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new ContextPartitionedCacheManager();
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() {
+        return manager.getDescriptors();
+    }
+
+    @Test
+    void initWithDefaultContextCapacity() {
+        assertEquals(ContextPartitionedCacheManager.DEFAULT_CONTEXT_CAPACITY, manager.getContextCapacity());
+    }
+
+    @Test
+    void initWithCustomContextCapacity() {
+        this.manager = new ContextPartitionedCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.PARTITIONED_CACHE_CONTEXT_CAPACITY, "117"));
+        assertEquals(117, manager.getContextCapacity());
+    }
+
+    @Test
+    void initWithInvalidContextCapacityUsesDefaultValue() {
+        this.manager = new ContextPartitionedCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.PARTITIONED_CACHE_CONTEXT_CAPACITY, "-1"));
+        assertEquals(ContextPartitionedCacheManager.DEFAULT_CONTEXT_CAPACITY, manager.getContextCapacity());
+    }
+
+    @Test
+    void fillingContextEvictsOnlyLeastRecentlyUsedRecordsOfThatContext() {
+        this.manager = new ContextPartitionedCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.PARTITIONED_CACHE_CONTEXT_CAPACITY, "2"));
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_TWO));
+        final List<OWLClassA> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+            instances.add(a);
+            manager.add(a.getUri(), a, descriptor(CONTEXT_ONE));
+        }
+
+        assertFalse(manager.contains(OWLClassA.class, instances.get(0).getUri(), descriptor(CONTEXT_ONE)));
+        assertTrue(manager.contains(OWLClassA.class, instances.get(1).getUri(), descriptor(CONTEXT_ONE)));
+        assertTrue(manager.contains(OWLClassA.class, instances.get(2).getUri(), descriptor(CONTEXT_ONE)));
+        assertTrue(manager.contains(OWLClassA.class, testA.getUri(), descriptor(CONTEXT_TWO)));
+    }
+
+    @Test
+    void containsDoesNotAffectStatisticsNorEvictionOrder() {
+        this.manager = new ContextPartitionedCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.PARTITIONED_CACHE_CONTEXT_CAPACITY, "2"));
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        final OWLClassA first = new OWLClassA(Generators.createIndividualIdentifier());
+        final OWLClassA second = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(first.getUri(), first, descriptor);
+        manager.add(second.getUri(), second, descriptor);
+        assertTrue(manager.contains(OWLClassA.class, first.getUri(), descriptor));
+        assertFalse(manager.contains(OWLClassA.class, testA.getUri(), descriptor));
+        manager.add(testA.getUri(), testA, descriptor);
+
+        final ContextCacheStatistics stats = manager.getContextStatistics().get(CONTEXT_ONE);
+        assertEquals(0, stats.getHitCount());
+        assertEquals(0, stats.getMissCount());
+        assertEquals(0, manager.getStatistics().getHitCount());
+        assertEquals(0, manager.getStatistics().getMissCount());
+        assertFalse(manager.contains(OWLClassA.class, first.getUri(), descriptor));
+        assertTrue(manager.contains(OWLClassA.class, second.getUri(), descriptor));
+    }
+
+    @Test
+    void getContextStatisticsReturnsHitsMissesAndEvictionsPerContext() {
+        this.manager = new ContextPartitionedCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.PARTITIONED_CACHE_CONTEXT_CAPACITY, "1"));
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_ONE));
+        manager.add(testA.getUri(), testA, descriptor(null));
+        manager.get(OWLClassA.class, testA.getUri(), descriptor(CONTEXT_ONE));
+        manager.get(testB.getClass(), testB.getUri(), descriptor(CONTEXT_ONE));
+        manager.get(OWLClassA.class, testA.getUri(), descriptor(null));
+
+        final Map<URI, ContextCacheStatistics> stats = manager.getContextStatistics();
+        assertEquals(2, stats.size());
+        final ContextCacheStatistics ctxOne = stats.get(CONTEXT_ONE);
+        assertEquals(1, ctxOne.getHitCount());
+        assertEquals(1, ctxOne.getMissCount());
+        assertEquals(1, ctxOne.getEvictionCount());
+        assertEquals(1, ctxOne.getSize());
+        final ContextCacheStatistics defaultCtx = stats.get(null);
+        assertEquals(1, defaultCtx.getHitCount());
+        assertEquals(0, defaultCtx.getMissCount());
+        assertEquals(0, defaultCtx.getEvictionCount());
+    }
+
+    @Test
+    void evictByContextRetainsContextStatistics() {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        manager.get(OWLClassA.class, testA.getUri(), descriptor);
+        manager.evict(CONTEXT_ONE);
+
+        final ContextCacheStatistics stats = manager.getContextStatistics().get(CONTEXT_ONE);
+        assertEquals(1, stats.getHitCount());
+        assertEquals(0, stats.getSize());
+    }
+}
@@ -19,12 +19,18 @@ import cz.cvut.kbss.jopa.environment.OWLClassE;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -118,6 +124,18 @@ public class LruCacheManagerTest extends AbstractCacheManagerTest<LruCacheManage
         assertTrue(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
     }
 
+    @Test
+    public void getStatisticsCountsCapacityEvictions() {
+        this.manager = new LruCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "2"));
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_TWO));
+
+        final CacheStatistics stats = manager.getStatistics();
+        assertEquals(1, stats.getEvictionCount(CacheStatistics.EvictionCause.CAPACITY));
+        assertEquals(0, stats.getEvictionCount(CacheStatistics.EvictionCause.EXPLICIT));
+    }
+
     @Test
     public void leastRecentlyUsedEntryGetsEvictedWhenCacheIsFull_withContext() {
         final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
@@ -140,14 +158,84 @@ public class LruCacheManagerTest extends AbstractCacheManagerTest<LruCacheManage
         assertFalse(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
     }
 
+    @Test
+    public void containsDoesNotMarkEntryAsRecentlyUsed() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final Descriptor descriptorTwo = descriptor(CONTEXT_TWO);
+        this.manager = new LruCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "3"));
+        manager.add(testA.getUri(), testA, descriptorOne);
+        manager.add(testB.getUri(), testB, descriptorTwo);
+
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+        final OWLClassA newA = new OWLClassA(URI.create("http://newA"));
+        manager.add(newA.getUri(), newA, descriptorTwo);
+
+        assertFalse(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+        assertTrue(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
+        assertTrue(manager.contains(newA.getClass(), newA.getUri(), descriptorTwo));
+    }
+
+    @Test
+    public void addingExistingEntryMarksItAsRecentlyUsed() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final Descriptor descriptorTwo = descriptor(CONTEXT_TWO);
+        this.manager = new LruCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "3"));
+        manager.add(testA.getUri(), testA, descriptorOne);
+        manager.add(testB.getUri(), testB, descriptorTwo);
+
+        manager.add(testA.getUri(), testA, descriptorOne);
+        final OWLClassA newA = new OWLClassA(URI.create("http://newA"));
+        manager.add(newA.getUri(), newA, descriptorTwo);
+
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+        assertFalse(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
+        assertTrue(manager.contains(newA.getClass(), newA.getUri(), descriptorTwo));
+    }
+
+    @Test
+    public void getDoesNotRequireExclusiveLock() throws Exception {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        final Field readLockField = LruCacheManager.class.getDeclaredField("readLock");
+        readLockField.setAccessible(true);
+        final Lock readLock = (Lock) readLockField.get(manager);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        readLock.lock();
+        try {
+            final Future<OWLClassA> result =
+                    executor.submit(() -> manager.get(OWLClassA.class, testA.getUri(), descriptor));
+            assertSame(testA, result.get(5, TimeUnit.SECONDS));
+        } finally {
+            readLock.unlock();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void evictionOfEntityInOneContextKeepsEntitiesWithSameIdentifierInOtherContexts() {
+        final URI contextThree = Generators.createIndividualIdentifier();
+        final OWLClassA aTwo = new OWLClassA(testA.getUri());
+        final OWLClassA aThree = new OWLClassA(testA.getUri());
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(aTwo.getUri(), aTwo, descriptor(CONTEXT_TWO));
+        manager.add(aThree.getUri(), aThree, descriptor(contextThree));
+
+        manager.evict(OWLClassA.class, testA.getUri(), CONTEXT_TWO);
+        assertSame(testA, manager.get(OWLClassA.class, testA.getUri(), descriptor(CONTEXT_ONE)));
+        assertNull(manager.get(OWLClassA.class, testA.getUri(), descriptor(CONTEXT_TWO)));
+        assertSame(aThree, manager.get(OWLClassA.class, testA.getUri(), descriptor(contextThree)));
+    }
+
     @Override
     Map<?, ?> extractDescriptors() throws Exception {
         final Field cacheField = LruCacheManager.class.getDeclaredField("entityCache");
         cacheField.setAccessible(true);
         final EntityCache cache = (EntityCache) cacheField.get(manager);
-        final Field descriptorsField = EntityCache.class.getDeclaredField("descriptors");
-        descriptorsField.setAccessible(true);
-        return (Map<?, ?>) descriptorsField.get(cache);
+        final Map<Object, Descriptor> descriptors = new IdentityHashMap<>();
+        cache.entries.values().forEach(e -> descriptors.put(e.entity, e.descriptor));
+        return descriptors;
     }
 
     @Test
@@ -17,12 +17,15 @@ package cz.cvut.kbss.jopa.sessions.cache;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.CacheStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -110,6 +113,105 @@ public class TtlCacheManagerTest extends AbstractCacheManagerTest<TtlCacheManage
         this.manager = new TtlCacheManager(props);
     }
 
+    @Test
+    public void expiredRecordsAreNotReturnedBeforeSweeperRuns() throws Exception {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "100");
+        this.manager = new TtlCacheManager(props);
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptor));
+        Thread.sleep(1500);
+        assertFalse(manager.contains(testA.getClass(), testA.getUri(), descriptor));
+        assertNull(manager.get(testA.getClass(), testA.getUri(), descriptor));
+        assertEquals(0, manager.getSweepCount());
+    }
+
+    @Test
+    public void addIntoExpiredContextEvictsExpiredRecordsOfContext() throws Exception {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "100");
+        this.manager = new TtlCacheManager(props);
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        Thread.sleep(1500);
+        manager.add(testB.getUri(), testB, descriptor);
+        assertFalse(manager.contains(testA.getClass(), testA.getUri(), descriptor));
+        assertTrue(manager.contains(testB.getClass(), testB.getUri(), descriptor));
+        assertFalse(extractDescriptors().containsKey(testA));
+    }
+
+    @Test
+    public void sweepEvictsExpiredContextsAndRecordsPause() throws Exception {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "100");
+        this.manager = new TtlCacheManager(props);
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        Thread.sleep(1500);
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_TWO));
+        manager.sweep();
+        assertEquals(1, manager.getSweepCount());
+        assertTrue(manager.getLastSweepPauseNanos() > 0);
+        assertTrue(manager.getMaxSweepPauseNanos() >= manager.getLastSweepPauseNanos());
+        assertFalse(extractDescriptors().containsKey(testA));
+        assertTrue(manager.contains(testB.getClass(), testB.getUri(), descriptor(CONTEXT_TWO)));
+    }
+
+    @Test
+    public void getStatisticsCountsExpirationEvictions() throws Exception {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "100");
+        this.manager = new TtlCacheManager(props);
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_ONE));
+        Thread.sleep(1500);
+        manager.sweep();
+
+        final CacheStatistics stats = manager.getStatistics();
+        assertEquals(2, stats.getEvictionCount(CacheStatistics.EvictionCause.EXPIRATION));
+        assertEquals(0, stats.getEntryCount());
+    }
+
+    @Test
+    public void repeatedEvictionAndAddingIntoContextSchedulesSingleExpiration() throws Exception {
+        initSweepableManager();
+        for (int i = 0; i < 100; i++) {
+            manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+            manager.evict(CONTEXT_ONE);
+        }
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        assertEquals(1, extractExpirations().size());
+    }
+
+    @Test
+    public void sweepDropsExpirationsOfEvictedContexts() throws Exception {
+        final Map<String, String> props = new HashMap<>();
+        props.put(JOPAPersistenceProperties.CACHE_TTL, "1");
+        props.put(JOPAPersistenceProperties.CACHE_SWEEP_RATE, "100");
+        this.manager = new TtlCacheManager(props);
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_TWO));
+        manager.evict(CONTEXT_ONE);
+        Thread.sleep(1500);
+        manager.sweep();
+        assertTrue(extractExpirations().isEmpty());
+        manager.add(testA.getUri(), testA, descriptor(CONTEXT_ONE));
+        assertEquals(1, extractExpirations().size());
+    }
+
+    private Collection<?> extractExpirations() throws Exception {
+        final Field cacheField = TtlCacheManager.class.getDeclaredField("cache");
+        cacheField.setAccessible(true);
+        final Object cache = cacheField.get(manager);
+        final Field expirationsField = cache.getClass().getDeclaredField("expirations");
+        expirationsField.setAccessible(true);
+        return (Collection<?>) expirationsField.get(cache);
+    }
+
     @Test
     public void closeShutsDownSweeper() throws Exception {
         initSweepableManager();
@@ -125,8 +227,8 @@ public class TtlCacheManagerTest extends AbstractCacheManagerTest<TtlCacheManage
         final Field cacheField = TtlCacheManager.class.getDeclaredField("cache");
         cacheField.setAccessible(true);
         final EntityCache cache = (EntityCache) cacheField.get(manager);
-        final Field descriptorsField = EntityCache.class.getDeclaredField("descriptors");
-        descriptorsField.setAccessible(true);
-        return (Map<?, ?>) descriptorsField.get(cache);
+        final Map<Object, Descriptor> descriptors = new IdentityHashMap<>();
+        cache.entries.values().forEach(e -> descriptors.put(e.entity, e.descriptor));
+        return descriptors;
     }
 }
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.maven;
+
+import cz.cvut.kbss.jopa.model.annotations.MappedSuperclass;
+import cz.cvut.kbss.jopa.model.annotations.OWLClass;
+import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping;
+import cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMappings;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates persistence unit class index.
+ * <p>
+ * The index lists entity, mapped superclass and SPARQL result set mapping classes compiled in the project. When the
+ * index is present on the classpath and the {@code cz.cvut.jopa.useClassIndex} persistence property is enabled, JOPA
+ * loads persistence unit classes from it instead of scanning the classpath on {@code EntityManagerFactory} creation.
+ * <p>
+ * The {@code package} parameter is required for the index to be used, JOPA uses only indexes generated for the
+ * configured scan package or one of its ancestors. Classes of the package not listed in the index (e.g., entities in
+ * other modules without an index) are not discovered by JOPA.
+ */
+@Mojo(name = "generate-index", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+      requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class PersistenceUnitIndexMojo extends AbstractMojo {
+
+    /**
+     * Location of the index relative to the output directory.
+     * <p>
+     * Has to correspond to the location where the JOPA runtime looks for the index.
+     */
+    static final String INDEX_LOCATION = "META-INF/jopa/persistence-unit.idx";
+
+    /**
+     * Prefix of the index line declaring the indexed package.
+     */
+    static final String INDEX_PACKAGE_PREFIX = "# package: ";
+
+    private static final String PACKAGE_PARAM = "package";
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final Set<String> INDEXED_ANNOTATIONS = new HashSet<>(
+            Arrays.asList(OWLClass.class.getName(), MappedSuperclass.class.getName(),
+                    SparqlResultSetMapping.class.getName(), SparqlResultSetMappings.class.getName()));
+
+    @Parameter(alias = PACKAGE_PARAM)
+    private String pPackage;
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File outputDirectory;
+
+    @Parameter(defaultValue = "${project.compileClasspathElements}", readonly = true, required = true)
+    private List<String> classpathElements;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        getLog().info(PACKAGE_PARAM + ": " + pPackage);
+        if (pPackage == null || pPackage.isEmpty()) {
+            getLog().warn("No package specified, the generated index will not be used by JOPA.");
+        }
+        if (!outputDirectory.isDirectory()) {
+            getLog().info("Output directory " + outputDirectory + " does not exist. Skipping index generation.");
+            return;
+        }
+        try (final URLClassLoader classLoader = createClassLoader()) {
+            final List<String> indexed = new ArrayList<>();
+            for (String className : findClassNames()) {
+                if (isIndexed(className, classLoader)) {
+                    indexed.add(className);
+                }
+            }
+            writeIndex(indexed);
+            getLog().info("Persistence unit class index with " + indexed.size() + " classes generated.");
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to generate persistence unit class index.", e);
+        }
+    }
+
+    private URLClassLoader createClassLoader() throws MalformedURLException {
+        final List<URL> urls = new ArrayList<>(classpathElements.size() + 1);
+        urls.add(outputDirectory.toURI().toURL());
+        for (String element : classpathElements) {
+            urls.add(new File(element).toURI().toURL());
+        }
+        // Annotations are matched by name, so the project classes need not share annotation classes with the plugin
+        return new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getSystemClassLoader().getParent());
+    }
+
+    private List<String> findClassNames() throws IOException {
+        final Path root = outputDirectory.toPath();
+        try (final Stream<Path> files = Files.walk(root)) {
+            return files.filter(p -> p.toString().endsWith(CLASS_FILE_SUFFIX))
+                        .map(p -> toClassName(root.relativize(p)))
+                        .filter(this::isInScannedPackage)
+                        .sorted()
+                        .collect(Collectors.toList());
+        }
+    }
+
+    private static String toClassName(Path classFile) {
+        final String path = classFile.toString();
+        return path.substring(0, path.length() - CLASS_FILE_SUFFIX.length()).replace(File.separatorChar, '.');
+    }
+
+    private boolean isInScannedPackage(String className) {
+        return pPackage == null || pPackage.isEmpty() || className.startsWith(pPackage + '.');
+    }
+
+    private boolean isIndexed(String className, ClassLoader classLoader) {
+        try {
+            final Class<?> cls = Class.forName(className, false, classLoader);
+            if (cls.isInterface()) {
+                return false;
+            }
+            for (Annotation annotation : cls.getDeclaredAnnotations()) {
+                if (INDEXED_ANNOTATIONS.contains(annotation.annotationType().getName())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (ClassNotFoundException | LinkageError e) {
+            getLog().warn("Unable to load class " + className + ", skipping it. Error: " + e);
+            return false;
+        }
+    }
+
+    private void writeIndex(List<String> classNames) throws IOException {
+        final Path index = outputDirectory.toPath().resolve(INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        final List<String> lines = new ArrayList<>(classNames.size() + 2);
+        lines.add("# JOPA persistence unit class index generated by jopa-maven-plugin");
+        if (pPackage != null && !pPackage.isEmpty()) {
+            lines.add(INDEX_PACKAGE_PREFIX + pPackage);
+        }
+        lines.addAll(classNames);
+        Files.write(index, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -21,6 +21,7 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -138,6 +139,28 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     Collection<Axiom<?>> find(AxiomDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Finds axioms corresponding to all the specified descriptors.
+     * <p>
+     * This is a bulk variant of {@link #find(AxiomDescriptor)}, allowing drivers to load axioms of multiple subjects
+     * in a single storage access. The result contains axioms of all the subjects, callers are expected to group them
+     * by subject if necessary.
+     * <p>
+     * The default implementation just invokes {@link #find(AxiomDescriptor)} for each descriptor.
+     *
+     * @param descriptors Loading descriptors, each specifying subject, properties to load and possible contexts
+     * @return Collection of axioms matching the specified criteria
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default Collection<Axiom<?>> findAll(Collection<AxiomDescriptor> descriptors) throws OntoDriverException {
+        final List<Axiom<?>> result = new ArrayList<>();
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.addAll(find(descriptor));
+        }
+        return result;
+    }
+
     /**
      * Persists new individual and its property values specified by the descriptor.
      *
@@ -147,6 +170,24 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     void persist(AxiomValueDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Persists new individuals and their property values specified by the descriptors.
+     * <p>
+     * This is a bulk variant of {@link #persist(AxiomValueDescriptor)}, allowing drivers to insert statements of
+     * multiple subjects into the storage in a single batch.
+     * <p>
+     * The default implementation just invokes {@link #persist(AxiomValueDescriptor)} for each descriptor.
+     *
+     * @param descriptors Descriptors of the persisted values
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default void persistAll(Collection<AxiomValueDescriptor> descriptors) throws OntoDriverException {
+        for (AxiomValueDescriptor descriptor : descriptors) {
+            persist(descriptor);
+        }
+    }
+
     /**
      * Generates a new unique identifier based on the specified type.
      * <p>
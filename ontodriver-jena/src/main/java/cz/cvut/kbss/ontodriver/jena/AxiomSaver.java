@@ -41,13 +41,27 @@ class AxiomSaver {
      * @param descriptor Data container
      */
     void saveAxioms(AxiomValueDescriptor descriptor) {
-        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+        saveAxioms(Collections.singleton(descriptor));
+    }
+
+    /**
+     * Persists statements corresponding to axioms specified in all the descriptors.
+     * <p>
+     * Statements are grouped by context, so that each context is written to only once.
+     *
+     * @param descriptors Data containers
+     */
+    void saveAxioms(Collection<AxiomValueDescriptor> descriptors) {
         final Map<String, List<Statement>> statements = new HashMap<>();
-        for (Assertion a : descriptor.getAssertions()) {
-            final URI context = descriptor.getAssertionContext(a);
-            final String strContext = context != null ? context.toString() : null;
-            statements.putIfAbsent(strContext, new ArrayList<>());
-            statements.get(strContext).addAll(transformToStatements(a, descriptor.getAssertionValues(a), subject));
+        for (AxiomValueDescriptor descriptor : descriptors) {
+            final Resource subject =
+                    ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+            for (Assertion a : descriptor.getAssertions()) {
+                final URI context = descriptor.getAssertionContext(a);
+                final String strContext = context != null ? context.toString() : null;
+                statements.computeIfAbsent(strContext, ctx -> new ArrayList<>())
+                          .addAll(transformToStatements(a, descriptor.getAssertionValues(a), subject));
+            }
         }
         statements.forEach((ctx, toAdd) -> connector.add(toAdd, ctx));
     }
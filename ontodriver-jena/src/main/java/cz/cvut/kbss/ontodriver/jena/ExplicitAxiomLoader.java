@@ -34,6 +34,8 @@ class ExplicitAxiomLoader extends AbstractAxiomLoader {
     private Map<String, Assertion> assertedProperties;
     private Assertion unspecifiedProperty;
 
+    private Map<Set<URI>, Map<Resource, List<Statement>>> preloadedStatements = Collections.emptyMap();
+
     ExplicitAxiomLoader(StorageConnector connector) {
         this.connector = connector;
     }
@@ -49,12 +51,42 @@ class ExplicitAxiomLoader extends AbstractAxiomLoader {
         this.assertedProperties = assertions;
         this.unspecifiedProperty = resolveUnspecifiedProperty();
         final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
-        final Collection<Statement> statements = findStatements(subject, null, descriptor.getSubjectContexts());
+        final Collection<Statement> statements = findSubjectStatements(subject, descriptor.getSubjectContexts());
         final List<Axiom<?>> result = transformStatementsToAxioms(descriptor, statements);
         result.addAll(loadAxiomsForPropertiesInContext(descriptor, subject));
         return result;
     }
 
+    /**
+     * Loads statements of subjects of all the specified descriptors, so that subsequent calls to {@link
+     * #find(AxiomDescriptor, Map)} for these descriptors do not have to access the storage for them.
+     * <p>
+     * Subjects sharing the same contexts are loaded together, using a single lookup of the corresponding graph(s).
+     *
+     * @param descriptors Descriptors whose subject statements to load
+     */
+    void preloadStatements(Collection<AxiomDescriptor> descriptors) {
+        final Map<Set<URI>, Set<Resource>> subjectsByContexts = new HashMap<>();
+        for (AxiomDescriptor descriptor : descriptors) {
+            subjectsByContexts.computeIfAbsent(descriptor.getSubjectContexts(), k -> new LinkedHashSet<>())
+                              .add(ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString()));
+        }
+        this.preloadedStatements = new HashMap<>(subjectsByContexts.size());
+        subjectsByContexts.forEach((contexts, subjects) -> {
+            final Map<Resource, List<Statement>> statements = new HashMap<>(subjects.size());
+            subjects.forEach(subject -> statements.put(subject, new ArrayList<>()));
+            connector.find(subjects, contexts.stream().map(URI::toString).collect(Collectors.toSet()))
+                     .forEach(statement -> statements.get(statement.getSubject()).add(statement));
+            preloadedStatements.put(contexts, statements);
+        });
+    }
+
+    private Collection<Statement> findSubjectStatements(Resource subject, Set<URI> contexts) {
+        final List<Statement> preloaded = preloadedStatements.getOrDefault(contexts, Collections.emptyMap())
+                                                             .get(subject);
+        return preloaded != null ? preloaded : findStatements(subject, null, contexts);
+    }
+
     private Assertion resolveUnspecifiedProperty() {
         final Optional<Assertion> unspecified =
                 assertedProperties.values().stream().filter(a -> a.equals(UNSPECIFIED_ASSERTION)).findAny();
@@ -75,6 +75,11 @@ public class JenaAdapter implements Wrapper {
         new AxiomSaver(connector).saveAxioms(descriptor);
     }
 
+    void persistAll(Collection<AxiomValueDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        new AxiomSaver(connector).saveAxioms(descriptors);
+    }
+
     private void beginTransactionIfNotActive() {
         if (!transaction.isActive()) {
             connector.begin();
@@ -87,6 +92,11 @@ public class JenaAdapter implements Wrapper {
         return new MainAxiomLoader(connector, inferenceConnector).find(descriptor);
     }
 
+    Collection<Axiom<?>> findAll(Collection<AxiomDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        return new MainAxiomLoader(connector, inferenceConnector).find(descriptors);
+    }
+
     boolean contains(Axiom<?> axiom, Set<URI> contexts) {
         beginTransactionIfNotActive();
         return new MainAxiomLoader(connector, inferenceConnector).contains(axiom, contexts);
@@ -35,7 +35,8 @@ class JenaDriver implements Closeable, ConnectionListener {
     private static final List<ConfigurationParameter> CONFIGS = Arrays
             .asList(DriverConfigParam.AUTO_COMMIT, DriverConfigParam.REASONER_FACTORY_CLASS,
                     JenaConfigParam.ISOLATION_STRATEGY, JenaConfigParam.STORAGE_TYPE,
-                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION);
+                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION, JenaConfigParam.FILE_JOURNAL,
+                    JenaConfigParam.FILE_JOURNAL_COMPACTION_THRESHOLD, JenaConfigParam.SHARED_INFERENCE);
 
     private volatile boolean open;
 
@@ -22,10 +22,7 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 class MainAxiomLoader {
 
@@ -66,6 +63,23 @@ class MainAxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms corresponding to all the specified descriptors.
+     * <p>
+     * Asserted statements of all the subjects are loaded in bulk, instead of subject by subject.
+     *
+     * @param descriptors Descriptors of axioms to load
+     * @return Matching axioms
+     */
+    Collection<Axiom<?>> find(Collection<AxiomDescriptor> descriptors) {
+        explicitLoader.preloadStatements(descriptors);
+        final List<Axiom<?>> result = new ArrayList<>();
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.addAll(find(descriptor));
+        }
+        return result;
+    }
+
     private static void mapAssertions(AxiomDescriptor descriptor, Map<String, Assertion> asserted,
                                       Map<String, Assertion> inferred) {
         for (Assertion a : descriptor.getAssertions()) {
@@ -33,6 +33,13 @@ public class Constants {
      */
     public static final boolean DEFAULT_AUTO_COMMIT = false;
 
+    /**
+     * Default number of journaled statements after which the file storage is compacted.
+     *
+     * @see JenaOntoDriverProperties#JENA_FILE_JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final int DEFAULT_FILE_JOURNAL_COMPACTION_THRESHOLD = 10_000;
+
     private Constants() {
         throw new AssertionError();
     }
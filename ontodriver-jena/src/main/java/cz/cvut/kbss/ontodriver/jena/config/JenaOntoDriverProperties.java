@@ -103,6 +103,42 @@ public class JenaOntoDriverProperties {
      */
     public static final String JENA_TREAT_DEFAULT_GRAPH_AS_UNION = "cz.cvut.kbss.ontodriver.jena.default_graph_as_union";
 
+    /**
+     * Parameter specifying whether the {@link #FILE} storage should journal changes instead of rewriting the whole file
+     * on commit.
+     * <p>
+     * When enabled, each commit appends statements added to and removed from the default graph to a journal file
+     * (storage file location with {@code .journal} suffix), so that commit duration depends on the size of the changes.
+     * The journal is replayed when the storage is loaded and the storage file is rewritten in the background once the
+     * journal grows over {@link #JENA_FILE_JOURNAL_COMPACTION_THRESHOLD}.
+     * <p>
+     * Note that blank nodes are not preserved across storage restarts, so changes of statements with blank nodes may
+     * not be replayed correctly.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String JENA_FILE_JOURNAL = "cz.cvut.kbss.ontodriver.jena.file_journal";
+
+    /**
+     * Number of journaled statements after which the storage file is rewritten and the journal truncated.
+     * <p>
+     * Applies only when {@link #JENA_FILE_JOURNAL} is enabled.
+     */
+    public static final String JENA_FILE_JOURNAL_COMPACTION_THRESHOLD =
+            "cz.cvut.kbss.ontodriver.jena.file_journal_compaction_threshold";
+
+    /**
+     * Parameter specifying whether transactions should share one inference closure over the central data.
+     * <p>
+     * When enabled, inferred statements are read from a closure which is kept up to date with the committed data
+     * (additions are inferred incrementally), so that transactions do not have to copy the central data and compute
+     * inference on their own. A transaction computes inference over its own data only when it has modified them or
+     * when the central data have changed since it started.
+     * <p>
+     * Applies only when a reasoner is configured. Defaults to {@code false}.
+     */
+    public static final String JENA_SHARED_INFERENCE = "cz.cvut.kbss.ontodriver.jena.shared_inference";
+
     private JenaOntoDriverProperties() {
         throw new AssertionError();
     }
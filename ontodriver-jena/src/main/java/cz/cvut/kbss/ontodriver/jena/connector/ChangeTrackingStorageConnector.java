@@ -23,6 +23,7 @@ import org.apache.jena.query.Query;
 import org.apache.jena.rdf.model.*;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * This connector tracks transactional changes and writes them on commit to the {@link SharedStorageConnector}.
@@ -99,6 +100,19 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
         return localModel.enhanceStatements(existing, subject, property, value, contexts);
     }
 
+    @Override
+    public Collection<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        transaction.verifyActive();
+        final Map<Resource, List<Statement>> existing = centralConnector.find(subjects, contexts).stream().collect(
+                Collectors.groupingBy(Statement::getSubject));
+        final List<Statement> result = new ArrayList<>();
+        for (Resource subject : subjects) {
+            result.addAll(localModel.enhanceStatements(existing.getOrDefault(subject, Collections.emptyList()), subject,
+                    null, null, contexts));
+        }
+        return result;
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         transaction.verifyActive();
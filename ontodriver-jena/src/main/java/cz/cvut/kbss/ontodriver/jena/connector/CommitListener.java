@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Listener notified about changes of the data in the central storage once they are committed.
+ *
+ * @see SharedStorageConnector#addCommitListener(CommitListener)
+ */
+interface CommitListener {
+
+    /**
+     * Called after changes of the central data are committed.
+     * <p>
+     * Invoked while the central connector prevents new snapshots from being taken, so implementations should only
+     * record the changes and process them later.
+     *
+     * @param revision Revision of the central data created by the commit
+     * @param changes  Changes made by the commit, in the order in which they were made. Each change can be replayed on
+     *                 a storage. {@code null} if the data changed in a way which cannot be tracked statement by
+     *                 statement (e.g., SPARQL update or reload)
+     */
+    void committed(long revision, List<Consumer<Storage>> changes);
+}
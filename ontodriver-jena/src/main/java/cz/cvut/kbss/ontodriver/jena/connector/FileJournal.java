@@ -0,0 +1,243 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelChangedListener;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.vocabulary.RDF;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only journal of changes made to the default graph of a {@link FileStorage}.
+ * <p>
+ * The journal is an N-Quads file in which the graph name of each quad marks the operation (addition or removal) and
+ * each committed transaction is terminated by a commit marker. Changes following the last commit marker (e.g., when
+ * the process crashed during append) are ignored on replay.
+ * <p>
+ * Blank nodes are not preserved across journal replays, so changes of statements containing blank nodes may not be
+ * replayed correctly.
+ */
+class FileJournal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileJournal.class);
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final String NAMESPACE = "urn:cz:cvut:kbss:ontodriver:jena:journal:";
+    static final Node ADDED = NodeFactory.createURI(NAMESPACE + "added");
+    static final Node REMOVED = NodeFactory.createURI(NAMESPACE + "removed");
+    static final Node COMMIT = NodeFactory.createURI(NAMESPACE + "commit");
+
+    private final Path file;
+    private final int compactionThreshold;
+
+    private final ModelChangedListener listener = new ChangeListener();
+    private final List<Quad> pending = new ArrayList<>();
+    private Model model;
+    private boolean untracked;
+    private int size;
+
+    FileJournal(String storageLocation, int compactionThreshold) {
+        this.file = Paths.get(storageLocation + JOURNAL_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Replays the journal into the specified model and starts tracking changes made to it.
+     *
+     * @param model Model loaded from the storage file
+     * @return {@code true} if the journal contained an incomplete or corrupted tail and the storage should be compacted
+     * right away, {@code false} otherwise
+     * @throws JenaDriverException When the journal cannot be read
+     */
+    synchronized boolean attach(Model model) throws JenaDriverException {
+        detach();
+        this.size = 0;
+        this.untracked = false;
+        pending.clear();
+        final boolean corrupted = Files.exists(file) && replay(model);
+        this.model = model;
+        model.register(listener);
+        return corrupted;
+    }
+
+    private boolean replay(Model model) throws JenaDriverException {
+        final ReplayStream stream = new ReplayStream(model);
+        try {
+            RDFDataMgr.parse(stream, file.toUri().toString(), Lang.NQUADS);
+        } catch (RiotException e) {
+            LOG.warn("Journal {} is corrupted, replayed changes up to the last complete commit.", file, e);
+            return true;
+        } catch (RuntimeException e) {
+            throw new JenaDriverException("Unable to replay journal " + file, e);
+        }
+        if (!stream.buffer.isEmpty()) {
+            LOG.warn("Journal {} ends with an incomplete commit, ignoring its {} changes.", file, stream.buffer.size());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Appends changes made since the last commit (or rollback) to the journal and forces them to disk.
+     *
+     * @return {@code true} if the journal exceeded the compaction threshold, {@code false} otherwise
+     * @throws JenaDriverException When the changes cannot be written
+     */
+    synchronized boolean commit() throws JenaDriverException {
+        if (pending.isEmpty()) {
+            return size > compactionThreshold;
+        }
+        try (final FileOutputStream fos = new FileOutputStream(file.toFile(), true);
+             final BufferedOutputStream out = new BufferedOutputStream(fos)) {
+            pending.add(Quad.create(COMMIT, COMMIT, RDF.Nodes.type, COMMIT));
+            RDFDataMgr.writeQuads(out, pending.iterator());
+            out.flush();
+            fos.getFD().sync();
+        } catch (IOException | RuntimeException e) {
+            throw new JenaDriverException("Unable to append changes to journal " + file, e);
+        }
+        size += pending.size();
+        pending.clear();
+        return size > compactionThreshold;
+    }
+
+    /**
+     * Discards changes recorded since the last commit.
+     */
+    synchronized void discard() {
+        pending.clear();
+        this.untracked = false;
+    }
+
+    /**
+     * Whether changes which cannot be journaled (e.g., clearing the whole graph) were made since the last commit.
+     * <p>
+     * The storage file has to be rewritten in such case.
+     *
+     * @return Whether the storage needs a full snapshot
+     */
+    synchronized boolean requiresSnapshot() {
+        return untracked;
+    }
+
+    /**
+     * Truncates the journal after its content has been written into the storage file.
+     *
+     * @throws JenaDriverException When the journal cannot be truncated
+     */
+    synchronized void truncate() throws JenaDriverException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new JenaDriverException("Unable to truncate journal " + file, e);
+        }
+        pending.clear();
+        this.untracked = false;
+        this.size = 0;
+    }
+
+    /**
+     * Stops tracking changes of the currently attached model.
+     */
+    synchronized void detach() {
+        if (model != null) {
+            model.unregister(listener);
+            this.model = null;
+        }
+    }
+
+    private synchronized void record(Node operation, Statement statement) {
+        pending.add(new Quad(operation, statement.asTriple()));
+    }
+
+    private synchronized void markUntracked() {
+        this.untracked = true;
+    }
+
+    private class ChangeListener extends StatementListener {
+
+        @Override
+        public void addedStatement(Statement s) {
+            record(ADDED, s);
+        }
+
+        @Override
+        public void removedStatement(Statement s) {
+            record(REMOVED, s);
+        }
+
+        @Override
+        public void notifyEvent(Model m, Object event) {
+            if (event == GraphEvents.removeAll) {
+                markUntracked();
+            }
+        }
+    }
+
+    private class ReplayStream extends StreamRDFBase {
+
+        private final Model target;
+        private final List<Quad> buffer = new ArrayList<>();
+
+        private ReplayStream(Model target) {
+            this.target = target;
+        }
+
+        @Override
+        public void quad(Quad quad) {
+            if (COMMIT.equals(quad.getGraph())) {
+                buffer.forEach(q -> {
+                    final Statement statement = target.asStatement(q.asTriple());
+                    if (ADDED.equals(q.getGraph())) {
+                        target.add(statement);
+                    } else {
+                        target.remove(statement);
+                    }
+                });
+                size += buffer.size() + 1;
+                buffer.clear();
+            } else {
+                buffer.add(quad);
+            }
+        }
+    }
+}
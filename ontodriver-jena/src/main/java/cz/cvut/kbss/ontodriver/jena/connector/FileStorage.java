@@ -14,34 +14,79 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
+import cz.cvut.kbss.ontodriver.jena.config.Constants;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.riot.RiotNotFoundException;
+import org.apache.jena.system.Txn;
 import org.apache.jena.util.FileUtils;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * File storage accessor.
  * <p>
  * Note that currently this accessor does not support working with datasets. Only single graph can be present in the file.
+ * <p>
+ * If journaling is enabled, commits append changes to a {@link FileJournal} instead of rewriting the whole file, and the
+ * file is rewritten in the background once the journal grows over the configured threshold.
  */
 class FileStorage extends LocalStorage {
 
     private final String location;
 
+    private final FileJournal journal;
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
     FileStorage(DriverConfiguration configuration) {
         super(configuration);
         this.location = configuration.getStorageProperties().getPhysicalURI().toString();
+        if (configuration.is(JenaConfigParam.FILE_JOURNAL)) {
+            this.journal = new FileJournal(location, resolveCompactionThreshold(configuration));
+            this.compactionExecutor = Executors.newSingleThreadExecutor(r -> {
+                final Thread t = new Thread(r, "jena-file-journal-compaction");
+                t.setDaemon(true);
+                return t;
+            });
+        } else {
+            this.journal = null;
+            this.compactionExecutor = null;
+        }
         initialize();
     }
 
+    private static int resolveCompactionThreshold(DriverConfiguration configuration) {
+        final String value = configuration.getProperty(JenaConfigParam.FILE_JOURNAL_COMPACTION_THRESHOLD,
+                Integer.toString(Constants.DEFAULT_FILE_JOURNAL_COMPACTION_THRESHOLD));
+        try {
+            final int threshold = Integer.parseInt(value);
+            if (threshold < 0) {
+                throw new OntoDriverInitializationException(
+                        "Invalid journal compaction threshold " + value + ", it must be a non-negative number.");
+            }
+            return threshold;
+        } catch (NumberFormatException e) {
+            throw new OntoDriverInitializationException("Unable to parse journal compaction threshold " + value, e);
+        }
+    }
+
     public void initialize() {
         try {
             try {
@@ -49,11 +94,22 @@ class FileStorage extends LocalStorage {
             } catch (RiotNotFoundException e) {
                 tryCreatingFile();
             }
-        } catch (RuntimeException e) {
+            if (journal != null) {
+                attachJournal();
+            }
+        } catch (RuntimeException | JenaDriverException e) {
             throw new OntoDriverInitializationException("Unable to initialize file storage at " + location, e);
         }
     }
 
+    private void attachJournal() throws JenaDriverException {
+        if (journal.attach(dataset.getDefaultModel())) {
+            // Persist what was recovered so that the damaged journal tail is not appended to
+            writeSnapshot();
+            journal.truncate();
+        }
+    }
+
     private void initDataset() {
         final Model model = RDFDataMgr.loadModel(location);
         this.dataset = DatasetFactory.create(model);
@@ -73,14 +129,108 @@ class FileStorage extends LocalStorage {
 
     @Override
     public void writeChanges() throws JenaDriverException {
-        try (final BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(location))) {
-            final String language = FileUtils.guessLang(location);
-            RDFDataMgr.write(out, dataset.getDefaultModel(), RDFLanguages.nameToLang(language));
+        if (journal == null) {
+            writeSnapshot();
+            return;
+        }
+        synchronized (journal) {
+            if (journal.requiresSnapshot()) {
+                writeSnapshot();
+                journal.truncate();
+                return;
+            }
+            if (journal.commit()) {
+                scheduleCompaction();
+            }
+        }
+    }
+
+    /**
+     * Writes the whole default graph into the storage file.
+     * <p>
+     * The content is first written into a temporary file which then replaces the storage file, so that the storage file
+     * is never left half-written.
+     */
+    private void writeSnapshot() throws JenaDriverException {
+        final Path target = Paths.get(location).toAbsolutePath();
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (final BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(tmp.toFile()))) {
+                final String language = FileUtils.guessLang(location);
+                RDFDataMgr.write(out, dataset.getDefaultModel(), RDFLanguages.nameToLang(language));
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             throw new JenaDriverException("Unable to write out dataset changes.", e);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) {
+                    LOG.warn("Unable to delete temporary file {}.", tmp);
+                }
+            }
+        }
+    }
+
+    private void scheduleCompaction() {
+        if (compactionScheduled.compareAndSet(false, true)) {
+            compactionExecutor.execute(this::compact);
         }
     }
 
+    /**
+     * Rewrites the storage file with the current content and truncates the journal.
+     * <p>
+     * Runs in a read transaction, so that no changes are committed in the meantime.
+     */
+    void compact() {
+        compactionScheduled.set(false);
+        try {
+            Txn.executeRead(dataset, () -> {
+                synchronized (journal) {
+                    try {
+                        writeSnapshot();
+                        journal.truncate();
+                    } catch (JenaDriverException e) {
+                        LOG.error("Unable to compact journal of file storage {}.", location, e);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            LOG.error("Unable to compact journal of file storage {}.", location, e);
+        }
+    }
+
+    @Override
+    public void rollback() {
+        super.rollback();
+        if (journal != null) {
+            journal.discard();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (journal != null) {
+            compactionExecutor.shutdown();
+            try {
+                if (!compactionExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    LOG.warn("Journal compaction of file storage {} did not finish in time.", location);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            journal.detach();
+        }
+        super.close();
+    }
+
     /**
      * Reloads data from the underlying file.
      */
@@ -89,6 +239,9 @@ class FileStorage extends LocalStorage {
         if (dataset.isInTransaction()) {
             throw new IllegalStateException("Cannot reload storage which is in transaction.");
         }
+        if (journal != null) {
+            journal.detach();
+        }
         dataset.close();
         initialize();
     }
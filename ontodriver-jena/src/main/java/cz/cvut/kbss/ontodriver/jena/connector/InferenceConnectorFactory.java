@@ -15,6 +15,7 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,20 +24,28 @@ public class InferenceConnectorFactory extends SharedConnectorBasedConnectorFact
 
     private final Map<String, String> reasonerConfig;
 
+    // Inference closure shared by transactions, null unless enabled by configuration
+    private final SharedInference sharedInference;
+
     public InferenceConnectorFactory(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
         super(configuration);
         this.reasonerConfig = new HashMap<>(reasonerConfig);
+        this.sharedInference = configuration.is(JenaConfigParam.SHARED_INFERENCE) ?
+                               new SharedInference(centralConnector, configuration, this.reasonerConfig) : null;
     }
 
     @Override
     public StorageConnector createConnector() {
         ensureOpen();
+        if (sharedInference != null) {
+            return new SnapshotStorageConnectorWithSharedInference(centralConnector, sharedInference, reasonerConfig);
+        }
         return new SnapshotStorageConnectorWithInference(centralConnector, reasonerConfig);
     }
 
     @Override
     public InferredStorageConnector createInferredConnector(StorageConnector connector) {
-        assert connector instanceof SnapshotStorageConnectorWithInference;
+        assert connector instanceof InferredStorageConnector;
         return (InferredStorageConnector) connector;
     }
 }
@@ -34,7 +34,7 @@ abstract class LocalStorage implements Storage {
 
     static final Logger LOG = LoggerFactory.getLogger(LocalStorage.class);
 
-    private final boolean defaultAsUnion;
+    final boolean defaultAsUnion;
 
     Dataset dataset;
 
@@ -0,0 +1,186 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Inference closure over the committed data of the central storage, shared by transactions.
+ * <p>
+ * The closure is computed once and then kept up to date with changes committed to the central storage. Additions are
+ * inferred from incrementally by the reasoner, removals make it recompute the closure when it is read next. Changes
+ * which cannot be tracked statement by statement cause the closure to be rebuilt from the central data.
+ * <p>
+ * Changes are only recorded when they are committed and applied to the closure before it is read, so that commits
+ * are not slowed down by inference.
+ */
+class SharedInference implements CommitListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedInference.class);
+
+    private final SharedStorageConnector centralConnector;
+    private final DriverConfiguration configuration;
+    private final Map<String, String> reasonerConfig;
+
+    // Committed changes not applied to the closure yet, guarded by this
+    private final List<CommittedChanges> pendingChanges = new ArrayList<>();
+    // Revision of the last committed change
+    private volatile long committedRevision;
+
+    // Guards the closure, never held by the central connector when it notifies about commits. Up-to-date closure is
+    // read under the read lock, it is updated under the write lock
+    private final ReadWriteLock closureLock = new ReentrantReadWriteLock();
+    private SnapshotStorageWithInference closure;
+    private long closureRevision;
+
+    SharedInference(SharedStorageConnector centralConnector, DriverConfiguration configuration,
+                    Map<String, String> reasonerConfig) {
+        this.centralConnector = centralConnector;
+        this.configuration = configuration;
+        this.reasonerConfig = reasonerConfig;
+        this.closureRevision = centralConnector.addCommitListener(this);
+        this.committedRevision = closureRevision;
+    }
+
+    @Override
+    public synchronized void committed(long revision, List<Consumer<Storage>> changes) {
+        pendingChanges.add(new CommittedChanges(revision, changes));
+        this.committedRevision = revision;
+    }
+
+    /**
+     * Reads the inference closure, provided it corresponds to the specified revision of the central data.
+     * <p>
+     * Readers of an up-to-date closure run concurrently, so the reader must not modify the closure. The closure is
+     * locked while it is being read, so the reader should return materialized results.
+     *
+     * @param revision Revision of the central data the caller works with
+     * @param reader   Function reading the closure
+     * @param <T>      Type of the result
+     * @return Result of the reader, empty if the closure represents different revision of the central data
+     */
+    <T> Optional<T> read(long revision, Function<SnapshotStorageWithInference, T> reader) {
+        lockUpToDate();
+        try {
+            return apply(revision, reader);
+        } finally {
+            closureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the inference closure exclusively, provided it corresponds to the specified revision of the central data.
+     * <p>
+     * Used by readers which modify the reasoner state, e.g., consistency checks.
+     *
+     * @param revision Revision of the central data the caller works with
+     * @param reader   Function reading the closure
+     * @param <T>      Type of the result
+     * @return Result of the reader, empty if the closure represents different revision of the central data
+     */
+    <T> Optional<T> readExclusively(long revision, Function<SnapshotStorageWithInference, T> reader) {
+        closureLock.writeLock().lock();
+        try {
+            update();
+            return apply(revision, reader);
+        } finally {
+            closureLock.writeLock().unlock();
+        }
+    }
+
+    private <T> Optional<T> apply(long revision, Function<SnapshotStorageWithInference, T> reader) {
+        if (closureRevision != revision) {
+            return Optional.empty();
+        }
+        return Optional.of(reader.apply(closure));
+    }
+
+    /**
+     * Acquires the read lock on an up-to-date closure, updating it first if necessary.
+     */
+    private void lockUpToDate() {
+        closureLock.readLock().lock();
+        if (closure != null && closureRevision >= committedRevision) {
+            return;
+        }
+        closureLock.readLock().unlock();
+        closureLock.writeLock().lock();
+        try {
+            update();
+            // Downgrade, so that the updated closure cannot change before it is read
+            closureLock.readLock().lock();
+        } finally {
+            closureLock.writeLock().unlock();
+        }
+    }
+
+    private void update() {
+        final List<CommittedChanges> toApply;
+        synchronized (this) {
+            toApply = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        for (CommittedChanges c : toApply) {
+            if (c.revision <= closureRevision) {
+                // Already contained in the closure
+                continue;
+            }
+            if (closure == null || c.changes == null || c.revision != closureRevision + 1) {
+                this.closure = null;
+            } else {
+                c.changes.forEach(change -> change.accept(closure));
+            }
+            this.closureRevision = c.revision;
+        }
+        if (closure == null) {
+            rebuild();
+        }
+        // Readers must not trigger the inference concurrently
+        closure.prepare();
+    }
+
+    private void rebuild() {
+        LOG.trace("Computing shared inference closure of the central data.");
+        final SnapshotStorage committed = new SnapshotStorage(configuration);
+        final long revision = centralConnector.registerSnapshot(committed);
+        try {
+            final SnapshotStorageWithInference s = new SnapshotStorageWithInference(configuration, reasonerConfig);
+            s.addCentralData(committed.getDataset());
+            this.closure = s;
+            this.closureRevision = revision;
+        } finally {
+            centralConnector.unregisterSnapshot(committed);
+        }
+    }
+
+    private static final class CommittedChanges {
+        private final long revision;
+        private final List<Consumer<Storage>> changes;
+
+        private CommittedChanges(long revision, List<Consumer<Storage>> changes) {
+            this.revision = revision;
+            this.changes = changes;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -31,8 +32,12 @@ import org.apache.jena.update.UpdateAction;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +54,18 @@ import java.util.stream.Collectors;
  */
 public class SharedStorageConnector extends AbstractStorageConnector {
 
+    // Snapshots of active transactions, they are notified before data in the storage change
+    private final Set<SnapshotStorage> snapshots = new HashSet<>();
+    // Notifications issued in the current transaction, replayed to snapshots registered before it ends
+    private final List<Consumer<SnapshotStorage>> pendingNotifications = new ArrayList<>();
+    // Listeners notified about changes of the storage data once they are committed
+    private final List<CommitListener> commitListeners = new ArrayList<>();
+    // Changes made in the current transaction, null if they cannot be tracked statement by statement
+    private List<Consumer<Storage>> pendingChanges = new ArrayList<>();
+    // Revision of the committed storage data
+    private long revision;
+    private final Object snapshotLock = new Object();
+
     SharedStorageConnector(DriverConfiguration configuration) {
         super(configuration);
     }
@@ -70,7 +87,11 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         ensureTransactionalState();
         transaction.commit();
         storage.writeChanges();
-        storage.commit();
+        synchronized (snapshotLock) {
+            storage.commit();
+            pendingNotifications.clear();
+            publishChanges();
+        }
         transaction.afterCommit();
     }
 
@@ -83,7 +104,11 @@ public class SharedStorageConnector extends AbstractStorageConnector {
     public void rollback() {
         ensureOpen();
         transaction.rollback();
-        storage.rollback();
+        synchronized (snapshotLock) {
+            storage.rollback();
+            pendingNotifications.clear();
+            this.pendingChanges = new ArrayList<>();
+        }
         transaction.afterRollback();
     }
 
@@ -103,6 +128,20 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         });
     }
 
+    @Override
+    public Collection<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        ensureOpen();
+        return Txn.calculateRead(storage.getTransactional(), () -> {
+            final List<Model> graphs = contexts.isEmpty() ? Collections.singletonList(storage.getDefaultGraph()) :
+                                       contexts.stream().map(storage::getNamedGraph).collect(Collectors.toList());
+            final List<Statement> result = new ArrayList<>();
+            for (Model graph : graphs) {
+                subjects.forEach(subject -> result.addAll(graph.listStatements(subject, null, (RDFNode) null).toList()));
+            }
+            return result;
+        });
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureOpen();
@@ -128,19 +167,64 @@ public class SharedStorageConnector extends AbstractStorageConnector {
     @Override
     public void add(List<Statement> statements, String context) {
         ensureTransactionalState();
+        notifySnapshots(s -> s.centralAdding(statements, context));
+        recordChange(s -> s.add(statements, context));
         storage.add(statements, context);
     }
 
     @Override
     public void remove(List<Statement> statements, String context) {
         ensureTransactionalState();
+        notifySnapshots(s -> s.centralRemoving(statements, context));
+        recordChange(s -> s.remove(statements, context));
         storage.remove(statements, context);
     }
 
+    private void notifySnapshots(Consumer<SnapshotStorage> notification) {
+        synchronized (snapshotLock) {
+            if (transaction.isActive()) {
+                pendingNotifications.add(notification);
+            }
+            snapshots.forEach(notification);
+        }
+    }
+
+    private void recordChange(Consumer<Storage> change) {
+        synchronized (snapshotLock) {
+            if (!commitListeners.isEmpty() && pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    /**
+     * Records that the storage data changed in a way which cannot be tracked statement by statement.
+     * <p>
+     * Called after the change, so that listeners notified outside of a transaction see the changed data.
+     */
+    private void recordUntrackedChange() {
+        synchronized (snapshotLock) {
+            this.pendingChanges = null;
+            if (!transaction.isActive()) {
+                publishChanges();
+            }
+        }
+    }
+
+    private void publishChanges() {
+        revision++;
+        final List<Consumer<Storage>> changes = pendingChanges != null ? new ArrayList<>(pendingChanges) : null;
+        commitListeners.forEach(l -> l.committed(revision, changes));
+        this.pendingChanges = new ArrayList<>();
+    }
+
     @Override
     public void remove(Resource subject, Property property, RDFNode object, String context) {
         ensureTransactionalState();
-        if (context != null) {
+        if (isObserved()) {
+            final Model graph = context != null ? storage.getNamedGraph(context) : storage.getDefaultGraph();
+            remove(graph.listStatements(subject, property, object).toList(), context);
+        } else if (context != null) {
             storage.remove(storage.getNamedGraph(context).listStatements(subject, property, object), context);
         } else {
             storage.remove(storage.getDefaultGraph().listStatements(subject, property, object), null);
@@ -177,10 +261,13 @@ public class SharedStorageConnector extends AbstractStorageConnector {
     @Override
     public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
         ensureOpen();
+        notifySnapshots(SnapshotStorage::detach);
         try {
             UpdateAction.parseExecute(query, storage.getDataset());
         } catch (RuntimeException e) {
             throw queryFailed(query, e);
+        } finally {
+            recordUntrackedChange();
         }
     }
 
@@ -202,7 +289,9 @@ public class SharedStorageConnector extends AbstractStorageConnector {
      */
     public synchronized void reloadStorage() {
         ensureOpen();
+        notifySnapshots(SnapshotStorage::detach);
         storage.reload();
+        recordUntrackedChange();
     }
 
     /**
@@ -214,6 +303,84 @@ public class SharedStorageConnector extends AbstractStorageConnector {
      */
     public synchronized void setDataset(Dataset dataset) {
         ensureOpen();
+        notifySnapshots(SnapshotStorage::detach);
         storage.setDataset(dataset);
+        recordUntrackedChange();
+    }
+
+    /**
+     * Takes a snapshot of the data in this connector's storage and keeps it consistent until it is unregistered.
+     * <p>
+     * Data of the storage are not copied, the snapshot is notified before they change instead. Changes made by the
+     * currently running transaction are replayed to the snapshot, as they are not visible to it yet.
+     *
+     * <p>
+     * The read transaction on the storage is started before the snapshot lock is taken, as writers take the lock inside
+     * their write transaction.
+     *
+     * @param snapshot Snapshot storage to initialize
+     * @return Revision of the committed data the snapshot represents
+     * @see #unregisterSnapshot(SnapshotStorage)
+     */
+    long registerSnapshot(SnapshotStorage snapshot) {
+        ensureOpen();
+        Long registered;
+        do {
+            final long expected;
+            synchronized (snapshotLock) {
+                expected = revision;
+            }
+            registered = Txn.calculateRead(storage.getTransactional(), () -> {
+                snapshot.addCentralData(storage.getDataset());
+                synchronized (snapshotLock) {
+                    if (revision != expected) {
+                        // Data committed meanwhile need not be visible to the read transaction, take the snapshot again
+                        return null;
+                    }
+                    pendingNotifications.forEach(n -> n.accept(snapshot));
+                    snapshots.add(snapshot);
+                    return revision;
+                }
+            });
+        } while (registered == null);
+        return registered;
+    }
+
+    /**
+     * Stops notifying the specified snapshot about changes of the data in this connector's storage.
+     *
+     * @param snapshot Snapshot storage to unregister
+     */
+    void unregisterSnapshot(SnapshotStorage snapshot) {
+        synchronized (snapshotLock) {
+            snapshots.remove(snapshot);
+        }
+    }
+
+    /**
+     * Registers the specified listener to be notified about changes of the data committed by this connector.
+     * <p>
+     * Revision of the committed data is incremented by every commit and by every change which happens outside of a
+     * transaction.
+     *
+     * @param listener Listener to register
+     * @return Revision of the currently committed data
+     */
+    long addCommitListener(CommitListener listener) {
+        ensureOpen();
+        synchronized (snapshotLock) {
+            commitListeners.add(listener);
+            if (transaction.isActive()) {
+                // Changes made by the running transaction before the listener was registered are unknown
+                this.pendingChanges = null;
+            }
+            return revision;
+        }
+    }
+
+    private boolean isObserved() {
+        synchronized (snapshotLock) {
+            return !snapshots.isEmpty() || !commitListeners.isEmpty();
+        }
     }
 }
@@ -0,0 +1,209 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.sparql.core.Transactional;
+import org.apache.jena.sparql.graph.GraphFactory;
+import org.apache.jena.system.Txn;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Graph presenting a transactional snapshot of a graph in the central storage.
+ * <p>
+ * The snapshot does not copy the central graph. Instead, it reads the central graph and overlays it with two pairs of
+ * in-memory statement sets:
+ * <ul>
+ * <li>Compensations - statements added to or removed from the central graph after the snapshot was taken. They are
+ * recorded by {@link #centralAdding(Triple)} and {@link #centralRemoving(Triple)} before the central graph changes, so
+ * that the snapshot keeps presenting the original content,</li>
+ * <li>Transactional changes - statements added to or removed from this graph.</li>
+ * </ul>
+ * If the central graph is going to change in an untracked way (e.g., by a SPARQL update), the snapshot is
+ * {@link #detach() detached}, i.e., its current content is copied.
+ * <p>
+ * The graph does not lock itself. Compensations are recorded by the single writer of the central storage and can be
+ * read concurrently. Central statements are streamed when the graph is read inside a read transaction on the central
+ * dataset, otherwise each lookup reads its matches in a separate read transaction.
+ */
+class SnapshotGraph extends GraphBase {
+
+    private volatile Base base;
+
+    private final Graph additions = GraphFactory.createDefaultGraph();
+    private final Graph deletions = GraphFactory.createDefaultGraph();
+
+    SnapshotGraph(Graph base, Transactional baseTransactional) {
+        this.base = new Base(base, baseTransactional);
+    }
+
+    private <T> T readBase(Function<Base, T> reader) {
+        final Base b = base;
+        if (b.transactional == null || b.transactional.isInTransaction()) {
+            return reader.apply(b);
+        }
+        // Read the base again, it could have been detached before the transaction started
+        return Txn.calculateRead(b.transactional, () -> reader.apply(base));
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+        final Base b = base;
+        if (b.transactional == null || b.transactional.isInTransaction()) {
+            return find(b, triplePattern);
+        }
+        // The central graph cannot be iterated after the read transaction ends
+        return WrappedIterator.create(readBase(current -> find(current, triplePattern).toList()).iterator());
+    }
+
+    private ExtendedIterator<Triple> find(Base b, Triple triplePattern) {
+        // A removed statement is returned from the compensations only if the central data being read no longer
+        // contain it, so that it is returned exactly once even if it is removed while the graph is being read
+        return b.graph.find(triplePattern).filterDrop(t -> b.hidden.contains(t) || isChanged(t))
+                      .andThen(b.findRestored(triplePattern).filterDrop(t -> isChanged(t) || b.graph.contains(t)))
+                      .andThen(additions.find(triplePattern));
+    }
+
+    private boolean isChanged(Triple t) {
+        return additions.contains(t) || deletions.contains(t);
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        if (!t.isConcrete()) {
+            return super.graphBaseContains(t);
+        }
+        if (additions.contains(t)) {
+            return true;
+        }
+        return !deletions.contains(t) && snapshotContains(t);
+    }
+
+    private boolean snapshotContains(Triple t) {
+        return readBase(b -> b.isRestored(t) || (!b.hidden.contains(t) && b.graph.contains(t)));
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        deletions.delete(t);
+        if (!snapshotContains(t)) {
+            additions.add(t);
+        }
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        additions.delete(t);
+        if (snapshotContains(t)) {
+            deletions.add(t);
+        }
+    }
+
+    /**
+     * Records that the specified statement is going to be added to the central graph.
+     * <p>
+     * Must be called before the central graph changes.
+     */
+    void centralAdding(Triple t) {
+        final Base b = base;
+        if (b.transactional != null && !b.isCompensated(t) && !readBase(current -> current.graph.contains(t))) {
+            b.hidden.add(t);
+        }
+    }
+
+    /**
+     * Records that the specified statement is going to be removed from the central graph.
+     * <p>
+     * Must be called before the central graph changes.
+     */
+    void centralRemoving(Triple t) {
+        final Base b = base;
+        if (b.transactional != null && !b.isCompensated(t) && readBase(current -> current.graph.contains(t))) {
+            b.restore(t);
+        }
+    }
+
+    /**
+     * Copies the snapshot content so that this graph no longer depends on the central graph.
+     * <p>
+     * Must be called before the central graph changes in a way which cannot be tracked statement by statement.
+     */
+    void detach() {
+        final Base b = base;
+        if (b.transactional == null) {
+            // Already detached
+            return;
+        }
+        final Graph copy = GraphFactory.createDefaultGraph();
+        Txn.executeRead(b.transactional,
+                () -> b.graph.find(Triple.ANY).filterDrop(b.hidden::contains).forEachRemaining(copy::add));
+        b.findRestored(Triple.ANY).forEachRemaining(copy::add);
+        // Readers which already hold the original base keep reading it consistently
+        this.base = new Base(copy, null);
+    }
+
+    /**
+     * Central graph together with compensations of its changes, replaced as a whole when the snapshot is detached.
+     */
+    private static final class Base {
+
+        private final Graph graph;
+        // Null when the snapshot is detached
+        private final Transactional transactional;
+
+        // Statements added to the central graph after the snapshot was taken
+        private final Set<Triple> hidden = ConcurrentHashMap.newKeySet();
+        // Statements removed from the central graph after the snapshot was taken, indexed by subject
+        private final ConcurrentMap<Node, Set<Triple>> restored = new ConcurrentHashMap<>();
+
+        private Base(Graph graph, Transactional transactional) {
+            this.graph = graph;
+            this.transactional = transactional;
+        }
+
+        // The first recorded change determines whether the statement was in the central graph when the snapshot was
+        // taken
+        private boolean isCompensated(Triple t) {
+            return hidden.contains(t) || isRestored(t);
+        }
+
+        private boolean isRestored(Triple t) {
+            final Set<Triple> bySubject = restored.get(t.getSubject());
+            return bySubject != null && bySubject.contains(t);
+        }
+
+        private void restore(Triple t) {
+            restored.computeIfAbsent(t.getSubject(), s -> ConcurrentHashMap.newKeySet()).add(t);
+        }
+
+        private ExtendedIterator<Triple> findRestored(Triple triplePattern) {
+            final Node subject = triplePattern.getSubject();
+            final Collection<Set<Triple>> candidates = subject.isConcrete() ?
+                    Collections.singleton(restored.getOrDefault(subject, Collections.emptySet())) :
+                    restored.values();
+            return WrappedIterator.create(candidates.stream().flatMap(Set::stream).filter(triplePattern::matches)
+                                                    .iterator());
+        }
+    }
+}
@@ -15,25 +15,109 @@ package cz.cvut.kbss.ontodriver.jena.connector;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.sparql.core.Transactional;
 import org.apache.jena.system.Txn;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Transactional snapshot of the central storage.
+ * <p>
+ * Taking the snapshot does not copy the central data, graphs of the central dataset are wrapped in {@link
+ * SnapshotGraph}s instead. The central connector notifies the snapshot about changes of the central data (see {@link
+ * SharedStorageConnector#registerSnapshot(SnapshotStorage)}), so that the snapshot keeps presenting the data as they
+ * were when it was taken.
+ */
 class SnapshotStorage extends LocalStorage {
 
+    // Snapshots of the central graphs, null key represents the default graph
+    private final Map<String, SnapshotGraph> snapshotGraphs = new HashMap<>();
+
+    // Dataset of the central storage, null until the snapshot is taken
+    private Dataset central;
+
     SnapshotStorage(DriverConfiguration configuration) {
         super(configuration);
-        this.dataset = DatasetFactory.create();
+        this.dataset = DatasetFactory.createGeneral();
     }
 
+    /**
+     * Wraps graphs of the specified central dataset, replacing any previously wrapped data.
+     *
+     * @param central Dataset of the central storage
+     */
     void addCentralData(Dataset central) {
+        this.central = central;
+        snapshotGraphs.clear();
+        this.dataset = DatasetFactory.createGeneral();
         Txn.executeRead(central, () -> {
             final Iterator<String> it = central.listNames();
             while (it.hasNext()) {
                 final String name = it.next();
-                dataset.addNamedModel(name, central.getNamedModel(name));
+                final SnapshotGraph graph = new SnapshotGraph(central.getNamedModel(name).getGraph(), central);
+                snapshotGraphs.put(name, graph);
+                dataset.addNamedModel(name, ModelFactory.createModelForGraph(graph));
             }
-            dataset.setDefaultModel(central.getDefaultModel());
+            final SnapshotGraph defaultGraph = new SnapshotGraph(central.getDefaultModel().getGraph(), central);
+            snapshotGraphs.put(null, defaultGraph);
+            dataset.setDefaultModel(ModelFactory.createModelForGraph(defaultGraph));
         });
     }
+
+    /**
+     * Returns the central dataset, as the snapshot graphs read it.
+     * <p>
+     * Statements of the central storage are streamed to readers running in a read transaction on it, otherwise they
+     * are read by each lookup separately.
+     */
+    @Override
+    public Transactional getTransactional() {
+        return central != null ? central : dataset;
+    }
+
+    /**
+     * Records that the specified statements are going to be added to the specified context of the central storage.
+     *
+     * @param statements Statements to be added
+     * @param context    Target context, {@code null} represents the default graph
+     */
+    void centralAdding(List<Statement> statements, String context) {
+        final SnapshotGraph graph = snapshotGraphs.get(context);
+        if (graph != null) {
+            statements.forEach(s -> graph.centralAdding(s.asTriple()));
+        }
+    }
+
+    /**
+     * Records that the specified statements are going to be removed from the specified context of the central
+     * storage.
+     *
+     * @param statements Statements to be removed
+     * @param context    Target context, {@code null} represents the default graph
+     */
+    void centralRemoving(List<Statement> statements, String context) {
+        if (context == null && defaultAsUnion) {
+            // Removal from the default graph removes the statements from all named graphs as well
+            snapshotGraphs.values().forEach(g -> statements.forEach(s -> g.centralRemoving(s.asTriple())));
+        } else {
+            final SnapshotGraph graph = snapshotGraphs.get(context);
+            if (graph != null) {
+                statements.forEach(s -> graph.centralRemoving(s.asTriple()));
+            }
+        }
+    }
+
+    /**
+     * Copies the snapshot data so that this storage no longer depends on the central storage.
+     * <p>
+     * Invoked before the central storage changes in a way which cannot be tracked statement by statement.
+     */
+    void detach() {
+        snapshotGraphs.values().forEach(SnapshotGraph::detach);
+    }
 }
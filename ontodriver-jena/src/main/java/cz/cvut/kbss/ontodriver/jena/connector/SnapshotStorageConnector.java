@@ -16,12 +16,18 @@ import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
+import cz.cvut.kbss.ontodriver.jena.query.AskResultSet;
+import cz.cvut.kbss.ontodriver.jena.query.SelectResultSet;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.ResultSetFactory;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.system.Txn;
 import org.apache.jena.update.UpdateAction;
 
 import java.util.*;
@@ -32,15 +38,18 @@ import java.util.stream.Collectors;
  * transactional strategy.
  * <p>
  * It is also used when inference is required from the driver.
+ * <p>
+ * Starting a transaction does not copy the central data. The transactional snapshot reads the central storage and the
+ * central connector keeps it consistent by notifying it before the central data change.
  */
 public class SnapshotStorageConnector extends SharedStorageConnector {
 
-    final AbstractStorageConnector centralConnector;
+    final SharedStorageConnector centralConnector;
 
     private LocalModel transactionalChanges;
     private List<String> transactionalUpdates;
 
-    SnapshotStorageConnector(AbstractStorageConnector centralConnector) {
+    SnapshotStorageConnector(SharedStorageConnector centralConnector) {
         super(centralConnector.configuration);
         this.centralConnector = centralConnector;
     }
@@ -59,7 +68,7 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
 
     void snapshotCentralDataset() {
         final SnapshotStorage s = new SnapshotStorage(configuration);
-        s.addCentralData(centralConnector.getStorage().getDataset());
+        centralConnector.registerSnapshot(s);
         this.storage = s;
     }
 
@@ -67,6 +76,8 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
     public void commit() throws JenaDriverException {
         ensureTransactionalState();
         transaction.commit();
+        // The snapshot is discarded after commit, no need to keep it consistent with changes written below
+        releaseSnapshot();
         try {
             centralConnector.begin();
             applyRemovals();
@@ -108,32 +119,65 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
         transaction.afterRollback();
     }
 
+    private void releaseSnapshot() {
+        if (storage != null) {
+            centralConnector.unregisterSnapshot((SnapshotStorage) storage);
+        }
+    }
+
     private void cleanup() {
+        releaseSnapshot();
         this.storage = null;
         this.transactionalChanges = null;
         this.transactionalUpdates = null;
     }
 
+    @Override
+    public synchronized void close() {
+        releaseSnapshot();
+        super.close();
+    }
+
     @Override
     public List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureTransactionalState();
-        if (contexts.isEmpty()) {
-            return storage.getDefaultGraph().listStatements(subject, property, value).toList();
-        } else {
-            return contexts.stream()
-                           .map(ctx -> storage.getNamedGraph(ctx).listStatements(subject, property, value).toList())
-                           .flatMap(Collection::stream).collect(Collectors.toList());
-        }
+        // Read in a transaction on the central storage, so that the snapshot streams its statements
+        return Txn.calculateRead(storage.getTransactional(), () -> {
+            if (contexts.isEmpty()) {
+                return storage.getDefaultGraph().listStatements(subject, property, value).toList();
+            } else {
+                return contexts.stream()
+                               .map(ctx -> storage.getNamedGraph(ctx).listStatements(subject, property, value).toList())
+                               .flatMap(Collection::stream).collect(Collectors.toList());
+            }
+        });
+    }
+
+    @Override
+    public List<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        ensureTransactionalState();
+        final List<Model> graphs = contexts.isEmpty() ? Collections.singletonList(storage.getDefaultGraph()) :
+                                   contexts.stream().map(storage::getNamedGraph).collect(Collectors.toList());
+        return Txn.calculateRead(storage.getTransactional(), () -> {
+            final List<Statement> result = new ArrayList<>();
+            for (Model graph : graphs) {
+                subjects.forEach(
+                        subject -> result.addAll(graph.listStatements(subject, null, (RDFNode) null).toList()));
+            }
+            return result;
+        });
     }
 
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureTransactionalState();
-        if (contexts.isEmpty()) {
-            return storage.getDefaultGraph().contains(subject, property, value);
-        } else {
-            return contexts.stream().anyMatch(c -> storage.getNamedGraph(c).contains(subject, property, value));
-        }
+        return Txn.calculateRead(storage.getTransactional(), () -> {
+            if (contexts.isEmpty()) {
+                return storage.getDefaultGraph().contains(subject, property, value);
+            } else {
+                return contexts.stream().anyMatch(c -> storage.getNamedGraph(c).contains(subject, property, value));
+            }
+        });
     }
 
     @Override
@@ -172,18 +216,38 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
         ensureOpen();
         if (target == StatementOntology.TRANSACTIONAL) {
             transaction.verifyActive();
-            return super.executeSelectQuery(query, target);
+            return executeTransactionalSelectQuery(query);
         } else {
             return centralConnector.executeSelectQuery(query, target);
         }
     }
 
+    private AbstractResultSet executeTransactionalSelectQuery(Query query) throws JenaDriverException {
+        try {
+            return Txn.calculateRead(storage.getTransactional(), () -> {
+                final QueryExecution exec = storage.prepareQuery(query);
+                // The results are copied, so that they can be read after the transaction on the central storage ends
+                return new SelectResultSet(exec, ResultSetFactory.copyResults(exec.execSelect()));
+            });
+        } catch (RuntimeException e) {
+            throw new JenaDriverException("Execution of query " + query + " failed.", e);
+        }
+    }
+
     @Override
     public AbstractResultSet executeAskQuery(Query query, StatementOntology target) throws JenaDriverException {
         ensureOpen();
         if (target == StatementOntology.TRANSACTIONAL) {
             transaction.verifyActive();
-            return super.executeAskQuery(query, target);
+            try {
+                return Txn.calculateRead(storage.getTransactional(), () -> {
+                    try (final QueryExecution exec = storage.prepareQuery(query)) {
+                        return new AskResultSet(exec.execAsk());
+                    }
+                });
+            } catch (RuntimeException e) {
+                throw new JenaDriverException("Execution of query " + query + " failed.", e);
+            }
         } else {
             return centralConnector.executeAskQuery(query, target);
         }
@@ -29,7 +29,7 @@ class SnapshotStorageConnectorWithInference extends SnapshotStorageConnector imp
 
     private final Map<String, String> reasonerConfig;
 
-    SnapshotStorageConnectorWithInference(AbstractStorageConnector centralConnector,
+    SnapshotStorageConnectorWithInference(SharedStorageConnector centralConnector,
                                           Map<String, String> reasonerConfig) {
         super(centralConnector);
         this.reasonerConfig = reasonerConfig;
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This connector implementation supports inference using a closure shared by all transactions.
+ * <p>
+ * Inferred statements are read from the {@link SharedInference} closure as long as the transaction has not modified
+ * its data and the central data have not changed since the transaction started. Otherwise, inference is computed over
+ * a copy of the transaction's own data, as it would be without the shared closure. The shared closure thus benefits
+ * read-only transactions which are not outrun by concurrent commits.
+ */
+class SnapshotStorageConnectorWithSharedInference extends SnapshotStorageConnector implements InferredStorageConnector {
+
+    private final SharedInference sharedInference;
+    private final Map<String, String> reasonerConfig;
+
+    // Revision of the central data the transaction snapshot represents
+    private long revision;
+    // Whether the transaction has modified its data, the shared closure cannot be used then
+    private boolean modified;
+    // Inference over the transaction's data, computed only when the shared closure cannot be used
+    private SnapshotStorageWithInference localInference;
+
+    SnapshotStorageConnectorWithSharedInference(SharedStorageConnector centralConnector,
+                                                SharedInference sharedInference, Map<String, String> reasonerConfig) {
+        super(centralConnector);
+        this.sharedInference = sharedInference;
+        this.reasonerConfig = reasonerConfig;
+    }
+
+    @Override
+    void snapshotCentralDataset() {
+        final SnapshotStorage s = new SnapshotStorage(configuration);
+        this.revision = centralConnector.registerSnapshot(s);
+        this.storage = s;
+        this.modified = false;
+        this.localInference = null;
+    }
+
+    @Override
+    public void commit() throws JenaDriverException {
+        try {
+            super.commit();
+        } finally {
+            this.localInference = null;
+        }
+    }
+
+    @Override
+    public void rollback() {
+        try {
+            super.rollback();
+        } finally {
+            this.localInference = null;
+        }
+    }
+
+    @Override
+    public void add(List<Statement> statements, String context) {
+        super.add(statements, context);
+        dataModified();
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        super.remove(statements, context);
+        dataModified();
+    }
+
+    @Override
+    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
+        super.executeUpdate(query, target);
+        if (target == StatementOntology.TRANSACTIONAL) {
+            dataModified();
+        }
+    }
+
+    private void dataModified() {
+        this.modified = true;
+        this.localInference = null;
+    }
+
+    @Override
+    public List<Statement> findWithInference(Resource subject, Property property, RDFNode value,
+                                             Collection<String> contexts) {
+        ensureTransactionalState();
+        return readInferred(s -> {
+            if (contexts.isEmpty()) {
+                return s.getDefaultGraph().listStatements(subject, property, value).toList();
+            } else {
+                return contexts.stream()
+                               .map(ctx -> s.getNamedGraph(ctx).listStatements(subject, property, value).toList())
+                               .flatMap(Collection::stream).collect(Collectors.toList());
+            }
+        });
+    }
+
+    @Override
+    public boolean containsWithInference(Resource subject, Property property, RDFNode value,
+                                         Collection<String> contexts) {
+        ensureTransactionalState();
+        return readInferred(s -> {
+            if (contexts.isEmpty()) {
+                return s.getDefaultGraph().contains(subject, property, value);
+            } else {
+                return contexts.stream().anyMatch(c -> s.getNamedGraph(c).contains(subject, property, value));
+            }
+        });
+    }
+
+    @Override
+    public boolean isConsistent(String context) {
+        ensureTransactionalState();
+        // Validation modifies the reasoner state, so the shared closure cannot be read concurrently
+        return readInferred(s -> s.checkConsistency(context).isValid(), true);
+    }
+
+    private <T> T readInferred(Function<SnapshotStorageWithInference, T> reader) {
+        return readInferred(reader, false);
+    }
+
+    private <T> T readInferred(Function<SnapshotStorageWithInference, T> reader, boolean exclusive) {
+        if (!modified) {
+            final Optional<T> result = exclusive ? sharedInference.readExclusively(revision, reader) :
+                                       sharedInference.read(revision, reader);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        if (localInference == null) {
+            final SnapshotStorageWithInference s = new SnapshotStorageWithInference(configuration, reasonerConfig);
+            s.addCentralData(storage.getDataset());
+            this.localInference = s;
+        }
+        return reader.apply(localInference);
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.jena.rdf.model.InfModel;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.reasoner.IllegalParameterException;
 import org.apache.jena.reasoner.Reasoner;
 import org.apache.jena.reasoner.ReasonerFactory;
@@ -31,6 +32,7 @@ import org.apache.jena.vocabulary.ReasonerVocabulary;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
@@ -55,7 +57,9 @@ class SnapshotStorageWithInference extends SnapshotStorage {
     private final ReasonerFactory reasonerFactory;
     private final Map<String, String> reasonerConfig;
 
-    private final Map<String, InfModel> inferredGraphs = new HashMap<>();
+    // Inferred named graphs, concurrent so that a shared closure can be read by multiple threads
+    private final Map<String, InfModel> inferredGraphs = new ConcurrentHashMap<>();
+    private InfModel inferredDefaultGraph;
 
     SnapshotStorageWithInference(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
         super(configuration);
@@ -97,7 +101,7 @@ class SnapshotStorageWithInference extends SnapshotStorage {
                 dataset.addNamedModel(name, clonedModel);
             }
             clonedModel = cloneModel(central.getDefaultModel());
-            inferredGraphs.put(null, clonedModel);
+            this.inferredDefaultGraph = clonedModel;
             dataset.setDefaultModel(clonedModel);
         });
     }
@@ -108,7 +112,7 @@ class SnapshotStorageWithInference extends SnapshotStorage {
 
     @Override
     public InfModel getDefaultGraph() {
-        return inferredGraphs.get(null);
+        return inferredDefaultGraph;
     }
 
     private Reasoner createReasoner() {
@@ -125,11 +129,16 @@ class SnapshotStorageWithInference extends SnapshotStorage {
     }
 
     Model getRawDefaultGraph() {
-        return inferredGraphs.containsKey(null) ? inferredGraphs.get(null).getRawModel() : dataset.getDefaultModel();
+        return inferredDefaultGraph != null ? inferredDefaultGraph.getRawModel() : dataset.getDefaultModel();
     }
 
     @Override
     public InfModel getNamedGraph(String context) {
+        final InfModel existing = inferredGraphs.get(context);
+        return existing != null ? existing : createNamedGraph(context);
+    }
+
+    private synchronized InfModel createNamedGraph(String context) {
         return inferredGraphs.computeIfAbsent(context, c -> {
             // If the context does not exist, we need to create it, so that the default Dataset behavior is preserved
             final InfModel model = ModelFactory.createInfModel(createReasoner(), ModelFactory.createDefaultModel());
@@ -138,9 +147,29 @@ class SnapshotStorageWithInference extends SnapshotStorage {
         });
     }
 
+    @Override
+    public void add(List<Statement> statements, String context) {
+        if (context != null) {
+            // Add through the inferred graph, so that statements in a new context are reasoned over
+            getNamedGraph(context).add(statements);
+        } else {
+            super.add(statements, context);
+        }
+    }
+
     Model getRawNamedGraph(String context) {
-        return inferredGraphs.containsKey(context) ? inferredGraphs.get(context).getRawModel() :
-               dataset.getNamedModel(context);
+        final InfModel inferred = inferredGraphs.get(context);
+        return inferred != null ? inferred.getRawModel() : dataset.getNamedModel(context);
+    }
+
+    /**
+     * Performs the pending inference, so that the graphs can be read concurrently afterwards.
+     */
+    void prepare() {
+        if (inferredDefaultGraph != null) {
+            inferredDefaultGraph.prepare();
+        }
+        inferredGraphs.values().forEach(InfModel::prepare);
     }
 
     ValidityReport checkConsistency(String context) {
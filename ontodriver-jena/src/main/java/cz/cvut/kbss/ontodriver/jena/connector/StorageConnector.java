@@ -20,6 +20,7 @@ import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -55,6 +56,26 @@ public interface StorageConnector extends Closeable, Wrapper, StatementExecutor
      */
     Collection<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts);
 
+    /**
+     * Retrieves all statements of the specified subjects from the specified named graphs.
+     * <p>
+     * This is a bulk version of {@link #find(Resource, Property, RDFNode, Collection)} with unspecified property and
+     * value. Implementations may use it to resolve the target graph(s) only once for all the subjects.
+     * <p>
+     * The default implementation invokes {@link #find(Resource, Property, RDFNode, Collection)} for each subject.
+     *
+     * @param subjects Statement subjects
+     * @param contexts Named graph IRIs, optional. If empty, the default graph will be used
+     * @return Collection of statements of the specified subjects
+     */
+    default Collection<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        final List<Statement> result = new ArrayList<>();
+        for (Resource subject : subjects) {
+            result.addAll(find(subject, null, null, contexts));
+        }
+        return result;
+    }
+
     /**
      * Checks whether the specified context (named graph) contains any statements matching the specified criteria.
      * <p>
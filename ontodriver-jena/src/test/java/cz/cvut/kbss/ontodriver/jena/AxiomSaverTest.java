@@ -31,6 +31,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -71,6 +72,23 @@ public class AxiomSaverTest {
         assertEquals(ResourceFactory.createResource(type.getIdentifier().toString()), arg.get(0).getObject());
     }
 
+    @Test
+    public void saveAxiomsWritesStatementsOfAllDescriptorsInOneCallPerContext() {
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(Generator.generateUri(), false);
+        final AxiomValueDescriptor descriptorOne = new AxiomValueDescriptor(SUBJECT);
+        descriptorOne.addAssertionValue(assertion, new Value<>(NamedResource.create(Generator.generateUri())));
+        final AxiomValueDescriptor descriptorTwo =
+                new AxiomValueDescriptor(NamedResource.create(Generator.generateUri()));
+        descriptorTwo.addAssertionValue(assertion, new Value<>(NamedResource.create(Generator.generateUri())));
+        saver.saveAxioms(Arrays.asList(descriptorOne, descriptorTwo));
+        final ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(connectorMock).add(captor.capture(), eq(null));
+        final List<Statement> arg = captor.getValue();
+        assertEquals(2, arg.size());
+        assertEquals(ResourceFactory.createResource(SUBJECT.toString()), arg.get(0).getSubject());
+        assertEquals(ResourceFactory.createResource(descriptorTwo.getSubject().toString()), arg.get(1).getSubject());
+    }
+
     @Test
     public void saveAxiomsAddsResourceStatementsForObjectPropertyAssertionAxioms() {
         final AxiomValueDescriptor descriptor = new AxiomValueDescriptor(SUBJECT);
@@ -18,6 +18,7 @@ import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.model.*;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
 import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,8 +34,7 @@ import java.util.stream.IntStream;
 import static org.apache.jena.rdf.model.ResourceFactory.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class ExplicitAxiomLoaderTest extends AxiomLoaderTestBase {
 
@@ -525,4 +525,36 @@ class ExplicitAxiomLoaderTest extends AxiomLoaderTestBase {
                 .find(SUBJECT_RES, createProperty(assertion.getIdentifier().toString()), null,
                         new HashSet<>(Arrays.asList(CONTEXT.toString(), otherContext.toString())));
     }
+
+    @Test
+    void findUsesPreloadedStatementsOfSubjectWhenAvailable() {
+        final List<Statement> statements = generateClassAssertions();
+        when(connectorMock.find(anyCollection(), anyCollection())).thenReturn(statements);
+        final AxiomDescriptor descriptor = new AxiomDescriptor(SUBJECT);
+        descriptor.addAssertion(Assertion.createClassAssertion(false));
+
+        explicitAxiomLoader.preloadStatements(Collections.singleton(descriptor));
+        final Collection<Axiom<?>> result = explicitAxiomLoader.find(descriptor, mapAssertions(descriptor));
+        assertEquals(statements.size(), result.size());
+        verify(connectorMock).find(Collections.singleton(SUBJECT_RES), Collections.emptySet());
+        verify(connectorMock, never()).find(any(Resource.class), any(), any(), anyCollection());
+    }
+
+    @Test
+    void preloadStatementsLoadsSubjectsWithDifferentContextsSeparately() {
+        when(connectorMock.find(anyCollection(), anyCollection())).thenReturn(Collections.emptyList());
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(Assertion.createClassAssertion(false));
+        final NamedResource subjectTwo = NamedResource.create(Generator.generateUri());
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addSubjectContext(CONTEXT);
+        descriptorTwo.addAssertion(Assertion.createClassAssertion(false));
+
+        explicitAxiomLoader.preloadStatements(Arrays.asList(descriptorOne, descriptorTwo));
+        verify(connectorMock).find(Collections.singleton(SUBJECT_RES), Collections.emptySet());
+        verify(connectorMock).find(Collections.singleton(createResource(subjectTwo.getIdentifier().toString())),
+                Collections.singleton(CONTEXT.toString()));
+        assertTrue(explicitAxiomLoader.find(descriptorTwo, mapAssertions(descriptorTwo)).isEmpty());
+        verify(connectorMock, never()).find(any(Resource.class), any(), any(), anyCollection());
+    }
 }
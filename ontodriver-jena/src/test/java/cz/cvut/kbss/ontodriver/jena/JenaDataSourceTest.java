@@ -15,10 +15,15 @@ package cz.cvut.kbss.ontodriver.jena;
 import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
 import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.jena.environment.Generator;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.net.URI;
+import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -72,4 +77,30 @@ public class JenaDataSourceTest {
         final IllegalStateException ex = assertThrows(IllegalStateException.class, dataSource::getConnection);
         assertThat(ex.getMessage(), containsString("cannot connect without ontology storage properties"));
     }
+
+    @Test
+    public void fileJournalIsEnabledByDataSourceProperties() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = new File(file.getAbsolutePath() + ".journal");
+        journal.deleteOnExit();
+        dataSource.setStorageProperties(OntologyStorageProperties.driver(JenaDataSource.class.getName())
+                                                                 .physicalUri(URI.create(file.getAbsolutePath()))
+                                                                 .build());
+        properties.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.FILE);
+        properties.put(JenaOntoDriverProperties.JENA_FILE_JOURNAL, Boolean.TRUE.toString());
+        properties.put(JenaOntoDriverProperties.JENA_FILE_JOURNAL_COMPACTION_THRESHOLD, Integer.toString(100));
+        dataSource.setProperties(properties);
+        final Connection connection = dataSource.getConnection();
+        final NamedResource individual = NamedResource.create(Generator.generateUri());
+        final URI type = Generator.generateUri();
+        connection.types().addTypes(individual, null, Collections.singleton(type));
+        connection.commit();
+        dataSource.close();
+
+        assertTrue(Files.readAllLines(file.toPath()).isEmpty());
+        final String content = String.join("\n", Files.readAllLines(journal.toPath()));
+        assertThat(content, containsString(individual.getIdentifier().toString()));
+        assertThat(content, containsString(type.toString()));
+    }
 }
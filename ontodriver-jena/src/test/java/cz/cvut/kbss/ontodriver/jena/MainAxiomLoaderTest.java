@@ -26,8 +26,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 
 import static org.apache.jena.rdf.model.ResourceFactory.*;
 import static org.junit.Assert.assertEquals;
@@ -129,4 +131,26 @@ public class MainAxiomLoaderTest {
         assertTrue(result.contains(asserted));
         assertTrue(result.contains(inferred));
     }
+
+    @Test
+    public void findForMultipleDescriptorsLoadsAssertedStatementsOfAllSubjectsInBulk() {
+        final NamedResource subjectTwo = NamedResource.create(Generator.generateUri());
+        final Resource subjectTwoRes = createResource(subjectTwo.getIdentifier().toString());
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(URI.create(PROPERTY.getURI()), false);
+        when(connectorMock.find(anyCollection(), eq(Collections.emptySet()))).thenReturn(Arrays.asList(
+                createStatement(SUBJECT_RES, PROPERTY, OBJECT_RES), createStatement(subjectTwoRes, PROPERTY, OBJECT_RES)
+        ));
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(assertion);
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(assertion);
+
+        final Collection<Axiom<?>> result = axiomLoader.find(Arrays.asList(descriptorOne, descriptorTwo));
+        assertEquals(2, result.size());
+        assertTrue(result.contains(new AxiomImpl<>(SUBJECT, assertion, new Value<>(OBJECT))));
+        assertTrue(result.contains(new AxiomImpl<>(subjectTwo, assertion, new Value<>(OBJECT))));
+        verify(connectorMock).find(new LinkedHashSet<>(Arrays.asList(SUBJECT_RES, subjectTwoRes)),
+                Collections.emptySet());
+        verify(connectorMock, never()).find(any(Resource.class), any(), any(), anyCollection());
+    }
 }
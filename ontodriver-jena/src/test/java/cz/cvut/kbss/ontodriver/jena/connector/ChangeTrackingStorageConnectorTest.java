@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -122,6 +123,26 @@ public class ChangeTrackingStorageConnectorTest {
 
     }
 
+    @Test
+    public void findForMultipleSubjectsEnhancesResultFromCentralConnectorWithTransactionalChanges() throws Exception {
+        centralConnector.begin();
+        final Statement existing = ResourceFactory
+                .createStatement(createResource(SUBJECT), createProperty(Vocabulary.RDF_TYPE),
+                        createResource(TYPE_ONE));
+        centralConnector.add(Collections.singletonList(existing), null);
+        centralConnector.commit();
+        connector.begin();
+        final String otherSubject = Generator.generateUri().toString();
+        final Statement added = createStatement(createResource(otherSubject), createProperty(Vocabulary.RDF_TYPE),
+                createResource(TYPE_TWO));
+        getLocalModel().addStatements(Collections.singletonList(added), null);
+        final Collection<Statement> result = connector
+                .find(Arrays.asList(createResource(SUBJECT), createResource(otherSubject)), Collections.emptySet());
+        assertEquals(2, result.size());
+        assertTrue(result.contains(existing));
+        assertTrue(result.contains(added));
+    }
+
     @Test
     public void containsReturnsTrueForStatementsPresentInLocalChanges() throws Exception {
         connector.begin();
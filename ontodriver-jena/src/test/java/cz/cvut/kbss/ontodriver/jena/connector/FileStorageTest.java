@@ -12,6 +12,9 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
@@ -24,11 +27,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
 import static org.apache.jena.rdf.model.ResourceFactory.createStatement;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -120,4 +127,130 @@ public class FileStorageTest extends StorageTestUtil {
         final IllegalStateException ex = assertThrows(IllegalStateException.class, storage::reload);
         assertThat(ex.getMessage(), containsString("Cannot reload storage which is in transaction"));
     }
+
+    @Test
+    public void writeChangesAppendsChangesToJournalWhenJournalingIsEnabled() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final FileStorage storage = new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), 100));
+        final File journal = journalFile(file);
+        journal.deleteOnExit();
+        storage.begin(ReadWrite.WRITE);
+        storage.add(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        storage.writeChanges();
+        storage.commit();
+
+        assertTrue(Files.readAllLines(file.toPath()).isEmpty());
+        final String content = String.join("\n", Files.readAllLines(journal.toPath()));
+        assertThat(content, containsString(SUBJECT));
+        assertThat(content, containsString(TYPE_ONE));
+        storage.close();
+    }
+
+    private static DriverConfiguration createJournalingConfiguration(String location, int threshold) {
+        final DriverConfiguration configuration = createConfiguration(location);
+        configuration.setProperty(JenaConfigParam.FILE_JOURNAL, Boolean.toString(true));
+        configuration.setProperty(JenaConfigParam.FILE_JOURNAL_COMPACTION_THRESHOLD, Integer.toString(threshold));
+        return configuration;
+    }
+
+    private static File journalFile(File storageFile) {
+        return new File(storageFile.getAbsolutePath() + FileJournal.JOURNAL_SUFFIX);
+    }
+
+    @Test
+    public void initializationReplaysJournalIntoLoadedData() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        journalFile(file).deleteOnExit();
+        final FileStorage storage = new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), 100));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(Arrays.asList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE),
+                statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        storage.writeChanges();
+        storage.commit();
+        storage.begin(ReadWrite.WRITE);
+        storage.remove(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        storage.writeChanges();
+        storage.commit();
+        storage.close();
+
+        final FileStorage result = new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), 100));
+        final Model model = result.getDefaultGraph();
+        assertFalse(model.contains(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)));
+        assertTrue(model.contains(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)));
+        result.close();
+    }
+
+    @Test
+    public void initializationIgnoresIncompleteCommitAtJournalEnd() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = journalFile(file);
+        journal.deleteOnExit();
+        final FileStorage storage = new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), 100));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        storage.writeChanges();
+        storage.commit();
+        storage.close();
+        Files.write(journal.toPath(), ("<" + SUBJECT + "> <" + RDF.type.getURI() + "> <" + TYPE_TWO + "> <" +
+                FileJournal.ADDED.getURI() + "> .\n<" + SUBJECT + "> <").getBytes(), StandardOpenOption.APPEND);
+
+        final FileStorage result = new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), 100));
+        final Model model = result.getDefaultGraph();
+        assertTrue(model.contains(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)));
+        assertFalse(model.contains(statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)));
+        assertEquals(0, journal.length());
+        assertThat(String.join("\n", Files.readAllLines(file.toPath())), containsString(TYPE_ONE));
+        result.close();
+    }
+
+    @Test
+    public void compactionRewritesFileAndTruncatesJournal() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = journalFile(file);
+        journal.deleteOnExit();
+        final FileStorage storage = new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), 1));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(Collections.singletonList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE)), null);
+        storage.writeChanges();
+        storage.commit();
+        assertThat(String.join("\n", Files.readAllLines(file.toPath())), not(containsString(TYPE_ONE)));
+
+        storage.compact();
+        assertEquals(0, journal.length());
+        assertThat(String.join("\n", Files.readAllLines(file.toPath())), containsString(TYPE_ONE));
+        storage.close();
+    }
+
+    @Test
+    public void commitOverCompactionThresholdCompactsStorageInBackground() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journal = journalFile(file);
+        journal.deleteOnExit();
+        final FileStorage storage = new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), 1));
+        storage.begin(ReadWrite.WRITE);
+        storage.add(Arrays.asList(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE),
+                statement(SUBJECT, RDF.type.getURI(), TYPE_TWO)), null);
+        storage.writeChanges();
+        storage.commit();
+        // Closing waits for the scheduled compaction to finish
+        storage.close();
+
+        assertEquals(0, journal.length());
+        final String content = String.join("\n", Files.readAllLines(file.toPath()));
+        assertThat(content, containsString(TYPE_ONE));
+        assertThat(content, containsString(TYPE_TWO));
+    }
+
+    @Test
+    public void constructorThrowsInitializationExceptionForInvalidCompactionThreshold() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        assertThrows(OntoDriverInitializationException.class,
+                () -> new FileStorage(createJournalingConfiguration(file.getAbsolutePath(), -1)));
+    }
 }
@@ -13,6 +13,7 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
@@ -42,4 +43,14 @@ public class InferenceConnectorFactoryTest extends ConnectorFactoryTestBase {
         final InferredStorageConnector result = factory.createInferredConnector(connector);
         assertTrue(result instanceof SnapshotStorageConnectorWithInference);
     }
+
+    @Test
+    public void createConnectorReturnsSharedInferenceConnectorWhenSharedInferenceIsEnabled() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(JenaConfigParam.SHARED_INFERENCE, Boolean.TRUE.toString());
+        final ConnectorFactory factory = connectorFactory(configuration);
+        final StorageConnector connector = factory.createConnector();
+        assertTrue(connector instanceof SnapshotStorageConnectorWithSharedInference);
+        assertTrue(factory.createInferredConnector(connector) instanceof SnapshotStorageConnectorWithSharedInference);
+    }
 }
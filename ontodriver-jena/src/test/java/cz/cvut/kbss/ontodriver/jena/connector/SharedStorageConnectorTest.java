@@ -87,6 +87,34 @@ public class SharedStorageConnectorTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void findForMultipleSubjectsReturnsStatementsOfAllSubjects() {
+        final SharedStorageConnector connector = initConnector();
+        final Dataset ds = connector.storage.getDataset();
+        generateTestData(ds);
+        final Statement other = createStatement(createResource(Generator.generateUri().toString()), RDF.type,
+                createResource(TYPE_TWO));
+        ds.getDefaultModel().add(other);
+
+        final Collection<Statement> result =
+                connector.find(Arrays.asList(RESOURCE, other.getSubject()), Collections.emptySet());
+        assertEquals(2, result.size());
+        assertTrue(result.contains(other));
+        assertTrue(result.stream().anyMatch(s -> s.getSubject().equals(RESOURCE)));
+    }
+
+    @Test
+    public void findForMultipleSubjectsInContextFiltersStatementsInTargetContext() {
+        final SharedStorageConnector connector = initConnector();
+        final Dataset ds = connector.storage.getDataset();
+        generateTestData(ds);
+
+        final Collection<Statement> result = connector.find(Collections.singletonList(RESOURCE),
+                Collections.singleton(NAMED_GRAPH));
+        assertEquals(1, result.size());
+        assertEquals(createResource(TYPE_TWO), result.iterator().next().getObject());
+    }
+
     @Test
     public void containsChecksForStatementExistenceInDefaultGraph() {
         final SharedStorageConnector connector = initConnector();
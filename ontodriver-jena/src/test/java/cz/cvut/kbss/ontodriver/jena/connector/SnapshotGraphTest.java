@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.system.Txn;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotGraphTest {
+
+    private static final Triple TRIPLE_ONE =
+            Triple.create(NodeFactory.createURI(SUBJECT), RDF.type.asNode(), NodeFactory.createURI(TYPE_ONE));
+    private static final Triple TRIPLE_TWO =
+            Triple.create(NodeFactory.createURI(SUBJECT), RDF.type.asNode(), NodeFactory.createURI(TYPE_TWO));
+
+    private Dataset central;
+
+    private SnapshotGraph sut;
+
+    @BeforeEach
+    void setUp() {
+        this.central = DatasetFactory.createTxnMem();
+        Txn.executeWrite(central, () -> centralGraph().add(TRIPLE_ONE));
+        this.sut = new SnapshotGraph(centralGraph(), central);
+    }
+
+    private Graph centralGraph() {
+        return central.getDefaultModel().getGraph();
+    }
+
+    @Test
+    void findReturnsCentralStatementsAndAddedStatements() {
+        sut.add(TRIPLE_TWO);
+        assertEquals(new HashSet<>(Arrays.asList(TRIPLE_ONE, TRIPLE_TWO)), sut.find(Triple.ANY).toSet());
+        assertFalse(Txn.calculateRead(central, () -> centralGraph().contains(TRIPLE_TWO)));
+    }
+
+    @Test
+    void deleteHidesCentralStatementWithoutModifyingCentralGraph() {
+        sut.delete(TRIPLE_ONE);
+        assertFalse(sut.contains(TRIPLE_ONE));
+        assertTrue(sut.find(Triple.ANY).toList().isEmpty());
+        assertTrue(Txn.calculateRead(central, () -> centralGraph().contains(TRIPLE_ONE)));
+    }
+
+    @Test
+    void centralAddingHidesStatementAddedToCentralGraphLater() {
+        Txn.executeWrite(central, () -> {
+            sut.centralAdding(TRIPLE_TWO);
+            centralGraph().add(TRIPLE_TWO);
+        });
+        assertFalse(sut.contains(TRIPLE_TWO));
+        assertEquals(1, sut.find(Triple.ANY).toList().size());
+    }
+
+    @Test
+    void centralRemovingKeepsStatementRemovedFromCentralGraphLater() {
+        Txn.executeWrite(central, () -> {
+            sut.centralRemoving(TRIPLE_ONE);
+            centralGraph().delete(TRIPLE_ONE);
+        });
+        assertTrue(sut.contains(TRIPLE_ONE));
+        assertEquals(1, sut.find(Triple.ANY).toList().size());
+    }
+
+    @Test
+    void firstRecordedCentralChangeDeterminesSnapshotContent() {
+        Txn.executeWrite(central, () -> {
+            sut.centralAdding(TRIPLE_TWO);
+            centralGraph().add(TRIPLE_TWO);
+        });
+        Txn.executeWrite(central, () -> {
+            sut.centralRemoving(TRIPLE_TWO);
+            centralGraph().delete(TRIPLE_TWO);
+        });
+        Txn.executeWrite(central, () -> {
+            sut.centralAdding(TRIPLE_TWO);
+            centralGraph().add(TRIPLE_TWO);
+        });
+        assertFalse(sut.contains(TRIPLE_TWO));
+    }
+
+    @Test
+    void findInCentralReadTransactionReturnsStatementRemovedDuringReadOnce() {
+        final List<Triple> result = Txn.calculateRead(central, () -> {
+            final ExtendedIterator<Triple> it = sut.find(Triple.ANY);
+            final Thread writer = new Thread(() -> Txn.executeWrite(central, () -> {
+                sut.centralRemoving(TRIPLE_ONE);
+                centralGraph().delete(TRIPLE_ONE);
+            }));
+            writer.start();
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return it.toList();
+        });
+        assertEquals(Collections.singletonList(TRIPLE_ONE), result);
+        assertEquals(Collections.singletonList(TRIPLE_ONE), sut.find(Triple.ANY).toList());
+    }
+
+    @Test
+    void addOfStatementHiddenBySnapshotMakesItVisible() {
+        Txn.executeWrite(central, () -> {
+            sut.centralAdding(TRIPLE_TWO);
+            centralGraph().add(TRIPLE_TWO);
+        });
+        sut.add(TRIPLE_TWO);
+        assertTrue(sut.contains(TRIPLE_TWO));
+        assertEquals(2, sut.find(Triple.ANY).toList().size());
+    }
+
+    @Test
+    void detachCopiesSnapshotContent() {
+        sut.add(TRIPLE_TWO);
+        sut.detach();
+        Txn.executeWrite(central, () -> centralGraph().clear());
+        assertEquals(new HashSet<>(Arrays.asList(TRIPLE_ONE, TRIPLE_TWO)), sut.find(Triple.ANY).toSet());
+    }
+}
@@ -19,17 +19,23 @@ import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
 import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
@@ -406,4 +412,84 @@ public class SnapshotStorageConnectorTest {
         connector.close();
         assertFalse(connector.isOpen());
     }
+
+    @Test
+    public void snapshotDoesNotContainStatementsAddedToCentralConnectorAfterBegin() throws JenaDriverException {
+        connector.begin();
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(added), null);
+        centralConnector.commit();
+
+        assertFalse(connector.contains(added.getSubject(), added.getPredicate(), added.getObject(),
+                Collections.emptySet()));
+        assertTrue(connector.find(added.getSubject(), null, null, Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void commitOfConcurrentTransactionIsNotVisibleInSnapshot() throws JenaDriverException {
+        final String context = Generator.generateUri().toString();
+        final Statement existing = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(existing), context);
+        centralConnector.commit();
+        final SnapshotStorageConnector other = new SnapshotStorageConnector(centralConnector);
+        connector.begin();
+        other.begin();
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
+        other.remove(Collections.singletonList(existing), context);
+        other.add(Collections.singletonList(added), context);
+        other.commit();
+
+        final Collection<Statement> result =
+                connector.find(createResource(SUBJECT), RDF.type, null, Collections.singleton(context));
+        assertEquals(Collections.singletonList(existing), result);
+    }
+
+    @Test
+    public void snapshotIsDetachedWhenCentralConnectorExecutesUpdate() throws OntoDriverException {
+        final Statement existing = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        centralConnector.begin();
+        centralConnector.add(Collections.singletonList(existing), null);
+        centralConnector.commit();
+        connector.begin();
+        centralConnector.executeUpdate("DELETE DATA { <" + SUBJECT + "> a <" + TYPE_ONE + "> . }",
+                StatementOntology.CENTRAL);
+
+        assertTrue(connector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+        assertFalse(centralConnector.contains(existing.getSubject(), existing.getPredicate(), existing.getObject(),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void beginWaitsForRunningCentralTransactionOnLockBasedDataset() {
+        centralConnector.setDataset(DatasetFactory.create(ModelFactory.createDefaultModel()));
+        final Statement added = createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                centralConnector.begin();
+                final Future<?> begin = executor.submit(connector::begin);
+                // Let the snapshot wait for the central transaction
+                Thread.sleep(200);
+                centralConnector.add(Collections.singletonList(added), null);
+                centralConnector.commit();
+                begin.get();
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(Collections.singletonList(added),
+                connector.find(added.getSubject(), null, null, Collections.emptySet()));
+    }
+
+    @Test
+    public void rollbackUnregistersSnapshotFromCentralConnector() {
+        connector.begin();
+        final SnapshotStorage snapshot = (SnapshotStorage) connector.getStorage();
+        verify(centralConnector).registerSnapshot(snapshot);
+        connector.rollback();
+        verify(centralConnector).unregisterSnapshot(snapshot);
+    }
 }
@@ -0,0 +1,227 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.environment.Generator;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.reasoner.rulesys.RDFSRuleReasonerFactory;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SnapshotStorageConnectorWithSharedInferenceTest {
+
+    private DriverConfiguration configuration;
+
+    private SharedStorageConnector centralConnector;
+
+    private SharedInference sharedInference;
+
+    private SnapshotStorageConnectorWithSharedInference connector;
+
+    @BeforeEach
+    public void setUp() {
+        this.configuration = StorageTestUtil.createConfiguration("test:uri");
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
+        this.centralConnector = spy(new SharedStorageConnector(configuration));
+        this.sharedInference = new SharedInference(centralConnector, configuration, Collections.emptyMap());
+        this.connector = createConnector();
+    }
+
+    private SnapshotStorageConnectorWithSharedInference createConnector() {
+        return new SnapshotStorageConnectorWithSharedInference(centralConnector, sharedInference,
+                Collections.emptyMap());
+    }
+
+    private void generateTestData(String context) throws JenaDriverException {
+        centralConnector.begin();
+        final List<Statement> data = Arrays.asList(
+                statement(TYPE_ONE, RDFS.subClassOf.getURI(), TYPE_TWO),
+                statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        centralConnector.add(data, context);
+        centralConnector.commit();
+    }
+
+    @Test
+    public void findReturnsOnlyExplicitStatements() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final List<Statement> result = connector.find(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertEquals(1, result.size());
+        assertEquals(createResource(TYPE_ONE), result.get(0).getObject());
+    }
+
+    @Test
+    public void findWithInferenceReturnsStatementsIncludingInferredKnowledge() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Collection<Statement> result = connector
+                .findWithInference(createResource(SUBJECT), RDF.type, null, Collections.emptySet());
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(s -> s.getObject().equals(createResource(TYPE_TWO))));
+    }
+
+    @Test
+    public void findWithInferenceInContextReturnsStatementsIncludingInferredKnowledge() throws Exception {
+        generateTestData(NAMED_GRAPH);
+        connector.begin();
+        final Collection<Statement> result = connector
+                .findWithInference(createResource(SUBJECT), RDF.type, null, Collections.singleton(NAMED_GRAPH));
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(s -> s.getObject().equals(createResource(TYPE_TWO))));
+    }
+
+    @Test
+    public void transactionsShareInferenceClosureUpdatedByCommits() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        connector.commit();
+
+        final SnapshotStorageConnectorWithSharedInference other = createConnector();
+        other.begin();
+        assertTrue(
+                other.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+        // Two transaction snapshots and one initial computation of the shared closure
+        verify(centralConnector, times(3)).registerSnapshot(any());
+    }
+
+    @Test
+    public void findWithInferenceDoesNotSeeDataCommittedAfterTransactionStart() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Resource another = createResource(Generator.generateUri().toString());
+        final SnapshotStorageConnectorWithSharedInference other = createConnector();
+        other.begin();
+        other.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        other.commit();
+
+        assertFalse(
+                connector.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void addStatementsInfluencesInferenceResultsOfTransactionOnly() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        assertTrue(
+                connector.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+
+        final SnapshotStorageConnectorWithSharedInference other = createConnector();
+        other.begin();
+        assertFalse(
+                other.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+    }
+
+    @Test
+    public void removeStatementsInfluencesInferenceResults() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        connector.remove(null, RDF.type, createResource(TYPE_ONE), null);
+        assertFalse(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void committedRemovalIsReflectedInSharedInferenceClosure() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.remove(null, RDF.type, createResource(TYPE_ONE), null);
+        connector.commit();
+
+        connector.begin();
+        assertFalse(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void sharedInferenceClosureIsRebuiltAfterCentralUpdateQuery() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        connector.commit();
+        centralConnector.executeUpdate("DELETE WHERE { ?x a <" + TYPE_ONE + "> . }", StatementOntology.CENTRAL);
+
+        connector.begin();
+        assertFalse(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+    }
+
+    @Test
+    public void sharedInferenceClosureIsReadConcurrently() throws Exception {
+        generateTestData(null);
+        final long revision = centralConnector.addCommitListener((r, changes) -> {
+        });
+        final CountDownLatch readStarted = new CountDownLatch(1);
+        final CountDownLatch otherReadDone = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Optional<Boolean>> blockingRead = executor.submit(() -> sharedInference.read(revision, s -> {
+                readStarted.countDown();
+                try {
+                    return otherReadDone.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertTrue(readStarted.await(10, TimeUnit.SECONDS));
+            final Optional<Boolean> result = sharedInference.read(revision, s -> s.getDefaultGraph()
+                    .contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
+            otherReadDone.countDown();
+            assertEquals(Optional.of(true), result);
+            assertEquals(Optional.of(true), blockingRead.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void isConsistentVerifiesConsistencyOfDefaultGraph() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        assertTrue(connector.isConsistent(null));
+    }
+}
@@ -15,6 +15,7 @@
 package cz.cvut.kbss.ontodriver.owlapi;
 
 import cz.cvut.kbss.ontodriver.model.*;
+import cz.cvut.kbss.ontodriver.owlapi.connector.InferenceCache;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import cz.cvut.kbss.ontodriver.owlapi.exception.ReasonerNotAvailableException;
 import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
@@ -23,11 +24,15 @@ import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class InferredAxiomLoader implements AxiomLoader {
 
     private final OWLReasoner reasoner;
+    /**
+     * Reasoner answers are memoized for the whole snapshot, so that repeated loading of the same subjects does not hit
+     * the reasoner again until the snapshot changes.
+     */
+    private final InferenceCache inferenceCache;
     private final OWLOntology ontology;
     private final OWLDataFactory dataFactory;
 
@@ -39,11 +44,50 @@ public class InferredAxiomLoader implements AxiomLoader {
     InferredAxiomLoader(OwlapiAdapter adapter, OntologySnapshot snapshot) {
         this.adapter = adapter;
         this.reasoner = snapshot.getReasoner();
+        this.inferenceCache = snapshot.getInferenceCache();
         this.ontology = snapshot.getOntology();
         this.dataFactory = snapshot.getDataFactory();
         this.axiomAdapter = new AxiomAdapter(snapshot.getDataFactory());
     }
 
+    /**
+     * Precomputes reasoner answers needed to load the specified assertions of the specified subjects in one pass.
+     *
+     * @param subjects   Subjects to be loaded
+     * @param assertions Inferred assertions to be loaded for each of the subjects
+     */
+    void precompute(Collection<NamedResource> subjects, Set<Assertion> assertions) {
+        if (reasoner == null || subjects.isEmpty() || assertions.isEmpty()) {
+            return;
+        }
+        boolean types = false;
+        final Set<OWLDataProperty> dataProperties = new HashSet<>();
+        final Set<OWLObjectProperty> objectProperties = new HashSet<>();
+        for (Assertion a : assertions) {
+            switch (a.getType()) {
+                case CLASS:
+                    types = true;
+                    break;
+                case DATA_PROPERTY:
+                    dataProperties.add(dataProperty(a));
+                    break;
+                case OBJECT_PROPERTY:
+                    objectProperties.add(objectProperty(a));
+                    break;
+                case PROPERTY:
+                    types = true;
+                    dataProperties.add(dataProperty(a));
+                    objectProperties.add(objectProperty(a));
+                    break;
+                default:
+                    break;
+            }
+        }
+        final List<OWLNamedIndividual> individuals =
+                subjects.stream().map(s -> OwlapiUtils.getIndividual(s, dataFactory)).collect(Collectors.toList());
+        inferenceCache.precompute(individuals, types, dataProperties, objectProperties);
+    }
+
     @Override
     public Collection<Axiom<?>> loadAxioms(NamedResource subject, Set<Assertion> assertions) {
         this.subject = subject;
@@ -53,7 +97,6 @@ public class InferredAxiomLoader implements AxiomLoader {
         if (reasoner == null) {
             throw new ReasonerNotAvailableException();
         }
-        reasoner.flush();
         final OWLNamedIndividual individual = OwlapiUtils.getIndividual(subject, dataFactory);
         final Collection<Axiom<?>> axioms = new HashSet<>();
         for (Assertion a : assertions) {
@@ -81,7 +124,7 @@ public class InferredAxiomLoader implements AxiomLoader {
     }
 
     private Collection<Axiom<?>> inferDataPropertyValues(OWLNamedIndividual individual, Assertion dpAssertion) {
-        final Set<OWLLiteral> literals = reasoner.getDataPropertyValues(individual, dataProperty(dpAssertion));
+        final Set<OWLLiteral> literals = inferenceCache.getDataPropertyValues(individual, dataProperty(dpAssertion));
         return literals.stream().filter(lit -> OwlapiUtils.doesLanguageMatch(lit, dpAssertion))
                        .map(owlLiteral -> new AxiomImpl<>(subject, dpAssertion,
                                new Value<>(OwlapiUtils.owlLiteralToValue(owlLiteral)))).collect(Collectors.toSet());
@@ -92,9 +135,9 @@ public class InferredAxiomLoader implements AxiomLoader {
     }
 
     private Collection<Axiom<?>> inferObjectPropertyValues(OWLNamedIndividual individual, Assertion opAssertion) {
-        final Stream<OWLNamedIndividual> individuals =
-                reasoner.getObjectPropertyValues(individual, objectProperty(opAssertion)).entities();
-        return individuals.map(
+        final Set<OWLNamedIndividual> individuals =
+                inferenceCache.getObjectPropertyValues(individual, objectProperty(opAssertion));
+        return individuals.stream().map(
                 target -> axiomAdapter.createAxiom(subject, opAssertion, NamedResource.create(target.getIRI().toURI())))
                           .collect(
                                   Collectors.toList());
@@ -109,7 +152,7 @@ public class InferredAxiomLoader implements AxiomLoader {
         final Collection<Axiom<?>> axioms = new ArrayList<>();
         final OWLNamedIndividual individual = OwlapiUtils.getIndividual(subject, dataFactory);
         ontology.dataPropertiesInSignature().forEach(dp -> {
-            final Set<OWLLiteral> values = reasoner.getDataPropertyValues(individual, dp);
+            final Set<OWLLiteral> values = inferenceCache.getDataPropertyValues(individual, dp);
             for (OWLLiteral literal : values) {
                 axioms.add(axiomAdapter.createAxiom(subject,
                         Assertion.createDataPropertyAssertion(dp.getIRI().toURI(), true), literal));
@@ -117,9 +160,9 @@ public class InferredAxiomLoader implements AxiomLoader {
         });
         ontology.objectPropertiesInSignature().forEach(op -> {
             final Assertion opAss = Assertion.createObjectPropertyAssertion(op.getIRI().toURI(), true);
-            reasoner.getObjectPropertyValues(individual, op).entities()
-                    .forEach(ind -> axioms
-                            .add(axiomAdapter.createAxiom(subject, opAss, NamedResource.create(ind.getIRI().toURI()))));
+            inferenceCache.getObjectPropertyValues(individual, op)
+                          .forEach(ind -> axioms.add(
+                                  axiomAdapter.createAxiom(subject, opAss, NamedResource.create(ind.getIRI().toURI()))));
         });
         return axioms;
     }
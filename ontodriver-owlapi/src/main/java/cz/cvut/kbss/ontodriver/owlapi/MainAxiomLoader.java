@@ -35,12 +35,57 @@ class MainAxiomLoader {
     private final Set<Assertion> inferredAssertions = new HashSet<>();
     private final Set<Assertion> explicitAssertions = new HashSet<>();
 
+    private InferredAxiomLoader inferredLoader;
+    private ExplicitAxiomLoader explicitLoader;
+
     MainAxiomLoader(OwlapiAdapter adapter, OntologySnapshot snapshot) {
         this.adapter = adapter;
         this.snapshot = snapshot;
         this.ontology = snapshot.getOntology();
     }
 
+    /**
+     * Loads axioms corresponding to all the specified descriptors.
+     * <p>
+     * The descriptors are processed in a single pass over the ontology snapshot, sharing the axiom loaders (and thus
+     * also a single reasoner flush) for all the subjects. Reasoner answers for inferred assertions are precomputed for
+     * all the subjects before their values are loaded.
+     *
+     * @param descriptors Descriptors of axioms to load
+     * @return Matching axioms
+     */
+    Collection<Axiom<?>> findAxioms(Collection<AxiomDescriptor> descriptors) {
+        precomputeInferredValues(descriptors);
+        final Collection<Axiom<?>> result = new ArrayList<>();
+        for (AxiomDescriptor descriptor : descriptors) {
+            inferredAssertionUris.clear();
+            inferredAssertions.clear();
+            explicitAssertions.clear();
+            result.addAll(findAxioms(descriptor));
+        }
+        return result;
+    }
+
+    private void precomputeInferredValues(Collection<AxiomDescriptor> descriptors) {
+        // Subjects are grouped by the inferred assertions to load, so that no unnecessary answers are computed
+        final Map<Set<Assertion>, List<NamedResource>> subjectsByAssertions = new HashMap<>();
+        for (AxiomDescriptor descriptor : descriptors) {
+            final Set<Assertion> inferred = descriptor.getAssertions().stream().filter(Assertion::isInferred)
+                                                      .collect(Collectors.toSet());
+            if (!inferred.isEmpty() &&
+                    ontology.containsIndividualInSignature(IRI.create(descriptor.getSubject().getIdentifier()))) {
+                subjectsByAssertions.computeIfAbsent(inferred, k -> new ArrayList<>()).add(descriptor.getSubject());
+            }
+        }
+        if (subjectsByAssertions.isEmpty()) {
+            return;
+        }
+        if (inferredLoader == null) {
+            this.inferredLoader = new InferredAxiomLoader(adapter, snapshot);
+        }
+        subjectsByAssertions.forEach((assertions, subjects) -> inferredLoader.precompute(subjects, assertions));
+    }
+
     Collection<Axiom<?>> findAxioms(AxiomDescriptor descriptor) {
         final NamedResource subject = descriptor.getSubject();
         if (!ontology.containsIndividualInSignature(IRI.create(subject.getIdentifier()))) {
@@ -68,15 +113,20 @@ class MainAxiomLoader {
         if (inferredAssertions.isEmpty()) {
             return Collections.emptySet();
         }
-        return new InferredAxiomLoader(adapter, snapshot).loadAxioms(subject, inferredAssertions);
+        if (inferredLoader == null) {
+            this.inferredLoader = new InferredAxiomLoader(adapter, snapshot);
+        }
+        return inferredLoader.loadAxioms(subject, inferredAssertions);
     }
 
     private Collection<Axiom<?>> loadExplicitValues(NamedResource subject) {
         if (explicitAssertions.isEmpty()) {
             return Collections.emptySet();
         }
-        final Collection<Axiom<?>> values = new ExplicitAxiomLoader(adapter, snapshot)
-                .loadAxioms(subject, explicitAssertions);
+        if (explicitLoader == null) {
+            this.explicitLoader = new ExplicitAxiomLoader(adapter, snapshot);
+        }
+        final Collection<Axiom<?>> values = explicitLoader.loadAxioms(subject, explicitAssertions);
         return values.stream().filter(axiom -> !inferredAssertionUris.contains(axiom.getAssertion().getIdentifier()))
                      .collect(Collectors.toList());
     }
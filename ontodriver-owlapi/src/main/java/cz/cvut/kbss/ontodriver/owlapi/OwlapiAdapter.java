@@ -158,6 +158,11 @@ public class OwlapiAdapter {
         return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptor);
     }
 
+    Collection<Axiom<?>> findAll(Collection<AxiomDescriptor> descriptors) {
+        startTransactionIfNotActive();
+        return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptors);
+    }
+
     void persist(AxiomValueDescriptor descriptor) {
         startTransactionIfNotActive();
         new AxiomSaver(this, ontologySnapshot).persist(descriptor);
@@ -218,6 +223,8 @@ public class OwlapiAdapter {
         if (cls.isAssignableFrom(this.getClass())) {
             return cls.cast(this);
         } else if (cls.isAssignableFrom(OWLOntology.class)) {
+            // The ontology may be modified directly by the caller
+            ontologySnapshot.prepareUntrackedWrite();
             return cls.cast(ontologySnapshot.getOntology());
         }
         throw new OwlapiDriverException("Unsupported type " + cls);
@@ -17,7 +17,6 @@ import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import cz.cvut.kbss.ontodriver.owlapi.util.MutableAddAxiom;
 import cz.cvut.kbss.ontodriver.owlapi.util.MutableRemoveAxiom;
 import org.semanticweb.owlapi.model.*;
-import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.search.EntitySearcher;
 
 import java.net.URI;
@@ -31,7 +30,6 @@ class TypesHandler {
 
     private final OWLOntology ontology;
     private final OWLDataFactory dataFactory;
-    private final OWLReasoner reasoner;
     private final OntologySnapshot snapshot;
 
     private final OwlapiAdapter adapter;
@@ -41,7 +39,6 @@ class TypesHandler {
         this.snapshot = snapshot;
         this.ontology = snapshot.getOntology();
         this.dataFactory = snapshot.getDataFactory();
-        this.reasoner = snapshot.getReasoner();
     }
 
     Set<Axiom<URI>> getTypes(NamedResource subject, Collection<URI> contexts, boolean includeInferred) {
@@ -71,7 +68,7 @@ class TypesHandler {
 
     private Collection<? extends OWLClassExpression> inferClasses(NamedResource subject) {
         final OWLNamedIndividual individual = getIndividual(subject);
-        return reasoner.getTypes(individual, false).entities().collect(Collectors.toSet());
+        return snapshot.getInferenceCache().getTypes(individual);
     }
 
     void addTypes(NamedResource subject, URI context, Set<URI> types) {
@@ -24,6 +24,20 @@ public class Constants {
      */
     public static final String DEFAULT_LANGUAGE = null;
 
+    /**
+     * Default maximum delay (in milliseconds) of asynchronous ontology write.
+     *
+     * @see OwlapiOntoDriverProperties#ASYNC_WRITE_MAX_DELAY
+     */
+    public static final long DEFAULT_ASYNC_WRITE_MAX_DELAY = 1000;
+
+    /**
+     * Default number of pending changes triggering asynchronous ontology write.
+     *
+     * @see OwlapiOntoDriverProperties#ASYNC_WRITE_MAX_PENDING_CHANGES
+     */
+    public static final int DEFAULT_ASYNC_WRITE_MAX_PENDING_CHANGES = 10_000;
+
     private Constants() {
         throw new AssertionError();
     }
@@ -23,7 +23,10 @@ public enum OwlapiConfigParam implements ConfigurationParameter {
 
     MAPPING_FILE_LOCATION(OwlapiOntoDriverProperties.MAPPING_FILE_LOCATION),
     IRI_MAPPING_DELIMITER(OwlapiOntoDriverProperties.IRI_MAPPING_DELIMITER),
-    WRITE_ON_COMMIT(OwlapiOntoDriverProperties.WRITE_ON_COMMIT);
+    WRITE_ON_COMMIT(OwlapiOntoDriverProperties.WRITE_ON_COMMIT),
+    ASYNC_WRITE(OwlapiOntoDriverProperties.ASYNC_WRITE),
+    ASYNC_WRITE_MAX_DELAY(OwlapiOntoDriverProperties.ASYNC_WRITE_MAX_DELAY),
+    ASYNC_WRITE_MAX_PENDING_CHANGES(OwlapiOntoDriverProperties.ASYNC_WRITE_MAX_PENDING_CHANGES);
 
     private final String name;
 
@@ -36,6 +36,34 @@ public abstract class OwlapiOntoDriverProperties {
      */
     public static final String WRITE_ON_COMMIT = "cz.cvut.kbss.ontodriver.owlapi.writeOnCommit";
 
+    /**
+     * When set to true, the ontology is written into its file by a background thread instead of on every commit.
+     * <p>
+     * Changes of multiple commits are coalesced into a single save, which happens at latest after {@link
+     * #ASYNC_WRITE_MAX_DELAY} or as soon as {@link #ASYNC_WRITE_MAX_PENDING_CHANGES} is reached. The ontology is always
+     * written when the driver is closed. Changes committed since the last save are lost if the application terminates
+     * abnormally.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String ASYNC_WRITE = "cz.cvut.kbss.ontodriver.owlapi.asyncWrite";
+
+    /**
+     * Maximum time (in milliseconds) committed changes may wait before the ontology is written into its file.
+     * <p>
+     * Applies only when {@link #ASYNC_WRITE} is enabled.
+     */
+    public static final String ASYNC_WRITE_MAX_DELAY = "cz.cvut.kbss.ontodriver.owlapi.asyncWriteMaxDelay";
+
+    /**
+     * Number of committed axiom changes after which the ontology is written into its file without waiting for {@link
+     * #ASYNC_WRITE_MAX_DELAY}.
+     * <p>
+     * Applies only when {@link #ASYNC_WRITE} is enabled.
+     */
+    public static final String ASYNC_WRITE_MAX_PENDING_CHANGES =
+            "cz.cvut.kbss.ontodriver.owlapi.asyncWriteMaxPendingChanges";
+
     /**
      * Default IRI mapping delimiter.
      *
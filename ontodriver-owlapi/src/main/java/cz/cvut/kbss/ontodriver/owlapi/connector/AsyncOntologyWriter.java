@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
+import cz.cvut.kbss.ontodriver.owlapi.util.Procedure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the ontology into its file in a background thread, coalescing changes of multiple commits into a single save.
+ * <p>
+ * A save is scheduled when the first change after the previous save is committed and executed after the configured
+ * delay, or immediately when the number of pending changes reaches the configured limit.
+ */
+class AsyncOntologyWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncOntologyWriter.class);
+
+    private final Procedure save;
+    private final long maxDelay;
+    private final int maxPendingChanges;
+
+    private final ScheduledExecutorService executor;
+
+    private int pendingChanges;
+    private ScheduledFuture<?> scheduledSave;
+    private boolean saveImmediately;
+    private boolean closed;
+
+    /**
+     * @param save              Writes the ontology into its file
+     * @param maxDelay          Maximum time (in milliseconds) between commit and save
+     * @param maxPendingChanges Number of pending changes which trigger save immediately
+     */
+    AsyncOntologyWriter(Procedure save, long maxDelay, int maxPendingChanges) {
+        this.save = save;
+        this.maxDelay = maxDelay;
+        this.maxPendingChanges = maxPendingChanges;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "owlapi-ontology-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Notifies this writer that the specified number of changes has been applied to the ontology.
+     *
+     * @param changeCount Number of applied changes
+     */
+    synchronized void changesApplied(int changeCount) {
+        if (closed) {
+            return;
+        }
+        this.pendingChanges += changeCount;
+        if (scheduledSave == null) {
+            schedule(pendingChanges >= maxPendingChanges ? 0 : maxDelay);
+        } else if (pendingChanges >= maxPendingChanges && !saveImmediately && scheduledSave.cancel(false)) {
+            schedule(0);
+        }
+    }
+
+    private void schedule(long delay) {
+        this.saveImmediately = delay == 0;
+        this.scheduledSave = executor.schedule(this::save, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void save() {
+        final int saved;
+        synchronized (this) {
+            // Changes committed from now on will be written by the next save
+            saved = pendingChanges;
+            this.pendingChanges = 0;
+            this.scheduledSave = null;
+        }
+        try {
+            save.execute();
+            LOG.trace("Ontology saved, {} changes written.", saved);
+        } catch (OwlapiDriverException | RuntimeException e) {
+            LOG.error("Unable to write out ontology, will retry in {} ms.", maxDelay, e);
+            changesApplied(saved);
+        }
+    }
+
+    /**
+     * Stops this writer, cancelling the scheduled save and waiting for a running save to finish.
+     * <p>
+     * The caller is responsible for writing out changes which have not been saved.
+     */
+    void close() {
+        synchronized (this) {
+            this.closed = true;
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOG.warn("Background ontology save did not finish in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
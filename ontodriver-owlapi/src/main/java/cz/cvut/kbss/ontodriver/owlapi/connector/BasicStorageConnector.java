@@ -16,6 +16,7 @@ import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
 import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.owlapi.config.Constants;
 import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.exception.*;
 import cz.cvut.kbss.ontodriver.owlapi.util.DefaultOntologyIriMapper;
@@ -30,7 +31,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileNotFoundException;
 import java.net.URI;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -44,6 +47,14 @@ import java.util.stream.Collectors;
  * Each call to {@link #getOntologySnapshot()} returns a new snapshot of the current state of the ontology. The changes
  * are the applied to a shared ontology, which represents the current state of the underlying storage.
  * <p>
+ * Snapshots are copy-on-write. Snapshots taken between two commits share a single copy of the live ontology (and its
+ * reasoner). A snapshot gets its own copy only when it is modified while other transactions use the shared one, and
+ * the copy of a committed transaction becomes the shared copy for subsequent transactions, so that the live ontology is
+ * not copied again.
+ * <p>
+ * By default, the ontology is written into its file on every commit. When {@link OwlapiConfigParam#ASYNC_WRITE} is
+ * enabled, it is written by a background thread, coalescing multiple commits into a single save.
+ * <p>
  * Note: This connector currently does not handle concurrent updates.
  */
 public class BasicStorageConnector extends AbstractConnector {
@@ -61,6 +72,19 @@ public class BasicStorageConnector extends AbstractConnector {
 
     private OWLOntologyIRIMapper iriMapper;
 
+    private AsyncOntologyWriter asyncWriter;
+
+    private final Object versionLock = new Object();
+    /**
+     * Number of change sets applied to the live ontology.
+     */
+    private long revision;
+    /**
+     * Copy of the current state of the live ontology shared by new snapshots. {@code null} if it has to be created.
+     */
+    private OntologyVersion currentVersion;
+    private final Map<OWLOntology, OntologyVersion> versions = new IdentityHashMap<>();
+
     BasicStorageConnector(DriverConfiguration configuration) throws OwlapiDriverException {
         super(configuration);
     }
@@ -79,6 +103,32 @@ public class BasicStorageConnector extends AbstractConnector {
         loadOntology(storageProperties);
         initializeReasonerFactory();
         this.reasoner = getReasoner(ontology);
+        initializeAsyncWriter();
+    }
+
+    private void initializeAsyncWriter() throws OwlapiDriverException {
+        if (!configuration.is(OwlapiConfigParam.ASYNC_WRITE)) {
+            return;
+        }
+        final long maxDelay = resolvePositiveNumber(OwlapiConfigParam.ASYNC_WRITE_MAX_DELAY,
+                Constants.DEFAULT_ASYNC_WRITE_MAX_DELAY);
+        final long maxPendingChanges = resolvePositiveNumber(OwlapiConfigParam.ASYNC_WRITE_MAX_PENDING_CHANGES,
+                Constants.DEFAULT_ASYNC_WRITE_MAX_PENDING_CHANGES);
+        this.asyncWriter = new AsyncOntologyWriter(this::saveInBackground, maxDelay,
+                (int) Math.min(maxPendingChanges, Integer.MAX_VALUE));
+    }
+
+    private long resolvePositiveNumber(OwlapiConfigParam param, long defaultValue) throws OwlapiDriverException {
+        final String value = configuration.getProperty(param, Long.toString(defaultValue));
+        try {
+            final long result = Long.parseLong(value);
+            if (result <= 0) {
+                throw new OwlapiDriverException("Value of " + param + " must be a positive number, got " + value);
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            throw new OwlapiDriverException("Unable to parse value " + value + " of " + param, e);
+        }
     }
 
     private void resolveIriMapper() {
@@ -155,25 +205,88 @@ public class BasicStorageConnector extends AbstractConnector {
         ensureOpen();
         READ.lock();
         try {
-            final OWLOntology snapshot = ontologyManager.createOntology();
-            cloneOntologyContent(snapshot);
-            return new OntologySnapshot(snapshot, ontologyManager, ontologyManager.getOWLDataFactory(),
-                    getReasoner(snapshot));
-        } catch (OWLOntologyCreationException e) {
-            throw new OntologySnapshotException("Unable to create ontology snapshot.", e);
+            synchronized (versionLock) {
+                if (currentVersion == null) {
+                    this.currentVersion = createVersion(ontology, revision);
+                }
+                currentVersion.acquire();
+                return new CopyOnWriteSnapshot(this, currentVersion, ontologyManager,
+                        ontologyManager.getOWLDataFactory());
+            }
         } finally {
             READ.unlock();
         }
     }
 
-    private void cloneOntologyContent(OWLOntology target) {
-        ontologyManager.addAxioms(target, ontology.axioms());
+    private OntologyVersion createVersion(OWLOntology source, long sourceRevision) {
+        try {
+            final OWLOntology copy = ontologyManager.createOntology();
+            cloneOntologyContent(source, copy);
+            final OntologyVersion version = new OntologyVersion(copy, sourceRevision, this::getReasoner);
+            synchronized (versionLock) {
+                versions.put(copy, version);
+            }
+            return version;
+        } catch (OWLOntologyCreationException e) {
+            throw new OntologySnapshotException("Unable to create ontology snapshot.", e);
+        }
+    }
+
+    private void cloneOntologyContent(OWLOntology source, OWLOntology target) {
+        ontologyManager.addAxioms(target, source.axioms());
         ontologyManager
                 .applyChanges(
-                        ontology.importsDeclarations().map(i -> new AddImport(target, i)).collect(
+                        source.importsDeclarations().map(i -> new AddImport(target, i)).collect(
                                 Collectors.toList()));
     }
 
+    /**
+     * Gets an ontology version which can be modified by the caller, who is currently using the specified shared
+     * version.
+     * <p>
+     * If no one else uses the shared version, it is taken over by the caller. Otherwise, it is copied.
+     *
+     * @param shared Version used by the caller
+     * @return Version exclusively owned by the caller
+     */
+    OntologyVersion makeWritable(OntologyVersion shared) {
+        synchronized (versionLock) {
+            if (shared.getReferenceCount() == 1) {
+                if (shared == currentVersion) {
+                    this.currentVersion = null;
+                }
+                shared.setExclusive(true);
+                return shared;
+            }
+        }
+        final OntologyVersion copy;
+        READ.lock();
+        try {
+            // Shared versions are never modified, so the copy can be made while other transactions read it
+            copy = createVersion(shared.getOntology(), shared.getRevision());
+        } finally {
+            READ.unlock();
+        }
+        synchronized (versionLock) {
+            copy.acquire();
+            copy.setExclusive(true);
+            releaseVersion(shared);
+        }
+        return copy;
+    }
+
+    private void releaseVersion(OntologyVersion version) {
+        if (version.release() && version != currentVersion) {
+            disposeVersion(version);
+        }
+    }
+
+    private void disposeVersion(OntologyVersion version) {
+        versions.remove(version.getOntology());
+        version.dispose();
+        ontologyManager.removeOntology(version.getOntology());
+    }
+
     private OntologySnapshot getLiveOntology() {
         ensureOpen();
         return new OntologySnapshot(ontology, ontologyManager, ontologyManager.getOWLDataFactory(), reasoner);
@@ -216,30 +329,87 @@ public class BasicStorageConnector extends AbstractConnector {
         assert changes != null;
         WRITE.lock();
         try {
+            final OntologyVersion committed = resolveCommittedVersion(changes);
             changes.stream().filter(ch -> ch instanceof MutableAxiomChange)
                    .forEach(ch -> ((MutableAxiomChange) ch).setOntology(ontology));
             ontologyManager.applyChanges(changes);
-            try {
-                writeToFile();
-            } catch (OntologyStorageException e) {
-                LOG.error("Unable to write out ontology." + e);
+            updateCurrentVersion(committed);
+            if (asyncWriter != null) {
+                asyncWriter.changesApplied(changes.size());
+            } else {
+                try {
+                    writeToFile();
+                } catch (OntologyStorageException e) {
+                    LOG.error("Unable to write out ontology." + e);
+                }
             }
         } finally {
             WRITE.unlock();
         }
     }
 
+    /**
+     * Finds the exclusively owned version to which exactly the specified changes have been applied on top of the
+     * current state of the live ontology.
+     * <p>
+     * After the changes are applied to the live ontology, such version is identical to it and can be shared by new
+     * snapshots.
+     */
+    private OntologyVersion resolveCommittedVersion(List<OWLOntologyChange> changes) {
+        if (changes.isEmpty() || !(changes.get(0) instanceof MutableAxiomChange)) {
+            return null;
+        }
+        final OWLOntology target = ((MutableAxiomChange) changes.get(0)).getOntology();
+        final boolean sameTarget = changes.stream().allMatch(
+                ch -> ch instanceof MutableAxiomChange && ((MutableAxiomChange) ch).getOntology() == target);
+        if (!sameTarget) {
+            return null;
+        }
+        synchronized (versionLock) {
+            final OntologyVersion version = versions.get(target);
+            return version != null && version.isExclusive() && version.isTracked() &&
+                    version.getRevision() == revision ? version : null;
+        }
+    }
+
+    private void updateCurrentVersion(OntologyVersion committed) {
+        synchronized (versionLock) {
+            revision++;
+            final OntologyVersion previous = currentVersion;
+            if (committed != null) {
+                committed.setRevision(revision);
+                committed.setExclusive(false);
+            }
+            this.currentVersion = committed;
+            if (previous != null && previous.getReferenceCount() == 0) {
+                disposeVersion(previous);
+            }
+        }
+    }
+
     @Override
     public void closeSnapshot(OntologySnapshot snapshot) {
         ensureOpen();
         assert snapshot != null;
-        ontologyManager.removeOntology(snapshot.getOntology());
+        if (snapshot instanceof CopyOnWriteSnapshot) {
+            synchronized (versionLock) {
+                releaseVersion(((CopyOnWriteSnapshot) snapshot).getVersion());
+            }
+        } else {
+            ontologyManager.removeOntology(snapshot.getOntology());
+        }
     }
 
     @Override
     void reloadData() throws OwlapiDriverException {
         WRITE.lock();
         try {
+            synchronized (versionLock) {
+                versions.values().forEach(OntologyVersion::dispose);
+                versions.clear();
+                revision++;
+                this.currentVersion = null;
+            }
             ontologyManager.clearOntologies();
             loadOntology(configuration.getStorageProperties());
             this.reasoner = getReasoner(ontology);
@@ -253,6 +423,10 @@ public class BasicStorageConnector extends AbstractConnector {
         if (!isOpen()) {
             return;
         }
+        if (asyncWriter != null) {
+            // Must not hold the lock, a running save needs to read the ontology
+            asyncWriter.close();
+        }
         WRITE.lock();
         try {
             writeToFile();
@@ -262,6 +436,16 @@ public class BasicStorageConnector extends AbstractConnector {
         }
     }
 
+    private void saveInBackground() throws OntologyStorageException {
+        // Readers can proceed while the ontology is being saved, writers wait so that a consistent state is written
+        READ.lock();
+        try {
+            writeToFile();
+        } finally {
+            READ.unlock();
+        }
+    }
+
     private void writeToFile() throws OntologyStorageException {
         try {
             ontologyManager.saveOntology(ontology, IRI.create(configuration.getStorageProperties().getPhysicalURI()));
@@ -39,7 +39,8 @@ public interface Connector {
      * Gets snapshot of the underlying ontology.
      * <p>
      * The snapshot is completely independent of the live ontology, so any changes to either are not visible to the
-     * other.
+     * other. Note that the snapshot may share its ontology with other snapshots until it is modified, see {@link
+     * OntologySnapshot#prepareWrite()}.
      *
      * @return Value object with the ontology snapshot
      */
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.util.MutableAxiomChange;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.List;
+
+/**
+ * Ontology snapshot which shares the underlying ontology version with other transactions until it is modified.
+ */
+class CopyOnWriteSnapshot extends OntologySnapshot {
+
+    private final BasicStorageConnector connector;
+    private OntologyVersion version;
+
+    CopyOnWriteSnapshot(BasicStorageConnector connector, OntologyVersion version, OWLOntologyManager ontologyManager,
+                        OWLDataFactory dataFactory) {
+        super(version.getOntology(), ontologyManager, dataFactory, null);
+        this.connector = connector;
+        this.version = version;
+    }
+
+    OntologyVersion getVersion() {
+        return version;
+    }
+
+    @Override
+    public OWLOntology getOntology() {
+        return version.getOntology();
+    }
+
+    @Override
+    public OWLReasoner getReasoner() {
+        return version.getReasoner();
+    }
+
+    @Override
+    public void prepareWrite() {
+        if (!version.isExclusive()) {
+            this.version = connector.makeWritable(version);
+        }
+    }
+
+    @Override
+    public void prepareUntrackedWrite() {
+        prepareWrite();
+        version.markUntracked();
+        super.prepareUntrackedWrite();
+    }
+
+    @Override
+    public List<OWLOntologyChange> applyChanges(List<OWLOntologyChange> changes) {
+        prepareWrite();
+        final OWLOntology target = getOntology();
+        changes.stream().filter(ch -> ch instanceof MutableAxiomChange)
+               .forEach(ch -> ((MutableAxiomChange) ch).setOntology(target));
+        return super.applyChanges(changes);
+    }
+}
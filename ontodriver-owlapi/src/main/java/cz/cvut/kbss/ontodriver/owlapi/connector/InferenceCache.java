@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Memoizes answers of the reasoner of an ontology snapshot.
+ * <p>
+ * The answers are valid only until the snapshot changes, so the snapshot clears the cache whenever changes are applied
+ * to it. Once the snapshot ontology may be modified without the snapshot knowing about it, the cache is disabled and
+ * all questions are passed to the reasoner.
+ * <p>
+ * The reasoner is flushed once before it is asked the first question after the cache has been cleared.
+ */
+public class InferenceCache {
+
+    private final Supplier<OWLReasoner> reasonerSupplier;
+
+    private final Map<OWLNamedIndividual, Set<OWLClass>> types = new HashMap<>();
+    private final Map<OWLNamedIndividual, Map<OWLDataProperty, Set<OWLLiteral>>> dataPropertyValues =
+            new HashMap<>();
+    private final Map<OWLNamedIndividual, Map<OWLObjectProperty, Set<OWLNamedIndividual>>> objectPropertyValues =
+            new HashMap<>();
+
+    private OWLReasoner flushedReasoner;
+    private boolean disabled;
+
+    InferenceCache(Supplier<OWLReasoner> reasonerSupplier) {
+        this.reasonerSupplier = reasonerSupplier;
+    }
+
+    /**
+     * Gets classes the specified individual is inferred to be an instance of.
+     *
+     * @param individual Individual whose types to get
+     * @return Inferred types of the individual (both direct and indirect)
+     */
+    public Set<OWLClass> getTypes(OWLNamedIndividual individual) {
+        if (disabled) {
+            return inferTypes(individual);
+        }
+        return types.computeIfAbsent(individual, this::inferTypes);
+    }
+
+    private Set<OWLClass> inferTypes(OWLNamedIndividual individual) {
+        return Collections.unmodifiableSet(
+                reasoner().getTypes(individual, false).entities().collect(Collectors.toSet()));
+    }
+
+    /**
+     * Gets values of the specified data property of the specified individual, including inferred ones.
+     *
+     * @param individual Subject individual
+     * @param property   Data property
+     * @return Property values
+     */
+    public Set<OWLLiteral> getDataPropertyValues(OWLNamedIndividual individual, OWLDataProperty property) {
+        if (disabled) {
+            return inferDataPropertyValues(individual, property);
+        }
+        return dataPropertyValues.computeIfAbsent(individual, ind -> new HashMap<>())
+                                 .computeIfAbsent(property, dp -> inferDataPropertyValues(individual, dp));
+    }
+
+    private Set<OWLLiteral> inferDataPropertyValues(OWLNamedIndividual individual, OWLDataProperty property) {
+        return Collections.unmodifiableSet(reasoner().getDataPropertyValues(individual, property));
+    }
+
+    /**
+     * Gets values of the specified object property of the specified individual, including inferred ones.
+     *
+     * @param individual Subject individual
+     * @param property   Object property
+     * @return Property values
+     */
+    public Set<OWLNamedIndividual> getObjectPropertyValues(OWLNamedIndividual individual,
+                                                           OWLObjectProperty property) {
+        if (disabled) {
+            return inferObjectPropertyValues(individual, property);
+        }
+        return objectPropertyValues.computeIfAbsent(individual, ind -> new HashMap<>())
+                                   .computeIfAbsent(property, op -> inferObjectPropertyValues(individual, op));
+    }
+
+    private Set<OWLNamedIndividual> inferObjectPropertyValues(OWLNamedIndividual individual,
+                                                              OWLObjectProperty property) {
+        return Collections.unmodifiableSet(
+                reasoner().getObjectPropertyValues(individual, property).entities().collect(Collectors.toSet()));
+    }
+
+    /**
+     * Precomputes answers for the specified individuals in one pass, so that subsequent loading of their values is
+     * served from the cache.
+     * <p>
+     * Nothing is precomputed when the cache is disabled.
+     *
+     * @param individuals      Individuals to precompute answers for
+     * @param includeTypes     Whether to precompute types of the individuals
+     * @param dataProperties   Data properties whose values to precompute
+     * @param objectProperties Object properties whose values to precompute
+     */
+    public void precompute(Collection<OWLNamedIndividual> individuals, boolean includeTypes,
+                           Collection<OWLDataProperty> dataProperties,
+                           Collection<OWLObjectProperty> objectProperties) {
+        if (disabled) {
+            return;
+        }
+        for (OWLNamedIndividual individual : individuals) {
+            if (includeTypes) {
+                getTypes(individual);
+            }
+            dataProperties.forEach(dp -> getDataPropertyValues(individual, dp));
+            objectProperties.forEach(op -> getObjectPropertyValues(individual, op));
+        }
+    }
+
+    private OWLReasoner reasoner() {
+        final OWLReasoner reasoner = reasonerSupplier.get();
+        if (disabled || reasoner != flushedReasoner) {
+            reasoner.flush();
+            this.flushedReasoner = reasoner;
+        }
+        return reasoner;
+    }
+
+    /**
+     * Discards all cached answers.
+     */
+    void clear() {
+        types.clear();
+        dataPropertyValues.clear();
+        objectPropertyValues.clear();
+        this.flushedReasoner = null;
+    }
+
+    /**
+     * Discards all cached answers and stops caching new ones.
+     */
+    void disable() {
+        clear();
+        this.disabled = true;
+    }
+}
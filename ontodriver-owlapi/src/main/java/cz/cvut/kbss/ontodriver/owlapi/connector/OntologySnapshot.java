@@ -30,6 +30,7 @@ public class OntologySnapshot {
     private final OWLOntologyManager ontologyManager;
     private final OWLDataFactory dataFactory;
     private final OWLReasoner reasoner;
+    private final InferenceCache inferenceCache = new InferenceCache(this::getReasoner);
 
     public OntologySnapshot(OWLOntology ontology, OWLOntologyManager ontologyManager, OWLDataFactory dataFactory,
                             OWLReasoner reasoner) {
@@ -55,6 +56,37 @@ public class OntologySnapshot {
         return reasoner;
     }
 
+    /**
+     * Gets cache of reasoner answers valid for the current state of this snapshot.
+     *
+     * @return Inference cache
+     */
+    public InferenceCache getInferenceCache() {
+        return inferenceCache;
+    }
+
+    /**
+     * Ensures that this snapshot can be modified without affecting other transactions.
+     * <p>
+     * Changes applied via {@link #applyChanges(List)} prepare the snapshot automatically, so this needs to be called
+     * only by code which reads the snapshot ontology after modifying it and therefore must not keep reference to the
+     * ontology obtained before the first modification.
+     * <p>
+     * Does nothing by default, as this snapshot is not shared.
+     */
+    public void prepareWrite() {
+    }
+
+    /**
+     * Ensures that this snapshot can be modified directly (i.e., not via {@link #applyChanges(List)}) without affecting
+     * other transactions.
+     * <p>
+     * Since the changes are not known to this snapshot, caching of reasoner answers is disabled.
+     */
+    public void prepareUntrackedWrite() {
+        inferenceCache.disable();
+    }
+
     /**
      * Applies the specified changes to this ontology snapshot.
      *
@@ -63,6 +95,7 @@ public class OntologySnapshot {
      */
     public List<OWLOntologyChange> applyChanges(List<OWLOntologyChange> changes) {
         final ChangeApplied result = ontologyManager.applyChanges(changes);
+        inferenceCache.clear();
         if (result == ChangeApplied.UNSUCCESSFULLY) {
             throw new OntologyChangeApplicationException(
                     "At least one of the following changes could not have been applied to this ontology snapshot: " +
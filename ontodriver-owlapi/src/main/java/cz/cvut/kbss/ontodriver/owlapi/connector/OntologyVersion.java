@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * Copy of the live ontology which may be shared by multiple transactions.
+ * <p>
+ * A version is shared as long as it is not modified. A transaction which wants to modify it either takes it over (when
+ * no other transaction uses it) or makes its own copy. Reasoner for the version is created lazily and reused by all
+ * transactions using the version. Reasoners are not thread-safe, so calls to the shared reasoner are serialized.
+ * <p>
+ * Reference counting and state changes are guarded by the connector.
+ */
+class OntologyVersion {
+
+    private final OWLOntology ontology;
+    private final Function<OWLOntology, OWLReasoner> reasonerFactory;
+    private OWLReasoner reasoner;
+    private boolean reasonerInitialized;
+
+    /**
+     * Number of changes applied to the live ontology when this version was created from it.
+     */
+    private long revision;
+    private int references;
+    private boolean exclusive;
+    private boolean tracked = true;
+
+    OntologyVersion(OWLOntology ontology, long revision, Function<OWLOntology, OWLReasoner> reasonerFactory) {
+        this.ontology = ontology;
+        this.revision = revision;
+        this.reasonerFactory = reasonerFactory;
+    }
+
+    OWLOntology getOntology() {
+        return ontology;
+    }
+
+    synchronized OWLReasoner getReasoner() {
+        if (!reasonerInitialized) {
+            final OWLReasoner created = reasonerFactory.apply(ontology);
+            this.reasoner = created != null ? synchronizedReasoner(created) : null;
+            this.reasonerInitialized = true;
+        }
+        return reasoner;
+    }
+
+    /**
+     * Wraps the specified reasoner so that calls to it are synchronized on this version.
+     */
+    private OWLReasoner synchronizedReasoner(OWLReasoner reasoner) {
+        return (OWLReasoner) Proxy.newProxyInstance(OWLReasoner.class.getClassLoader(),
+                new Class<?>[]{OWLReasoner.class}, (proxy, method, args) -> {
+                    synchronized (this) {
+                        try {
+                            return method.invoke(reasoner, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+
+    long getRevision() {
+        return revision;
+    }
+
+    void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    void acquire() {
+        references++;
+    }
+
+    /**
+     * Releases one reference to this version.
+     *
+     * @return Whether the version is no longer referenced
+     */
+    boolean release() {
+        assert references > 0;
+        return --references == 0;
+    }
+
+    int getReferenceCount() {
+        return references;
+    }
+
+    /**
+     * Whether this version is owned by a single transaction which may modify it.
+     *
+     * @return Exclusivity status
+     */
+    boolean isExclusive() {
+        return exclusive;
+    }
+
+    void setExclusive(boolean exclusive) {
+        this.exclusive = exclusive;
+    }
+
+    /**
+     * Whether all modifications of this version have been made via changes which are applied to the live ontology on
+     * commit as well.
+     *
+     * @return Tracking status
+     */
+    boolean isTracked() {
+        return tracked;
+    }
+
+    void markUntracked() {
+        this.tracked = false;
+    }
+
+    /**
+     * Releases the reasoner of this version, if it was created.
+     */
+    synchronized void dispose() {
+        if (reasoner != null) {
+            reasoner.dispose();
+            this.reasoner = null;
+        }
+        this.reasonerInitialized = false;
+    }
+}
@@ -63,6 +63,8 @@ public abstract class ListHandler<D extends ListDescriptor, V extends ListValueD
     abstract List<OWLOntologyChange> createListAxioms(V descriptor);
 
     public void updateList(V descriptor) {
+        // The list is read while it is being modified
+        snapshot.prepareWrite();
         if (descriptor.getValues().isEmpty()) {
             removeObsoleteNodes(iterator(descriptor));
         } else if (isOrigEmpty(descriptor)) {
@@ -145,7 +145,7 @@ class ReferencedListHandler extends ListHandler<ReferencedListDescriptor, Refere
             IRI iri;
             do {
                 iri = IRI.create(baseUri + i);
-                if (!ontology.containsIndividualInSignature(iri)) {
+                if (!snapshot.getOntology().containsIndividualInSignature(iri)) {
                     return NamedResource.create(iri.toURI());
                 }
                 i++;
@@ -32,6 +32,7 @@ import org.semanticweb.owlapi.reasoner.impl.NodeFactory;
 import org.semanticweb.owlapi.reasoner.impl.OWLNamedIndividualNodeSet;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -414,4 +415,59 @@ class MainAxiomLoaderTest {
         assertEquals(1, result.size());
         assertEquals(value, result.iterator().next().getValue().getValue());
     }
+
+    @Test
+    void findAxiomsForMultipleDescriptorsLoadsAxiomsOfAllSubjects() {
+        final URI dpUri = URI.create("http://krizik.felk.cvut.cz/PropertyOne");
+        final Assertion dp = Assertion.createDataPropertyAssertion(dpUri, false);
+        final OWLDataProperty owlDp = dataFactory.getOWLDataProperty(IRI.create(dpUri));
+        final NamedResource subjectTwo = NamedResource.create("http://krizik.felk.cvut.cz/IndividualTwo");
+        final OWLNamedIndividual individualTwo = dataFactory.getOWLNamedIndividual(IRI.create(subjectTwo.getIdentifier()));
+        manager.applyChange(new AddAxiom(ontology, dataFactory.getOWLDeclarationAxiom(individualTwo)));
+        manager.applyChange(
+                new AddAxiom(ontology, dataFactory.getOWLDataPropertyAssertionAxiom(owlDp, individual, 158)));
+        manager.applyChange(
+                new AddAxiom(ontology, dataFactory.getOWLDataPropertyAssertionAxiom(owlDp, individualTwo, 200)));
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(dp);
+
+        final Collection<Axiom<?>> result = sut.findAxioms(Arrays.asList(descriptor(dp), descriptorTwo));
+        assertEquals(2, result.size());
+        assertTrue(result.contains(new AxiomImpl<>(SUBJECT, dp, new Value<>(158))));
+        assertTrue(result.contains(new AxiomImpl<>(subjectTwo, dp, new Value<>(200))));
+    }
+
+    @Test
+    void findAxiomsForMultipleDescriptorsDoesNotMixAssertionsOfDifferentDescriptors() {
+        final URI dpUri = URI.create("http://krizik.felk.cvut.cz/PropertyOne");
+        final OWLDataProperty owlDp = dataFactory.getOWLDataProperty(IRI.create(dpUri));
+        final NamedResource subjectTwo = NamedResource.create("http://krizik.felk.cvut.cz/IndividualTwo");
+        final OWLNamedIndividual individualTwo = dataFactory.getOWLNamedIndividual(IRI.create(subjectTwo.getIdentifier()));
+        manager.applyChange(new AddAxiom(ontology, dataFactory.getOWLDeclarationAxiom(individualTwo)));
+        manager.applyChange(
+                new AddAxiom(ontology, dataFactory.getOWLDataPropertyAssertionAxiom(owlDp, individualTwo, 200)));
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(Assertion.createClassAssertion(false));
+
+        final Collection<Axiom<?>> result = sut.findAxioms(
+                Arrays.asList(descriptor(Assertion.createDataPropertyAssertion(dpUri, false)), descriptorTwo));
+        assertTrue(result.stream().noneMatch(ax -> ax.getSubject().equals(subjectTwo) &&
+                ax.getAssertion().getIdentifier().equals(dpUri)));
+    }
+
+    @Test
+    void findAxiomsForMultipleDescriptorsFlushesReasonerOnlyOnce() {
+        final URI dpUri = URI.create("http://krizik.felk.cvut.cz/PropertyOne");
+        final Assertion dp = Assertion.createDataPropertyAssertion(dpUri, true);
+        final NamedResource subjectTwo = NamedResource.create("http://krizik.felk.cvut.cz/IndividualTwo");
+        manager.applyChange(new AddAxiom(ontology, dataFactory.getOWLDeclarationAxiom(
+                dataFactory.getOWLNamedIndividual(IRI.create(subjectTwo.getIdentifier())))));
+        when(reasonerMock.getDataPropertyValues(any(), any())).thenReturn(Collections.emptySet());
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(dp);
+
+        sut.findAxioms(Arrays.asList(descriptor(dp), descriptorTwo));
+        verify(reasonerMock).flush();
+        verify(reasonerMock, times(2)).getDataPropertyValues(any(), any());
+    }
 }
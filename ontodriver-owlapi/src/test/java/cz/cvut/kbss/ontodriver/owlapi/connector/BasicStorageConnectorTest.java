@@ -17,8 +17,10 @@ package cz.cvut.kbss.ontodriver.owlapi.connector;
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiDataSource;
+import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
 import cz.cvut.kbss.ontodriver.owlapi.exception.InvalidOntologyIriException;
+import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.util.MutableAddAxiom;
 import org.junit.After;
 import org.junit.Test;
@@ -29,6 +31,7 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Files;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -104,14 +107,95 @@ public class BasicStorageConnectorTest {
     }
 
     @Test
-    public void getSnapshotReturnsDistinctSnapshots() throws Exception {
+    public void getSnapshotReturnsSnapshotsSharingOntologyUntilModified() throws Exception {
         final URI physicalUri = initOntology(Collections.emptySet(), false);
         this.connector = new BasicStorageConnector(
                 new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
         final OntologySnapshot snapshotOne = connector.getOntologySnapshot();
         final OntologySnapshot snapshotTwo = connector.getOntologySnapshot();
 
+        assertNotSame(snapshotOne, snapshotTwo);
+        assertSame(snapshotOne.getOntology(), snapshotTwo.getOntology());
+    }
+
+    @Test
+    public void modifyingSnapshotDoesNotAffectOtherSnapshots() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshotOne = connector.getOntologySnapshot();
+        final OntologySnapshot snapshotTwo = connector.getOntologySnapshot();
+        final OWLClass cls = declareClass(snapshotOne);
+
         assertNotSame(snapshotOne.getOntology(), snapshotTwo.getOntology());
+        assertTrue(snapshotOne.getOntology().containsClassInSignature(cls.getIRI()));
+        assertFalse(snapshotTwo.getOntology().containsClassInSignature(cls.getIRI()));
+        final OntologySnapshot snapshotThree = connector.getOntologySnapshot();
+        assertFalse(snapshotThree.getOntology().containsClassInSignature(cls.getIRI()));
+    }
+
+    private OWLClass declareClass(OntologySnapshot snapshot) {
+        final OWLClass cls = snapshot.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        snapshot.applyChanges(Collections.singletonList(
+                new MutableAddAxiom(snapshot.getOntology(), snapshot.getDataFactory().getOWLDeclarationAxiom(cls))));
+        return cls;
+    }
+
+    @Test
+    public void modifyingSnapshotNotSharedWithOtherTransactionsDoesNotCopyOntology() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLOntology original = snapshot.getOntology();
+        declareClass(snapshot);
+
+        assertSame(original, snapshot.getOntology());
+        final OntologySnapshot other = connector.getOntologySnapshot();
+        assertNotSame(original, other.getOntology());
+    }
+
+    @Test
+    public void committedSnapshotIsSharedBySubsequentSnapshots() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLClass cls = snapshot.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        final List<OWLOntologyChange> changes = snapshot.applyChanges(Collections.singletonList(
+                new MutableAddAxiom(snapshot.getOntology(), snapshot.getDataFactory().getOWLDeclarationAxiom(cls))));
+        connector.applyChanges(changes);
+        final OWLOntology committed = snapshot.getOntology();
+        connector.closeSnapshot(snapshot);
+
+        final OntologySnapshot result = connector.getOntologySnapshot();
+        assertSame(committed, result.getOntology());
+        assertTrue(result.getOntology().containsClassInSignature(cls.getIRI()));
+        connector.executeRead(live -> {
+            assertTrue(live.getOntology().containsClassInSignature(cls.getIRI()));
+            return null;
+        });
+    }
+
+    @Test
+    public void snapshotCommittedAfterConcurrentCommitIsNotShared() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI)));
+        final OntologySnapshot snapshotOne = connector.getOntologySnapshot();
+        final OntologySnapshot snapshotTwo = connector.getOntologySnapshot();
+        final OWLClass clsOne = declareClass(snapshotOne);
+        final OWLClass clsTwo = declareClass(snapshotTwo);
+        connector.applyChanges(Collections.singletonList(new MutableAddAxiom(snapshotOne.getOntology(),
+                snapshotOne.getDataFactory().getOWLDeclarationAxiom(clsOne))));
+        connector.closeSnapshot(snapshotOne);
+        connector.applyChanges(Collections.singletonList(new MutableAddAxiom(snapshotTwo.getOntology(),
+                snapshotTwo.getDataFactory().getOWLDeclarationAxiom(clsTwo))));
+        connector.closeSnapshot(snapshotTwo);
+
+        final OntologySnapshot result = connector.getOntologySnapshot();
+        assertTrue(result.getOntology().containsClassInSignature(clsOne.getIRI()));
+        assertTrue(result.getOntology().containsClassInSignature(clsTwo.getIRI()));
     }
 
     @Test(expected = IllegalStateException.class)
@@ -194,6 +278,7 @@ public class BasicStorageConnectorTest {
         final OntologyStorageProperties storageProperties = initStorageProperties(physicalUri, ONTOLOGY_URI);
         this.connector = new BasicStorageConnector(new DriverConfiguration(storageProperties));
         final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        declareClass(snapshot);
         final OWLOntology transactionalOntology = snapshot.getOntology();
         final OWLOntologyManager manager = snapshot.getOntologyManager(); // We know this is the root manager
         assertTrue(manager.contains(transactionalOntology));
@@ -201,6 +286,18 @@ public class BasicStorageConnectorTest {
         assertFalse(manager.contains(transactionalOntology));
     }
 
+    @Test
+    public void closeSnapshotKeepsSharedOntologyForSubsequentSnapshots() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final OntologyStorageProperties storageProperties = initStorageProperties(physicalUri, ONTOLOGY_URI);
+        this.connector = new BasicStorageConnector(new DriverConfiguration(storageProperties));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLOntology sharedOntology = snapshot.getOntology();
+        connector.closeSnapshot(snapshot);
+        assertTrue(snapshot.getOntologyManager().contains(sharedOntology));
+        assertSame(sharedOntology, connector.getOntologySnapshot().getOntology());
+    }
+
     @Test
     public void getSnapshotResolvesImportsOfTheTransactionalSnapshot() throws Exception {
         final URI physicalUri = initOntology(Collections.emptySet(), false);
@@ -256,4 +353,58 @@ public class BasicStorageConnectorTest {
         assertNotNull(snapshot.getOntologyManager());
         assertNotNull(snapshot.getDataFactory());
     }
+
+    @Test
+    public void asyncWriteDefersSavingOntologyUntilClose() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(OwlapiConfigParam.ASYNC_WRITE, Boolean.toString(true));
+        configuration.setProperty(OwlapiConfigParam.ASYNC_WRITE_MAX_DELAY, Long.toString(60_000));
+        this.connector = new BasicStorageConnector(configuration);
+        final OWLClass cls = addClassToOntology(connector.getOntologySnapshot());
+        assertFalse(loadOntology(physicalUri).containsClassInSignature(cls.getIRI()));
+
+        connector.close();
+        assertTrue(loadOntology(physicalUri).containsClassInSignature(cls.getIRI()));
+    }
+
+    private static OWLOntology loadOntology(URI physicalUri) throws Exception {
+        return OWLManager.createOWLOntologyManager().loadOntologyFromOntologyDocument(IRI.create(physicalUri));
+    }
+
+    @Test
+    public void asyncWriteSavesOntologyWhenMaxPendingChangesIsReached() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(OwlapiConfigParam.ASYNC_WRITE, Boolean.toString(true));
+        configuration.setProperty(OwlapiConfigParam.ASYNC_WRITE_MAX_DELAY, Long.toString(60_000));
+        configuration.setProperty(OwlapiConfigParam.ASYNC_WRITE_MAX_PENDING_CHANGES, Integer.toString(2));
+        this.connector = new BasicStorageConnector(configuration);
+        final OWLClass clsOne = addClassToOntology(connector.getOntologySnapshot());
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLClass clsTwo = snapshot.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        connector.applyChanges(Collections.singletonList(
+                new MutableAddAxiom(snapshot.getOntology(), snapshot.getDataFactory().getOWLDeclarationAxiom(clsTwo))));
+
+        final long deadline = System.currentTimeMillis() + 10_000;
+        OWLOntology saved = loadOntology(physicalUri);
+        while (!saved.containsClassInSignature(clsTwo.getIRI()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            saved = loadOntology(physicalUri);
+        }
+        assertTrue(saved.containsClassInSignature(clsOne.getIRI()));
+        assertTrue(saved.containsClassInSignature(clsTwo.getIRI()));
+    }
+
+    @Test(expected = OwlapiDriverException.class)
+    public void constructorThrowsExceptionForInvalidAsyncWriteMaxDelay() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(OwlapiConfigParam.ASYNC_WRITE, Boolean.toString(true));
+        configuration.setProperty(OwlapiConfigParam.ASYNC_WRITE_MAX_DELAY, "-1");
+        this.connector = new BasicStorageConnector(configuration);
+    }
 }
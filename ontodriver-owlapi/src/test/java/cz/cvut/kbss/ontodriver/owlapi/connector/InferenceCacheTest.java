@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.environment.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.impl.NodeFactory;
+import org.semanticweb.owlapi.reasoner.impl.OWLClassNodeSet;
+import org.semanticweb.owlapi.reasoner.impl.OWLNamedIndividualNodeSet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class InferenceCacheTest {
+
+    @Mock
+    private OWLReasoner reasonerMock;
+
+    private OntologySnapshot snapshot;
+
+    private OWLDataFactory dataFactory;
+
+    private OWLNamedIndividual individual;
+
+    private OWLDataProperty dataProperty;
+
+    private InferenceCache sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        this.snapshot = TestUtils.initRealOntology(reasonerMock);
+        this.dataFactory = snapshot.getDataFactory();
+        this.individual = dataFactory.getOWLNamedIndividual(IRI.create("http://krizik.felk.cvut.cz/Individual"));
+        this.dataProperty = dataFactory.getOWLDataProperty(IRI.create("http://krizik.felk.cvut.cz/PropertyOne"));
+        when(reasonerMock.getDataPropertyValues(any(), any()))
+                .thenReturn(Collections.singleton(dataFactory.getOWLLiteral(117)));
+        this.sut = snapshot.getInferenceCache();
+    }
+
+    @Test
+    void getDataPropertyValuesAsksReasonerOnlyOnceForSameIndividualAndProperty() {
+        final Set<OWLLiteral> first = sut.getDataPropertyValues(individual, dataProperty);
+        final Set<OWLLiteral> second = sut.getDataPropertyValues(individual, dataProperty);
+        assertEquals(first, second);
+        assertTrue(first.contains(dataFactory.getOWLLiteral(117)));
+        verify(reasonerMock).getDataPropertyValues(individual, dataProperty);
+    }
+
+    @Test
+    void reasonerIsFlushedOnlyBeforeFirstQuestion() {
+        final OWLObjectProperty objectProperty =
+                dataFactory.getOWLObjectProperty(IRI.create("http://krizik.felk.cvut.cz/PropertyTwo"));
+        when(reasonerMock.getObjectPropertyValues(individual, objectProperty))
+                .thenReturn(new OWLNamedIndividualNodeSet());
+        sut.getDataPropertyValues(individual, dataProperty);
+        sut.getObjectPropertyValues(individual, objectProperty);
+        verify(reasonerMock).flush();
+    }
+
+    @Test
+    void applyingChangesToSnapshotDiscardsCachedAnswers() {
+        sut.getDataPropertyValues(individual, dataProperty);
+        snapshot.applyChanges(Collections.singletonList(
+                new AddAxiom(snapshot.getOntology(), dataFactory.getOWLDeclarationAxiom(individual))));
+        sut.getDataPropertyValues(individual, dataProperty);
+        verify(reasonerMock, times(2)).getDataPropertyValues(individual, dataProperty);
+        verify(reasonerMock, times(2)).flush();
+    }
+
+    @Test
+    void preparingUntrackedWriteDisablesCaching() {
+        snapshot.prepareUntrackedWrite();
+        sut.getDataPropertyValues(individual, dataProperty);
+        sut.getDataPropertyValues(individual, dataProperty);
+        verify(reasonerMock, times(2)).getDataPropertyValues(individual, dataProperty);
+    }
+
+    @Test
+    void precomputeCachesAnswersForAllIndividualsAndProperties() {
+        final OWLNamedIndividual another =
+                dataFactory.getOWLNamedIndividual(IRI.create("http://krizik.felk.cvut.cz/IndividualTwo"));
+        final OWLClass cls = dataFactory.getOWLClass(IRI.create("http://krizik.felk.cvut.cz/ClassOne"));
+        when(reasonerMock.getTypes(any(), eq(false))).thenReturn(new OWLClassNodeSet(NodeFactory.getOWLClassNode(cls)));
+        sut.precompute(Arrays.asList(individual, another), true, Collections.singleton(dataProperty),
+                Collections.emptySet());
+
+        assertTrue(sut.getTypes(another).contains(cls));
+        sut.getDataPropertyValues(individual, dataProperty);
+        sut.getDataPropertyValues(another, dataProperty);
+        verify(reasonerMock).flush();
+        verify(reasonerMock, times(2)).getTypes(any(), eq(false));
+        verify(reasonerMock, times(2)).getDataPropertyValues(any(), any());
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.reasoner.BufferingMode;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.SimpleConfiguration;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasoner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OntologyVersionTest {
+
+    @Test
+    void getReasonerReturnsSameReasonerForAllCallers() throws Exception {
+        final OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+        final AtomicInteger created = new AtomicInteger();
+        final OntologyVersion sut = new OntologyVersion(ontology, 0, o -> {
+            created.incrementAndGet();
+            return new StructuralReasoner(o, new SimpleConfiguration(), BufferingMode.BUFFERING);
+        });
+
+        assertSame(sut.getReasoner(), sut.getReasoner());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void getReasonerReturnsNullWhenNoReasonerIsAvailable() throws Exception {
+        final OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+        final OntologyVersion sut = new OntologyVersion(ontology, 0, o -> null);
+
+        assertNull(sut.getReasoner());
+    }
+
+    @Test
+    void callsToSharedReasonerAreSerialized() throws Exception {
+        final OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+        final ConcurrencyTrackingReasoner reasoner = new ConcurrencyTrackingReasoner(ontology);
+        final OntologyVersion sut = new OntologyVersion(ontology, 0, o -> reasoner);
+        final int threads = 4;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    sut.getReasoner().flush();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads, reasoner.calls.get());
+        assertEquals(1, reasoner.maxConcurrentCalls.get());
+    }
+
+    private static class ConcurrencyTrackingReasoner extends StructuralReasoner {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger activeCalls = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+        private ConcurrencyTrackingReasoner(OWLOntology ontology) {
+            super(ontology, new SimpleConfiguration(), BufferingMode.BUFFERING);
+        }
+
+        @Override
+        public void flush() {
+            calls.incrementAndGet();
+            final int active = activeCalls.incrementAndGet();
+            maxConcurrentCalls.accumulateAndGet(active, Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            activeCalls.decrementAndGet();
+            super.flush();
+        }
+    }
+}
@@ -67,6 +67,55 @@ class AxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms of all the specified descriptors.
+     * <p>
+     * Instead of loading axioms subject by subject, statements of all the subjects are retrieved in a single sweep
+     * (one for explicit and one for inferred statements, if required) and then distributed to the respective
+     * descriptors.
+     *
+     * @param descriptors Descriptors of the axioms to load
+     * @return Axioms of all the descriptors
+     * @throws SesameDriverException If a repository access error occurs
+     */
+    Collection<Axiom<?>> loadAxioms(Collection<AxiomDescriptor> descriptors) throws SesameDriverException {
+        final Set<Resource> subjects = new LinkedHashSet<>(descriptors.size());
+        boolean explicitRequired = false;
+        boolean inferredRequired = false;
+        for (AxiomDescriptor d : descriptors) {
+            subjects.add(SesameUtils.toSesameIri(d.getSubject().getIdentifier(), valueFactory));
+            for (Assertion a : d.getAssertions()) {
+                explicitRequired |= !a.isInferred();
+                inferredRequired |= a.isInferred();
+            }
+        }
+        final Map<Resource, List<Statement>> explicitStatements =
+                explicitRequired ? groupBySubject(connector.findStatements(subjects, false)) : Collections.emptyMap();
+        final Map<Resource, List<Statement>> inferredStatements =
+                inferredRequired ? groupBySubject(connector.findStatements(subjects, true)) : Collections.emptyMap();
+        final Collection<Axiom<?>> result = new HashSet<>();
+        for (AxiomDescriptor d : descriptors) {
+            propertyToAssertion.clear();
+            final Resource subject = SesameUtils.toSesameIri(d.getSubject().getIdentifier(), valueFactory);
+            final Assertion unspecified = processAssertions(d);
+            final AxiomBuilder axiomBuilder = new AxiomBuilder(d.getSubject(), propertyToAssertion, unspecified);
+            final StatementLoader statementLoader = new StatementLoader(config, d, connector, subject, axiomBuilder);
+            if (unspecified == null || !unspecified.isInferred()) {
+                statementLoader.setIncludeInferred(false);
+                result.addAll(statementLoader.loadAxioms(explicitAssertions,
+                        explicitStatements.getOrDefault(subject, Collections.emptyList())));
+            }
+            statementLoader.setIncludeInferred(true);
+            result.addAll(statementLoader.loadAxioms(inferredAssertions,
+                    inferredStatements.getOrDefault(subject, Collections.emptyList())));
+        }
+        return result;
+    }
+
+    private static Map<Resource, List<Statement>> groupBySubject(Collection<Statement> statements) {
+        return statements.stream().collect(Collectors.groupingBy(Statement::getSubject));
+    }
+
     /**
      * Processes assertions in the specified descriptor.
      * <p>
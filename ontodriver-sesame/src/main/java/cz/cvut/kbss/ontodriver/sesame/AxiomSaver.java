@@ -41,11 +41,23 @@ class AxiomSaver {
     }
 
     void persistAxioms(AxiomValueDescriptor axiomDescriptor) throws SesameDriverException {
+        persistAxioms(Collections.singleton(axiomDescriptor));
+    }
+
+    /**
+     * Persists axioms of all the specified descriptors, adding the resulting statements to the storage in one batch.
+     *
+     * @param axiomDescriptors Descriptors of the persisted values
+     * @throws SesameDriverException If a statement cannot be created or added
+     */
+    void persistAxioms(Collection<AxiomValueDescriptor> axiomDescriptors) throws SesameDriverException {
         final List<Statement> statements = new ArrayList<>();
-        for (Assertion assertion : axiomDescriptor.getAssertions()) {
-            statements.addAll(createSesameStatements(axiomDescriptor.getSubject(), assertion,
-                    axiomDescriptor.getAssertionValues(assertion),
-                    axiomDescriptor.getAssertionContext(assertion)));
+        for (AxiomValueDescriptor axiomDescriptor : axiomDescriptors) {
+            for (Assertion assertion : axiomDescriptor.getAssertions()) {
+                statements.addAll(createSesameStatements(axiomDescriptor.getSubject(), assertion,
+                        axiomDescriptor.getAssertionValues(assertion),
+                        axiomDescriptor.getAssertionContext(assertion)));
+            }
         }
         if (!statements.isEmpty()) {
             connector.addStatements(statements);
@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame;
+
+import cz.cvut.kbss.ontodriver.sesame.connector.Connector;
+import cz.cvut.kbss.ontodriver.sesame.exceptions.SesameDriverException;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Statements of list nodes loaded in bulk when a list is being read or updated.
+ * <p>
+ * Nodes which were not loaded (e.g., nodes linked to the list during the current transaction) are looked up in the
+ * storage one by one.
+ */
+class ListNodeStatements {
+
+    private final Connector connector;
+    private final boolean includeInferred;
+    private final Set<IRI> contexts;
+
+    private final Map<Resource, Collection<Statement>> statements;
+
+    private ListNodeStatements(Connector connector, boolean includeInferred, Set<IRI> contexts,
+                               Map<Resource, Collection<Statement>> statements) {
+        this.connector = connector;
+        this.includeInferred = includeInferred;
+        this.contexts = contexts;
+        this.statements = statements;
+    }
+
+    /**
+     * Finds statements with the specified subject and property.
+     *
+     * @param subject  Statement subject
+     * @param property Statement property
+     * @return Matching statements
+     * @throws SesameDriverException When storage access error occurs
+     */
+    Collection<Statement> find(Resource subject, IRI property) throws SesameDriverException {
+        final Collection<Statement> nodeStatements = statements.get(subject);
+        if (nodeStatements == null) {
+            return connector.findStatements(subject, property, null, includeInferred, contexts);
+        }
+        return nodeStatements.stream().filter(s -> property.equals(s.getPredicate())).collect(Collectors.toList());
+    }
+
+    /**
+     * Adds the specified statements and records them so that subsequent lookups reflect them.
+     *
+     * @param toAdd Statements to add
+     * @throws SesameDriverException When storage access error occurs
+     */
+    void add(Collection<Statement> toAdd) throws SesameDriverException {
+        connector.addStatements(toAdd);
+        toAdd.forEach(s -> {
+            final Collection<Statement> nodeStatements = statements.get(s.getSubject());
+            if (nodeStatements != null) {
+                nodeStatements.add(s);
+            }
+        });
+    }
+
+    /**
+     * Removes the specified statements and records the removal so that subsequent lookups reflect it.
+     *
+     * @param toRemove Statements to remove
+     * @throws SesameDriverException When storage access error occurs
+     */
+    void remove(Collection<Statement> toRemove) throws SesameDriverException {
+        connector.removeStatements(toRemove);
+        toRemove.forEach(s -> {
+            final Collection<Statement> nodeStatements = statements.get(s.getSubject());
+            if (nodeStatements != null) {
+                nodeStatements.remove(s);
+            }
+        });
+    }
+
+    /**
+     * Loads statements of the specified list.
+     *
+     * @param connector       Storage connector
+     * @param owner           List owner
+     * @param hasList         Property connecting the owner to the first node
+     * @param hasNext         Property connecting list nodes
+     * @param nodeContent     Node content property, {@code null} for simple lists
+     * @param includeInferred Whether to include inferred statements
+     * @param contexts        List contexts
+     * @return Loaded list statements
+     * @throws SesameDriverException When storage access error occurs
+     */
+    static ListNodeStatements load(Connector connector, Resource owner, IRI hasList, IRI hasNext, IRI nodeContent,
+                                   boolean includeInferred, Set<IRI> contexts) throws SesameDriverException {
+        return new ListNodeStatements(connector, includeInferred, contexts,
+                connector.findListStatements(owner, hasList, hasNext, nodeContent, includeInferred, contexts));
+    }
+}
@@ -107,12 +107,15 @@ public class ReferencedListHandler extends
         IRI currentProperty = hasList(listDescriptor);
         final Collection<Statement> toRemove = new ArrayList<>();
         Collection<Statement> next;
+        final ListNodeStatements nodes =
+                ListNodeStatements.load(connector, previous, currentProperty, hasNext, hasContent, includeInferred,
+                        context);
         do {
-            next = connector.findStatements(previous, currentProperty, null, includeInferred, context);
+            next = nodes.find(previous, currentProperty);
             if (!next.isEmpty()) {
                 final Resource node = extractListNode(next, currentProperty);
                 toRemove.addAll(next);
-                toRemove.addAll(connector.findStatements(node, hasContent, null, includeInferred, context));
+                toRemove.addAll(nodes.find(node, hasContent));
                 previous = node;
             }
             currentProperty = hasNext;
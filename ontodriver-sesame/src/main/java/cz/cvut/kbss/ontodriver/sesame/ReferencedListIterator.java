@@ -33,6 +33,7 @@ class ReferencedListIterator extends AbstractSesameIterator {
     private final ReferencedListDescriptor listDescriptor;
 
     private final IRI hasContentProperty;
+    private final ListNodeStatements nodes;
 
     private IRI currentProperty;
 
@@ -46,11 +47,13 @@ class ReferencedListIterator extends AbstractSesameIterator {
         this.listDescriptor = listDescriptor;
         this.hasContentProperty = SesameUtils.toSesameIri(listDescriptor.getNodeContent().getIdentifier(), vf);
         this.currentProperty = hasListProperty;
+        this.nodes = ListNodeStatements.load(connector, listOwner, hasListProperty, hasNextProperty,
+                hasContentProperty, includeInferred, contexts());
         init();
     }
 
     private void init() throws SesameDriverException {
-        this.next = connector.findStatements(listOwner, hasListProperty, null, includeInferred, contexts());
+        this.next = nodes.find(listOwner, hasListProperty);
     }
 
     @Override
@@ -74,12 +77,11 @@ class ReferencedListIterator extends AbstractSesameIterator {
         checkNodeIsResource(currentNode);
         final Resource elem = (Resource) currentNode.getObject();
         this.currentContent = getNodeContent(elem);
-        this.next = connector.findStatements(elem, hasNextProperty, null, includeInferred, contexts());
+        this.next = nodes.find(elem, hasNextProperty);
     }
 
     private Statement getNodeContent(Resource node) throws SesameDriverException {
-        final Collection<Statement> elements = connector.findStatements(node, hasContentProperty,
-                null, includeInferred, contexts());
+        final Collection<Statement> elements = nodes.find(node, hasContentProperty);
         checkSuccessorMax(elements, hasContentProperty);
         if (elements.isEmpty()) {
             throw new IntegrityConstraintViolatedException("Node " + node + " has no content.");
@@ -121,23 +123,23 @@ class ReferencedListIterator extends AbstractSesameIterator {
 
             this.currentNode = null;
             this.currentContent = null;
-            connector.addStatements(next);
+            nodes.add(next);
         } else {
             next = Collections.emptyList();
         }
-        connector.removeStatements(toRemove);
+        nodes.remove(toRemove);
     }
 
     @Override
     public void replaceCurrentWith(NamedResource newContent) throws SesameDriverException {
         assert currentNode.getObject() instanceof Resource;
         // We just replace the original content statement with new one
-        connector.removeStatements(Collections.singleton(currentContent));
+        nodes.remove(Collections.singleton(currentContent));
         final Resource node = (Resource) currentNode.getObject();
         final Statement stmt = vf
                 .createStatement(node, hasContentProperty, SesameUtils.toSesameIri(newContent.getIdentifier(), vf),
                         context);
-        connector.addStatements(Collections.singleton(stmt));
+        nodes.add(Collections.singleton(stmt));
     }
 
 }
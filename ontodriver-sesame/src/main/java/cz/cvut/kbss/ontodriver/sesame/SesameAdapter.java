@@ -177,11 +177,21 @@ class SesameAdapter implements Closeable, Wrapper {
         return new AxiomLoader(connector, valueFactory, config).loadAxioms(axiomDescriptor);
     }
 
+    Collection<Axiom<?>> findAll(Collection<AxiomDescriptor> axiomDescriptors) throws SesameDriverException {
+        startTransactionIfNotActive();
+        return new AxiomLoader(connector, valueFactory, config).loadAxioms(axiomDescriptors);
+    }
+
     void persist(AxiomValueDescriptor axiomDescriptor) throws SesameDriverException {
         startTransactionIfNotActive();
         new AxiomSaver(connector, valueFactory).persistAxioms(axiomDescriptor);
     }
 
+    void persistAll(Collection<AxiomValueDescriptor> axiomDescriptors) throws SesameDriverException {
+        startTransactionIfNotActive();
+        new AxiomSaver(connector, valueFactory).persistAxioms(axiomDescriptors);
+    }
+
     void update(AxiomValueDescriptor axiomDescriptor) throws SesameDriverException {
         startTransactionIfNotActive();
         new EpistemicAxiomRemover(connector, valueFactory).remove(axiomDescriptor);
@@ -134,7 +134,8 @@ class SesameConnection implements Connection {
         if (sparql.isEmpty()) {
             throw new IllegalArgumentException("The value for prepared statement cannot be empty.");
         }
-        return new SesamePreparedStatement(adapter.getQueryExecutor(), sparql);
+        return new SesamePreparedStatement(adapter.getQueryExecutor(), sparql,
+                adapter.getConfig().isNativeParameterBinding());
     }
 
     @Override
@@ -179,6 +180,17 @@ class SesameConnection implements Connection {
         }
     }
 
+    @Override
+    public Collection<Axiom<?>> findAll(Collection<AxiomDescriptor> descriptors) throws OntoDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            return adapter.findAll(descriptors);
+        } catch (RuntimeException e) {
+            throw new SesameDriverException(e);
+        }
+    }
+
     @Override
     public void persist(AxiomValueDescriptor descriptor) throws OntoDriverException {
         ensureOpen();
@@ -191,6 +203,18 @@ class SesameConnection implements Connection {
         }
     }
 
+    @Override
+    public void persistAll(Collection<AxiomValueDescriptor> descriptors) throws OntoDriverException {
+        ensureOpen();
+        Objects.requireNonNull(descriptors);
+        try {
+            adapter.persistAll(descriptors);
+            commitIfAuto();
+        } catch (RuntimeException e) {
+            throw new SesameDriverException(e);
+        }
+    }
+
     @Override
     public void update(AxiomValueDescriptor descriptor) throws OntoDriverException {
         ensureOpen();
@@ -32,7 +32,8 @@ class SesameDriver implements Closeable, ConnectionListener {
 
     private static final List<ConfigurationParameter> CONFIGS = Arrays
             .asList(DriverConfigParam.AUTO_COMMIT, SesameConfigParam.USE_INFERENCE,
-                    SesameConfigParam.USE_VOLATILE_STORAGE);
+                    SesameConfigParam.USE_VOLATILE_STORAGE, SesameConfigParam.NATIVE_PARAMETER_BINDING,
+                    SesameConfigParam.TRANSACTION_MEMORY_THRESHOLD);
 
     private final DriverConfiguration configuration;
     private boolean open;
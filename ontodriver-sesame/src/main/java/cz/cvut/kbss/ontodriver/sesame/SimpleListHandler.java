@@ -75,8 +75,10 @@ class SimpleListHandler extends ListHandler<SimpleListDescriptor, SimpleListValu
         final boolean includeInferred = listValueDescriptor.getNextNode().isInferred();
         Collection<Statement> stmts;
         Resource subject = owner(listValueDescriptor);
+        final ListNodeStatements nodes =
+                ListNodeStatements.load(connector, subject, currentProperty, hasNext, null, includeInferred, contexts);
         do {
-            stmts = connector.findStatements(subject, currentProperty, null, includeInferred, contexts);
+            stmts = nodes.find(subject, currentProperty);
             if (!stmts.isEmpty()) {
                 subject = extractListNode(stmts, hasNext);
                 toRemove.addAll(stmts);
@@ -31,6 +31,7 @@ import java.util.List;
 class SimpleListIterator extends AbstractSesameIterator {
 
     private final SimpleListDescriptor listDescriptor;
+    private final ListNodeStatements nodes;
 
     private IRI currentProperty;
 
@@ -42,11 +43,13 @@ class SimpleListIterator extends AbstractSesameIterator {
         super(listDescriptor, connector, vf);
         this.listDescriptor = listDescriptor;
         this.currentProperty = hasListProperty;
+        this.nodes = ListNodeStatements.load(connector, listOwner, hasListProperty, hasNextProperty, null,
+                includeInferred, contexts());
         init();
     }
 
     private void init() throws SesameDriverException {
-        this.next = connector.findStatements(listOwner, hasListProperty, null, includeInferred, contexts());
+        this.next = nodes.find(listOwner, hasListProperty);
     }
 
     @Override
@@ -71,7 +74,7 @@ class SimpleListIterator extends AbstractSesameIterator {
         this.currentProperty = current.getPredicate();
         checkNodeIsResource(current);
         final Resource elem = (Resource) current.getObject();
-        this.next = connector.findStatements(elem, hasNextProperty, null, includeInferred, contexts());
+        this.next = nodes.find(elem, hasNextProperty);
     }
 
     @Override
@@ -114,15 +117,14 @@ class SimpleListIterator extends AbstractSesameIterator {
                 toAdd.add(newNext);
                 this.next = Collections.singletonList(newNext);
             } else {
-                this.next = connector.findStatements(newNodeSesame, hasNextProperty, null,
-                        includeInferred, contexts());
+                this.next = nodes.find(newNodeSesame, hasNextProperty);
             }
         } else {
             this.next = Collections.emptyList();
         }
         this.current = null;
-        connector.removeStatements(toRemove);
-        connector.addStatements(toAdd);
+        nodes.remove(toRemove);
+        nodes.add(toAdd);
     }
 
     @Override
@@ -142,10 +144,10 @@ class SimpleListIterator extends AbstractSesameIterator {
             this.next = Collections.singletonList(toAdd);
             this.current = null;
 
-            connector.addStatements(next);
+            nodes.add(next);
         } else {
             this.next = Collections.emptyList();
         }
-        connector.removeStatements(toRemove);
+        nodes.remove(toRemove);
     }
 }
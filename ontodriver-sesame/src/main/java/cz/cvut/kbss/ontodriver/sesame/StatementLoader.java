@@ -90,6 +90,23 @@ class StatementLoader {
 
     private Collection<Axiom<?>> loadAll(Map<IRI, Assertion> properties) throws SesameDriverException {
         final Collection<Statement> statements = connector.findStatements(subject, null, null, includeInferred);
+        return filterStatements(properties, statements);
+    }
+
+    /**
+     * Transforms the specified already loaded statements of the subject into axioms, filtering out statements which do
+     * not correspond to the specified properties and their contexts.
+     *
+     * @param properties Properties to load
+     * @param statements All statements of the subject (considering inference setting of this loader)
+     * @return Collection of matching axioms
+     */
+    Collection<Axiom<?>> loadAxioms(Map<IRI, Assertion> properties, Collection<Statement> statements) {
+        this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
+        return filterStatements(properties, statements);
+    }
+
+    private Collection<Axiom<?>> filterStatements(Map<IRI, Assertion> properties, Collection<Statement> statements) {
         final Collection<Axiom<?>> result = new HashSet<>(statements.size());
         final Assertion unspecified = Assertion.createUnspecifiedPropertyAssertion(includeInferred);
         for (Statement s : statements) {
@@ -36,6 +36,13 @@ public class Constants {
      */
     public static final int DEFAULT_RECONNECT_ATTEMPTS_COUNT = 5;
 
+    /**
+     * Default maximum number of added (and, separately, removed) statements kept in memory during a transaction.
+     *
+     * @see SesameOntoDriverProperties#SESAME_TRANSACTION_MEMORY_THRESHOLD
+     */
+    public static final int DEFAULT_TRANSACTION_MEMORY_THRESHOLD = 100_000;
+
     private Constants() {
         throw new AssertionError();
     }
@@ -23,6 +23,8 @@ public class RuntimeConfiguration {
 
     private final int loadAllThreshold;
 
+    private final boolean nativeParameterBinding;
+
     public RuntimeConfiguration(DriverConfiguration config) {
         if (config.isSet(SesameConfigParam.LOAD_ALL_THRESHOLD)) {
             try {
@@ -35,9 +37,14 @@ public class RuntimeConfiguration {
         } else {
             this.loadAllThreshold = Constants.DEFAULT_LOAD_ALL_THRESHOLD;
         }
+        this.nativeParameterBinding = config.is(SesameConfigParam.NATIVE_PARAMETER_BINDING);
     }
 
     public int getLoadAllThreshold() {
         return loadAllThreshold;
     }
+
+    public boolean isNativeParameterBinding() {
+        return nativeParameterBinding;
+    }
 }
@@ -31,7 +31,9 @@ public enum SesameConfigParam implements ConfigurationParameter {
     USERNAME(OntoDriverProperties.DATA_SOURCE_USERNAME),
     PASSWORD(OntoDriverProperties.DATA_SOURCE_PASSWORD),
     REPOSITORY_CONFIG(SesameOntoDriverProperties.SESAME_REPOSITORY_CONFIG),
-    RECONNECT_ATTEMPTS(SesameOntoDriverProperties.SESAME_RECONNECT_ATTEMPTS);
+    RECONNECT_ATTEMPTS(SesameOntoDriverProperties.SESAME_RECONNECT_ATTEMPTS),
+    TRANSACTION_MEMORY_THRESHOLD(SesameOntoDriverProperties.SESAME_TRANSACTION_MEMORY_THRESHOLD),
+    NATIVE_PARAMETER_BINDING(SesameOntoDriverProperties.SESAME_NATIVE_PARAMETER_BINDING);
 
     private final String name;
 
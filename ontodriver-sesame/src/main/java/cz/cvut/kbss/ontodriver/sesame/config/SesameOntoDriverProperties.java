@@ -82,6 +82,25 @@ public abstract class SesameOntoDriverProperties {
      */
     public static final String SESAME_RECONNECT_ATTEMPTS = "cz.cvut.kbss.ontodriver.sesame.reconnect-attempts";
 
+    /**
+     * Maximum number of statements added (and, separately, removed) in a transaction which are kept in memory.
+     *
+     * When a transaction changes more statements, they are moved to a temporary on-disk store, which is deleted when
+     * the transaction finishes. Must be a non-negative integer, {@code 0} keeps all changes in memory.
+     */
+    public static final String SESAME_TRANSACTION_MEMORY_THRESHOLD =
+            "cz.cvut.kbss.ontodriver.sesame.transaction-memory-threshold";
+
+    /**
+     * Whether prepared statement parameter values should be bound to query variables by the repository.
+     * <p>
+     * When enabled, parameter values representing a single IRI or literal are passed to the repository as query
+     * bindings, so that the prepared query can be reused for different values. Otherwise, all values are inserted
+     * into the query string. Defaults to {@code false}.
+     */
+    public static final String SESAME_NATIVE_PARAMETER_BINDING =
+            "cz.cvut.kbss.ontodriver.sesame.native-parameter-binding";
+
     private SesameOntoDriverProperties() {
         throw new AssertionError();
     }
@@ -16,19 +16,51 @@ package cz.cvut.kbss.ontodriver.sesame.connector;
 
 
 import cz.cvut.kbss.ontodriver.sesame.exceptions.SesameDriverException;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.*;
+import org.eclipse.rdf4j.query.parser.ParsedBooleanQuery;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.query.parser.ParsedUpdate;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.sail.SailBooleanQuery;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
+import org.eclipse.rdf4j.repository.sail.SailUpdate;
+
+import java.util.Map;
 
 /**
  * Actual implementation of statement processing.
+ * <p>
+ * Queries executed with bindings against a local (Sail) repository are parsed only once and the parsed operations are
+ * kept in a {@link PreparedQueryCache}, which may be shared by executors of subsequent connections. Remote
+ * repositories parse queries on the server, so they are prepared directly by the connection.
  */
 class ConnectionStatementExecutor implements StatementExecutor {
 
     private final RepositoryConnection connection;
+    // Set when the repository is local, so that queries can be created from cached parsed operations
+    private final SailRepositoryConnection sailConnection;
+
+    private final PreparedQueryCache preparedQueries;
 
     ConnectionStatementExecutor(RepositoryConnection connection) {
+        this(connection, new PreparedQueryCache());
+    }
+
+    ConnectionStatementExecutor(RepositoryConnection connection, PreparedQueryCache preparedQueries) {
         this.connection = connection;
+        this.sailConnection = resolveSailConnection(connection);
+        this.preparedQueries = preparedQueries;
+    }
+
+    private static SailRepositoryConnection resolveSailConnection(RepositoryConnection connection) {
+        final RepositoryConnection conn = connection instanceof TransactionalRepositoryConnection ?
+                                          ((TransactionalRepositoryConnection) connection).getWrappedConnection() :
+                                          connection;
+        return conn instanceof SailRepositoryConnection ? (SailRepositoryConnection) conn : null;
     }
 
     @Override
@@ -59,4 +91,78 @@ class ConnectionStatementExecutor implements StatementExecutor {
             throw new SesameDriverException(e);
         }
     }
+
+    @Override
+    public TupleQueryResult executeSelectQuery(String query, Map<String, Value> bindings)
+            throws SesameDriverException {
+        try {
+            final TupleQuery tq = prepareTupleQuery(query);
+            bindings.forEach(tq::setBinding);
+            return new QueryResult(tq.evaluate(), connection);
+        } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
+            throw new SesameDriverException(e);
+        }
+    }
+
+    private TupleQuery prepareTupleQuery(String query) {
+        if (sailConnection == null) {
+            return connection.prepareTupleQuery(QueryLanguage.SPARQL, query);
+        }
+        return new SailTupleQuery(preparedQueries.get(query, ParsedTupleQuery.class,
+                q -> QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, q, null)), sailConnection);
+    }
+
+    @Override
+    public boolean executeBooleanQuery(String query, Map<String, Value> bindings) throws SesameDriverException {
+        try {
+            final BooleanQuery bq = prepareBooleanQuery(query);
+            bindings.forEach(bq::setBinding);
+            return bq.evaluate();
+        } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
+            throw new SesameDriverException(e);
+        }
+    }
+
+    @Override
+    public void executeUpdate(String query, Map<String, Value> bindings) throws SesameDriverException {
+        try {
+            final Update u = prepareUpdate(query);
+            bindings.forEach(u::setBinding);
+            u.execute();
+        } catch (MalformedQueryException | UpdateExecutionException | RepositoryException e) {
+            throw new SesameDriverException(e);
+        }
+    }
+
+    private BooleanQuery prepareBooleanQuery(String query) {
+        if (sailConnection == null) {
+            return connection.prepareBooleanQuery(QueryLanguage.SPARQL, query);
+        }
+        return new CachedBooleanQuery(preparedQueries.get(query, ParsedBooleanQuery.class,
+                q -> QueryParserUtil.parseBooleanQuery(QueryLanguage.SPARQL, q, null)), sailConnection);
+    }
+
+    private Update prepareUpdate(String query) {
+        if (sailConnection == null) {
+            return connection.prepareUpdate(QueryLanguage.SPARQL, query);
+        }
+        return new CachedUpdate(preparedQueries.get(query, ParsedUpdate.class,
+                q -> QueryParserUtil.parseUpdate(QueryLanguage.SPARQL, q, null)), sailConnection);
+    }
+
+    // RDF4J does not expose constructors of Sail boolean queries and updates created from parsed operations
+
+    private static class CachedBooleanQuery extends SailBooleanQuery {
+
+        private CachedBooleanQuery(ParsedBooleanQuery query, SailRepositoryConnection connection) {
+            super(query, connection);
+        }
+    }
+
+    private static class CachedUpdate extends SailUpdate {
+
+        private CachedUpdate(ParsedUpdate update, SailRepositoryConnection connection) {
+            super(update, connection);
+        }
+    }
 }
@@ -19,6 +19,7 @@ import org.eclipse.rdf4j.model.*;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface Connector extends Closeable, StatementExecutor, Wrapper {
 
@@ -96,6 +97,23 @@ public interface Connector extends Closeable, StatementExecutor, Wrapper {
                                          boolean includeInferred, Collection<IRI> contexts)
             throws SesameDriverException;
 
+    /**
+     * Finds all statements of the specified subjects.
+     * <p>
+     * This is a bulk version of {@link #findStatements(Resource, IRI, Value, boolean)} with unspecified property and
+     * value. It allows to load statements of multiple subjects in a single repository request, with changes made in
+     * the current transaction applied to the result.
+     * <p>
+     * This version searches the default context.
+     *
+     * @param subjects        Statement subjects
+     * @param includeInferred Whether to include inferred statements as well
+     * @return Collection of statements of the specified subjects
+     * @throws SesameDriverException If a repository access error occurs
+     */
+    Collection<Statement> findStatements(Collection<? extends Resource> subjects, boolean includeInferred)
+            throws SesameDriverException;
+
     /**
      * Checks whether the repository contains any statements matching the specified criteria.
      *
@@ -112,6 +130,27 @@ public interface Connector extends Closeable, StatementExecutor, Wrapper {
                               Collection<IRI> contexts)
             throws SesameDriverException;
 
+    /**
+     * Finds statements forming the list owned by the specified resource.
+     * <p>
+     * The list is followed from its owner over the {@code hasList} and {@code hasNext} properties and the result maps
+     * the owner and every node reached this way to its statements with the specified list properties as predicates.
+     * Nodes not present in the result have to be looked up using {@link #findStatements(Resource, IRI, Value, boolean,
+     * Collection)}.
+     *
+     * @param owner           List owner
+     * @param hasList         Property connecting the owner to the first node of the list
+     * @param hasNext         Property connecting list nodes
+     * @param nodeContent     Property connecting list nodes to their content, {@code null} for simple lists
+     * @param includeInferred Whether to include inferred statements
+     * @param contexts        Contexts in which the list is stored
+     * @return Map of list nodes to their statements, possibly empty
+     * @throws SesameDriverException When storage access error occurs
+     */
+    Map<Resource, Collection<Statement>> findListStatements(Resource owner, IRI hasList, IRI hasNext, IRI nodeContent,
+                                                            boolean includeInferred, Collection<IRI> contexts)
+            throws SesameDriverException;
+
     /**
      * Adds the specified statements to the underlying repository.
      * <p>
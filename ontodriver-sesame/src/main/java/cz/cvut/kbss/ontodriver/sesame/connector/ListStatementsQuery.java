@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.connector;
+
+import org.eclipse.rdf4j.model.*;
+import org.eclipse.rdf4j.query.*;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Loads statements forming a list chain using a single SPARQL query.
+ * <p>
+ * The query follows the list from its owner using a property path and returns the successor (and content)
+ * statements of every node it reaches, including the context in which they are stored.
+ * <p>
+ * When no contexts are specified, the list is looked up in the default context and in every named context by separate
+ * queries, because the default graph of a query need not be the default context (see {@link SubjectStatementsQuery}).
+ * The list is expected to be stored in a single context.
+ */
+class ListStatementsQuery {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListStatementsQuery.class);
+
+    private final Resource owner;
+    private final IRI hasList;
+    private final IRI hasNext;
+    private final IRI nodeContent;
+    private final boolean includeInferred;
+    private final Collection<IRI> contexts;
+
+    ListStatementsQuery(Resource owner, IRI hasList, IRI hasNext, IRI nodeContent, boolean includeInferred,
+                        Collection<IRI> contexts) {
+        this.owner = owner;
+        this.hasList = hasList;
+        this.hasNext = hasNext;
+        this.nodeContent = nodeContent;
+        this.includeInferred = includeInferred;
+        this.contexts = contexts;
+    }
+
+    /**
+     * Evaluates the query on the specified connection.
+     * <p>
+     * The result maps the list owner and every reached node to its statements with the list properties as predicates.
+     * Nodes without any such statements (e.g., the last node) are mapped to an empty collection. If the repository is
+     * not able to evaluate the query or the owner is not an IRI, an empty map is returned.
+     *
+     * @param connection Connection to evaluate the query on
+     * @return Map of list nodes to their statements
+     */
+    Map<Resource, Collection<Statement>> evaluate(RepositoryConnection connection) {
+        if (!(owner instanceof IRI)) {
+            return Collections.emptyMap();
+        }
+        final Map<Resource, Collection<Statement>> result = new HashMap<>();
+        try {
+            result.put(owner, new ArrayList<>());
+            if (contexts.isEmpty()) {
+                evaluateQuery(connection, buildQuery(), SubjectStatementsQuery.DEFAULT_CONTEXT, result);
+            }
+            evaluateQuery(connection, buildGraphQuery(), null, result);
+            return result;
+        } catch (MalformedQueryException | QueryEvaluationException e) {
+            LOG.debug("Unable to load list statements using a SPARQL query, falling back to node by node loading.",
+                    e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private void evaluateQuery(RepositoryConnection connection, String queryString, Dataset dataset,
+                               Map<Resource, Collection<Statement>> result) {
+        final TupleQuery query = connection.prepareTupleQuery(QueryLanguage.SPARQL, queryString);
+        query.setIncludeInferred(includeInferred);
+        if (dataset != null) {
+            query.setDataset(dataset);
+        }
+        final ValueFactory vf = connection.getValueFactory();
+        try (final TupleQueryResult rs = query.evaluate()) {
+            while (rs.hasNext()) {
+                final BindingSet row = rs.next();
+                final Statement stmt = vf.createStatement((Resource) row.getValue("s"), (IRI) row.getValue("p"),
+                        row.getValue("o"), (Resource) row.getValue("g"));
+                result.computeIfAbsent(stmt.getSubject(), k -> new ArrayList<>()).add(stmt);
+                if (!stmt.getPredicate().equals(nodeContent) && stmt.getObject() instanceof Resource) {
+                    result.computeIfAbsent((Resource) stmt.getObject(), k -> new ArrayList<>());
+                }
+            }
+        }
+    }
+
+    private String buildQuery() {
+        return "SELECT ?s ?p ?o ?g WHERE { " + listPattern() + " }";
+    }
+
+    private String buildGraphQuery() {
+        final StringBuilder sb = new StringBuilder("SELECT ?s ?p ?o ?g WHERE { ");
+        if (!contexts.isEmpty()) {
+            sb.append("VALUES ?g {");
+            contexts.forEach(ctx -> sb.append(' ').append(iri(ctx)));
+            sb.append(" } ");
+        }
+        sb.append("GRAPH ?g { ").append(listPattern()).append(" } }");
+        return sb.toString();
+    }
+
+    private String listPattern() {
+        return "{ " + iri(owner) + " " + iri(hasList) + " ?o . " +
+                "BIND (" + iri(owner) + " AS ?s) BIND (" + iri(hasList) + " AS ?p) } UNION { " +
+                iri(owner) + " " + iri(hasList) + "/" + iri(hasNext) + "* ?s . " +
+                "VALUES ?p { " + iri(hasNext) + (nodeContent != null ? " " + iri(nodeContent) : "") + " } ?s ?p ?o . }";
+    }
+
+    private static String iri(Resource resource) {
+        return "<" + resource.stringValue() + ">";
+    }
+}
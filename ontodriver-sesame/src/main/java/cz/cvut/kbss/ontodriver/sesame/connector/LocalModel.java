@@ -12,36 +12,86 @@
  */
 package cz.cvut.kbss.ontodriver.sesame.connector;
 
+import cz.cvut.kbss.ontodriver.sesame.config.Constants;
 import org.eclipse.rdf4j.model.*;
-import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Caches local transactional changes to the Sesame repository model.
+ * <p>
+ * Added and removed statements are indexed, so that merging them with statements loaded from the repository takes
+ * time proportional to the size of the loaded result. Large sets of changes are moved to a temporary on-disk store.
+ *
+ * @see TransactionStatements
  */
-class LocalModel {
+class LocalModel implements AutoCloseable {
 
-    private final Model addedStatements;
-    private final Model removedStatements;
+    private final TransactionStatements addedStatements;
+    private final TransactionStatements removedStatements;
 
     enum Contains {
         TRUE, FALSE, UNKNOWN
     }
 
     LocalModel() {
-        this.addedStatements = new LinkedHashModel();
-        this.removedStatements = new LinkedHashModel();
+        this(Constants.DEFAULT_TRANSACTION_MEMORY_THRESHOLD);
+    }
+
+    LocalModel(int memoryThreshold) {
+        this.addedStatements = new TransactionStatements(memoryThreshold);
+        this.removedStatements = new TransactionStatements(memoryThreshold);
     }
 
+    /**
+     * Merges the specified statements loaded from the repository with changes made in this transaction.
+     * <p>
+     * The loaded statements are read only once, statements removed in this transaction are skipped and statements
+     * added in this transaction are appended to the result.
+     *
+     * @param statements Statements loaded from the repository
+     * @param subject    Subject used to load the statements, possibly {@code null}
+     * @param property   Property used to load the statements, possibly {@code null}
+     * @param object     Object used to load the statements, possibly {@code null}
+     * @param context    Contexts used to load the statements
+     * @return List of statements reflecting the transactional changes
+     */
+    List<Statement> mergeStatements(Iterable<Statement> statements, Resource subject, IRI property,
+                                    Value object, Collection<IRI> context) {
+        final List<Statement> result = new ArrayList<>();
+        for (Statement statement : statements) {
+            if (!isChanged(statement)) {
+                result.add(statement);
+            }
+        }
+        result.addAll(addedStatements.filter(subject, property, object, context.toArray(new IRI[0])));
+        return result;
+    }
+
+    /**
+     * Applies changes made in this transaction to the specified collection of statements.
+     *
+     * @see #mergeStatements(Iterable, Resource, IRI, Value, Collection)
+     */
     void enhanceStatements(Collection<Statement> statements, Resource subject, IRI property,
                            Value object, Collection<IRI> context) {
-        final Collection<Statement> added, removed;
-        final IRI[] ctxArray = context.toArray(new IRI[0]);
-        added = addedStatements.filter(subject, property, object, ctxArray);
-        removed = removedStatements.filter(subject, property, object, ctxArray);
-        statements.addAll(added);
-        statements.removeAll(removed);
+        statements.removeIf(removedStatements::contains);
+        final Set<Statement> present = new HashSet<>(statements);
+        for (Statement added : addedStatements.filter(subject, property, object, context.toArray(new IRI[0]))) {
+            if (present.add(added)) {
+                statements.add(added);
+            }
+        }
+    }
+
+    // Added statements are skipped as well, they are appended to the result separately
+    private boolean isChanged(Statement statement) {
+        return removedStatements.contains(statement) || addedStatements.contains(statement);
     }
 
     Contains contains(Resource subject, IRI property, Value object, Collection<IRI> contexts) {
@@ -62,11 +112,17 @@ class LocalModel {
         removedStatements.addAll(statements);
     }
 
-    Collection<Statement> getAddedStatements() {
-        return addedStatements;
+    /**
+     * Writes changes made in this transaction into the specified repository connection.
+     */
+    void writeTo(RepositoryConnection connection) {
+        removedStatements.removeFrom(connection);
+        addedStatements.addTo(connection);
     }
 
-    Collection<Statement> getRemovedStatements() {
-        return removedStatements;
+    @Override
+    public void close() {
+        addedStatements.close();
+        removedStatements.close();
     }
 }
@@ -14,28 +14,39 @@ package cz.cvut.kbss.ontodriver.sesame.connector;
 
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.sesame.exceptions.SesameDriverException;
-import org.eclipse.rdf4j.common.iteration.Iterations;
 import org.eclipse.rdf4j.model.*;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
 
+/**
+ * Connector used by a single OntoDriver connection.
+ * <p>
+ * Each transaction runs on its own repository connection acquired from the central connector. Changes are collected
+ * in a local model and written into the repository connection on commit, so isolation of concurrent transactions is
+ * left to the underlying repository.
+ */
 public class PoolingStorageConnector extends AbstractConnector {
 
-    private static final ReentrantReadWriteLock LOCK = new ReentrantReadWriteLock();
-    private static final Lock READ = LOCK.readLock();
-    private static final Lock WRITE = LOCK.writeLock();
+    private static final Logger LOG = LoggerFactory.getLogger(PoolingStorageConnector.class);
 
     private final StorageConnector centralConnector;
 
+    // Parsed queries executed with bindings, reused across transactions and non-transactional statements
+    private final PreparedQueryCache preparedQueries = new PreparedQueryCache();
+
     private RepositoryConnection connection;
     private LocalModel localModel;
+    private StatementExecutor statementExecutor;
 
     PoolingStorageConnector(StorageConnector centralConnector) {
         this.centralConnector = centralConnector;
@@ -45,85 +56,98 @@ public class PoolingStorageConnector extends AbstractConnector {
     @Override
     public TupleQueryResult executeSelectQuery(String query) throws SesameDriverException {
         if (transaction.isActive()) {
-            return new ConnectionStatementExecutor(wrapConnection()).executeSelectQuery(query);
-        }
-        READ.lock();
-        try {
-            return centralConnector.executeSelectQuery(query);
-        } finally {
-            READ.unlock();
+            return statementExecutor.executeSelectQuery(query);
         }
+        return centralConnector.executeSelectQuery(query);
     }
 
-    private RepositoryConnection wrapConnection() {
-        return new TransactionalRepositoryConnection(connection);
+    @Override
+    public TupleQueryResult executeSelectQuery(String query, Map<String, Value> bindings)
+            throws SesameDriverException {
+        if (transaction.isActive()) {
+            return statementExecutor.executeSelectQuery(query, bindings);
+        }
+        return centralConnector.executeSelectQuery(query, bindings, preparedQueries);
     }
 
     @Override
     public boolean executeBooleanQuery(String query) throws SesameDriverException {
         if (transaction.isActive()) {
-            return new ConnectionStatementExecutor(wrapConnection()).executeBooleanQuery(query);
+            return statementExecutor.executeBooleanQuery(query);
         }
-        READ.lock();
-        try {
-            return centralConnector.executeBooleanQuery(query);
-        } finally {
-            READ.unlock();
+        return centralConnector.executeBooleanQuery(query);
+    }
+
+    @Override
+    public boolean executeBooleanQuery(String query, Map<String, Value> bindings) throws SesameDriverException {
+        if (transaction.isActive()) {
+            return statementExecutor.executeBooleanQuery(query, bindings);
         }
+        return centralConnector.executeBooleanQuery(query, bindings, preparedQueries);
     }
 
     @Override
     public void executeUpdate(String query) throws SesameDriverException {
-        WRITE.lock();
-        try {
-            centralConnector.executeUpdate(query);
-        } finally {
-            WRITE.unlock();
-        }
+        centralConnector.executeUpdate(query);
+    }
+
+    @Override
+    public void executeUpdate(String query, Map<String, Value> bindings) throws SesameDriverException {
+        centralConnector.executeUpdate(query, bindings, preparedQueries);
     }
 
     @Override
     public List<Resource> getContexts() throws SesameDriverException {
-        READ.lock();
-        try {
-            return centralConnector.getContexts();
-        } finally {
-            READ.unlock();
-        }
+        return centralConnector.getContexts();
     }
 
     @Override
     public ValueFactory getValueFactory() {
-        // We don't need to lock the central connector, as getting the value
-        // factory does not require communication with the repository
         return centralConnector.getValueFactory();
     }
 
     @Override
     public void begin() throws SesameDriverException {
         super.begin();
-        this.localModel = new LocalModel();
+        this.localModel = new LocalModel(centralConnector.getTransactionMemoryThreshold());
         this.connection = centralConnector.acquireConnection();
+        this.statementExecutor =
+                new ConnectionStatementExecutor(new TransactionalRepositoryConnection(connection), preparedQueries);
     }
 
     @Override
     public void commit() throws SesameDriverException {
         transaction.commit();
-        WRITE.lock();
         try {
-            centralConnector.begin();
-            centralConnector.removeStatements(localModel.getRemovedStatements());
-            centralConnector.addStatements(localModel.getAddedStatements());
-            centralConnector.commit();
+            connection.begin();
+            localModel.writeTo(connection);
+            connection.commit();
             transaction.afterCommit();
-        } catch (SesameDriverException e) {
+        } catch (RepositoryException e) {
             transaction.rollback();
-            centralConnector.rollback();
+            rollbackConnection();
             transaction.afterRollback();
-            throw e;
+            throw new SesameDriverException(e);
         } finally {
-            WRITE.unlock();
             centralConnector.releaseConnection(connection);
+            closeLocalModel();
+            this.statementExecutor = null;
+        }
+    }
+
+    private void rollbackConnection() {
+        try {
+            if (connection.isActive()) {
+                connection.rollback();
+            }
+        } catch (RepositoryException e) {
+            LOG.error("Unable to rollback repository connection.", e);
+        }
+    }
+
+    private void closeLocalModel() {
+        if (localModel != null) {
+            localModel.close();
             this.localModel = null;
         }
     }
@@ -131,7 +155,8 @@ public class PoolingStorageConnector extends AbstractConnector {
     @Override
     public void rollback() throws SesameDriverException {
         transaction.rollback();
-        this.localModel = null;
+        closeLocalModel();
+        this.statementExecutor = null;
         centralConnector.releaseConnection(connection);
         transaction.afterRollback();
     }
@@ -139,24 +164,35 @@ public class PoolingStorageConnector extends AbstractConnector {
     @Override
     public void close() throws OntoDriverException {
         if (open && transaction.isActive()) {
-            this.localModel = null;
+            closeLocalModel();
+            this.statementExecutor = null;
             centralConnector.releaseConnection(connection);
         }
         super.close();
     }
 
     @Override
-    public void addStatements(Collection<Statement> statements) {
+    public void addStatements(Collection<Statement> statements) throws SesameDriverException {
         verifyTransactionActive();
         assert statements != null;
-        localModel.addStatements(statements);
+        try {
+            localModel.addStatements(statements);
+        } catch (RepositoryException e) {
+            rollback();
+            throw new SesameDriverException(e);
+        }
     }
 
     @Override
-    public void removeStatements(Collection<Statement> statements) {
+    public void removeStatements(Collection<Statement> statements) throws SesameDriverException {
         verifyTransactionActive();
         assert statements != null;
-        localModel.removeStatements(statements);
+        try {
+            localModel.removeStatements(statements);
+        } catch (RepositoryException e) {
+            rollback();
+            throw new SesameDriverException(e);
+        }
     }
 
     @Override
@@ -171,11 +207,57 @@ public class PoolingStorageConnector extends AbstractConnector {
             throws SesameDriverException {
         verifyTransactionActive();
         try {
-            final Collection<Statement> statements;
-            statements = Iterations.asList(connection
-                    .getStatements(subject, property, value, includeInferred, contexts.toArray(new IRI[0])));
-            localModel.enhanceStatements(statements, subject, property, value, contexts);
-            return statements;
+            try (final RepositoryResult<Statement> statements = connection
+                    .getStatements(subject, property, value, includeInferred, contexts.toArray(new IRI[0]))) {
+                return localModel.mergeStatements(statements, subject, property, value, contexts);
+            }
+        } catch (RepositoryException e) {
+            rollback();
+            throw new SesameDriverException(e);
+        }
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Collection<? extends Resource> subjects, boolean includeInferred)
+            throws SesameDriverException {
+        verifyTransactionActive();
+        try {
+            final Map<Resource, Collection<Statement>> loaded =
+                    new SubjectStatementsQuery(subjects, includeInferred).evaluate(connection);
+            final List<Statement> result = new ArrayList<>();
+            // Apply changes made in this transaction to statements of each subject
+            for (Map.Entry<Resource, Collection<Statement>> e : loaded.entrySet()) {
+                result.addAll(localModel.mergeStatements(e.getValue(), e.getKey(), null, null, Collections.emptySet()));
+            }
+            return result;
+        } catch (RepositoryException e) {
+            rollback();
+            throw new SesameDriverException(e);
+        }
+    }
+
+    @Override
+    public Map<Resource, Collection<Statement>> findListStatements(Resource owner, IRI hasList, IRI hasNext,
+                                                                   IRI nodeContent, boolean includeInferred,
+                                                                   Collection<IRI> contexts)
+            throws SesameDriverException {
+        verifyTransactionActive();
+        if (!centralConnector.loadsListsByQuery()) {
+            return Collections.emptyMap();
+        }
+        try {
+            final Map<Resource, Collection<Statement>> result =
+                    new ListStatementsQuery(owner, hasList, hasNext, nodeContent, includeInferred, contexts)
+                            .evaluate(connection);
+            // Apply changes made in this transaction to the loaded nodes, any newly linked nodes are not in the result
+            for (Map.Entry<Resource, Collection<Statement>> e : result.entrySet()) {
+                localModel.enhanceStatements(e.getValue(), e.getKey(), hasList, null, contexts);
+                localModel.enhanceStatements(e.getValue(), e.getKey(), hasNext, null, contexts);
+                if (nodeContent != null) {
+                    localModel.enhanceStatements(e.getValue(), e.getKey(), nodeContent, null, contexts);
+                }
+            }
+            return result;
         } catch (RepositoryException e) {
             rollback();
             throw new SesameDriverException(e);
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.connector;
+
+import org.eclipse.rdf4j.query.parser.ParsedOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed SPARQL operations, keyed by query string.
+ * <p>
+ * Parsed operations are not bound to any repository connection, so the cache outlives the connections acquired for
+ * individual transactions and non-transactional statements. When the capacity is reached, the least recently used
+ * operation is evicted.
+ * <p>
+ * The cache is not thread-safe, it is expected to be used by a single connector.
+ */
+class PreparedQueryCache {
+
+    static final int DEFAULT_CAPACITY = 128;
+
+    private final Map<String, ParsedOperation> operations;
+
+    PreparedQueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    PreparedQueryCache(int capacity) {
+        this.operations = new LinkedHashMap<String, ParsedOperation>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedOperation> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets parsed operation for the specified query, parsing it if it is not cached yet.
+     *
+     * @param query  Query string
+     * @param type   Expected type of the parsed operation
+     * @param parser Parses the query when it is not cached (or is cached as a different type of operation)
+     * @param <T>    Parsed operation type
+     * @return Parsed operation
+     */
+    <T extends ParsedOperation> T get(String query, Class<T> type, Function<String, T> parser) {
+        final ParsedOperation cached = operations.get(query);
+        if (type.isInstance(cached)) {
+            return type.cast(cached);
+        }
+        final T parsed = parser.apply(query);
+        operations.put(query, parsed);
+        return parsed;
+    }
+
+    int size() {
+        return operations.size();
+    }
+}
@@ -15,8 +15,11 @@
 package cz.cvut.kbss.ontodriver.sesame.connector;
 
 import cz.cvut.kbss.ontodriver.sesame.exceptions.SesameDriverException;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 
+import java.util.Map;
+
 public interface StatementExecutor {
 
     /**
@@ -47,4 +50,38 @@ public interface StatementExecutor {
      * @throws SesameDriverException When things go wrong with query execution
      */
     void executeUpdate(String query) throws SesameDriverException;
+
+    /**
+     * Executes the specified query with the specified values bound to its variables.
+     * <p>
+     * The query is prepared by the repository and the values are bound to it, instead of being inserted into the query
+     * string.
+     *
+     * @param query    The query to execute
+     * @param bindings Values bound to query variables, keyed by variable name
+     * @return Tuple query result
+     * @throws SesameDriverException When things go wrong with query execution
+     */
+    TupleQueryResult executeSelectQuery(String query, Map<String, Value> bindings) throws SesameDriverException;
+
+    /**
+     * Executes the specified boolean query with the specified values bound to its variables.
+     *
+     * @param query    The query to execute
+     * @param bindings Values bound to query variables, keyed by variable name
+     * @return Boolean result of the query
+     * @throws SesameDriverException When things go wrong with query execution
+     * @see #executeSelectQuery(String, Map)
+     */
+    boolean executeBooleanQuery(String query, Map<String, Value> bindings) throws SesameDriverException;
+
+    /**
+     * Executes the specified update with the specified values bound to its variables.
+     *
+     * @param query    The update to execute
+     * @param bindings Values bound to update variables, keyed by variable name
+     * @throws SesameDriverException When things go wrong with query execution
+     * @see #executeSelectQuery(String, Map)
+     */
+    void executeUpdate(String query, Map<String, Value> bindings) throws SesameDriverException;
 }
@@ -33,9 +33,11 @@ import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 class StorageConnector extends AbstractConnector {
@@ -45,6 +47,7 @@ class StorageConnector extends AbstractConnector {
     private final DriverConfiguration configuration;
 
     private final int maxReconnectAttempts;
+    private final int transactionMemoryThreshold;
 
     private Repository repository;
     private RepositoryManager manager;
@@ -55,6 +58,7 @@ class StorageConnector extends AbstractConnector {
 
         this.configuration = configuration;
         this.maxReconnectAttempts = resolveMaxReconnectAttempts();
+        this.transactionMemoryThreshold = resolveTransactionMemoryThreshold();
         initialize();
         this.open = true;
     }
@@ -79,6 +83,28 @@ class StorageConnector extends AbstractConnector {
                         ". Must be a non-negative integer.");
     }
 
+    private int resolveTransactionMemoryThreshold() throws SesameDriverException {
+        try {
+            final int threshold = configuration.isSet(SesameConfigParam.TRANSACTION_MEMORY_THRESHOLD) ?
+                                  Integer.parseInt(configuration.getProperty(
+                                          SesameConfigParam.TRANSACTION_MEMORY_THRESHOLD)) :
+                                  Constants.DEFAULT_TRANSACTION_MEMORY_THRESHOLD;
+            if (threshold < 0) {
+                throw invalidTransactionMemoryThresholdConfig();
+            }
+            return threshold;
+        } catch (NumberFormatException e) {
+            throw invalidTransactionMemoryThresholdConfig();
+        }
+    }
+
+    private static SesameDriverException invalidTransactionMemoryThresholdConfig() {
+        return new SesameDriverException(
+                "Invalid value of configuration parameter " +
+                        SesameOntoDriverProperties.SESAME_TRANSACTION_MEMORY_THRESHOLD +
+                        ". Must be a non-negative integer.");
+    }
+
     private void initialize() throws SesameDriverException {
         final RepositoryConnectorInitializer initializer = new RepositoryConnectorInitializer(configuration,
                 maxReconnectAttempts);
@@ -112,6 +138,19 @@ class StorageConnector extends AbstractConnector {
         // The connection is released by the result set once it is closed
     }
 
+    @Override
+    public TupleQueryResult executeSelectQuery(String query, Map<String, Value> bindings)
+            throws SesameDriverException {
+        return executeSelectQuery(query, bindings, new PreparedQueryCache());
+    }
+
+    TupleQueryResult executeSelectQuery(String query, Map<String, Value> bindings,
+                                        PreparedQueryCache preparedQueries) throws SesameDriverException {
+        final RepositoryConnection conn = acquireConnection();
+        return new ConnectionStatementExecutor(conn, preparedQueries).executeSelectQuery(query, bindings);
+        // The connection is released by the result set once it is closed
+    }
+
     RepositoryConnection acquireConnection() throws SesameDriverException {
         // Workaround for local native storage being reset when multiple drivers access it
         if (!repository.isInitialized()) {
@@ -159,6 +198,30 @@ class StorageConnector extends AbstractConnector {
         }
     }
 
+    @Override
+    public boolean executeBooleanQuery(String query, Map<String, Value> bindings) throws SesameDriverException {
+        return executeBooleanQuery(query, bindings, new PreparedQueryCache());
+    }
+
+    boolean executeBooleanQuery(String query, Map<String, Value> bindings, PreparedQueryCache preparedQueries)
+            throws SesameDriverException {
+        try (final RepositoryConnection conn = acquireConnection()) {
+            return new ConnectionStatementExecutor(conn, preparedQueries).executeBooleanQuery(query, bindings);
+        }
+    }
+
+    @Override
+    public void executeUpdate(String query, Map<String, Value> bindings) throws SesameDriverException {
+        executeUpdate(query, bindings, new PreparedQueryCache());
+    }
+
+    void executeUpdate(String query, Map<String, Value> bindings, PreparedQueryCache preparedQueries)
+            throws SesameDriverException {
+        try (final RepositoryConnection conn = acquireConnection()) {
+            new ConnectionStatementExecutor(conn, preparedQueries).executeUpdate(query, bindings);
+        }
+    }
+
     @Override
     public List<Resource> getContexts() throws SesameDriverException {
         try (final RepositoryConnection conn = acquireConnection()) {
@@ -260,6 +323,55 @@ class StorageConnector extends AbstractConnector {
         }
     }
 
+    @Override
+    public Collection<Statement> findStatements(Collection<? extends Resource> subjects, boolean includeInferred)
+            throws SesameDriverException {
+        try (final RepositoryConnection conn = acquireConnection()) {
+            final List<Statement> result = new ArrayList<>();
+            new SubjectStatementsQuery(subjects, includeInferred).evaluate(conn).values().forEach(result::addAll);
+            return result;
+        } catch (RepositoryException e) {
+            throw new SesameDriverException(e);
+        }
+    }
+
+    @Override
+    public Map<Resource, Collection<Statement>> findListStatements(Resource owner, IRI hasList, IRI hasNext,
+                                                                   IRI nodeContent, boolean includeInferred,
+                                                                   Collection<IRI> contexts)
+            throws SesameDriverException {
+        if (!loadsListsByQuery()) {
+            return Collections.emptyMap();
+        }
+        try (final RepositoryConnection conn = acquireConnection()) {
+            return new ListStatementsQuery(owner, hasList, hasNext, nodeContent, includeInferred, contexts)
+                    .evaluate(conn);
+        } catch (RepositoryException e) {
+            throw new SesameDriverException(e);
+        }
+    }
+
+    /**
+     * Whether lists should be loaded using a single query instead of walking them node by node.
+     * <p>
+     * Embedded repositories answer statement lookups in-process, so walking a list is cheaper there than evaluating a
+     * query. Remote repositories pay a round trip for every lookup.
+     *
+     * @return {@code true} if lists should be loaded by a query
+     */
+    boolean loadsListsByQuery() {
+        return !(repository instanceof SailRepository);
+    }
+
+    /**
+     * Gets the maximum number of statements changed in a transaction which are kept in memory.
+     *
+     * @return Non-negative threshold, {@code 0} means no limit
+     */
+    int getTransactionMemoryThreshold() {
+        return transactionMemoryThreshold;
+    }
+
     @Override
     public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
                                      Collection<IRI> contexts)
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.connector;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.*;
+import org.eclipse.rdf4j.model.vocabulary.RDF4J;
+import org.eclipse.rdf4j.query.*;
+import org.eclipse.rdf4j.query.impl.SimpleDataset;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Loads statements of multiple subjects using a single SPARQL query.
+ * <p>
+ * The subjects are passed to the query in a {@code VALUES} clause, so that statements of all of them are retrieved in
+ * one repository request. Each statement is returned with the context in which it is stored.
+ * <p>
+ * Statements in the default context are loaded by a separate query, whose default graph is explicitly set to the
+ * default context. The default graph of a query is not the default context in general, e.g., RDF4J native and memory
+ * stores treat it as union of all contexts.
+ */
+class SubjectStatementsQuery {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SubjectStatementsQuery.class);
+
+    /**
+     * Query dataset whose default graph is the default context of the repository.
+     */
+    static final Dataset DEFAULT_CONTEXT = defaultContextDataset();
+
+    private final Collection<? extends Resource> subjects;
+    private final boolean includeInferred;
+
+    SubjectStatementsQuery(Collection<? extends Resource> subjects, boolean includeInferred) {
+        this.subjects = subjects;
+        this.includeInferred = includeInferred;
+    }
+
+    /**
+     * Evaluates the query on the specified connection.
+     * <p>
+     * The result maps every subject to its statements, subjects without any statements are mapped to an empty
+     * collection. Subjects which cannot be passed to the query (blank nodes) are loaded separately, as are all the
+     * subjects if the repository is not able to evaluate the query.
+     *
+     * @param connection Connection to evaluate the query on
+     * @return Map of subjects to their statements
+     */
+    Map<Resource, Collection<Statement>> evaluate(RepositoryConnection connection) {
+        final Map<Resource, Collection<Statement>> result = new LinkedHashMap<>();
+        final Set<IRI> iris = new HashSet<>(subjects.size());
+        for (Resource subject : subjects) {
+            result.put(subject, new LinkedHashSet<>());
+            if (subject instanceof IRI) {
+                iris.add((IRI) subject);
+            }
+        }
+        if (!iris.isEmpty() && !evaluateQuery(connection, iris, result)) {
+            iris.clear();
+        }
+        for (Resource subject : subjects) {
+            if (!iris.contains(subject)) {
+                Iterations.addAll(connection.getStatements(subject, null, null, includeInferred), result.get(subject));
+            }
+        }
+        return result;
+    }
+
+    private boolean evaluateQuery(RepositoryConnection connection, Set<IRI> iris,
+                                  Map<Resource, Collection<Statement>> result) {
+        try {
+            evaluateQuery(connection, buildQuery(iris, " ?s ?p ?o ."), DEFAULT_CONTEXT, result);
+            evaluateQuery(connection, buildQuery(iris, " GRAPH ?g { ?s ?p ?o }"), null, result);
+            return true;
+        } catch (MalformedQueryException | QueryEvaluationException e) {
+            LOG.debug("Unable to load subject statements using a SPARQL query, falling back to subject by subject " +
+                    "loading.", e);
+            iris.forEach(iri -> result.get(iri).clear());
+            return false;
+        }
+    }
+
+    private void evaluateQuery(RepositoryConnection connection, String queryString, Dataset dataset,
+                               Map<Resource, Collection<Statement>> result) {
+        final TupleQuery query = connection.prepareTupleQuery(QueryLanguage.SPARQL, queryString);
+        query.setIncludeInferred(includeInferred);
+        if (dataset != null) {
+            query.setDataset(dataset);
+        }
+        final ValueFactory vf = connection.getValueFactory();
+        try (final TupleQueryResult rs = query.evaluate()) {
+            while (rs.hasNext()) {
+                final BindingSet row = rs.next();
+                final Statement stmt = vf.createStatement((Resource) row.getValue("s"), (IRI) row.getValue("p"),
+                        row.getValue("o"), (Resource) row.getValue("g"));
+                result.get(stmt.getSubject()).add(stmt);
+            }
+        }
+    }
+
+    private static String buildQuery(Set<IRI> iris, String pattern) {
+        final StringBuilder sb = new StringBuilder("SELECT ?s ?p ?o ?g WHERE { VALUES ?s {");
+        iris.forEach(iri -> sb.append(" <").append(iri.stringValue()).append('>'));
+        sb.append(" }").append(pattern).append(" }");
+        return sb.toString();
+    }
+
+    private static Dataset defaultContextDataset() {
+        final SimpleDataset dataset = new SimpleDataset();
+        dataset.addDefaultGraph(RDF4J.NIL);
+        return dataset;
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.connector;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.*;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Set of statements added or removed in a transaction.
+ * <p>
+ * Statements are kept in an indexed in-memory model. When their number exceeds the configured threshold, they are
+ * moved into a temporary native store on disk, so that large transactions do not exhaust the heap. The temporary
+ * store is deleted when this set is closed.
+ */
+class TransactionStatements implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionStatements.class);
+
+    private static final String STORE_INDEXES = "spoc,posc";
+
+    private final int memoryThreshold;
+
+    private Model model = new LinkedHashModel();
+
+    private File storeDirectory;
+    private SailRepository store;
+    private RepositoryConnection storeConnection;
+
+    /**
+     * @param memoryThreshold Maximum number of statements kept in memory, non-positive value means no limit
+     */
+    TransactionStatements(int memoryThreshold) {
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    boolean isOnDisk() {
+        return store != null;
+    }
+
+    void addAll(Collection<Statement> statements) {
+        if (!isOnDisk() && memoryThreshold > 0 && model.size() + statements.size() > memoryThreshold) {
+            moveToDisk();
+        }
+        if (isOnDisk()) {
+            storeConnection.add(statements);
+        } else {
+            model.addAll(statements);
+        }
+    }
+
+    private void moveToDisk() {
+        try {
+            this.storeDirectory = Files.createTempDirectory("jopa-transaction").toFile();
+        } catch (IOException e) {
+            throw new RepositoryException("Unable to create temporary storage for transaction changes.", e);
+        }
+        LOG.debug("Transaction changes exceed {} statements, moving them to temporary storage in {}.",
+                memoryThreshold, storeDirectory);
+        this.store = new SailRepository(new NativeStore(storeDirectory, STORE_INDEXES));
+        store.init();
+        this.storeConnection = store.getConnection();
+        storeConnection.add(model);
+        this.model = null;
+    }
+
+    void removeAll(Collection<Statement> statements) {
+        if (isOnDisk()) {
+            // Pass the context explicitly, otherwise a statement without context would be removed from all contexts
+            statements.forEach(s -> storeConnection.remove(s.getSubject(), s.getPredicate(), s.getObject(),
+                    s.getContext()));
+        } else {
+            statements.forEach(model::remove);
+        }
+    }
+
+    /**
+     * Checks whether this set contains the specified statement, including its context.
+     */
+    boolean contains(Statement statement) {
+        if (isOnDisk()) {
+            return storeConnection.hasStatement(statement.getSubject(), statement.getPredicate(),
+                    statement.getObject(), false, statement.getContext());
+        }
+        return model.contains(statement);
+    }
+
+    boolean contains(Resource subject, IRI property, Value object, Resource... contexts) {
+        if (isOnDisk()) {
+            return storeConnection.hasStatement(subject, property, object, false, contexts);
+        }
+        return model.contains(subject, property, object, contexts);
+    }
+
+    Collection<Statement> filter(Resource subject, IRI property, Value object, Resource... contexts) {
+        if (isOnDisk()) {
+            return Iterations.asList(storeConnection.getStatements(subject, property, object, false, contexts));
+        }
+        return model.filter(subject, property, object, contexts);
+    }
+
+    /**
+     * Adds statements in this set into the specified repository connection.
+     */
+    void addTo(RepositoryConnection connection) {
+        if (isOnDisk()) {
+            try (final RepositoryResult<Statement> result = storeConnection.getStatements(null, null, null, false)) {
+                connection.add(result);
+            }
+        } else {
+            connection.add(model);
+        }
+    }
+
+    /**
+     * Removes statements in this set from the specified repository connection.
+     */
+    void removeFrom(RepositoryConnection connection) {
+        if (isOnDisk()) {
+            try (final RepositoryResult<Statement> result = storeConnection.getStatements(null, null, null, false)) {
+                connection.remove(result);
+            }
+        } else {
+            connection.remove(model);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!isOnDisk()) {
+            return;
+        }
+        try {
+            storeConnection.close();
+            store.shutDown();
+        } catch (RepositoryException e) {
+            LOG.error("Unable to close temporary storage of transaction changes.", e);
+        }
+        deleteStoreDirectory();
+        this.store = null;
+        this.storeConnection = null;
+        this.model = new LinkedHashModel();
+    }
+
+    private void deleteStoreDirectory() {
+        try (final Stream<Path> files = Files.walk(storeDirectory.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            LOG.warn("Unable to delete temporary storage directory {}.", storeDirectory, e);
+        }
+    }
+}
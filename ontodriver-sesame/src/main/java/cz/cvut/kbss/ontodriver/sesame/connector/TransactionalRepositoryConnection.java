@@ -45,6 +45,10 @@ class TransactionalRepositoryConnection implements RepositoryConnection {
         this.wrappedConnection = wrappedConnection;
     }
 
+    RepositoryConnection getWrappedConnection() {
+        return wrappedConnection;
+    }
+
     @Override
     public Repository getRepository() {
         return wrappedConnection.getRepository();
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.query;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Parses statement parameter values into RDF4J values which can be bound to query variables.
+ * <p>
+ * Only values consisting of a single IRI ({@code <http://example.org>}) or a single literal ({@code "value"}, {@code
+ * "value"@en}, {@code "1"^^<http://www.w3.org/2001/XMLSchema#int>}) are supported. Anything else (blank nodes,
+ * prefixed names, lists of values etc.) cannot be bound and has to be inserted into the query string.
+ */
+class BindingValueParser {
+
+    private static final Pattern LANGUAGE_TAG = Pattern.compile("[a-zA-Z]+(-[a-zA-Z0-9]+)*");
+    private static final String FORBIDDEN_IRI_CHARACTERS = "<>\"{}|^`\\";
+
+    private final ValueFactory valueFactory;
+
+    BindingValueParser(ValueFactory valueFactory) {
+        this.valueFactory = valueFactory;
+    }
+
+    /**
+     * Parses the specified parameter value.
+     *
+     * @param value Parameter value in SPARQL syntax
+     * @return Parsed RDF4J value, empty if the value does not represent a single IRI or literal
+     */
+    Optional<Value> parse(String value) {
+        if (value.startsWith("<")) {
+            return Optional.ofNullable(parseIri(value));
+        }
+        if (value.startsWith("\"")) {
+            return Optional.ofNullable(parseLiteral(value));
+        }
+        return Optional.empty();
+    }
+
+    private IRI parseIri(String value) {
+        if (value.length() < 2 || !value.endsWith(">")) {
+            return null;
+        }
+        final String iri = value.substring(1, value.length() - 1);
+        for (int i = 0; i < iri.length(); i++) {
+            final char c = iri.charAt(i);
+            if (c <= ' ' || FORBIDDEN_IRI_CHARACTERS.indexOf(c) != -1) {
+                return null;
+            }
+        }
+        // Relative IRIs are resolved against the query base, so leave them to the query parser
+        return iri.indexOf(':') > 0 ? valueFactory.createIRI(iri) : null;
+    }
+
+    private Value parseLiteral(String value) {
+        final StringBuilder label = new StringBuilder(value.length());
+        int i = 1;
+        for (; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                if (++i == value.length()) {
+                    return null;
+                }
+                final char unescaped = unescape(value.charAt(i));
+                if (unescaped == 0) {
+                    return null;
+                }
+                label.append(unescaped);
+            } else {
+                label.append(c);
+            }
+        }
+        if (i >= value.length()) {
+            return null;
+        }
+        final String suffix = value.substring(i + 1);
+        if (suffix.isEmpty()) {
+            return valueFactory.createLiteral(label.toString());
+        }
+        if (suffix.startsWith("@")) {
+            final String language = suffix.substring(1);
+            return LANGUAGE_TAG.matcher(language).matches() ? valueFactory.createLiteral(label.toString(), language) :
+                   null;
+        }
+        if (suffix.startsWith("^^")) {
+            final IRI datatype = parseIri(suffix.substring(2));
+            return datatype != null ? valueFactory.createLiteral(label.toString(), datatype) : null;
+        }
+        return null;
+    }
+
+    private static char unescape(char c) {
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case '"':
+            case '\'':
+            case '\\':
+                return c;
+            default:
+                return 0;
+        }
+    }
+}
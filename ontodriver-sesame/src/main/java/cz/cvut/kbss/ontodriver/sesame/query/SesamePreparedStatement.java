@@ -19,17 +19,39 @@ import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.sesame.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 
-import java.util.Objects;
+import java.util.*;
 
 import static cz.cvut.kbss.ontodriver.util.ErrorUtils.getNPXMessageSupplier;
 
+/**
+ * Prepared statement executed by the RDF4J repository.
+ * <p>
+ * Parameter values are inserted into the query string. If native parameter binding is enabled, parameter values
+ * representing a single IRI or literal are instead bound to the corresponding query variables by the repository, so
+ * that the query string stays the same for different values and the prepared query can be reused.
+ *
+ * @see cz.cvut.kbss.ontodriver.sesame.config.SesameOntoDriverProperties#SESAME_NATIVE_PARAMETER_BINDING
+ */
 public class SesamePreparedStatement extends SesameStatement implements PreparedStatement {
 
+    private static final BindingValueParser VALUE_PARSER = new BindingValueParser(SimpleValueFactory.getInstance());
+
     private final StatementHolder statementHolder;
 
+    private final Map<String, Value> bindings = new HashMap<>();
+
+    private final boolean nativeParameterBinding;
+
     public SesamePreparedStatement(StatementExecutor executor, String statement) {
+        this(executor, statement, false);
+    }
+
+    public SesamePreparedStatement(StatementExecutor executor, String statement, boolean nativeParameterBinding) {
         super(executor);
+        this.nativeParameterBinding = nativeParameterBinding;
         this.statementHolder = new StatementHolder(statement);
         if (statementHolder.getStatement().isEmpty()) {
             throw new IllegalArgumentException("The statement string cannot be empty.");
@@ -41,23 +63,41 @@ public class SesamePreparedStatement extends SesameStatement implements Prepared
     public void setObject(String binding, Object value) {
         ensureOpen();
         Objects.requireNonNull(value, getNPXMessageSupplier("value"));
-        statementHolder.setParameter(binding, value.toString());
+        final String stringValue = value.toString();
+        final Optional<Value> bindingValue = nativeParameterBinding ? VALUE_PARSER.parse(stringValue) :
+                                             Optional.empty();
+        if (bindingValue.isPresent()) {
+            // Keep the variable in the query, its value is bound by the storage
+            statementHolder.setParameter(binding, null);
+            bindings.put(binding, bindingValue.get());
+        } else {
+            statementHolder.setParameter(binding, stringValue);
+            bindings.remove(binding);
+        }
     }
 
     @Override
     public ResultSet executeQuery() throws OntoDriverException {
         ensureOpen();
-        return executeQuery(statementHolder.assembleStatement());
+        if (bindings.isEmpty()) {
+            return executeQuery(statementHolder.assembleStatement());
+        }
+        return executeQuery(statementHolder.assembleStatement(), bindings);
     }
 
     @Override
     public void executeUpdate() throws OntoDriverException {
         ensureOpen();
-        executeUpdate(statementHolder.assembleStatement());
+        if (bindings.isEmpty()) {
+            executeUpdate(statementHolder.assembleStatement());
+        } else {
+            executeUpdate(statementHolder.assembleStatement(), bindings);
+        }
     }
 
     @Override
     public void clearParameters() {
         statementHolder.clearParameters();
+        bindings.clear();
     }
 }
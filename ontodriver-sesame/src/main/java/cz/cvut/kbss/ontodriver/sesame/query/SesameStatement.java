@@ -19,9 +19,11 @@ import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.sesame.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.sesame.exceptions.SesameDriverException;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 
+import java.util.Map;
 import java.util.Objects;
 
 public class SesameStatement implements Statement {
@@ -46,16 +48,43 @@ public class SesameStatement implements Statement {
         return resultSet;
     }
 
+    /**
+     * Executes the specified query with the specified values bound to its variables.
+     *
+     * @param sparql   The query to execute
+     * @param bindings Values of query variables
+     * @return Query result set
+     * @throws OntoDriverException When query execution fails
+     */
+    ResultSet executeQuery(String sparql, Map<String, Value> bindings) throws OntoDriverException {
+        ensureOpen();
+        validateQueryParams(sparql);
+        closeCurrentResultSet();
+        this.resultSet = determineResult(sparql, bindings);
+        return resultSet;
+    }
+
     private ResultSet determineResult(String sparql) throws SesameDriverException {
         if (isAskQuery(sparql)) {
             return new AskResultSet(queryExecutor.executeBooleanQuery(sparql), this);
         } else {
-            final TupleQueryResult tqr = queryExecutor.executeSelectQuery(sparql);
-            try {
-                return new SelectResultSet(tqr, this);
-            } catch (QueryEvaluationException e) {
-                throw new SesameDriverException(e);
-            }
+            return createSelectResultSet(queryExecutor.executeSelectQuery(sparql));
+        }
+    }
+
+    private ResultSet determineResult(String sparql, Map<String, Value> bindings) throws SesameDriverException {
+        if (isAskQuery(sparql)) {
+            return new AskResultSet(queryExecutor.executeBooleanQuery(sparql, bindings), this);
+        } else {
+            return createSelectResultSet(queryExecutor.executeSelectQuery(sparql, bindings));
+        }
+    }
+
+    private ResultSet createSelectResultSet(TupleQueryResult tqr) throws SesameDriverException {
+        try {
+            return new SelectResultSet(tqr, this);
+        } catch (QueryEvaluationException e) {
+            throw new SesameDriverException(e);
         }
     }
 
@@ -71,6 +100,20 @@ public class SesameStatement implements Statement {
         queryExecutor.executeUpdate(sparql);
     }
 
+    /**
+     * Executes the specified update with the specified values bound to its variables.
+     *
+     * @param sparql   The update to execute
+     * @param bindings Values of update variables
+     * @throws OntoDriverException When update execution fails
+     */
+    void executeUpdate(String sparql, Map<String, Value> bindings) throws OntoDriverException {
+        ensureOpen();
+        validateQueryParams(sparql);
+        closeCurrentResultSet();
+        queryExecutor.executeUpdate(sparql, bindings);
+    }
+
     @Override
     public void useOntology(StatementOntology ontology) {
         this.targetOntology = ontology;
@@ -25,6 +25,7 @@ import cz.cvut.kbss.ontodriver.sesame.config.SesameConfigParam;
 import cz.cvut.kbss.ontodriver.sesame.connector.Connector;
 import cz.cvut.kbss.ontodriver.sesame.environment.Generator;
 import cz.cvut.kbss.ontodriver.sesame.environment.TestRepositoryProvider;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
@@ -39,8 +40,8 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 class AxiomLoaderTest {
 
@@ -446,4 +447,71 @@ class AxiomLoaderTest {
         assertTrue(res.stream().anyMatch(a -> a.getValue().getValue().equals(value)));
         assertTrue(res.stream().anyMatch(a -> a.getValue().getValue().equals(valueTwo)));
     }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsAxiomsOfAllSubjects() throws Exception {
+        connector.begin();
+        final List<AxiomDescriptor> descriptors = new ArrayList<>();
+        int expectedCount = 0;
+        for (int i = 0; i < 3; i++) {
+            final String individual = generatedData.individuals.get(i);
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+            generatedData.values.get(individual).keySet().forEach(desc::addAssertion);
+            descriptors.add(desc);
+            expectedCount += generatedData.getTotalValueCount(individual);
+        }
+
+        final Collection<Axiom<?>> res = axiomLoader.loadAxioms(descriptors);
+        assertEquals(expectedCount, res.size());
+        for (AxiomDescriptor desc : descriptors) {
+            assertEquals(generatedData.getTotalValueCount(desc.getSubject().getIdentifier().toString()),
+                    res.stream().filter(a -> a.getSubject().equals(desc.getSubject())).count());
+        }
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsStatementsOfAllSubjectsInSingleSweep() throws Exception {
+        final Connector spiedConnector = spy(repositoryProvider.createConnector(false));
+        spiedConnector.begin();
+        try {
+            final AxiomLoader sut = new AxiomLoader(spiedConnector, vf, new RuntimeConfiguration(
+                    new DriverConfiguration(TestRepositoryProvider.storageProperties())));
+            final List<AxiomDescriptor> descriptors = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                final AxiomDescriptor desc =
+                        new AxiomDescriptor(NamedResource.create(generatedData.individuals.get(i)));
+                desc.addAssertion(Assertion.createClassAssertion(false));
+                descriptors.add(desc);
+            }
+            sut.loadAxioms(descriptors);
+            verify(spiedConnector).findStatements(anyCollection(), eq(false));
+            verify(spiedConnector, never()).findStatements(anyCollection(), eq(true));
+            verify(spiedConnector, never()).findStatements(any(Resource.class), any(), any(), anyBoolean());
+            verify(spiedConnector, never()).findStatements(any(Resource.class), any(), any(), anyBoolean(), any());
+        } finally {
+            spiedConnector.close();
+        }
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsRespectsAssertionContexts() throws Exception {
+        final String individual = generatedData.individuals.get(0);
+        final Assertion property = generatedData.values.get(individual).keySet().iterator().next();
+        final String context = "http://krizik.felk.cvut.cz/contextOne";
+        final Object value = saveValueIntoContext(individual, property, context);
+        final AxiomDescriptor descOne = new AxiomDescriptor(NamedResource.create(individual));
+        descOne.addAssertion(property);
+        descOne.addAssertionContext(property, URI.create(context));
+        final String individualTwo = generatedData.individuals.get(1);
+        final AxiomDescriptor descTwo = new AxiomDescriptor(NamedResource.create(individualTwo));
+        generatedData.values.get(individualTwo).keySet().forEach(descTwo::addAssertion);
+
+        connector.begin();
+        final Collection<Axiom<?>> res = axiomLoader.loadAxioms(Arrays.asList(descOne, descTwo));
+        final List<Axiom<?>> individualOneAxioms =
+                res.stream().filter(a -> a.getSubject().equals(descOne.getSubject())).collect(Collectors.toList());
+        assertEquals(1, individualOneAxioms.size());
+        assertEquals(value.toString(), individualOneAxioms.get(0).getValue().getValue().toString());
+        assertEquals(generatedData.getTotalValueCount(individualTwo), res.size() - 1);
+    }
 }
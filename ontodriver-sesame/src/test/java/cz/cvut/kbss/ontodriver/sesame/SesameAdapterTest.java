@@ -142,6 +142,26 @@ class SesameAdapterTest {
         assertTrue(statementsCorrespondToAxiomDescriptor(ad, res));
     }
 
+    @Test
+    void persistAllAddsStatementsOfAllDescriptorsInOneBatch() throws Exception {
+        final Assertion dataAssertion = Assertion.createDataPropertyAssertion(URI
+                .create("http://krizik.felk.cvut.cz/ontologies/jopa/attributes#A-stringAttribute"), false);
+        final AxiomValueDescriptor adOne = new AxiomValueDescriptor(SUBJECT);
+        adOne.addAssertionValue(dataAssertion, new Value<>("StringValue"));
+        final AxiomValueDescriptor adTwo =
+                new AxiomValueDescriptor(NamedResource.create("http://krizik.felk.cvut.cz/ontologies/jopa#entityTwo"));
+        adTwo.addAssertionValue(Assertion.createClassAssertion(false),
+                new Value<>(URI.create("http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassA")));
+        adTwo.addAssertionValue(dataAssertion, new Value<>("AnotherValue"));
+        adapter.persistAll(Arrays.asList(adOne, adTwo));
+        final ArgumentCaptor<Collection<Statement>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connectorMock).addStatements(captor.capture());
+        final Collection<Statement> res = captor.getValue();
+        assertEquals(3, res.size());
+        assertTrue(statementsCorrespondToAxiomDescriptor(adOne, res));
+        assertTrue(statementsCorrespondToAxiomDescriptor(adTwo, res));
+    }
+
     private boolean statementsCorrespondToAxiomDescriptor(AxiomValueDescriptor ad,
                                                           Collection<Statement> statements) {
         for (Assertion as : ad.getAssertions()) {
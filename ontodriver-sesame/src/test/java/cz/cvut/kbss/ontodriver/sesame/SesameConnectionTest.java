@@ -18,6 +18,7 @@ import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.sesame.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.sesame.query.SesamePreparedStatement;
 import cz.cvut.kbss.ontodriver.sesame.query.SesameStatement;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,6 +105,7 @@ public class SesameConnectionTest {
 
     @Test
     public void testPrepareStatement() throws Exception {
+        when(adapterMock.getConfig()).thenReturn(mock(RuntimeConfiguration.class));
         final PreparedStatement res = connection
                 .prepareStatement("SELECT ?x ? y ?z WHERE { ?x ?y ?z . }");
         assertNotNull(res);
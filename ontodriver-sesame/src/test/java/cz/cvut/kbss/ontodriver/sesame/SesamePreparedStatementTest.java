@@ -16,14 +16,22 @@ import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.sesame.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.sesame.query.SesamePreparedStatement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Collections;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +48,7 @@ public class SesamePreparedStatementTest {
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         when(executorMock.executeSelectQuery(any(String.class))).thenReturn(resultMock);
+        when(executorMock.executeSelectQuery(any(String.class), anyMap())).thenReturn(resultMock);
     }
 
     @Test
@@ -51,6 +60,10 @@ public class SesamePreparedStatementTest {
         this.statement = new SesamePreparedStatement(executorMock, query);
     }
 
+    private void initStatementWithNativeBinding(final String query) {
+        this.statement = new SesamePreparedStatement(executorMock, query, true);
+    }
+
     @Test
     public void testExecuteQuery() throws Exception {
         final String query = "SELECT ?x ?y WHERE { ?x <http://property> ?y . }";
@@ -88,4 +101,50 @@ public class SesamePreparedStatementTest {
         assertFalse(rsOne.isOpen());
         assertNotSame(rsOne, rsTwo);
     }
+
+    @Test
+    public void executeQueryBindsIriValueToQueryVariable() throws Exception {
+        final String query = "SELECT ?x ?y WHERE { ?x <http://property> ?y . }";
+        initStatementWithNativeBinding(query);
+        statement.setObject("x", "<http://krizik.felk.cvut.cz/ontologies/jopa#subject>");
+        statement.executeQuery();
+        final Map<String, Value> expected = Collections.singletonMap("x", SimpleValueFactory.getInstance()
+                .createIRI("http://krizik.felk.cvut.cz/ontologies/jopa#subject"));
+        verify(executorMock).executeSelectQuery(query, expected);
+        verify(executorMock, never()).executeSelectQuery(any(String.class));
+    }
+
+    @Test
+    public void executeUpdateBindsLiteralValueToQueryVariable() throws Exception {
+        final String query = "DELETE { ?person <http://xmlns.com/foaf/0.1/givenName> ?name } WHERE { " +
+                "?person <http://xmlns.com/foaf/0.1/givenName> ?name }";
+        initStatementWithNativeBinding(query);
+        statement.setObject("name", "\"Bill\"@en");
+        statement.executeUpdate();
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        verify(executorMock).executeUpdate(query, Collections.singletonMap("name", vf.createLiteral("Bill", "en")));
+    }
+
+    @Test
+    public void setObjectRestoresVariableWhenValueIsBoundAfterTextualSubstitution() throws Exception {
+        final String query = "SELECT ?x ?y WHERE { ?x <http://property> ?y . }";
+        initStatementWithNativeBinding(query);
+        statement.setObject("x", "_:subject");
+        statement.setObject("x", "<http://krizik.felk.cvut.cz/ontologies/jopa#subject>");
+        statement.executeQuery();
+        verify(executorMock).executeSelectQuery(query, Collections.singletonMap("x", SimpleValueFactory.getInstance()
+                .createIRI("http://krizik.felk.cvut.cz/ontologies/jopa#subject")));
+    }
+
+    @Test
+    public void executeQueryInsertsIriValueIntoQueryWhenNativeBindingIsDisabled() throws Exception {
+        final String query = "SELECT ?x ?y WHERE { ?x <http://property> ?y . }";
+        final String expected = "SELECT <http://krizik.felk.cvut.cz/ontologies/jopa#subject> ?y WHERE { " +
+                "<http://krizik.felk.cvut.cz/ontologies/jopa#subject> <http://property> ?y . }";
+        initStatement(query);
+        statement.setObject("x", "<http://krizik.felk.cvut.cz/ontologies/jopa#subject>");
+        statement.executeQuery();
+        verify(executorMock).executeSelectQuery(expected);
+        verify(executorMock, never()).executeSelectQuery(any(String.class), anyMap());
+    }
 }
@@ -90,6 +90,30 @@ public class SimpleListHandlerTest extends ListHandlerTestBase<SimpleListDescrip
         }
     }
 
+    @Test
+    public void loadsSimpleListFromStatementsFoundInBulk() throws Exception {
+        final List<NamedResource> simpleList = initList();
+        final Map<Resource, Collection<Statement>> nodes = new HashMap<>();
+        Resource subject = owner;
+        for (NamedResource elem : simpleList) {
+            final Resource value = vf.createIRI(elem.toString());
+            final IRI property = subject == owner ? hasListProperty : nextNodeProperty;
+            nodes.put(subject, new ArrayList<>(Collections.singleton(vf.createStatement(subject, property, value))));
+            subject = value;
+        }
+        nodes.put(subject, new ArrayList<>());
+        when(connector.findListStatements(owner, hasListProperty, nextNodeProperty, null, false,
+                Collections.emptySet())).thenReturn(nodes);
+
+        final List<Axiom<NamedResource>> res = handler.loadList(listDescriptor);
+        assertEquals(simpleList.size(), res.size());
+        for (int i = 0; i < simpleList.size(); i++) {
+            assertEquals(simpleList.get(i), res.get(i).getValue().getValue());
+        }
+        verify(connector, never()).findStatements(any(Resource.class), any(IRI.class), any(), anyBoolean(),
+                anyCollection());
+    }
+
     private List<Statement> initStatementsForList(List<NamedResource> simpleList)
             throws SesameDriverException {
         Resource subject = owner;
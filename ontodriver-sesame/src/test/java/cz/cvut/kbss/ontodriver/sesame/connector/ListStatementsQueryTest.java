@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.connector;
+
+import cz.cvut.kbss.ontodriver.sesame.environment.Generator;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListStatementsQueryTest {
+
+    private Repository repository;
+    private RepositoryConnection connection;
+    private ValueFactory vf;
+
+    private IRI owner;
+    private IRI hasList;
+    private IRI hasNext;
+    private IRI hasContent;
+
+    @BeforeEach
+    void setUp() {
+        this.repository = new SailRepository(new MemoryStore());
+        repository.init();
+        this.connection = repository.getConnection();
+        this.vf = connection.getValueFactory();
+        this.owner = iri();
+        this.hasList = iri();
+        this.hasNext = iri();
+        this.hasContent = iri();
+    }
+
+    private IRI iri() {
+        return vf.createIRI(Generator.generateUri().toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        connection.close();
+        repository.shutDown();
+    }
+
+    @Test
+    void evaluateReturnsStatementsOfAllSimpleListNodes() {
+        final List<IRI> nodes = Arrays.asList(iri(), iri(), iri());
+        final List<Statement> statements = simpleList(nodes, null);
+        connection.add(statements);
+
+        final Map<Resource, Collection<Statement>> result =
+                new ListStatementsQuery(owner, hasList, hasNext, null, false, Collections.emptySet())
+                        .evaluate(connection);
+        assertEquals(nodes.size() + 1, result.size());
+        assertEquals(Collections.singletonList(statements.get(0)), result.get(owner));
+        for (int i = 0; i < nodes.size() - 1; i++) {
+            assertEquals(Collections.singletonList(statements.get(i + 1)), result.get(nodes.get(i)));
+        }
+        assertTrue(result.get(nodes.get(nodes.size() - 1)).isEmpty());
+    }
+
+    private List<Statement> simpleList(List<IRI> nodes, IRI context) {
+        final List<Statement> statements = new ArrayList<>();
+        statements.add(vf.createStatement(owner, hasList, nodes.get(0), context));
+        for (int i = 1; i < nodes.size(); i++) {
+            statements.add(vf.createStatement(nodes.get(i - 1), hasNext, nodes.get(i), context));
+        }
+        return statements;
+    }
+
+    @Test
+    void evaluateReturnsStatementsWithContextWhenListIsStoredInNamedGraph() {
+        final IRI context = iri();
+        final List<Statement> statements = simpleList(Arrays.asList(iri(), iri()), context);
+        connection.add(statements);
+
+        final Map<Resource, Collection<Statement>> result =
+                new ListStatementsQuery(owner, hasList, hasNext, null, false, Collections.emptySet())
+                        .evaluate(connection);
+        final Set<Statement> loaded = new HashSet<>();
+        result.values().forEach(loaded::addAll);
+        assertEquals(new HashSet<>(statements), loaded);
+    }
+
+    @Test
+    void evaluateReturnsStatementsOfListStoredInDefaultContextAndNamedGraph() {
+        final List<IRI> nodes = Arrays.asList(iri(), iri());
+        final List<Statement> inDefault = simpleList(nodes, null);
+        final List<Statement> inContext = simpleList(nodes, iri());
+        connection.add(inDefault);
+        connection.add(inContext);
+
+        final Map<Resource, Collection<Statement>> result =
+                new ListStatementsQuery(owner, hasList, hasNext, null, false, Collections.emptySet())
+                        .evaluate(connection);
+        assertEquals(new HashSet<>(Arrays.asList(inDefault.get(0), inContext.get(0))),
+                new HashSet<>(result.get(owner)));
+        assertEquals(2, result.get(owner).size());
+        assertEquals(new HashSet<>(Arrays.asList(inDefault.get(1), inContext.get(1))),
+                new HashSet<>(result.get(nodes.get(0))));
+        assertEquals(2, result.get(nodes.get(0)).size());
+        assertTrue(result.get(nodes.get(1)).isEmpty());
+    }
+
+    @Test
+    void evaluateReturnsNodeContentStatementsOfReferencedListInSpecifiedContext() {
+        final IRI context = iri();
+        final List<IRI> nodes = Arrays.asList(iri(), iri());
+        final List<Statement> statements = simpleList(nodes, context);
+        final List<Statement> contents = new ArrayList<>();
+        nodes.forEach(n -> contents.add(vf.createStatement(n, hasContent, iri(), context)));
+        connection.add(statements);
+        connection.add(contents);
+        // The same list in a different context is not loaded
+        connection.add(simpleList(nodes, iri()));
+
+        final Map<Resource, Collection<Statement>> result =
+                new ListStatementsQuery(owner, hasList, hasNext, hasContent, false, Collections.singleton(context))
+                        .evaluate(connection);
+        assertEquals(Collections.singletonList(statements.get(0)), result.get(owner));
+        assertEquals(new HashSet<>(Arrays.asList(statements.get(1), contents.get(0))),
+                new HashSet<>(result.get(nodes.get(0))));
+        assertEquals(Collections.singletonList(contents.get(1)), result.get(nodes.get(1)));
+    }
+
+    @Test
+    void evaluateReturnsOnlyOwnerWhenListIsEmpty() {
+        final Map<Resource, Collection<Statement>> result =
+                new ListStatementsQuery(owner, hasList, hasNext, null, false, Collections.emptySet())
+                        .evaluate(connection);
+        assertEquals(Collections.singleton(owner), result.keySet());
+        assertTrue(result.get(owner).isEmpty());
+    }
+}
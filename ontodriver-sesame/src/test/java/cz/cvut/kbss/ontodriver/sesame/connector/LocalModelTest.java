@@ -14,13 +14,24 @@ package cz.cvut.kbss.ontodriver.sesame.connector;
 
 import cz.cvut.kbss.ontodriver.sesame.environment.Generator;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class LocalModelTest {
 
@@ -28,6 +39,11 @@ public class LocalModelTest {
 
     private final LocalModel localModel = new LocalModel();
 
+    @AfterEach
+    public void tearDown() {
+        localModel.close();
+    }
+
     @Test
     public void containsReturnsTrueWhenStatementWasAddedInLocalModel() {
         final IRI subject = valueFactory.createIRI(Generator.generateUri().toString());
@@ -83,4 +99,119 @@ public class LocalModelTest {
         assertEquals(LocalModel.Contains.UNKNOWN,
                 localModel.contains(subject, property, null, Collections.singleton(context)));
     }
+
+    @Test
+    public void mergeStatementsSkipsRemovedStatementsAndAppendsAddedStatements() {
+        final IRI subject = valueFactory.createIRI(Generator.generateUri().toString());
+        final IRI property = valueFactory.createIRI(Generator.generateUri().toString());
+        final Statement kept = valueFactory.createStatement(subject, property, valueFactory.createLiteral(1));
+        final Statement removed = valueFactory.createStatement(subject, property, valueFactory.createLiteral(2));
+        final Statement added = valueFactory.createStatement(subject, property, valueFactory.createLiteral(3));
+        localModel.removeStatements(Collections.singletonList(removed));
+        localModel.addStatements(Collections.singletonList(added));
+
+        final List<Statement> result = localModel
+                .mergeStatements(Arrays.asList(kept, removed), subject, property, null, Collections.emptySet());
+        assertEquals(Arrays.asList(kept, added), result);
+    }
+
+    @Test
+    public void mergeStatementsDoesNotDuplicateAddedStatementsAlreadyInRepository() {
+        final IRI subject = valueFactory.createIRI(Generator.generateUri().toString());
+        final IRI property = valueFactory.createIRI(Generator.generateUri().toString());
+        final Statement added = valueFactory.createStatement(subject, property, valueFactory.createLiteral(117));
+        localModel.addStatements(Collections.singletonList(added));
+
+        final List<Statement> result = localModel
+                .mergeStatements(Collections.singletonList(added), subject, property, null, Collections.emptySet());
+        assertEquals(Collections.singletonList(added), result);
+    }
+
+    @Test
+    public void mergeStatementsDistinguishesStatementContexts() {
+        final IRI subject = valueFactory.createIRI(Generator.generateUri().toString());
+        final IRI property = valueFactory.createIRI(Generator.generateUri().toString());
+        final IRI context = valueFactory.createIRI(Generator.generateUri().toString());
+        final Statement inDefault = valueFactory.createStatement(subject, property, valueFactory.createLiteral(117));
+        final Statement inContext =
+                valueFactory.createStatement(subject, property, valueFactory.createLiteral(117), context);
+        localModel.removeStatements(Collections.singletonList(inContext));
+
+        final List<Statement> result = localModel.mergeStatements(Arrays.asList(inDefault, inContext), subject,
+                property, null, Collections.emptySet());
+        assertEquals(Collections.singletonList(inDefault), result);
+    }
+
+    @Test
+    public void changesExceedingMemoryThresholdAreKeptOnDisk() {
+        final LocalModel sut = new LocalModel(5);
+        try {
+            final IRI subject = valueFactory.createIRI(Generator.generateUri().toString());
+            final IRI property = valueFactory.createIRI(Generator.generateUri().toString());
+            final List<Statement> added = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                added.add(valueFactory.createStatement(subject, property, valueFactory.createLiteral(i)));
+            }
+            sut.addStatements(added);
+            sut.removeStatements(added.subList(0, 2));
+
+            assertEquals(LocalModel.Contains.TRUE,
+                    sut.contains(subject, property, valueFactory.createLiteral(5), Collections.emptySet()));
+            assertEquals(LocalModel.Contains.FALSE,
+                    sut.contains(subject, property, valueFactory.createLiteral(0), Collections.emptySet()));
+            final List<Statement> result = sut.mergeStatements(Collections.singletonList(added.get(1)), subject,
+                    property, null, Collections.emptySet());
+            assertEquals(new HashSet<>(added.subList(2, 10)), new HashSet<>(result));
+            assertEquals(8, result.size());
+        } finally {
+            sut.close();
+        }
+    }
+
+    @Test
+    public void writeToRemovesAndAddsChangedStatementsInRepositoryConnection() {
+        final LocalModel sut = new LocalModel(1);
+        final SailRepository repository = new SailRepository(new MemoryStore());
+        repository.init();
+        try (final RepositoryConnection connection = repository.getConnection()) {
+            final IRI subject = valueFactory.createIRI(Generator.generateUri().toString());
+            final IRI property = valueFactory.createIRI(Generator.generateUri().toString());
+            final Statement existing = valueFactory.createStatement(subject, property, valueFactory.createLiteral(1));
+            final List<Statement> added = Arrays.asList(
+                    valueFactory.createStatement(subject, property, valueFactory.createLiteral(2)),
+                    valueFactory.createStatement(subject, property, valueFactory.createLiteral(3)));
+            connection.add(existing);
+            sut.removeStatements(Collections.singletonList(existing));
+            sut.addStatements(added);
+
+            sut.writeTo(connection);
+            final Model result = new LinkedHashModel();
+            connection.getStatements(subject, property, null, false).forEach(result::add);
+            assertEquals(new LinkedHashModel(added), result);
+        } finally {
+            sut.close();
+            repository.shutDown();
+        }
+    }
+
+    @Test
+    public void removingStatementWithoutContextFromChangesOnDiskKeepsItInNamedContext() {
+        final LocalModel sut = new LocalModel(1);
+        try {
+            final IRI subject = valueFactory.createIRI(Generator.generateUri().toString());
+            final IRI property = valueFactory.createIRI(Generator.generateUri().toString());
+            final IRI context = valueFactory.createIRI(Generator.generateUri().toString());
+            final Statement defaultCtxStatement =
+                    valueFactory.createStatement(subject, property, valueFactory.createLiteral(117));
+            final Statement namedCtxStatement =
+                    valueFactory.createStatement(subject, property, valueFactory.createLiteral(117), context);
+            sut.addStatements(Arrays.asList(defaultCtxStatement, namedCtxStatement));
+            sut.removeStatements(Collections.singletonList(defaultCtxStatement));
+
+            assertEquals(LocalModel.Contains.TRUE,
+                    sut.contains(subject, property, null, Collections.singleton(context)));
+        } finally {
+            sut.close();
+        }
+    }
 }
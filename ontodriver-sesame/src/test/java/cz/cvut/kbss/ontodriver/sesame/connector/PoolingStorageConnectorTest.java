@@ -21,24 +21,28 @@ import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.BooleanQuery;
 import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.lang.reflect.Field;
-import java.util.Collections;
-import java.util.List;
-import java.util.concurrent.locks.Lock;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -47,10 +51,6 @@ public class PoolingStorageConnectorTest {
 
     @Mock
     private StorageConnector centralMock;
-    @Mock
-    private Lock readLock;
-    @Mock
-    private Lock writeLock;
 
     private ValueFactory vf;
 
@@ -66,8 +66,6 @@ public class PoolingStorageConnectorTest {
         final Field transactionField = AbstractConnector.class.getDeclaredField("transaction");
         transactionField.setAccessible(true);
         this.transaction = (Transaction) transactionField.get(connector);
-        TestUtils.setMock("READ", PoolingStorageConnector.class, readLock);
-        TestUtils.setMock("WRITE", PoolingStorageConnector.class, writeLock);
     }
 
     @Test
@@ -82,10 +80,7 @@ public class PoolingStorageConnectorTest {
         final String query = "Some query";
         connector.executeSelectQuery(query);
 
-        InOrder inOrder = inOrder(readLock, centralMock);
-        inOrder.verify(readLock).lock();
-        inOrder.verify(centralMock).executeSelectQuery(query);
-        inOrder.verify(readLock).unlock();
+        verify(centralMock).executeSelectQuery(query);
     }
 
     @Test
@@ -103,15 +98,10 @@ public class PoolingStorageConnectorTest {
     }
 
     @Test
-    public void testUnlockWhenExecuteQueryThrowsException() throws Exception {
+    public void executeSelectQueryPropagatesCentralConnectorException() throws Exception {
         final String query = "Some query";
         when(centralMock.executeSelectQuery(query)).thenThrow(new SesameDriverException());
-        try {
-            assertThrows(SesameDriverException.class, () -> connector.executeSelectQuery(query));
-        } finally {
-            verify(readLock).lock();
-            verify(readLock).unlock();
-        }
+        assertThrows(SesameDriverException.class, () -> connector.executeSelectQuery(query));
     }
 
     @Test
@@ -119,10 +109,7 @@ public class PoolingStorageConnectorTest {
         final String query = "ASK some query";
         connector.executeBooleanQuery(query);
 
-        InOrder inOrder = inOrder(readLock, centralMock);
-        inOrder.verify(readLock).lock();
-        inOrder.verify(centralMock).executeBooleanQuery(query);
-        inOrder.verify(readLock).unlock();
+        verify(centralMock).executeBooleanQuery(query);
     }
 
     @Test
@@ -139,75 +126,68 @@ public class PoolingStorageConnectorTest {
         verify(bq).evaluate();
     }
 
-    @Test
-    public void unlocksReadLockWhenExecuteBooleanQueryThrowsException() throws Exception {
-        final String query = "ASK some query";
-        when(centralMock.executeBooleanQuery(query)).thenThrow(new SesameDriverException());
-
-        try {
-            assertThrows(SesameDriverException.class, () -> connector.executeBooleanQuery(query));
-        } finally {
-            verify(readLock).unlock();
-        }
-    }
-
     @Test
     public void testExecuteUpdate() throws Exception {
         connector.begin();
         final String query = "Some query";
         connector.executeUpdate(query);
 
-        InOrder inOrder = inOrder(writeLock, centralMock);
-        inOrder.verify(writeLock).lock();
-        inOrder.verify(centralMock).executeUpdate(query);
-        inOrder.verify(writeLock).unlock();
-    }
-
-    @Test
-    public void testUnlockWhenExecuteUpdateThrowsException() throws Exception {
-        connector.begin();
-        final String query = "Some query";
-        doThrow(new SesameDriverException()).when(centralMock).executeUpdate(query);
-        try {
-            assertThrows(SesameDriverException.class, () -> connector.executeUpdate(query));
-        } finally {
-            verify(writeLock).unlock();
-        }
+        verify(centralMock).executeUpdate(query);
     }
 
     @Test
     public void testGetContexts() throws Exception {
         connector.getContexts();
-        verify(readLock).lock();
         verify(centralMock).getContexts();
-        verify(readLock).unlock();
     }
 
     @Test
     public void testCommit() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
         connector.begin();
         connector.commit();
-        verify(writeLock).lock();
-        verify(centralMock).begin();
-        verify(centralMock).addStatements(anyCollection());
-        verify(centralMock).removeStatements(anyCollection());
-        verify(centralMock).commit();
-        verify(writeLock).unlock();
+        final InOrder inOrder = inOrder(conn);
+        inOrder.verify(conn).begin();
+        inOrder.verify(conn).remove(anyCollection());
+        inOrder.verify(conn).add(anyCollection());
+        inOrder.verify(conn).commit();
         assertFalse(transaction.isActive());
     }
 
     @Test
-    public void testUnlockWhenCommitThrowsException() throws Exception {
-        doThrow(new SesameDriverException()).when(centralMock).commit();
+    public void commitWritesChangesIntoTransactionConnectionWithoutUsingCentralConnectorTransaction()
+            throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        final Statement added = vf.createStatement(vf.createIRI(TestUtils.randomUri()),
+                vf.createIRI(TestUtils.randomUri()), vf.createLiteral(117));
+        connector.begin();
+        connector.addStatements(Collections.singletonList(added));
+        connector.commit();
+        final ArgumentCaptor<Iterable<Statement>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(conn).add(captor.capture());
+        final List<Statement> written = new ArrayList<>();
+        captor.getValue().forEach(written::add);
+        assertEquals(Collections.singletonList(added), written);
+        verify(centralMock, never()).begin();
+        verify(centralMock, never()).commit();
+    }
+
+    @Test
+    public void commitRollsBackRepositoryConnectionWhenCommitThrowsException() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        doThrow(new RepositoryException()).when(conn).commit();
+        when(conn.isActive()).thenReturn(true);
         connector.begin();
         try {
             assertThrows(SesameDriverException.class, () -> connector.commit());
         } finally {
-            verify(centralMock).begin();
-            verify(centralMock).addStatements(anyCollection());
-            verify(centralMock).removeStatements(anyCollection());
-            verify(centralMock).commit();
-            verify(writeLock).unlock();
+            verify(conn).begin();
+            verify(conn).commit();
+            verify(conn).rollback();
+            verify(centralMock).releaseConnection(conn);
             assertEquals(TransactionState.ABORTED, transaction.getState());
         }
     }
@@ -309,6 +289,87 @@ public class PoolingStorageConnectorTest {
         }
     }
 
+    @Test
+    public void findStatementsOfMultipleSubjectsLoadsThemTogetherAndAppliesLocalModel() throws Exception {
+        final Repository repository = new SailRepository(new MemoryStore());
+        repository.init();
+        final RepositoryConnection conn = spy(repository.getConnection());
+        try {
+            final Resource subjectOne = vf.createIRI(TestUtils.randomUri());
+            final Resource subjectTwo = vf.createIRI(TestUtils.randomUri());
+            final IRI property = vf.createIRI(TestUtils.randomUri());
+            final Statement existing = vf.createStatement(subjectOne, property, vf.createLiteral(1));
+            final Statement removed = vf.createStatement(subjectOne, property, vf.createLiteral(2));
+            conn.add(Arrays.asList(existing, removed));
+            when(centralMock.acquireConnection()).thenReturn(conn);
+            final Statement added = vf.createStatement(subjectTwo, property, vf.createLiteral(117));
+            connector.begin();
+            connector.addStatements(Collections.singletonList(added));
+            connector.removeStatements(Collections.singletonList(removed));
+            final Collection<Statement> result =
+                    connector.findStatements(Arrays.asList(subjectOne, subjectTwo), false);
+            assertEquals(new HashSet<>(Arrays.asList(existing, added)), new HashSet<>(result));
+            // One query for statements in the default context, one for statements in named graphs
+            verify(conn, times(2)).prepareTupleQuery(eq(QueryLanguage.SPARQL), anyString());
+            verify(conn, never()).getStatements(any(Resource.class), any(), any(), anyBoolean());
+            verify(centralMock, never()).findStatements(anyCollection(), anyBoolean());
+        } finally {
+            conn.close();
+            repository.shutDown();
+        }
+    }
+
+    @Test
+    public void executeSelectWithBindingsReusesParsedQueryInSubsequentTransactions() throws Exception {
+        final Repository repository = new SailRepository(new MemoryStore());
+        repository.init();
+        final RepositoryConnection connOne = spy(repository.getConnection());
+        final RepositoryConnection connTwo = spy(repository.getConnection());
+        try {
+            final Resource subject = vf.createIRI(TestUtils.randomUri());
+            final IRI property = vf.createIRI(TestUtils.randomUri());
+            connOne.add(subject, property, vf.createLiteral(117));
+            when(centralMock.acquireConnection()).thenReturn(connOne, connTwo);
+            final String query = "SELECT ?o WHERE { ?s ?p ?o . }";
+            final Map<String, Value> bindings = new HashMap<>();
+            bindings.put("s", subject);
+            bindings.put("p", property);
+            connector.begin();
+            try (final TupleQueryResult result = connector.executeSelectQuery(query, bindings)) {
+                assertEquals(vf.createLiteral(117), result.next().getValue("o"));
+            }
+            connector.commit();
+            connector.begin();
+            bindings.put("s", property);
+            try (final TupleQueryResult result = connector.executeSelectQuery(query, bindings)) {
+                assertFalse(result.hasNext());
+            }
+            connector.commit();
+            verify(connOne, never()).prepareTupleQuery(any(QueryLanguage.class), anyString());
+            verify(connTwo, never()).prepareTupleQuery(any(QueryLanguage.class), anyString());
+        } finally {
+            connOne.close();
+            connTwo.close();
+            repository.shutDown();
+        }
+    }
+
+    @Test
+    public void executeWithBindingsOutsideTransactionPassesConnectorPreparedQueriesToCentralConnector()
+            throws Exception {
+        final String query = "SELECT ?o WHERE { ?s ?p ?o . }";
+        final Map<String, Value> bindings = Collections.singletonMap("s", vf.createIRI(TestUtils.randomUri()));
+        connector.executeSelectQuery(query, bindings);
+        connector.executeBooleanQuery(query, bindings);
+        connector.executeUpdate(query, bindings);
+
+        final ArgumentCaptor<PreparedQueryCache> captor = ArgumentCaptor.forClass(PreparedQueryCache.class);
+        verify(centralMock).executeSelectQuery(eq(query), eq(bindings), captor.capture());
+        verify(centralMock).executeBooleanQuery(eq(query), eq(bindings), captor.capture());
+        verify(centralMock).executeUpdate(eq(query), eq(bindings), captor.capture());
+        assertEquals(1, new HashSet<>(captor.getAllValues()).size());
+    }
+
     @Test
     public void closeReleasesActiveConnection() throws Exception {
         final RepositoryConnection conn = mock(RepositoryConnection.class);
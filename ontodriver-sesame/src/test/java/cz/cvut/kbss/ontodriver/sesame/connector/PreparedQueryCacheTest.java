@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.connector;
+
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.parser.ParsedBooleanQuery;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreparedQueryCacheTest {
+
+    private static final String QUERY = "SELECT ?s WHERE { ?s ?p ?o . }";
+
+    private static final Function<String, ParsedTupleQuery> TUPLE_PARSER =
+            q -> QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, q, null);
+
+    @Test
+    void getReturnsCachedOperationForSameQuery() {
+        final PreparedQueryCache cache = new PreparedQueryCache();
+        final ParsedTupleQuery parsed = cache.get(QUERY, ParsedTupleQuery.class, TUPLE_PARSER);
+
+        assertSame(parsed, cache.get(QUERY, ParsedTupleQuery.class, q -> {
+            throw new AssertionError("Query should not be parsed again.");
+        }));
+    }
+
+    @Test
+    void getEvictsLeastRecentlyUsedOperationWhenCapacityIsExceeded() {
+        final PreparedQueryCache cache = new PreparedQueryCache(2);
+        final String queryTwo = "SELECT ?p WHERE { ?s ?p ?o . }";
+        final String queryThree = "SELECT ?o WHERE { ?s ?p ?o . }";
+        final ParsedTupleQuery first = cache.get(QUERY, ParsedTupleQuery.class, TUPLE_PARSER);
+        cache.get(queryTwo, ParsedTupleQuery.class, TUPLE_PARSER);
+        cache.get(QUERY, ParsedTupleQuery.class, TUPLE_PARSER);
+        cache.get(queryThree, ParsedTupleQuery.class, TUPLE_PARSER);
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get(QUERY, ParsedTupleQuery.class, TUPLE_PARSER));
+        final AtomicInteger parseCount = new AtomicInteger();
+        cache.get(queryTwo, ParsedTupleQuery.class, q -> {
+            parseCount.incrementAndGet();
+            return TUPLE_PARSER.apply(q);
+        });
+        assertEquals(1, parseCount.get());
+    }
+
+    @Test
+    void getParsesQueryAgainWhenCachedOperationIsOfDifferentType() {
+        final PreparedQueryCache cache = new PreparedQueryCache();
+        final String ask = "ASK { ?s ?p ?o . }";
+        cache.get(ask, ParsedBooleanQuery.class,
+                q -> QueryParserUtil.parseBooleanQuery(QueryLanguage.SPARQL, q, null));
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get(ask, ParsedTupleQuery.class, TUPLE_PARSER));
+    }
+}
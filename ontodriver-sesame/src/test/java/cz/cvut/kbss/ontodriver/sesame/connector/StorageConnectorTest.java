@@ -283,6 +283,14 @@ class StorageConnectorTest {
         assertThrows(SesameDriverException.class, () -> new StorageConnector(conf));
     }
 
+    @Test
+    void initializationThrowsSesameDriverExceptionWhenTransactionMemoryThresholdIsNegative() {
+        final DriverConfiguration conf = TestUtils.createDriverConfig("urn:test");
+        conf.setProperty(SesameConfigParam.TRANSACTION_MEMORY_THRESHOLD, "-1");
+        conf.setProperty(SesameConfigParam.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+        assertThrows(SesameDriverException.class, () -> new StorageConnector(conf));
+    }
+
     @Test
     void getConnectionRetriesOnErrorConfiguredNumberOfTimes() throws Exception {
         final int attempts = 3;
@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.connector;
+
+import cz.cvut.kbss.ontodriver.sesame.environment.Generator;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubjectStatementsQueryTest {
+
+    private Repository repository;
+    private RepositoryConnection connection;
+    private ValueFactory vf;
+
+    @BeforeEach
+    void setUp() {
+        this.repository = new SailRepository(new MemoryStore());
+        repository.init();
+        this.connection = repository.getConnection();
+        this.vf = connection.getValueFactory();
+    }
+
+    private IRI iri() {
+        return vf.createIRI(Generator.generateUri().toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        connection.close();
+        repository.shutDown();
+    }
+
+    @Test
+    void evaluateReturnsStatementsOfAllSubjectsGroupedBySubject() {
+        final IRI subjectOne = iri();
+        final IRI subjectTwo = iri();
+        final Statement one = vf.createStatement(subjectOne, iri(), vf.createLiteral("one"));
+        final Statement two = vf.createStatement(subjectTwo, iri(), iri());
+        final Statement other = vf.createStatement(iri(), iri(), subjectOne);
+        connection.add(Arrays.asList(one, two, other));
+
+        final Map<Resource, Collection<Statement>> result =
+                new SubjectStatementsQuery(Arrays.asList(subjectOne, subjectTwo), false).evaluate(connection);
+        assertEquals(2, result.size());
+        assertEquals(Collections.singleton(one), new HashSet<>(result.get(subjectOne)));
+        assertEquals(Collections.singleton(two), new HashSet<>(result.get(subjectTwo)));
+    }
+
+    @Test
+    void evaluateReturnsStatementsWithTheirContexts() {
+        final IRI subject = iri();
+        final IRI property = iri();
+        final IRI context = iri();
+        final Statement inDefault = vf.createStatement(subject, property, vf.createLiteral(1));
+        final Statement inContext = vf.createStatement(subject, property, vf.createLiteral(2), context);
+        connection.add(Arrays.asList(inDefault, inContext));
+
+        final Map<Resource, Collection<Statement>> result =
+                new SubjectStatementsQuery(Collections.singleton(subject), false).evaluate(connection);
+        assertEquals(new HashSet<>(Arrays.asList(inDefault, inContext)), new HashSet<>(result.get(subject)));
+    }
+
+    @Test
+    void evaluateReturnsStatementStoredInDefaultContextAndNamedContextOncePerContext() {
+        final IRI subject = iri();
+        final IRI property = iri();
+        final IRI context = iri();
+        final Statement inDefault = vf.createStatement(subject, property, vf.createLiteral(1));
+        final Statement inContext = vf.createStatement(subject, property, vf.createLiteral(1), context);
+        connection.add(Arrays.asList(inDefault, inContext));
+
+        final Map<Resource, Collection<Statement>> result =
+                new SubjectStatementsQuery(Collections.singleton(subject), false).evaluate(connection);
+        assertEquals(2, result.get(subject).size());
+        assertEquals(new HashSet<>(Arrays.asList(inDefault, inContext)), new HashSet<>(result.get(subject)));
+    }
+
+    @Test
+    void evaluateMapsSubjectWithoutStatementsToEmptyCollection() {
+        final IRI subject = iri();
+
+        final Map<Resource, Collection<Statement>> result =
+                new SubjectStatementsQuery(Collections.singleton(subject), false).evaluate(connection);
+        assertEquals(Collections.singleton(subject), result.keySet());
+        assertTrue(result.get(subject).isEmpty());
+    }
+
+    @Test
+    void evaluateLoadsStatementsOfBlankNodeSubjectsSeparately() {
+        final IRI subject = iri();
+        final BNode node = vf.createBNode();
+        final Statement one = vf.createStatement(subject, iri(), node);
+        final Statement two = vf.createStatement(node, iri(), vf.createLiteral(117));
+        connection.add(Arrays.asList(one, two));
+
+        final Map<Resource, Collection<Statement>> result =
+                new SubjectStatementsQuery(Arrays.asList(subject, node), false).evaluate(connection);
+        assertEquals(Collections.singleton(one), new HashSet<>(result.get(subject)));
+        assertEquals(Collections.singleton(two), new HashSet<>(result.get(node)));
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2020 Czech Technical University in Prague
+ * <p>
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ * <p>
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.sesame.query;
+
+
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class BindingValueParserTest {
+
+    private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+    private final BindingValueParser sut = new BindingValueParser(vf);
+
+    @Test
+    void parseReturnsIriForAbsoluteIriReference() {
+        final String iri = "http://krizik.felk.cvut.cz/ontologies/jopa#entityA";
+        assertEquals(Optional.of(vf.createIRI(iri)), sut.parse("<" + iri + ">"));
+    }
+
+    @Test
+    void parseReturnsEmptyOptionalForRelativeIriReference() {
+        assertFalse(sut.parse("<entityA>").isPresent());
+    }
+
+    @Test
+    void parseReturnsLanguageTaggedLiteral() {
+        assertEquals(Optional.of(vf.createLiteral("test", "en")), sut.parse("\"test\"@en"));
+    }
+
+    @Test
+    void parseReturnsTypedLiteral() {
+        assertEquals(Optional.of(vf.createLiteral("117", XMLSchema.INT)),
+                sut.parse("\"117\"^^<" + XMLSchema.INT + ">"));
+    }
+
+    @Test
+    void parseUnescapesLiteralLexicalForm() {
+        assertEquals(Optional.of(vf.createLiteral("a \"quoted\"\nvalue")), sut.parse("\"a \\\"quoted\\\"\\nvalue\""));
+    }
+
+    @Test
+    void parseReturnsEmptyOptionalForValuesWhichAreNotSingleTerms() {
+        assertFalse(sut.parse("?x").isPresent());
+        assertFalse(sut.parse("_:subject").isPresent());
+        assertFalse(sut.parse("'Bill'").isPresent());
+        assertFalse(sut.parse("\"a\" . ?x ?y \"b\"").isPresent());
+    }
+}